@@ -0,0 +1,460 @@
+package Deques;
+
+import java.util.Collection;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Thread-safe deque whose producers and consumers wait instead of spinning.
+ * <p>
+ * Elements are stored in a {@link CircularDeque} guarded by one lock.
+ * Threads inserting into a full deque wait on a not-full condition and
+ * threads removing from an empty deque wait on a not-empty condition,
+ * so each insertion or removal only wakes a thread that can make progress.
+ * The lock is a {@link ReentrantLock} rather than a monitor, so virtual
+ * threads unmount from their carrier thread while they wait.
+ *
+ * @author Jordan Owens
+ * @param <T> the type of elements in the deque
+ */
+public class BlockingDeque<T> {
+    /** Elements of the deque */
+    private final CircularDeque<T> deque;
+    /** Lock guarding every access to the deque */
+    private final ReentrantLock lock;
+    /** Condition for threads waiting to remove elements */
+    private final Condition notEmpty;
+    /** Condition for threads waiting to insert elements */
+    private final Condition notFull;
+
+    /** Constructs an empty deque with no size restriction */
+    public BlockingDeque() {
+        this(Integer.MAX_VALUE);
+    }
+
+    /**
+     * Constructs an empty deque with a size restriction
+     *
+     * @param maxSize the maximum size of the deque
+     * @throws IllegalArgumentException if maxSize is not at least 1
+     */
+    public BlockingDeque(int maxSize) {
+        this.deque = new CircularDeque<>(maxSize);
+        this.lock = new ReentrantLock();
+        this.notEmpty = lock.newCondition();
+        this.notFull = lock.newCondition();
+    }
+
+    /**
+     * Gets the size of the deque
+     *
+     * @return the number of elements in the deque
+     */
+    public int size() {
+        lock.lock();
+        try {
+            return deque.size();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Gets the maximum size of the deque
+     *
+     * @return the maximum number of elements allowed in the deque
+     */
+    public int maxSize() {
+        return deque.maxSize();
+    }
+
+    /**
+     * Returns whether the deque is empty or not
+     *
+     * @return {@code true} if the deque is empty
+     */
+    public boolean isEmpty() {
+        return size() == 0;
+    }
+
+    /**
+     * Returns whether the deque is full or not
+     *
+     * @return {@code true} if the deque is full
+     */
+    public boolean isFull() {
+        return size() == maxSize();
+    }
+
+    /**
+     * Inserts an element and wakes up a waiting consumer.
+     * Must be called while holding the lock.
+     */
+    private boolean insert(T element, boolean front) {
+        boolean inserted = front ? deque.enqueueFront(element) : deque.enqueueBack(element);
+        if (inserted) notEmpty.signal();
+        return inserted;
+    }
+
+    /**
+     * Removes an element and wakes up a waiting producer.
+     * Must be called while holding the lock.
+     */
+    private T extract(boolean front) {
+        T element = front ? deque.dequeueFront() : deque.dequeueBack();
+        if (element != null) notFull.signal();
+        return element;
+    }
+
+    /**
+     * Inserts an element without waiting
+     *
+     * @param element the element to insert
+     * @param front whether to insert at the front or the back
+     * @return {@code true} if the element was added to the deque
+     *         {@code false} if the deque is full
+     */
+    private boolean offer(T element, boolean front) {
+        if (element == null) throw new NullPointerException();
+        lock.lock();
+        try {
+            return insert(element, front);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Inserts an element, waiting up to a timeout for room
+     *
+     * @param element the element to insert
+     * @param front whether to insert at the front or the back
+     * @param nanos how long to wait in nanoseconds
+     * @return {@code true} if the element was added to the deque
+     *         {@code false} if the timeout elapsed first
+     * @throws InterruptedException if interrupted while waiting
+     */
+    private boolean offer(T element, boolean front, long nanos) throws InterruptedException {
+        if (element == null) throw new NullPointerException();
+        lock.lockInterruptibly();
+        try {
+            while (deque.isFull()) {
+                if (nanos <= 0) return false;
+                nanos = notFull.awaitNanos(nanos);
+            }
+            return insert(element, front);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Inserts an element, waiting as long as necessary for room
+     *
+     * @param element the element to insert
+     * @param front whether to insert at the front or the back
+     * @throws InterruptedException if interrupted while waiting
+     */
+    private void put(T element, boolean front) throws InterruptedException {
+        if (element == null) throw new NullPointerException();
+        lock.lockInterruptibly();
+        try {
+            while (deque.isFull()) {
+                notFull.await();
+            }
+            insert(element, front);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Removes an element without waiting
+     *
+     * @param front whether to remove from the front or the back
+     * @return the removed element or {@code null} if the deque is empty
+     */
+    private T poll(boolean front) {
+        lock.lock();
+        try {
+            return extract(front);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Removes an element, waiting up to a timeout for one to be inserted
+     *
+     * @param front whether to remove from the front or the back
+     * @param nanos how long to wait in nanoseconds
+     * @return the removed element or {@code null} if the timeout elapsed first
+     * @throws InterruptedException if interrupted while waiting
+     */
+    private T poll(boolean front, long nanos) throws InterruptedException {
+        lock.lockInterruptibly();
+        try {
+            while (deque.isEmpty()) {
+                if (nanos <= 0) return null;
+                nanos = notEmpty.awaitNanos(nanos);
+            }
+            return extract(front);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Removes an element, waiting as long as necessary for one to be inserted
+     *
+     * @param front whether to remove from the front or the back
+     * @return the removed element
+     * @throws InterruptedException if interrupted while waiting
+     */
+    private T take(boolean front) throws InterruptedException {
+        lock.lockInterruptibly();
+        try {
+            while (deque.isEmpty()) {
+                notEmpty.await();
+            }
+            return extract(front);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Inserts an element at the front of the deque without waiting
+     *
+     * @param element the element to insert
+     * @return {@code true} if the element was added to the deque
+     *         {@code false} if the deque is full and the element can't be added
+     * @throws NullPointerException if the element is null
+     */
+    public boolean enqueueFront(T element) {
+        return offer(element, true);
+    }
+
+    /**
+     * Inserts an element at the back of the deque without waiting
+     *
+     * @param element the element to insert
+     * @return {@code true} if the element was added to the deque
+     *         {@code false} if the deque is full and the element can't be added
+     * @throws NullPointerException if the element is null
+     */
+    public boolean enqueueBack(T element) {
+        return offer(element, false);
+    }
+
+    /**
+     * Inserts an element at the front of the deque,
+     * waiting up to a timeout for room if the deque is full
+     *
+     * @param element the element to insert
+     * @param timeout how long to wait for room
+     * @param unit the unit of the timeout
+     * @return {@code true} if the element was added to the deque
+     *         {@code false} if the timeout elapsed first
+     * @throws NullPointerException if the element is null
+     * @throws InterruptedException if interrupted while waiting
+     */
+    public boolean offerFirst(T element, long timeout, TimeUnit unit) throws InterruptedException {
+        return offer(element, true, unit.toNanos(timeout));
+    }
+
+    /**
+     * Inserts an element at the back of the deque,
+     * waiting up to a timeout for room if the deque is full
+     *
+     * @param element the element to insert
+     * @param timeout how long to wait for room
+     * @param unit the unit of the timeout
+     * @return {@code true} if the element was added to the deque
+     *         {@code false} if the timeout elapsed first
+     * @throws NullPointerException if the element is null
+     * @throws InterruptedException if interrupted while waiting
+     */
+    public boolean offerLast(T element, long timeout, TimeUnit unit) throws InterruptedException {
+        return offer(element, false, unit.toNanos(timeout));
+    }
+
+    /**
+     * Inserts an element at the front of the deque,
+     * waiting as long as necessary for room if the deque is full
+     *
+     * @param element the element to insert
+     * @throws NullPointerException if the element is null
+     * @throws InterruptedException if interrupted while waiting
+     */
+    public void putFirst(T element) throws InterruptedException {
+        put(element, true);
+    }
+
+    /**
+     * Inserts an element at the back of the deque,
+     * waiting as long as necessary for room if the deque is full
+     *
+     * @param element the element to insert
+     * @throws NullPointerException if the element is null
+     * @throws InterruptedException if interrupted while waiting
+     */
+    public void putLast(T element) throws InterruptedException {
+        put(element, false);
+    }
+
+    /**
+     * Gets and removes the first element in the deque without waiting
+     *
+     * @return element at the front of the deque
+     *         or {@code null} if deque is empty
+     */
+    public T dequeueFront() {
+        return poll(true);
+    }
+
+    /**
+     * Gets and removes the last element in the deque without waiting
+     *
+     * @return element at the back of the deque
+     *         or {@code null} if deque is empty
+     */
+    public T dequeueBack() {
+        return poll(false);
+    }
+
+    /**
+     * Gets and removes the first element in the deque,
+     * waiting up to a timeout for an element if the deque is empty
+     *
+     * @param timeout how long to wait for an element
+     * @param unit the unit of the timeout
+     * @return element at the front of the deque
+     *         or {@code null} if the timeout elapsed first
+     * @throws InterruptedException if interrupted while waiting
+     */
+    public T pollFirst(long timeout, TimeUnit unit) throws InterruptedException {
+        return poll(true, unit.toNanos(timeout));
+    }
+
+    /**
+     * Gets and removes the last element in the deque,
+     * waiting up to a timeout for an element if the deque is empty
+     *
+     * @param timeout how long to wait for an element
+     * @param unit the unit of the timeout
+     * @return element at the back of the deque
+     *         or {@code null} if the timeout elapsed first
+     * @throws InterruptedException if interrupted while waiting
+     */
+    public T pollLast(long timeout, TimeUnit unit) throws InterruptedException {
+        return poll(false, unit.toNanos(timeout));
+    }
+
+    /**
+     * Gets and removes the first element in the deque,
+     * waiting as long as necessary for an element if the deque is empty
+     *
+     * @return element at the front of the deque
+     * @throws InterruptedException if interrupted while waiting
+     */
+    public T takeFirst() throws InterruptedException {
+        return take(true);
+    }
+
+    /**
+     * Gets and removes the last element in the deque,
+     * waiting as long as necessary for an element if the deque is empty
+     *
+     * @return element at the back of the deque
+     * @throws InterruptedException if interrupted while waiting
+     */
+    public T takeLast() throws InterruptedException {
+        return take(false);
+    }
+
+    /**
+     * Gets, but does not remove, the first element in the deque
+     *
+     * @return element at the front of the deque
+     *         or {@code null} if deque is empty
+     */
+    public T peekFirst() {
+        lock.lock();
+        try {
+            return deque.peekFirst();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Gets, but does not remove, the last element in the deque
+     *
+     * @return element at the back of the deque
+     *         or {@code null} if deque is empty
+     */
+    public T peekLast() {
+        lock.lock();
+        try {
+            return deque.peekLast();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Returns whether the deque contains an element
+     *
+     * @param o element being tested for inclusion in the deque
+     * @return {@code true} if the element is in the deque
+     * @throws NullPointerException if the element is null
+     */
+    public boolean contains(Object o) {
+        lock.lock();
+        try {
+            return deque.contains(o);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Removes up to a number of elements from the front of the deque
+     * and adds them to a collection, taking the lock only once.
+     * An element is only removed once the collection accepts it, so if
+     * adding throws, the element stays at the front of the deque.
+     *
+     * @param collection the collection to add the elements to
+     * @param max the maximum number of elements to remove
+     * @return the number of elements moved to the collection
+     * @throws NullPointerException if the collection is null
+     */
+    public int drainTo(Collection<? super T> collection, int max) {
+        if (collection == null) throw new NullPointerException();
+        int drained = 0;
+        lock.lock();
+        try {
+            for (T element; drained < max && (element = deque.peekFirst()) != null; drained++) {
+                collection.add(element);
+                deque.dequeueFront();
+            }
+            return drained;
+        } finally {
+            if (drained > 0) notFull.signalAll();
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Removes every element from the deque and adds them to a collection
+     *
+     * @param collection the collection to add the elements to
+     * @return the number of elements moved to the collection
+     * @throws NullPointerException if the collection is null
+     */
+    public int drainTo(Collection<? super T> collection) {
+        return drainTo(collection, Integer.MAX_VALUE);
+    }
+}
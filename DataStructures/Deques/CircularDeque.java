@@ -1,49 +1,38 @@
+package Deques;
+
 import java.util.NoSuchElementException;
 
 /**
- * A deque, or double ended queue, is a data structure that allows
- * insertion and removal of elements at both the front and the back.
- * As a result, a deque can be used as a queue or a stack.
+ * Deque implemented using a circular array (ring buffer).
+ * <p>
+ * Elements are stored in an array whose length is always a power of two,
+ * so positions wrap around with a bit mask instead of a modulo.
+ * The array doubles when it fills up and halves once it is
+ * no more than a quarter full, so insertion and removal are amortized O(1)
+ * and no node is allocated per element.
  *
  * @author Jordan Owens
  * @param <T> the type of elements in the deque
  */
-public class Deque<T> {
-    /** Implementation of the nodes that make up the deque */
-    private static class Node<T> {
-        /** Element the node stores */
-        T element;
-        /** Reference to the previous node in the deque */
-        Node<T> prev;
-        /** Reference to the next node in the deque */
-        Node<T> next;
-        
-        /**
-         * Constructs a node storing an element
-         *
-         * @param element the element to be stored in the node
-         * @param prev the previous node in the deque to refer to
-         * @param next the next node in the deque to refer to
-         */
-        Node(T element, Node<T> prev, Node<T> next) {
-            this.element = element;
-            this.prev = prev;
-            this.next = next;
-        }
-    }
-
-    /** First node in the deque */
-    private Node<T> front;
-    /** Last node in the deque */
-    private Node<T> back;
+public class CircularDeque<T> {
+    /** Smallest length of the array once elements are removed */
+    private static final int MIN_CAPACITY = 16;
+    /** Largest power of two length an array can have */
+    private static final int MAX_CAPACITY = 1 << 30;
+
+    /** Array holding the elements of the deque */
+    private Object[] elements;
+    /** Index of the first element in the deque */
+    private int head;
     /** Size of the deque */
     private int size;
     /** Maximum size of the deque */
     private int maxSize;
 
     /** Constructs an empty deque with no size restriction */
-    public Deque() {
-        this.front = this.back = null;
+    public CircularDeque() {
+        this.elements = new Object[MIN_CAPACITY];
+        this.head = 0;
         this.size = 0;
         this.maxSize = Integer.MAX_VALUE;
     }
@@ -54,15 +43,70 @@ public class Deque<T> {
      * @param maxSize the maximum size of the deque
      * @throws IllegalArgumentException if maxSize is not at least 1
      */
-    public Deque(int maxSize) {
+    public CircularDeque(int maxSize) {
         if (maxSize < 1) {
             throw new IllegalArgumentException("Maximum size must be >= 1");
         }
-        this.front = this.back = null;
+        this.elements = new Object[Math.min(MIN_CAPACITY, capacityFor(maxSize))];
+        this.head = 0;
         this.size = 0;
         this.maxSize = maxSize;
     }
 
+    /**
+     * Gets the smallest power of two that can hold a number of elements
+     *
+     * @param size the number of elements to hold
+     * @return the smallest power of two {@code >= size}
+     */
+    private static int capacityFor(int size) {
+        if (size > MAX_CAPACITY) return MAX_CAPACITY;
+        return size <= 1 ? 1 : Integer.highestOneBit(size - 1) << 1;
+    }
+
+    /**
+     * Moves the elements into a new array starting at index 0
+     *
+     * @param capacity the length of the new array
+     */
+    private void resize(int capacity) {
+        Object[] resized = new Object[capacity];
+        int mask = elements.length - 1;
+        for (int i = 0; i < size; i++) {
+            resized[i] = elements[(head + i) & mask];
+        }
+        elements = resized;
+        head = 0;
+    }
+
+    /** Doubles the array if there is no room for another element */
+    private void growIfFull() {
+        if (size < elements.length) return;
+        if (elements.length == MAX_CAPACITY) {
+            throw new IllegalStateException("Deque is too large");
+        }
+        resize(elements.length << 1);
+    }
+
+    /** Halves the array if it is at most a quarter full */
+    private void shrinkIfSparse() {
+        if (elements.length > MIN_CAPACITY && size <= elements.length >>> 2) {
+            resize(elements.length >>> 1);
+        }
+    }
+
+    /**
+     * Gets the element at a position in the deque.
+     * The position isn't checked against the size.
+     *
+     * @param index the position relative to the front of the deque
+     * @return the element at the position
+     */
+    @SuppressWarnings("unchecked")
+    T element(int index) {
+        return (T) elements[(head + index) & (elements.length - 1)];
+    }
+
     /**
      * Gets the size of the deque
      *
@@ -110,12 +154,9 @@ public class Deque<T> {
     public boolean enqueueFront(T element) {
         if (element == null) throw new NullPointerException();
         if (isFull()) return false;
-        front = new Node<>(element, null, front);
-        if (front.next == null) {
-            back = front;
-        } else {
-            front.next.prev = front;
-        }
+        growIfFull();
+        head = (head - 1) & (elements.length - 1);
+        elements[head] = element;
         size++;
         return true;
     }
@@ -131,12 +172,8 @@ public class Deque<T> {
     public boolean enqueueBack(T element) {
         if (element == null) throw new NullPointerException();
         if (isFull()) return false;
-        back = new Node<>(element, back, null);
-        if (back.prev == null) {
-            front = back;
-        } else {
-            back.prev.next = back;
-        }
+        growIfFull();
+        elements[(head + size) & (elements.length - 1)] = element;
         size++;
         return true;
     }
@@ -190,10 +227,12 @@ public class Deque<T> {
      *         or {@code null} if deque is empty
      */
     public T dequeueFront() {
-        if (front == null) return null;
-        T dequeued = front.element;
-        front = front.next;
+        if (size == 0) return null;
+        T dequeued = element(0);
+        elements[head] = null;
+        head = (head + 1) & (elements.length - 1);
         size--;
+        shrinkIfSparse();
         return dequeued;
     }
 
@@ -204,10 +243,11 @@ public class Deque<T> {
      *         or {@code null} if deque is empty
      */
     public T dequeueBack() {
-        if (back == null) return null;
-        T dequeued = back.element;
-        back = back.prev;
+        if (size == 0) return null;
+        T dequeued = element(size - 1);
+        elements[(head + size - 1) & (elements.length - 1)] = null;
         size--;
+        shrinkIfSparse();
         return dequeued;
     }
 
@@ -262,7 +302,7 @@ public class Deque<T> {
      *         or {@code null} if deque is empty
      */
     public T front() {
-        return front != null ? front.element : null;
+        return size != 0 ? element(0) : null;
     }
 
     /**
@@ -272,7 +312,7 @@ public class Deque<T> {
      *         or {@code null} if deque is empty
      */
     public T back() {
-        return back != null ? back.element : null;
+        return size != 0 ? element(size - 1) : null;
     }
 
     /**
@@ -282,8 +322,8 @@ public class Deque<T> {
      * @throws NoSuchElementException if deque is empty
      */
     public T getFirst() {
-        if (front == null) throw new NoSuchElementException();
-        return front.element;
+        if (size == 0) throw new NoSuchElementException();
+        return element(0);
     }
 
     /**
@@ -293,8 +333,8 @@ public class Deque<T> {
      * @throws NoSuchElementException if deque is empty
      */
     public T getLast() {
-        if (back == null) throw new NoSuchElementException();
-        return back.element;
+        if (size == 0) throw new NoSuchElementException();
+        return element(size - 1);
     }
 
     /**
@@ -304,7 +344,7 @@ public class Deque<T> {
      *         or {@code null} if deque is empty
      */
     public T peekFirst() {
-        return front != null ? front.element : null;
+        return front();
     }
 
     /**
@@ -314,7 +354,7 @@ public class Deque<T> {
      *         or {@code null} if deque is empty
      */
     public T peekLast() {
-        return back != null ? back.element : null;
+        return back();
     }
 
     /**
@@ -326,9 +366,9 @@ public class Deque<T> {
      */
     public boolean contains(Object o) {
         if (o == null) throw new NullPointerException();
-        if (back != null && o.equals(back.element)) return true;
-        for (Node<T> current = front; current != null; current = current.next) {
-            if (o.equals(current.element)) return true;
+        int mask = elements.length - 1;
+        for (int i = 0; i < size; i++) {
+            if (o.equals(elements[(head + i) & mask])) return true;
         }
         return false;
     }
@@ -346,6 +386,7 @@ public class Deque<T> {
     public boolean enqueue(T element) {
         return enqueueBack(element);
     }
+
     /**
      * Inserts an element into the queue represented by this deque
      * (at the back of this deque)
@@ -378,9 +419,7 @@ public class Deque<T> {
      * @throws NoSuchElementException if deque is empty
      */
     public T remove() {
-        T element = dequeueFront();
-        if (element == null) throw new NoSuchElementException();
-        return element;
+        return removeFirst();
     }
 
     /**
@@ -402,8 +441,7 @@ public class Deque<T> {
      * @throws NoSuchElementException if deque is empty
      */
     public T element() {
-        if (front == null) throw new NoSuchElementException();
-        return front.element;
+        return getFirst();
     }
 
     /**
@@ -414,7 +452,7 @@ public class Deque<T> {
      *         or {@code null} if deque is empty
      */
     public T peek() {
-        return front != null ? front.element : null;
+        return front();
     }
 
     // Stack methods
@@ -0,0 +1,603 @@
+package Deques;
+
+import java.util.NoSuchElementException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.AtomicReferenceFieldUpdater;
+
+/**
+ * Lock-free deque that can be shared between threads without locking.
+ * <p>
+ * Implements Maged Michael's CAS-based deque ("CAS-Based Lock-Free Algorithm
+ * for Shared Deques", 2003). The front node, the back node and a status are
+ * held in one immutable anchor that is swapped with a single compare-and-set,
+ * so every insertion and removal takes effect atomically.
+ * An insertion leaves the anchor unstable until the neighbouring node is
+ * linked back to the new node. Any thread that finds an unstable anchor
+ * finishes the link itself, so no thread ever waits for another.
+ * <p>
+ * {@link #size()} and {@link #contains(Object)} are weakly consistent:
+ * they may not reflect insertions and removals made while they run.
+ * The deque never holds more than {@link #maxSize()} elements.
+ *
+ * @author Jordan Owens
+ * @param <T> the type of elements in the deque
+ */
+public class ConcurrentDeque<T> {
+    /** Implementation of the nodes that make up the deque */
+    private static class Node<T> {
+        /** Element the node stores */
+        final T element;
+        /** Reference to the previous node in the deque */
+        volatile Node<T> prev;
+        /** Reference to the next node in the deque */
+        volatile Node<T> next;
+
+        /**
+         * Constructs a node storing an element
+         *
+         * @param element the element to be stored in the node
+         */
+        Node(T element) {
+            this.element = element;
+        }
+    }
+
+    /** Anchor with no unfinished insertion */
+    private static final int STABLE = 0;
+    /** Anchor whose front node isn't yet linked from the node after it */
+    private static final int PUSH_FRONT = 1;
+    /** Anchor whose back node isn't yet linked from the node before it */
+    private static final int PUSH_BACK = 2;
+
+    /** Snapshot of the ends of the deque */
+    private static class Anchor<T> {
+        /** First node in the deque */
+        final Node<T> front;
+        /** Last node in the deque */
+        final Node<T> back;
+        /** Whether an insertion at one of the ends is unfinished */
+        final int status;
+
+        Anchor(Node<T> front, Node<T> back, int status) {
+            this.front = front;
+            this.back = back;
+            this.status = status;
+        }
+    }
+
+    @SuppressWarnings("rawtypes")
+    private static final AtomicReferenceFieldUpdater<Node, Node> PREV =
+            AtomicReferenceFieldUpdater.newUpdater(Node.class, Node.class, "prev");
+    @SuppressWarnings("rawtypes")
+    private static final AtomicReferenceFieldUpdater<Node, Node> NEXT =
+            AtomicReferenceFieldUpdater.newUpdater(Node.class, Node.class, "next");
+
+    /** Ends of the deque */
+    private final AtomicReference<Anchor<T>> anchor;
+    /** Size of the deque, including insertions in progress */
+    private final AtomicInteger size;
+    /** Maximum size of the deque */
+    private final int maxSize;
+
+    /** Constructs an empty deque with no size restriction */
+    public ConcurrentDeque() {
+        this.anchor = new AtomicReference<>(new Anchor<>(null, null, STABLE));
+        this.size = new AtomicInteger();
+        this.maxSize = Integer.MAX_VALUE;
+    }
+
+    /**
+     * Constructs an empty deque with a size restriction
+     *
+     * @param maxSize the maximum size of the deque
+     * @throws IllegalArgumentException if maxSize is not at least 1
+     */
+    public ConcurrentDeque(int maxSize) {
+        if (maxSize < 1) {
+            throw new IllegalArgumentException("Maximum size must be >= 1");
+        }
+        this.anchor = new AtomicReference<>(new Anchor<>(null, null, STABLE));
+        this.size = new AtomicInteger();
+        this.maxSize = maxSize;
+    }
+
+    /**
+     * Claims room for one element without exceeding the maximum size
+     *
+     * @return {@code true} if room was claimed
+     *         {@code false} if the deque is full
+     */
+    private boolean reserve() {
+        for (;;) {
+            int current = size.get();
+            if (current >= maxSize) return false;
+            if (size.compareAndSet(current, current + 1)) return true;
+        }
+    }
+
+    /**
+     * Finishes the unfinished insertion of an anchor
+     *
+     * @param a the anchor to stabilize
+     */
+    private void stabilize(Anchor<T> a) {
+        if (a.status == PUSH_BACK) {
+            stabilizeBack(a);
+        } else {
+            stabilizeFront(a);
+        }
+    }
+
+    /**
+     * Links the node before the back node to the back node
+     *
+     * @param a an anchor with status {@code PUSH_BACK}
+     */
+    private void stabilizeBack(Anchor<T> a) {
+        Node<T> prev = a.back.prev;
+        if (anchor.get() != a) return;
+        Node<T> prevNext = prev.next;
+        if (prevNext != a.back) {
+            if (anchor.get() != a) return;
+            if (!NEXT.compareAndSet(prev, prevNext, a.back)) return;
+        }
+        anchor.compareAndSet(a, new Anchor<>(a.front, a.back, STABLE));
+    }
+
+    /**
+     * Links the node after the front node to the front node
+     *
+     * @param a an anchor with status {@code PUSH_FRONT}
+     */
+    private void stabilizeFront(Anchor<T> a) {
+        Node<T> next = a.front.next;
+        if (anchor.get() != a) return;
+        Node<T> nextPrev = next.prev;
+        if (nextPrev != a.front) {
+            if (anchor.get() != a) return;
+            if (!PREV.compareAndSet(next, nextPrev, a.front)) return;
+        }
+        anchor.compareAndSet(a, new Anchor<>(a.front, a.back, STABLE));
+    }
+
+    /**
+     * Gets the size of the deque.
+     * The size is only an estimate while other threads modify the deque.
+     *
+     * @return the number of elements in the deque
+     */
+    public int size() {
+        return size.get();
+    }
+
+    /**
+     * Gets the maximum size of the deque
+     *
+     * @return the maximum number of elements allowed in the deque
+     */
+    public int maxSize() {
+        return maxSize;
+    }
+
+    /**
+     * Returns whether the deque is empty or not
+     *
+     * @return {@code true} if the deque is empty
+     */
+    public boolean isEmpty() {
+        return anchor.get().front == null;
+    }
+
+    /**
+     * Returns whether the deque is full or not
+     *
+     * @return {@code true} if the deque is full
+     */
+    public boolean isFull() {
+        return size.get() >= maxSize;
+    }
+
+    /**
+     * Inserts an element at the front of the deque
+     *
+     * @param element the element to insert
+     * @return {@code true} if the element was added to the deque
+     *         {@code false} if the deque is full and the element can't be added
+     * @throws NullPointerException if the element is null
+     */
+    public boolean enqueueFront(T element) {
+        if (element == null) throw new NullPointerException();
+        if (!reserve()) return false;
+        Node<T> node = new Node<>(element);
+        for (;;) {
+            Anchor<T> a = anchor.get();
+            if (a.front == null) {
+                if (anchor.compareAndSet(a, new Anchor<>(node, node, STABLE))) {
+                    return true;
+                }
+            } else if (a.status == STABLE) {
+                node.next = a.front;
+                Anchor<T> pushed = new Anchor<>(node, a.back, PUSH_FRONT);
+                if (anchor.compareAndSet(a, pushed)) {
+                    stabilizeFront(pushed);
+                    return true;
+                }
+            } else {
+                stabilize(a);
+            }
+        }
+    }
+
+    /**
+     * Inserts an element at the back of the deque
+     *
+     * @param element the element to insert
+     * @return {@code true} if the element was added to the deque
+     *         {@code false} if the deque is full and the element can't be added
+     * @throws NullPointerException if the element is null
+     */
+    public boolean enqueueBack(T element) {
+        if (element == null) throw new NullPointerException();
+        if (!reserve()) return false;
+        Node<T> node = new Node<>(element);
+        for (;;) {
+            Anchor<T> a = anchor.get();
+            if (a.back == null) {
+                if (anchor.compareAndSet(a, new Anchor<>(node, node, STABLE))) {
+                    return true;
+                }
+            } else if (a.status == STABLE) {
+                node.prev = a.back;
+                Anchor<T> pushed = new Anchor<>(a.front, node, PUSH_BACK);
+                if (anchor.compareAndSet(a, pushed)) {
+                    stabilizeBack(pushed);
+                    return true;
+                }
+            } else {
+                stabilize(a);
+            }
+        }
+    }
+
+    /**
+     * Inserts an element at the front of the deque
+     *
+     * @param element the element to insert
+     * @throws NullPointerException if the element is null
+     */
+    public void addFirst(T element) {
+        enqueueFront(element);
+    }
+
+    /**
+     * Inserts an element at the back of the deque
+     *
+     * @param element the element to insert
+     * @throws NullPointerException if the element is null
+     */
+    public void addLast(T element) {
+        enqueueBack(element);
+    }
+
+    /**
+     * Inserts an element at the front of the deque
+     *
+     * @param element the element to insert
+     * @return {@code true} if the element was added to the deque
+     * @throws NullPointerException if the element is null
+     */
+    public boolean offerFirst(T element) {
+        return enqueueFront(element);
+    }
+
+    /**
+     * Inserts an element at the back of the deque
+     *
+     * @param element the element to insert
+     * @return {@code true} if the element was added to the deque
+     * @throws NullPointerException if the element is null
+     */
+    public boolean offerLast(T element) {
+        return enqueueBack(element);
+    }
+
+    /**
+     * Gets and removes the first element in the deque
+     *
+     * @return element at the front of the deque
+     *         or {@code null} if deque is empty
+     */
+    public T dequeueFront() {
+        for (;;) {
+            Anchor<T> a = anchor.get();
+            if (a.front == null) return null;
+            if (a.front == a.back) {
+                if (anchor.compareAndSet(a, new Anchor<>(null, null, STABLE))) {
+                    size.decrementAndGet();
+                    return a.front.element;
+                }
+            } else if (a.status == STABLE) {
+                Node<T> next = a.front.next;
+                if (anchor.compareAndSet(a, new Anchor<>(next, a.back, STABLE))) {
+                    // Unlink the removed node so the deque doesn't keep it reachable.
+                    // A CAS, since a front insertion may already have relinked next.
+                    PREV.compareAndSet(next, a.front, null);
+                    size.decrementAndGet();
+                    return a.front.element;
+                }
+            } else {
+                stabilize(a);
+            }
+        }
+    }
+
+    /**
+     * Gets and removes the last element in the deque
+     *
+     * @return element at the back of the deque
+     *         or {@code null} if deque is empty
+     */
+    public T dequeueBack() {
+        for (;;) {
+            Anchor<T> a = anchor.get();
+            if (a.back == null) return null;
+            if (a.front == a.back) {
+                if (anchor.compareAndSet(a, new Anchor<>(null, null, STABLE))) {
+                    size.decrementAndGet();
+                    return a.back.element;
+                }
+            } else if (a.status == STABLE) {
+                Node<T> prev = a.back.prev;
+                if (anchor.compareAndSet(a, new Anchor<>(a.front, prev, STABLE))) {
+                    // Unlink the removed node so the deque doesn't keep it reachable.
+                    // A CAS, since a back insertion may already have relinked prev.
+                    NEXT.compareAndSet(prev, a.back, null);
+                    size.decrementAndGet();
+                    return a.back.element;
+                }
+            } else {
+                stabilize(a);
+            }
+        }
+    }
+
+    /**
+     * Gets and removes the first element in the deque
+     *
+     * @return element at the front of the deque
+     * @throws NoSuchElementException if deque is empty
+     */
+    public T removeFirst() {
+        T element = dequeueFront();
+        if (element == null) throw new NoSuchElementException();
+        return element;
+    }
+
+    /**
+     * Gets and removes the last element in the deque
+     *
+     * @return element at the back of the deque
+     * @throws NoSuchElementException if deque is empty
+     */
+    public T removeLast() {
+        T element = dequeueBack();
+        if (element == null) throw new NoSuchElementException();
+        return element;
+    }
+
+    /**
+     * Gets and removes the first element in the deque
+     *
+     * @return element at the front of the deque
+     *         or {@code null} if deque is empty
+     */
+    public T pollFirst() {
+        return dequeueFront();
+    }
+
+    /**
+     * Gets and removes the last element in the deque
+     *
+     * @return element at the back of the deque
+     *         or {@code null} if deque is empty
+     */
+    public T pollLast() {
+        return dequeueBack();
+    }
+
+    /**
+     * Gets, but does not remove, the first element in the deque
+     *
+     * @return element at the front of the deque
+     *         or {@code null} if deque is empty
+     */
+    public T front() {
+        Node<T> front = anchor.get().front;
+        return front != null ? front.element : null;
+    }
+
+    /**
+     * Gets, but does not remove, the last element in the deque
+     *
+     * @return element at the back of the deque
+     *         or {@code null} if deque is empty
+     */
+    public T back() {
+        Node<T> back = anchor.get().back;
+        return back != null ? back.element : null;
+    }
+
+    /**
+     * Gets, but does not remove, the first element in the deque
+     *
+     * @return element at the back of the deque
+     * @throws NoSuchElementException if deque is empty
+     */
+    public T getFirst() {
+        T element = front();
+        if (element == null) throw new NoSuchElementException();
+        return element;
+    }
+
+    /**
+     * Gets, but does not remove, the last element in the deque
+     *
+     * @return element at the back of the deque
+     * @throws NoSuchElementException if deque is empty
+     */
+    public T getLast() {
+        T element = back();
+        if (element == null) throw new NoSuchElementException();
+        return element;
+    }
+
+    /**
+     * Gets, but does not remove, the first element in the deque
+     *
+     * @return element at the front of the deque
+     *         or {@code null} if deque is empty
+     */
+    public T peekFirst() {
+        return front();
+    }
+
+    /**
+     * Gets, but does not remove, the last element in the deque
+     *
+     * @return element at the back of the deque
+     *         or {@code null} if deque is empty
+     */
+    public T peekLast() {
+        return back();
+    }
+
+    /**
+     * Returns whether the deque contains an element
+     *
+     * @param o element being tested for inclusion in the deque
+     * @return {@code true} if the element is in the deque
+     * @throws NullPointerException if the element is null
+     */
+    public boolean contains(Object o) {
+        if (o == null) throw new NullPointerException();
+        Anchor<T> a = anchor.get();
+        while (a.status != STABLE) {
+            stabilize(a);
+            a = anchor.get();
+        }
+        for (Node<T> current = a.front; current != null; current = current.next) {
+            if (o.equals(current.element)) return true;
+            if (current == a.back) break;
+        }
+        return false;
+    }
+
+    // Queue methods
+
+    /**
+     * Inserts an element into the queue represented by this deque
+     * (at the back of this deque)
+     *
+     * @param element the element to insert
+     * @return {@code true} if the element was added to the deque
+     * @throws NullPointerException if the element is null
+     */
+    public boolean enqueue(T element) {
+        return enqueueBack(element);
+    }
+
+    /**
+     * Inserts an element into the queue represented by this deque
+     * (at the back of this deque)
+     *
+     * @param element the element to insert
+     * @return {@code true} if the element was added to the deque
+     * @throws NullPointerException if the element is null
+     */
+    public boolean add(T element) {
+        return enqueueBack(element);
+    }
+
+    /**
+     * Inserts an element into the queue represented by this deque
+     * (at the back of this deque)
+     *
+     * @param element the element to insert
+     * @return {@code true} if the element was added to the deque
+     * @throws NullPointerException if the element is null
+     */
+    public boolean offer(T element) {
+        return enqueueBack(element);
+    }
+
+    /**
+     * Gets and removes the first element in the queue represented by this deque
+     * (the first element in the deque)
+     *
+     * @return element at the front of the deque
+     * @throws NoSuchElementException if deque is empty
+     */
+    public T remove() {
+        return removeFirst();
+    }
+
+    /**
+     * Gets and removes the first element in the queue represented by this deque
+     * (the first element in the deque)
+     *
+     * @return element at the front of the deque
+     *         or {@code null} if deque is empty
+     */
+    public T poll() {
+        return dequeueFront();
+    }
+
+    /**
+     * Gets, but does not remove, the first element in queue
+     * represented by this deque (the first element in the deque)
+     *
+     * @return element at the front of the deque
+     * @throws NoSuchElementException if deque is empty
+     */
+    public T element() {
+        return getFirst();
+    }
+
+    /**
+     * Gets, but does not remove, the first element in queue
+     * represented by this deque (the first element in the deque)
+     *
+     * @return element at the front of the deque
+     *         or {@code null} if deque is empty
+     */
+    public T peek() {
+        return front();
+    }
+
+    // Stack methods
+
+    /**
+     * Pushes an element on to the stack represented by this deque
+     * (inserts it at the front of the deque)
+     *
+     * @param element the element to push on to the stack
+     * @return {@code true} if the element was added successfully
+     * @throws NullPointerException if the element is null
+     */
+    public boolean push(T element) {
+        return enqueueFront(element);
+    }
+
+    /**
+     * Removes the element on top of the stack represented by this deque
+     * (the first element in the deque)
+     *
+     * @return the element on top of the stack represented by this deque
+     *         (the element at the front of this deque)
+     *          or {@code null} if the deque is empty
+     */
+    public T pop() {
+        return dequeueFront();
+    }
+}
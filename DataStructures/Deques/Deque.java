@@ -0,0 +1,734 @@
+package Deques;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * A deque, or double ended queue, is a data structure that allows
+ * insertion and removal of elements at both the front and the back.
+ * As a result, a deque can be used as a queue or a stack.
+ * <p>
+ * The deque can be iterated from either end and streamed, but must not be
+ * modified while an iterator, spliterator or stream is in use.
+ *
+ * @author Jordan Owens
+ * @param <T> the type of elements in the deque
+ */
+public class Deque<T> implements Iterable<T> {
+    /** Implementation of the nodes that make up the deque */
+    private static class Node<T> {
+        /** Element the node stores */
+        T element;
+        /** Reference to the previous node in the deque */
+        Node<T> prev;
+        /** Reference to the next node in the deque */
+        Node<T> next;
+        
+        /**
+         * Constructs a node storing an element
+         *
+         * @param element the element to be stored in the node
+         * @param prev the previous node in the deque to refer to
+         * @param next the next node in the deque to refer to
+         */
+        Node(T element, Node<T> prev, Node<T> next) {
+            this.element = element;
+            this.prev = prev;
+            this.next = next;
+        }
+    }
+
+    /** Spliterator over a run of consecutive nodes */
+    private static class NodeSpliterator<T> implements Spliterator<T> {
+        /** Next node to visit */
+        private Node<T> current;
+        /** Number of nodes left to visit */
+        private int remaining;
+
+        /**
+         * Constructs a spliterator over a run of nodes
+         *
+         * @param current the first node in the run
+         * @param remaining the number of nodes in the run
+         */
+        NodeSpliterator(Node<T> current, int remaining) {
+            this.current = current;
+            this.remaining = remaining;
+        }
+
+        @Override
+        public boolean tryAdvance(Consumer<? super T> action) {
+            if (action == null) throw new NullPointerException();
+            if (remaining == 0) return false;
+            T element = current.element;
+            current = current.next;
+            remaining--;
+            action.accept(element);
+            return true;
+        }
+
+        @Override
+        public void forEachRemaining(Consumer<? super T> action) {
+            if (action == null) throw new NullPointerException();
+            Node<T> node = current;
+            for (int i = remaining; i > 0; i--) {
+                action.accept(node.element);
+                node = node.next;
+            }
+            current = node;
+            remaining = 0;
+        }
+
+        /**
+         * Splits off the first half of the remaining nodes,
+         * so both halves have an exact size
+         */
+        @Override
+        public Spliterator<T> trySplit() {
+            if (remaining < 2) return null;
+            int half = remaining >>> 1;
+            Node<T> start = current;
+            for (int i = 0; i < half; i++) {
+                current = current.next;
+            }
+            remaining -= half;
+            return new NodeSpliterator<>(start, half);
+        }
+
+        @Override
+        public long estimateSize() {
+            return remaining;
+        }
+
+        @Override
+        public int characteristics() {
+            return ORDERED | SIZED | SUBSIZED | NONNULL;
+        }
+    }
+
+    /** First node in the deque */
+    private Node<T> front;
+    /** Last node in the deque */
+    private Node<T> back;
+    /** Size of the deque */
+    private int size;
+    /** Maximum size of the deque */
+    private int maxSize;
+
+    /** Constructs an empty deque with no size restriction */
+    public Deque() {
+        this.front = this.back = null;
+        this.size = 0;
+        this.maxSize = Integer.MAX_VALUE;
+    }
+
+    /**
+     * Constructs an empty deque with a size restriction
+     *
+     * @param maxSize the maximum size of the deque
+     * @throws IllegalArgumentException if maxSize is not at least 1
+     */
+    public Deque(int maxSize) {
+        if (maxSize < 1) {
+            throw new IllegalArgumentException("Maximum size must be >= 1");
+        }
+        this.front = this.back = null;
+        this.size = 0;
+        this.maxSize = maxSize;
+    }
+
+    /**
+     * Gets the size of the deque
+     *
+     * @return the number of elements in the deque
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Gets the maximum size of the deque
+     *
+     * @return the maximum number of elements allowed in the deque
+     */
+    public int maxSize() {
+        return maxSize;
+    }
+
+    /**
+     * Returns whether the deque is empty or not
+     *
+     * @return {@code true} if the deque is empty
+     */
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * Returns whether the deque is full or not
+     *
+     * @return {@code true} if the deque is full
+     */
+    public boolean isFull() {
+        return size == maxSize;
+    }
+
+    /**
+     * Inserts an element at the front of the deque
+     *
+     * @param element the element to insert
+     * @return {@code true} if the element was added to the deque
+     *         {@code false} if the deque is full and the element can't be added
+     * @throws NullPointerException if the element is null
+     */
+    public boolean enqueueFront(T element) {
+        if (element == null) throw new NullPointerException();
+        if (isFull()) return false;
+        front = new Node<>(element, null, front);
+        if (front.next == null) {
+            back = front;
+        } else {
+            front.next.prev = front;
+        }
+        size++;
+        return true;
+    }
+
+    /**
+     * Inserts an element at the back of the deque
+     *
+     * @param element the element to insert
+     * @return {@code true} if the element was added to the deque
+     *         {@code false} if the deque is full and the element can't be added
+     * @throws NullPointerException if the element is null
+     */
+    public boolean enqueueBack(T element) {
+        if (element == null) throw new NullPointerException();
+        if (isFull()) return false;
+        back = new Node<>(element, back, null);
+        if (back.prev == null) {
+            front = back;
+        } else {
+            back.prev.next = back;
+        }
+        size++;
+        return true;
+    }
+
+    /**
+     * Inserts an element at the front of the deque
+     *
+     * @param element the element to insert
+     * @throws NullPointerException if the element is null
+     */
+    public void addFirst(T element) {
+        enqueueFront(element);
+    }
+
+    /**
+     * Inserts an element at the back of the deque
+     *
+     * @param element the element to insert
+     * @throws NullPointerException if the element is null
+     */
+    public void addLast(T element) {
+        enqueueBack(element);
+    }
+
+    /**
+     * Inserts an element at the front of the deque
+     *
+     * @param element the element to insert
+     * @return {@code true} if the element was added to the deque
+     * @throws NullPointerException if the element is null
+     */
+    public boolean offerFirst(T element) {
+        return enqueueFront(element);
+    }
+
+    /**
+     * Inserts an element at the back of the deque
+     *
+     * @param element the element to insert
+     * @return {@code true} if the element was added to the deque
+     * @throws NullPointerException if the element is null
+     */
+    public boolean offerLast(T element) {
+        return enqueueBack(element);
+    }
+
+    /**
+     * Gets and removes the first element in the deque
+     *
+     * @return element at the front of the deque
+     *         or {@code null} if deque is empty
+     */
+    public T dequeueFront() {
+        if (front == null) return null;
+        T dequeued = front.element;
+        front = front.next;
+        if (front == null) {
+            back = null;
+        } else {
+            front.prev = null;
+        }
+        size--;
+        return dequeued;
+    }
+
+    /**
+     * Gets and removes the last element in the deque
+     *
+     * @return element at the back of the deque
+     *         or {@code null} if deque is empty
+     */
+    public T dequeueBack() {
+        if (back == null) return null;
+        T dequeued = back.element;
+        back = back.prev;
+        if (back == null) {
+            front = null;
+        } else {
+            back.next = null;
+        }
+        size--;
+        return dequeued;
+    }
+
+    /**
+     * Gets and removes the first element in the deque
+     *
+     * @return element at the front of the deque
+     * @throws NoSuchElementException if deque is empty
+     */
+    public T removeFirst() {
+        T element = dequeueFront();
+        if (element == null) throw new NoSuchElementException();
+        return element;
+    }
+
+    /**
+     * Gets and removes the last element in the deque
+     *
+     * @return element at the back of the deque
+     * @throws NoSuchElementException if deque is empty
+     */
+    public T removeLast() {
+        T element = dequeueBack();
+        if (element == null) throw new NoSuchElementException();
+        return element;
+    }
+
+    /**
+     * Gets and removes the first element in the deque
+     *
+     * @return element at the front of the deque
+     *         or {@code null} if deque is empty
+     */
+    public T pollFirst() {
+        return dequeueFront();
+    }
+
+    /**
+     * Gets and removes the last element in the deque
+     *
+     * @return element at the back of the deque
+     *         or {@code null} if deque is empty
+     */
+    public T pollLast() {
+        return dequeueBack();
+    }
+
+    /**
+     * Gets, but does not remove, the first element in the deque
+     *
+     * @return element at the front of the deque
+     *         or {@code null} if deque is empty
+     */
+    public T front() {
+        return front != null ? front.element : null;
+    }
+
+    /**
+     * Gets, but does not remove, the last element in the deque
+     *
+     * @return element at the back of the deque
+     *         or {@code null} if deque is empty
+     */
+    public T back() {
+        return back != null ? back.element : null;
+    }
+
+    /**
+     * Gets, but does not remove, the first element in the deque
+     *
+     * @return element at the back of the deque
+     * @throws NoSuchElementException if deque is empty
+     */
+    public T getFirst() {
+        if (front == null) throw new NoSuchElementException();
+        return front.element;
+    }
+
+    /**
+     * Gets, but does not remove, the last element in the deque
+     *
+     * @return element at the back of the deque
+     * @throws NoSuchElementException if deque is empty
+     */
+    public T getLast() {
+        if (back == null) throw new NoSuchElementException();
+        return back.element;
+    }
+
+    /**
+     * Gets, but does not remove, the first element in the deque
+     *
+     * @return element at the front of the deque
+     *         or {@code null} if deque is empty
+     */
+    public T peekFirst() {
+        return front != null ? front.element : null;
+    }
+
+    /**
+     * Gets, but does not remove, the last element in the deque
+     *
+     * @return element at the back of the deque
+     *         or {@code null} if deque is empty
+     */
+    public T peekLast() {
+        return back != null ? back.element : null;
+    }
+
+    /**
+     * Returns whether the deque contains an element
+     *
+     * @param o element being tested for inclusion in the deque
+     * @return {@code true} if the element is in the deque
+     * @throws NullPointerException if the element is null
+     */
+    public boolean contains(Object o) {
+        if (o == null) throw new NullPointerException();
+        if (back != null && o.equals(back.element)) return true;
+        for (Node<T> current = front; current != null; current = current.next) {
+            if (o.equals(current.element)) return true;
+        }
+        return false;
+    }
+
+    /**
+     * Links the elements into a chain of new nodes, held by a new deque
+     *
+     * @param elements the elements to store in the chain
+     * @return the chain, or {@code null} if this deque doesn't have room for it
+     * @throws NullPointerException if any of the elements is null
+     */
+    private Deque<T> chain(Collection<? extends T> elements) {
+        if (elements.size() > maxSize - size) return null;
+        Deque<T> chain = new Deque<>();
+        for (T element : elements) {
+            chain.enqueueBack(element);
+        }
+        return chain;
+    }
+
+    /**
+     * Inserts all of the elements in an array at the back of the deque,
+     * in array order. Either every element is inserted or none are.
+     *
+     * @param elements the elements to insert
+     * @return {@code true} if the elements were added to the deque
+     *         {@code false} if the deque doesn't have room for all of them
+     * @throws NullPointerException if the array or any element is null
+     */
+    public boolean addAllLast(T[] elements) {
+        return addAllLast(Arrays.asList(elements));
+    }
+
+    /**
+     * Inserts all of the elements in a collection at the back of the deque,
+     * in iteration order. Either every element is inserted or none are.
+     *
+     * @param elements the elements to insert
+     * @return {@code true} if the elements were added to the deque
+     *         {@code false} if the deque doesn't have room for all of them
+     * @throws NullPointerException if the collection or any element is null
+     */
+    public boolean addAllLast(Collection<? extends T> elements) {
+        Deque<T> chain = chain(elements);
+        if (chain == null) return false;
+        if (chain.isEmpty()) return true;
+        if (back == null) {
+            front = chain.front;
+        } else {
+            back.next = chain.front;
+            chain.front.prev = back;
+        }
+        back = chain.back;
+        size += chain.size;
+        return true;
+    }
+
+    /**
+     * Inserts all of the elements in an array at the front of the deque,
+     * so the first element of the array becomes the first element
+     * of the deque. Either every element is inserted or none are.
+     *
+     * @param elements the elements to insert
+     * @return {@code true} if the elements were added to the deque
+     *         {@code false} if the deque doesn't have room for all of them
+     * @throws NullPointerException if the array or any element is null
+     */
+    public boolean addAllFirst(T[] elements) {
+        return addAllFirst(Arrays.asList(elements));
+    }
+
+    /**
+     * Inserts all of the elements in a collection at the front of the deque,
+     * so the collection's first element becomes the first element
+     * of the deque. Either every element is inserted or none are.
+     *
+     * @param elements the elements to insert
+     * @return {@code true} if the elements were added to the deque
+     *         {@code false} if the deque doesn't have room for all of them
+     * @throws NullPointerException if the collection or any element is null
+     */
+    public boolean addAllFirst(Collection<? extends T> elements) {
+        Deque<T> chain = chain(elements);
+        if (chain == null) return false;
+        if (chain.isEmpty()) return true;
+        if (front == null) {
+            back = chain.back;
+        } else {
+            front.prev = chain.back;
+            chain.back.next = front;
+        }
+        front = chain.front;
+        size += chain.size;
+        return true;
+    }
+
+    /**
+     * Removes up to {@code limit} elements from the front of the deque
+     * and passes them to a consumer in order
+     * <p>
+     * An element is only removed once the consumer accepts it, so if the
+     * consumer throws, that element and the ones after it stay in the deque.
+     *
+     * @param consumer the consumer to pass the elements to
+     * @param limit the maximum number of elements to remove
+     * @return the number of elements removed
+     * @throws NullPointerException if the consumer is null
+     * @throws IllegalArgumentException if limit is negative
+     */
+    public int drainTo(Consumer<? super T> consumer, int limit) {
+        if (consumer == null) throw new NullPointerException();
+        if (limit < 0) {
+            throw new IllegalArgumentException("Limit must be >= 0");
+        }
+        int count = Math.min(limit, size);
+        int drained = 0;
+        Node<T> node = front;
+        try {
+            for (; drained < count; drained++) {
+                consumer.accept(node.element);
+                node = node.next;
+            }
+            return drained;
+        } finally {
+            front = node;
+            if (front == null) {
+                back = null;
+            } else {
+                front.prev = null;
+            }
+            size -= drained;
+        }
+    }
+
+    /**
+     * Returns an iterator over the elements from front to back
+     *
+     * @return an iterator over the deque
+     */
+    @Override
+    public Iterator<T> iterator() {
+        return new Iterator<T>() {
+            private Node<T> current = front;
+
+            @Override
+            public boolean hasNext() {
+                return current != null;
+            }
+
+            @Override
+            public T next() {
+                if (current == null) throw new NoSuchElementException();
+                T element = current.element;
+                current = current.next;
+                return element;
+            }
+        };
+    }
+
+    /**
+     * Returns an iterator over the elements from back to front
+     *
+     * @return an iterator over the deque in reverse order
+     */
+    public Iterator<T> descendingIterator() {
+        return new Iterator<T>() {
+            private Node<T> current = back;
+
+            @Override
+            public boolean hasNext() {
+                return current != null;
+            }
+
+            @Override
+            public T next() {
+                if (current == null) throw new NoSuchElementException();
+                T element = current.element;
+                current = current.prev;
+                return element;
+            }
+        };
+    }
+
+    /**
+     * Returns a spliterator over the elements from front to back.
+     * It splits in half, so parallel streams divide the deque evenly.
+     *
+     * @return a spliterator over the deque
+     */
+    @Override
+    public Spliterator<T> spliterator() {
+        return new NodeSpliterator<>(front, size);
+    }
+
+    /**
+     * Returns a sequential stream of the elements from front to back
+     *
+     * @return a stream over the deque
+     */
+    public Stream<T> stream() {
+        return StreamSupport.stream(spliterator(), false);
+    }
+
+    // Queue methods
+
+    /**
+     * Inserts an element into the queue represented by this deque
+     * (at the back of this deque)
+     *
+     * @param element the element to insert
+     * @return {@code true} if the element was added to the deque
+     * @throws NullPointerException if the element is null
+     */
+    public boolean enqueue(T element) {
+        return enqueueBack(element);
+    }
+    /**
+     * Inserts an element into the queue represented by this deque
+     * (at the back of this deque)
+     *
+     * @param element the element to insert
+     * @return {@code true} if the element was added to the deque
+     * @throws NullPointerException if the element is null
+     */
+    public boolean add(T element) {
+        return enqueueBack(element);
+    }
+
+    /**
+     * Inserts an element into the queue represented by this deque
+     * (at the back of this deque)
+     *
+     * @param element the element to insert
+     * @return {@code true} if the element was added to the deque
+     * @throws NullPointerException if the element is null
+     */
+    public boolean offer(T element) {
+        return enqueueBack(element);
+    }
+
+    /**
+     * Gets and removes the first element in the queue represented by this deque
+     * (the first element in the deque)
+     *
+     * @return element at the front of the deque
+     * @throws NoSuchElementException if deque is empty
+     */
+    public T remove() {
+        T element = dequeueFront();
+        if (element == null) throw new NoSuchElementException();
+        return element;
+    }
+
+    /**
+     * Gets and removes the first element in the queue represented by this deque
+     * (the first element in the deque)
+     *
+     * @return element at the front of the deque
+     *         or {@code null} if deque is empty
+     */
+    public T poll() {
+        return dequeueFront();
+    }
+
+    /**
+     * Gets, but does not remove, the first element in queue
+     * represented by this deque (the first element in the deque)
+     *
+     * @return element at the front of the deque
+     * @throws NoSuchElementException if deque is empty
+     */
+    public T element() {
+        if (front == null) throw new NoSuchElementException();
+        return front.element;
+    }
+
+    /**
+     * Gets, but does not remove, the first element in queue
+     * represented by this deque (the first element in the deque)
+     *
+     * @return element at the front of the deque
+     *         or {@code null} if deque is empty
+     */
+    public T peek() {
+        return front != null ? front.element : null;
+    }
+
+    // Stack methods
+
+    /**
+     * Pushes an element on to the stack represented by this deque
+     * (inserts it at the front of the deque)
+     *
+     * @param element the element to push on to the stack
+     * @return {@code true} if the element was added successfully
+     * @throws NullPointerException if the element is null
+     */
+    public boolean push(T element) {
+        return enqueueFront(element);
+    }
+
+    /**
+     * Removes the element on top of the stack represented by this deque
+     * (the first element in the deque)
+     *
+     * @return the element on top of the stack represented by this deque
+     *         (the element at the front of this deque)
+     *          or {@code null} if the deque is empty
+     */
+    public T pop() {
+        return dequeueFront();
+    }
+}
@@ -0,0 +1,55 @@
+package Deques;
+
+import java.nio.ByteBuffer;
+
+/**
+ * Converts elements to and from bytes so they can be stored outside the heap
+ * <p>
+ * Only {@link #toBytes(Object)} and {@link #fromBytes(byte[])} must be
+ * implemented. Serializers that can work directly on a buffer should also
+ * override {@link #write(Object, ByteBuffer)} and {@link #read(ByteBuffer)}
+ * to avoid copying through an intermediate array.
+ *
+ * @author Jordan Owens
+ * @param <T> the type of elements being serialized
+ */
+public interface Serializer<T> {
+    /**
+     * Converts an element to bytes
+     *
+     * @param element the element to convert
+     * @return the bytes representing the element
+     */
+    byte[] toBytes(T element);
+
+    /**
+     * Converts bytes produced by {@link #toBytes(Object)} back to an element
+     *
+     * @param bytes the bytes representing an element
+     * @return the element
+     */
+    T fromBytes(byte[] bytes);
+
+    /**
+     * Writes an element's bytes at the buffer's position
+     *
+     * @param element the element to write
+     * @param buffer the buffer to write to
+     * @throws java.nio.BufferOverflowException if the buffer doesn't have room
+     */
+    default void write(T element, ByteBuffer buffer) {
+        buffer.put(toBytes(element));
+    }
+
+    /**
+     * Reads an element from all of the buffer's remaining bytes
+     *
+     * @param buffer the buffer holding exactly the element's bytes
+     * @return the element
+     */
+    default T read(ByteBuffer buffer) {
+        byte[] bytes = new byte[buffer.remaining()];
+        buffer.get(bytes);
+        return fromBytes(bytes);
+    }
+}
@@ -0,0 +1,426 @@
+package Deques;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.NoSuchElementException;
+
+/**
+ * Deque that spills its middle to memory-mapped files once it outgrows memory.
+ * <p>
+ * The front and back of the deque are kept in memory in two
+ * {@link CircularDeque}s of up to {@code threshold} elements each.
+ * When one of them fills up, the half closest to the middle of the deque is
+ * serialized into a new segment file, written once through a memory mapping.
+ * When an end runs out of elements, the segment next to it is mapped,
+ * read back into memory in one pass and deleted.
+ * Since segments are only written and read whole, insertions and removals
+ * at either end are amortized O(1) and only {@code 2 * threshold} elements
+ * are held on the heap no matter how large the deque grows.
+ * <p>
+ * Segment files are deleted as they are drained and by {@link #close()}.
+ *
+ * @author Jordan Owens
+ * @param <T> the type of elements in the deque
+ */
+public class SpillingDeque<T> implements AutoCloseable {
+    /** File holding a run of elements from the middle of the deque */
+    private static class Segment {
+        /** Path of the segment file */
+        final Path path;
+        /** Number of elements in the segment */
+        final int count;
+
+        Segment(Path path, int count) {
+            this.path = path;
+            this.count = count;
+        }
+    }
+
+    /** Directory segment files are created in */
+    private final Path directory;
+    /** Converts elements to and from the bytes stored in segments */
+    private final Serializer<T> serializer;
+    /** Number of elements each end holds in memory before spilling */
+    private final int threshold;
+    /** Elements at the front of the deque */
+    private final CircularDeque<T> front;
+    /** Spilled segments, in order from the front to the back of the deque */
+    private final CircularDeque<Segment> middle;
+    /** Elements at the back of the deque */
+    private final CircularDeque<T> back;
+    /** Number of elements in spilled segments */
+    private int spilled;
+    /** Maximum size of the deque */
+    private final int maxSize;
+
+    /**
+     * Constructs an empty deque with no size restriction
+     *
+     * @param directory the directory to create segment files in
+     * @param serializer converts elements to and from bytes
+     * @param threshold the number of elements to keep in memory at each end
+     * @throws NullPointerException if the directory or serializer is null
+     * @throws IllegalArgumentException if threshold is not at least 2
+     */
+    public SpillingDeque(Path directory, Serializer<T> serializer, int threshold) {
+        this(directory, serializer, threshold, Integer.MAX_VALUE);
+    }
+
+    /**
+     * Constructs an empty deque with a size restriction
+     *
+     * @param directory the directory to create segment files in
+     * @param serializer converts elements to and from bytes
+     * @param threshold the number of elements to keep in memory at each end
+     * @param maxSize the maximum size of the deque
+     * @throws NullPointerException if the directory or serializer is null
+     * @throws IllegalArgumentException if threshold is not at least 2
+     *                                  or maxSize is not at least 1
+     */
+    public SpillingDeque(Path directory, Serializer<T> serializer, int threshold, int maxSize) {
+        if (directory == null || serializer == null) throw new NullPointerException();
+        if (threshold < 2) {
+            throw new IllegalArgumentException("Threshold must be >= 2");
+        }
+        if (maxSize < 1) {
+            throw new IllegalArgumentException("Maximum size must be >= 1");
+        }
+        this.directory = directory;
+        this.serializer = serializer;
+        this.threshold = threshold;
+        this.front = new CircularDeque<>();
+        this.middle = new CircularDeque<>();
+        this.back = new CircularDeque<>();
+        this.spilled = 0;
+        this.maxSize = maxSize;
+    }
+
+    /**
+     * Writes elements to a new segment file with a unique name,
+     * deleting the file again if it can't be written
+     *
+     * @param elements the elements in deque order
+     * @return the segment
+     */
+    private Segment write(Object[] elements) {
+        byte[][] records = new byte[elements.length][];
+        long length = 0;
+        for (int i = 0; i < elements.length; i++) {
+            @SuppressWarnings("unchecked")
+            T element = (T) elements[i];
+            records[i] = serializer.toBytes(element);
+            length += Integer.BYTES + records[i].length;
+        }
+        Path path;
+        try {
+            path = Files.createTempFile(directory, "segment-", ".bin");
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        Segment segment = new Segment(path, elements.length);
+        try (FileChannel channel = FileChannel.open(path,
+                StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+            MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_WRITE, 0, length);
+            for (byte[] record : records) {
+                buffer.putInt(record.length).put(record);
+            }
+        } catch (IOException e) {
+            delete(segment);
+            throw new UncheckedIOException(e);
+        }
+        spilled += elements.length;
+        return segment;
+    }
+
+    /**
+     * Reads a segment's elements onto the back of a deque
+     *
+     * @param segment the segment to read
+     * @param elements the deque to add the elements to
+     */
+    private void load(Segment segment, CircularDeque<T> elements) {
+        try (FileChannel channel = FileChannel.open(segment.path, StandardOpenOption.READ)) {
+            ByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+            for (int i = 0; i < segment.count; i++) {
+                byte[] record = new byte[buffer.getInt()];
+                buffer.get(record);
+                elements.enqueueBack(serializer.fromBytes(record));
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * Reads a segment's elements into an empty end of the deque
+     * and deletes the segment file. The elements are only moved once the
+     * whole segment has been read, so a failed read changes nothing.
+     *
+     * @param segment the segment to read
+     * @param end the end of the deque to read the elements into
+     */
+    private void read(Segment segment, CircularDeque<T> end) {
+        CircularDeque<T> elements = new CircularDeque<>();
+        load(segment, elements);
+        for (T element; (element = elements.dequeueFront()) != null;) {
+            end.enqueueBack(element);
+        }
+        delete(segment);
+        spilled -= segment.count;
+    }
+
+    /**
+     * Deletes a segment file
+     *
+     * @param segment the segment to delete
+     */
+    private static void delete(Segment segment) {
+        try {
+            Files.deleteIfExists(segment.path);
+        } catch (IOException e) {
+            // Files that are still mapped can't be deleted on some platforms
+            segment.path.toFile().deleteOnExit();
+        }
+    }
+
+    /**
+     * Spills the back half of the front buffer if it is full.
+     * The elements are only removed from memory once their segment is written.
+     */
+    private void spillFront() {
+        if (front.size() < threshold) return;
+        Object[] elements = new Object[threshold / 2];
+        int start = front.size() - elements.length;
+        for (int i = 0; i < elements.length; i++) {
+            elements[i] = front.element(start + i);
+        }
+        middle.enqueueFront(write(elements));
+        for (int i = 0; i < elements.length; i++) {
+            front.dequeueBack();
+        }
+    }
+
+    /**
+     * Spills the front half of the back buffer if it is full.
+     * The elements are only removed from memory once their segment is written.
+     */
+    private void spillBack() {
+        if (back.size() < threshold) return;
+        Object[] elements = new Object[threshold / 2];
+        for (int i = 0; i < elements.length; i++) {
+            elements[i] = back.element(i);
+        }
+        middle.enqueueBack(write(elements));
+        for (int i = 0; i < elements.length; i++) {
+            back.dequeueFront();
+        }
+    }
+
+    /** Reads the first segment into the front buffer if it is empty */
+    private void fillFront() {
+        if (front.isEmpty() && !middle.isEmpty()) {
+            read(middle.peekFirst(), front);
+            middle.dequeueFront();
+        }
+    }
+
+    /** Reads the last segment into the back buffer if it is empty */
+    private void fillBack() {
+        if (back.isEmpty() && !middle.isEmpty()) {
+            read(middle.peekLast(), back);
+            middle.dequeueBack();
+        }
+    }
+
+    /**
+     * Gets the size of the deque
+     *
+     * @return the number of elements in the deque
+     */
+    public int size() {
+        return front.size() + spilled + back.size();
+    }
+
+    /**
+     * Gets the number of elements stored in segment files
+     *
+     * @return the number of elements not held in memory
+     */
+    public int spilled() {
+        return spilled;
+    }
+
+    /**
+     * Gets the maximum size of the deque
+     *
+     * @return the maximum number of elements allowed in the deque
+     */
+    public int maxSize() {
+        return maxSize;
+    }
+
+    /**
+     * Returns whether the deque is empty or not
+     *
+     * @return {@code true} if the deque is empty
+     */
+    public boolean isEmpty() {
+        return size() == 0;
+    }
+
+    /**
+     * Returns whether the deque is full or not
+     *
+     * @return {@code true} if the deque is full
+     */
+    public boolean isFull() {
+        return size() == maxSize;
+    }
+
+    /**
+     * Inserts an element at the front of the deque
+     *
+     * @param element the element to insert
+     * @return {@code true} if the element was added to the deque
+     *         {@code false} if the deque is full and the element can't be added
+     * @throws NullPointerException if the element is null
+     * @throws UncheckedIOException if a segment file can't be written
+     */
+    public boolean enqueueFront(T element) {
+        if (element == null) throw new NullPointerException();
+        if (isFull()) return false;
+        spillFront();
+        front.enqueueFront(element);
+        return true;
+    }
+
+    /**
+     * Inserts an element at the back of the deque
+     *
+     * @param element the element to insert
+     * @return {@code true} if the element was added to the deque
+     *         {@code false} if the deque is full and the element can't be added
+     * @throws NullPointerException if the element is null
+     * @throws UncheckedIOException if a segment file can't be written
+     */
+    public boolean enqueueBack(T element) {
+        if (element == null) throw new NullPointerException();
+        if (isFull()) return false;
+        spillBack();
+        back.enqueueBack(element);
+        return true;
+    }
+
+    /**
+     * Gets and removes the first element in the deque
+     *
+     * @return element at the front of the deque
+     *         or {@code null} if deque is empty
+     * @throws UncheckedIOException if a segment file can't be read
+     */
+    public T dequeueFront() {
+        fillFront();
+        return !front.isEmpty() ? front.dequeueFront() : back.dequeueFront();
+    }
+
+    /**
+     * Gets and removes the last element in the deque
+     *
+     * @return element at the back of the deque
+     *         or {@code null} if deque is empty
+     * @throws UncheckedIOException if a segment file can't be read
+     */
+    public T dequeueBack() {
+        fillBack();
+        return !back.isEmpty() ? back.dequeueBack() : front.dequeueBack();
+    }
+
+    /**
+     * Gets, but does not remove, the first element in the deque
+     *
+     * @return element at the front of the deque
+     *         or {@code null} if deque is empty
+     * @throws UncheckedIOException if a segment file can't be read
+     */
+    public T peekFirst() {
+        fillFront();
+        return !front.isEmpty() ? front.peekFirst() : back.peekFirst();
+    }
+
+    /**
+     * Gets, but does not remove, the last element in the deque
+     *
+     * @return element at the back of the deque
+     *         or {@code null} if deque is empty
+     * @throws UncheckedIOException if a segment file can't be read
+     */
+    public T peekLast() {
+        fillBack();
+        return !back.isEmpty() ? back.peekLast() : front.peekLast();
+    }
+
+    /**
+     * Gets and removes the first element in the deque
+     *
+     * @return element at the front of the deque
+     * @throws NoSuchElementException if deque is empty
+     * @throws UncheckedIOException if a segment file can't be read
+     */
+    public T removeFirst() {
+        T element = dequeueFront();
+        if (element == null) throw new NoSuchElementException();
+        return element;
+    }
+
+    /**
+     * Gets and removes the last element in the deque
+     *
+     * @return element at the back of the deque
+     * @throws NoSuchElementException if deque is empty
+     * @throws UncheckedIOException if a segment file can't be read
+     */
+    public T removeLast() {
+        T element = dequeueBack();
+        if (element == null) throw new NoSuchElementException();
+        return element;
+    }
+
+    /**
+     * Returns whether the deque contains an element.
+     * Spilled segments are read from disk, so this is slow for large deques.
+     *
+     * @param o element being tested for inclusion in the deque
+     * @return {@code true} if the element is in the deque
+     * @throws NullPointerException if the element is null
+     * @throws UncheckedIOException if a segment file can't be read
+     */
+    public boolean contains(Object o) {
+        if (o == null) throw new NullPointerException();
+        if (front.contains(o) || back.contains(o)) return true;
+        for (int i = 0; i < middle.size(); i++) {
+            CircularDeque<T> elements = new CircularDeque<>();
+            load(middle.element(i), elements);
+            if (elements.contains(o)) return true;
+        }
+        return false;
+    }
+
+    /**
+     * Deletes every segment file and empties the deque
+     */
+    @Override
+    public void close() {
+        for (Segment segment; (segment = middle.dequeueFront()) != null;) {
+            delete(segment);
+        }
+        spilled = 0;
+        while (front.dequeueFront() != null);
+        while (back.dequeueFront() != null);
+    }
+}
@@ -0,0 +1,522 @@
+package Deques;
+
+import java.util.NoSuchElementException;
+
+/**
+ * Unrolled deque, a doubly linked list of fixed-size blocks of elements.
+ * <p>
+ * Each block stores up to {@value #BLOCK_SIZE} elements in an array, so
+ * scanning the deque touches consecutive memory instead of following a
+ * reference per element. Only the first and last blocks can be partially
+ * filled; offsets into them mark where the deque starts and ends.
+ * Blocks emptied by removals are kept in a small free list and reused
+ * instead of being reallocated when the deque grows again.
+ *
+ * @author Jordan Owens
+ * @param <T> the type of elements in the deque
+ */
+public class UnrolledDeque<T> {
+    /** Number of elements each block holds */
+    private static final int BLOCK_SIZE = 64;
+    /** Maximum number of emptied blocks kept for reuse */
+    private static final int MAX_FREE_BLOCKS = 4;
+
+    /** Implementation of the blocks that make up the deque */
+    private static class Block {
+        /** Elements the block stores */
+        final Object[] elements = new Object[BLOCK_SIZE];
+        /** Reference to the previous block in the deque */
+        Block prev;
+        /** Reference to the next block in the deque */
+        Block next;
+    }
+
+    /** First block in the deque */
+    private Block front;
+    /** Last block in the deque */
+    private Block back;
+    /** Index of the first element in the first block */
+    private int frontIndex;
+    /** Index after the last element in the last block */
+    private int backIndex;
+    /** Emptied blocks kept for reuse, linked through {@code next} */
+    private Block freeBlocks;
+    /** Number of blocks in the free list */
+    private int freeCount;
+    /** Size of the deque */
+    private int size;
+    /** Maximum size of the deque */
+    private int maxSize;
+
+    /** Constructs an empty deque with no size restriction */
+    public UnrolledDeque() {
+        this.front = this.back = new Block();
+        this.frontIndex = this.backIndex = BLOCK_SIZE / 2;
+        this.freeBlocks = null;
+        this.freeCount = 0;
+        this.size = 0;
+        this.maxSize = Integer.MAX_VALUE;
+    }
+
+    /**
+     * Constructs an empty deque with a size restriction
+     *
+     * @param maxSize the maximum size of the deque
+     * @throws IllegalArgumentException if maxSize is not at least 1
+     */
+    public UnrolledDeque(int maxSize) {
+        if (maxSize < 1) {
+            throw new IllegalArgumentException("Maximum size must be >= 1");
+        }
+        this.front = this.back = new Block();
+        this.frontIndex = this.backIndex = BLOCK_SIZE / 2;
+        this.freeBlocks = null;
+        this.freeCount = 0;
+        this.size = 0;
+        this.maxSize = maxSize;
+    }
+
+    /**
+     * Gets a block from the free list or allocates a new one
+     *
+     * @return an empty, unlinked block
+     */
+    private Block obtainBlock() {
+        if (freeBlocks == null) return new Block();
+        Block block = freeBlocks;
+        freeBlocks = block.next;
+        block.next = null;
+        freeCount--;
+        return block;
+    }
+
+    /**
+     * Puts an emptied block in the free list if it has room
+     *
+     * @param block an empty block that is no longer linked into the deque
+     */
+    private void recycleBlock(Block block) {
+        block.prev = null;
+        if (freeCount < MAX_FREE_BLOCKS) {
+            block.next = freeBlocks;
+            freeBlocks = block;
+            freeCount++;
+        } else {
+            block.next = null;
+        }
+    }
+
+    /** Centers the offsets in the only block once the deque is empty */
+    private void recenter() {
+        frontIndex = backIndex = BLOCK_SIZE / 2;
+    }
+
+    /**
+     * Gets the size of the deque
+     *
+     * @return the number of elements in the deque
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Gets the maximum size of the deque
+     *
+     * @return the maximum number of elements allowed in the deque
+     */
+    public int maxSize() {
+        return maxSize;
+    }
+
+    /**
+     * Returns whether the deque is empty or not
+     *
+     * @return {@code true} if the deque is empty
+     */
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * Returns whether the deque is full or not
+     *
+     * @return {@code true} if the deque is full
+     */
+    public boolean isFull() {
+        return size == maxSize;
+    }
+
+    /**
+     * Inserts an element at the front of the deque
+     *
+     * @param element the element to insert
+     * @return {@code true} if the element was added to the deque
+     *         {@code false} if the deque is full and the element can't be added
+     * @throws NullPointerException if the element is null
+     */
+    public boolean enqueueFront(T element) {
+        if (element == null) throw new NullPointerException();
+        if (isFull()) return false;
+        if (frontIndex == 0) {
+            Block block = obtainBlock();
+            block.next = front;
+            front.prev = block;
+            front = block;
+            frontIndex = BLOCK_SIZE;
+        }
+        front.elements[--frontIndex] = element;
+        size++;
+        return true;
+    }
+
+    /**
+     * Inserts an element at the back of the deque
+     *
+     * @param element the element to insert
+     * @return {@code true} if the element was added to the deque
+     *         {@code false} if the deque is full and the element can't be added
+     * @throws NullPointerException if the element is null
+     */
+    public boolean enqueueBack(T element) {
+        if (element == null) throw new NullPointerException();
+        if (isFull()) return false;
+        if (backIndex == BLOCK_SIZE) {
+            Block block = obtainBlock();
+            block.prev = back;
+            back.next = block;
+            back = block;
+            backIndex = 0;
+        }
+        back.elements[backIndex++] = element;
+        size++;
+        return true;
+    }
+
+    /**
+     * Inserts an element at the front of the deque
+     *
+     * @param element the element to insert
+     * @throws NullPointerException if the element is null
+     */
+    public void addFirst(T element) {
+        enqueueFront(element);
+    }
+
+    /**
+     * Inserts an element at the back of the deque
+     *
+     * @param element the element to insert
+     * @throws NullPointerException if the element is null
+     */
+    public void addLast(T element) {
+        enqueueBack(element);
+    }
+
+    /**
+     * Inserts an element at the front of the deque
+     *
+     * @param element the element to insert
+     * @return {@code true} if the element was added to the deque
+     * @throws NullPointerException if the element is null
+     */
+    public boolean offerFirst(T element) {
+        return enqueueFront(element);
+    }
+
+    /**
+     * Inserts an element at the back of the deque
+     *
+     * @param element the element to insert
+     * @return {@code true} if the element was added to the deque
+     * @throws NullPointerException if the element is null
+     */
+    public boolean offerLast(T element) {
+        return enqueueBack(element);
+    }
+
+    /**
+     * Gets and removes the first element in the deque
+     *
+     * @return element at the front of the deque
+     *         or {@code null} if deque is empty
+     */
+    @SuppressWarnings("unchecked")
+    public T dequeueFront() {
+        if (size == 0) return null;
+        T dequeued = (T) front.elements[frontIndex];
+        front.elements[frontIndex++] = null;
+        size--;
+        if (size == 0) {
+            recenter();
+        } else if (frontIndex == BLOCK_SIZE) {
+            Block emptied = front;
+            front = front.next;
+            front.prev = null;
+            recycleBlock(emptied);
+            frontIndex = 0;
+        }
+        return dequeued;
+    }
+
+    /**
+     * Gets and removes the last element in the deque
+     *
+     * @return element at the back of the deque
+     *         or {@code null} if deque is empty
+     */
+    @SuppressWarnings("unchecked")
+    public T dequeueBack() {
+        if (size == 0) return null;
+        T dequeued = (T) back.elements[--backIndex];
+        back.elements[backIndex] = null;
+        size--;
+        if (size == 0) {
+            recenter();
+        } else if (backIndex == 0) {
+            Block emptied = back;
+            back = back.prev;
+            back.next = null;
+            recycleBlock(emptied);
+            backIndex = BLOCK_SIZE;
+        }
+        return dequeued;
+    }
+
+    /**
+     * Gets and removes the first element in the deque
+     *
+     * @return element at the front of the deque
+     * @throws NoSuchElementException if deque is empty
+     */
+    public T removeFirst() {
+        T element = dequeueFront();
+        if (element == null) throw new NoSuchElementException();
+        return element;
+    }
+
+    /**
+     * Gets and removes the last element in the deque
+     *
+     * @return element at the back of the deque
+     * @throws NoSuchElementException if deque is empty
+     */
+    public T removeLast() {
+        T element = dequeueBack();
+        if (element == null) throw new NoSuchElementException();
+        return element;
+    }
+
+    /**
+     * Gets and removes the first element in the deque
+     *
+     * @return element at the front of the deque
+     *         or {@code null} if deque is empty
+     */
+    public T pollFirst() {
+        return dequeueFront();
+    }
+
+    /**
+     * Gets and removes the last element in the deque
+     *
+     * @return element at the back of the deque
+     *         or {@code null} if deque is empty
+     */
+    public T pollLast() {
+        return dequeueBack();
+    }
+
+    /**
+     * Gets, but does not remove, the first element in the deque
+     *
+     * @return element at the front of the deque
+     *         or {@code null} if deque is empty
+     */
+    @SuppressWarnings("unchecked")
+    public T front() {
+        return size != 0 ? (T) front.elements[frontIndex] : null;
+    }
+
+    /**
+     * Gets, but does not remove, the last element in the deque
+     *
+     * @return element at the back of the deque
+     *         or {@code null} if deque is empty
+     */
+    @SuppressWarnings("unchecked")
+    public T back() {
+        return size != 0 ? (T) back.elements[backIndex - 1] : null;
+    }
+
+    /**
+     * Gets, but does not remove, the first element in the deque
+     *
+     * @return element at the back of the deque
+     * @throws NoSuchElementException if deque is empty
+     */
+    public T getFirst() {
+        if (size == 0) throw new NoSuchElementException();
+        return front();
+    }
+
+    /**
+     * Gets, but does not remove, the last element in the deque
+     *
+     * @return element at the back of the deque
+     * @throws NoSuchElementException if deque is empty
+     */
+    public T getLast() {
+        if (size == 0) throw new NoSuchElementException();
+        return back();
+    }
+
+    /**
+     * Gets, but does not remove, the first element in the deque
+     *
+     * @return element at the front of the deque
+     *         or {@code null} if deque is empty
+     */
+    public T peekFirst() {
+        return front();
+    }
+
+    /**
+     * Gets, but does not remove, the last element in the deque
+     *
+     * @return element at the back of the deque
+     *         or {@code null} if deque is empty
+     */
+    public T peekLast() {
+        return back();
+    }
+
+    /**
+     * Returns whether the deque contains an element
+     *
+     * @param o element being tested for inclusion in the deque
+     * @return {@code true} if the element is in the deque
+     * @throws NullPointerException if the element is null
+     */
+    public boolean contains(Object o) {
+        if (o == null) throw new NullPointerException();
+        if (size == 0) return false;
+        for (Block block = front; block != null; block = block.next) {
+            int start = block == front ? frontIndex : 0;
+            int end = block == back ? backIndex : BLOCK_SIZE;
+            Object[] elements = block.elements;
+            for (int i = start; i < end; i++) {
+                if (o.equals(elements[i])) return true;
+            }
+        }
+        return false;
+    }
+
+    // Queue methods
+
+    /**
+     * Inserts an element into the queue represented by this deque
+     * (at the back of this deque)
+     *
+     * @param element the element to insert
+     * @return {@code true} if the element was added to the deque
+     * @throws NullPointerException if the element is null
+     */
+    public boolean enqueue(T element) {
+        return enqueueBack(element);
+    }
+
+    /**
+     * Inserts an element into the queue represented by this deque
+     * (at the back of this deque)
+     *
+     * @param element the element to insert
+     * @return {@code true} if the element was added to the deque
+     * @throws NullPointerException if the element is null
+     */
+    public boolean add(T element) {
+        return enqueueBack(element);
+    }
+
+    /**
+     * Inserts an element into the queue represented by this deque
+     * (at the back of this deque)
+     *
+     * @param element the element to insert
+     * @return {@code true} if the element was added to the deque
+     * @throws NullPointerException if the element is null
+     */
+    public boolean offer(T element) {
+        return enqueueBack(element);
+    }
+
+    /**
+     * Gets and removes the first element in the queue represented by this deque
+     * (the first element in the deque)
+     *
+     * @return element at the front of the deque
+     * @throws NoSuchElementException if deque is empty
+     */
+    public T remove() {
+        return removeFirst();
+    }
+
+    /**
+     * Gets and removes the first element in the queue represented by this deque
+     * (the first element in the deque)
+     *
+     * @return element at the front of the deque
+     *         or {@code null} if deque is empty
+     */
+    public T poll() {
+        return dequeueFront();
+    }
+
+    /**
+     * Gets, but does not remove, the first element in queue
+     * represented by this deque (the first element in the deque)
+     *
+     * @return element at the front of the deque
+     * @throws NoSuchElementException if deque is empty
+     */
+    public T element() {
+        return getFirst();
+    }
+
+    /**
+     * Gets, but does not remove, the first element in queue
+     * represented by this deque (the first element in the deque)
+     *
+     * @return element at the front of the deque
+     *         or {@code null} if deque is empty
+     */
+    public T peek() {
+        return front();
+    }
+
+    // Stack methods
+
+    /**
+     * Pushes an element on to the stack represented by this deque
+     * (inserts it at the front of the deque)
+     *
+     * @param element the element to push on to the stack
+     * @return {@code true} if the element was added successfully
+     * @throws NullPointerException if the element is null
+     */
+    public boolean push(T element) {
+        return enqueueFront(element);
+    }
+
+    /**
+     * Removes the element on top of the stack represented by this deque
+     * (the first element in the deque)
+     *
+     * @return the element on top of the stack represented by this deque
+     *         (the element at the front of this deque)
+     *          or {@code null} if the deque is empty
+     */
+    public T pop() {
+        return dequeueFront();
+    }
+}
@@ -0,0 +1,151 @@
+package Deques;
+
+import java.util.concurrent.atomic.AtomicLongFieldUpdater;
+
+/**
+ * Chase-Lev work-stealing deque.
+ * <p>
+ * One owner thread pushes and pops elements at the bottom of the deque
+ * like a stack, while any number of thief threads steal elements from the
+ * top in FIFO order. Elements live in a circular array that grows when full.
+ * The owner only needs a compare-and-set when it races thieves for the last
+ * element, so its pushes and pops are usually plain reads and writes.
+ * Thieves claim elements with a compare-and-set on the top index.
+ * <p>
+ * Based on Chase and Lev, "Dynamic Circular Work-Stealing Deque" (2005).
+ * {@link #push(Object)} and {@link #pop()} must only be called by the owner.
+ *
+ * @author Jordan Owens
+ * @param <T> the type of elements in the deque
+ */
+public class WorkStealingDeque<T> {
+    /** Initial length of the array */
+    private static final int INITIAL_CAPACITY = 32;
+    /** Largest power of two length an array can have */
+    private static final int MAX_CAPACITY = 1 << 30;
+
+    @SuppressWarnings("rawtypes")
+    private static final AtomicLongFieldUpdater<WorkStealingDeque> TOP =
+            AtomicLongFieldUpdater.newUpdater(WorkStealingDeque.class, "top");
+    @SuppressWarnings("rawtypes")
+    private static final AtomicLongFieldUpdater<WorkStealingDeque> BOTTOM =
+            AtomicLongFieldUpdater.newUpdater(WorkStealingDeque.class, "bottom");
+
+    /** Index of the oldest element, where thieves steal from */
+    private volatile long top;
+    /** Index after the newest element, where the owner pushes and pops */
+    private volatile long bottom;
+    /** Circular array holding the elements, whose length is a power of two */
+    private volatile Object[] elements;
+
+    /** Constructs an empty work-stealing deque */
+    public WorkStealingDeque() {
+        this.top = this.bottom = 0;
+        this.elements = new Object[INITIAL_CAPACITY];
+    }
+
+    /**
+     * Gets the size of the deque.
+     * The size is only an estimate while thieves steal from the deque.
+     *
+     * @return the number of elements in the deque
+     */
+    public int size() {
+        long size = bottom - top;
+        return size > 0 ? (int) size : 0;
+    }
+
+    /**
+     * Returns whether the deque is empty or not
+     *
+     * @return {@code true} if the deque is empty
+     */
+    public boolean isEmpty() {
+        return bottom <= top;
+    }
+
+    /**
+     * Pushes an element on to the bottom of the deque.
+     * Must only be called by the owner.
+     *
+     * @param element the element to push
+     * @throws NullPointerException if the element is null
+     */
+    public void push(T element) {
+        if (element == null) throw new NullPointerException();
+        long b = bottom, t = top;
+        Object[] a = elements;
+        if (b - t >= a.length) {
+            a = grow(a, t, b);
+        }
+        a[(int) b & (a.length - 1)] = element;
+        // Publishes the element to thieves without a full fence
+        BOTTOM.lazySet(this, b + 1);
+    }
+
+    /**
+     * Copies the elements into an array twice as long
+     *
+     * @param a the current array
+     * @param t the top index
+     * @param b the bottom index
+     * @return the new array
+     */
+    private Object[] grow(Object[] a, long t, long b) {
+        if (a.length == MAX_CAPACITY) {
+            throw new IllegalStateException("Deque is too large");
+        }
+        Object[] grown = new Object[a.length << 1];
+        for (long i = t; i < b; i++) {
+            grown[(int) i & (grown.length - 1)] = a[(int) i & (a.length - 1)];
+        }
+        elements = grown;
+        return grown;
+    }
+
+    /**
+     * Pops the element at the bottom of the deque (the newest element).
+     * Must only be called by the owner.
+     *
+     * @return the newest element in the deque
+     *         or {@code null} if the deque is empty
+     */
+    @SuppressWarnings("unchecked")
+    public T pop() {
+        long b = bottom - 1;
+        Object[] a = elements;
+        // Volatile write so thieves see the claim before top is read
+        bottom = b;
+        long t = top;
+        if (t > b) {
+            bottom = b + 1;
+            return null;
+        }
+        int index = (int) b & (a.length - 1);
+        T element = (T) a[index];
+        if (t == b) {
+            // Last element, so race thieves for it
+            if (!TOP.compareAndSet(this, t, t + 1)) element = null;
+            bottom = b + 1;
+        }
+        if (element != null) a[index] = null;
+        return element;
+    }
+
+    /**
+     * Steals the element at the top of the deque (the oldest element).
+     * May be called by any thread.
+     *
+     * @return the oldest element in the deque or {@code null}
+     *         if the deque is empty or another thread took the element first
+     */
+    @SuppressWarnings("unchecked")
+    public T steal() {
+        long t = top, b = bottom;
+        if (t >= b) return null;
+        Object[] a = elements;
+        T element = (T) a[(int) t & (a.length - 1)];
+        if (element == null || !TOP.compareAndSet(this, t, t + 1)) return null;
+        return element;
+    }
+}
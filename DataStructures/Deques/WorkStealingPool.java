@@ -0,0 +1,352 @@
+package Deques;
+
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Fork/join executor built on {@link WorkStealingDeque}s.
+ * <p>
+ * Each worker thread owns a deque. Tasks forked by a worker are pushed on
+ * to its own deque and popped back off in LIFO order, while idle workers
+ * steal the oldest (and usually largest) tasks from other workers.
+ * Tasks submitted from outside the pool wait in a shared
+ * {@link ConcurrentDeque} until a worker takes them. Workers that run out
+ * of work park until a task is submitted or forked.
+ *
+ * @author Jordan Owens
+ */
+public class WorkStealingPool {
+    /**
+     * Task that can be forked and joined inside a {@link WorkStealingPool}
+     *
+     * @param <V> the type of the task's result
+     */
+    public abstract static class Task<V> {
+        /** Whether the task has finished running */
+        private volatile boolean done;
+        /** Result of the task */
+        private V result;
+        /** Exception thrown by the task */
+        private Throwable exception;
+        /** Pool the task was first scheduled on */
+        private WorkStealingPool pool;
+
+        /**
+         * Performs the task's computation
+         *
+         * @return the result of the computation
+         */
+        protected abstract V compute();
+
+        /** Runs the task and wakes up any threads waiting for it */
+        private void run() {
+            try {
+                result = compute();
+            } catch (Throwable t) {
+                exception = t;
+            }
+            synchronized (this) {
+                done = true;
+                notifyAll();
+            }
+        }
+
+        /** Finishes the task without running it, so joining it throws */
+        private synchronized void cancel() {
+            if (done) return;
+            exception = new CancellationException("Pool was shut down");
+            done = true;
+            notifyAll();
+        }
+
+        /**
+         * Ties the task to the pool it is scheduled on
+         *
+         * @param pool the pool scheduling the task
+         * @throws IllegalStateException if the task was scheduled on another pool
+         */
+        private synchronized void bind(WorkStealingPool pool) {
+            if (this.pool == null) {
+                this.pool = pool;
+            } else if (this.pool != pool) {
+                throw new IllegalStateException("Task belongs to another pool");
+            }
+        }
+
+        /**
+         * Returns whether the task has finished running
+         *
+         * @return {@code true} if the task is done
+         */
+        public boolean isDone() {
+            return done;
+        }
+
+        /**
+         * Schedules the task to run asynchronously on the current worker
+         *
+         * @return this task
+         * @throws IllegalStateException if not called from a pool's worker
+         *         or the task was scheduled on another pool
+         */
+        public final Task<V> fork() {
+            Thread thread = Thread.currentThread();
+            if (!(thread instanceof Worker)) {
+                throw new IllegalStateException("Tasks can only be forked by a worker");
+            }
+            Worker worker = (Worker) thread;
+            bind(worker.pool());
+            worker.deque.push(this);
+            worker.pool().signalWork();
+            return this;
+        }
+
+        /**
+         * Waits for the task to finish and gets its result.
+         * Workers run other tasks while they wait.
+         *
+         * @return the result of the task
+         * @throws CancellationException if the pool was shut down
+         *         before the task ran
+         * @throws RuntimeException if the task threw an exception
+         */
+        public final V join() {
+            Thread thread = Thread.currentThread();
+            if (thread instanceof Worker) {
+                Worker worker = (Worker) thread;
+                while (!done) {
+                    Task<?> task = worker.find();
+                    if (task != null) {
+                        task.run();
+                    } else {
+                        Thread.yield();
+                    }
+                }
+            } else {
+                boolean interrupted = false;
+                synchronized (this) {
+                    while (!done) {
+                        try {
+                            wait();
+                        } catch (InterruptedException e) {
+                            interrupted = true;
+                        }
+                    }
+                }
+                if (interrupted) thread.interrupt();
+            }
+            if (exception instanceof RuntimeException) throw (RuntimeException) exception;
+            if (exception instanceof Error) throw (Error) exception;
+            if (exception != null) throw new RuntimeException(exception);
+            return result;
+        }
+    }
+
+    /** Worker thread that owns a work-stealing deque */
+    private class Worker extends Thread {
+        /** Tasks forked by this worker */
+        final WorkStealingDeque<Task<?>> deque = new WorkStealingDeque<>();
+        /** Whether the worker is parked or about to park */
+        volatile boolean parked;
+
+        Worker(int index) {
+            super("WorkStealingPool-worker-" + index);
+            setDaemon(true);
+        }
+
+        /**
+         * Gets the pool the worker belongs to
+         *
+         * @return the worker's pool
+         */
+        WorkStealingPool pool() {
+            return WorkStealingPool.this;
+        }
+
+        /**
+         * Finds a task to run, first from this worker's deque,
+         * then from submissions, then from other workers
+         *
+         * @return a task or {@code null} if none were found
+         */
+        Task<?> find() {
+            Task<?> task = deque.pop();
+            if (task != null) return task;
+            task = submissions.dequeueFront();
+            if (task != null) return task;
+            int start = ThreadLocalRandom.current().nextInt(workers.length);
+            for (int i = 0; i < workers.length; i++) {
+                Worker victim = workers[(start + i) % workers.length];
+                if (victim != this && (task = victim.deque.steal()) != null) {
+                    return task;
+                }
+            }
+            return null;
+        }
+
+        @Override
+        public void run() {
+            int idle = 0;
+            while (!shutdown) {
+                Task<?> task = find();
+                if (task != null) {
+                    task.run();
+                    idle = 0;
+                } else if (++idle < SPINS) {
+                    Thread.yield();
+                } else {
+                    park();
+                }
+            }
+            for (Task<?> task; (task = deque.pop()) != null; ) {
+                task.cancel();
+            }
+            cancelSubmissions();
+        }
+
+        /**
+         * Parks until work is signalled, after checking once more for work
+         * so a task scheduled while the worker was going idle isn't missed
+         */
+        private void park() {
+            parked = true;
+            idlers.incrementAndGet();
+            Task<?> task = shutdown ? null : find();
+            if (task == null && !shutdown) LockSupport.parkNanos(this, PARK_NANOS);
+            idlers.decrementAndGet();
+            parked = false;
+            if (task != null) task.run();
+        }
+    }
+
+    /** Number of failed searches for work before a worker parks */
+    private static final int SPINS = 64;
+    /**
+     * Longest an idle worker parks before searching for work again,
+     * in case it missed being woken by a task scheduled as it went idle
+     */
+    private static final long PARK_NANOS = TimeUnit.MILLISECONDS.toNanos(10);
+
+    /** Worker threads of the pool */
+    private final Worker[] workers;
+    /** Tasks submitted from outside the pool */
+    private final ConcurrentDeque<Task<?>> submissions;
+    /** Number of workers that are parked or about to park */
+    private final AtomicInteger idlers;
+    /** Whether the pool has been shut down */
+    private volatile boolean shutdown;
+
+    /**
+     * Constructs a pool with one worker per available processor
+     */
+    public WorkStealingPool() {
+        this(Runtime.getRuntime().availableProcessors());
+    }
+
+    /**
+     * Constructs a pool with a number of workers
+     *
+     * @param parallelism the number of worker threads
+     * @throws IllegalArgumentException if parallelism is not at least 1
+     */
+    public WorkStealingPool(int parallelism) {
+        if (parallelism < 1) {
+            throw new IllegalArgumentException("Parallelism must be >= 1");
+        }
+        this.submissions = new ConcurrentDeque<>();
+        this.idlers = new AtomicInteger();
+        this.shutdown = false;
+        this.workers = new Worker[parallelism];
+        for (int i = 0; i < parallelism; i++) {
+            workers[i] = new Worker(i);
+        }
+        for (Worker worker : workers) {
+            worker.start();
+        }
+    }
+
+    /**
+     * Gets the number of worker threads
+     *
+     * @return the number of workers in the pool
+     */
+    public int parallelism() {
+        return workers.length;
+    }
+
+    /**
+     * Schedules a task to run on the pool
+     *
+     * @param task the task to run
+     * @param <V> the type of the task's result
+     * @return the task
+     * @throws NullPointerException if the task is null
+     * @throws IllegalStateException if the pool has been shut down
+     *         or the task was scheduled on another pool
+     */
+    public <V> Task<V> submit(Task<V> task) {
+        if (task == null) throw new NullPointerException();
+        if (shutdown) throw new IllegalStateException("Pool is shut down");
+        Thread thread = Thread.currentThread();
+        if (thread instanceof Worker && ((Worker) thread).pool() == this) {
+            return task.fork();
+        }
+        task.bind(this);
+        submissions.enqueueBack(task);
+        if (shutdown) {
+            // The pool shut down after the check above and may have missed the task
+            cancelSubmissions();
+        } else {
+            signalWork();
+        }
+        return task;
+    }
+
+    /** Wakes up a parked worker, if there is one, to run a new task */
+    private void signalWork() {
+        if (idlers.get() == 0) return;
+        for (Worker worker : workers) {
+            if (worker.parked) {
+                LockSupport.unpark(worker);
+                return;
+            }
+        }
+    }
+
+    /** Cancels every task still waiting in submissions */
+    private void cancelSubmissions() {
+        for (Task<?> task; (task = submissions.dequeueFront()) != null; ) {
+            task.cancel();
+        }
+    }
+
+    /**
+     * Runs a task on the pool and waits for its result
+     *
+     * @param task the task to run
+     * @param <V> the type of the task's result
+     * @return the result of the task
+     * @throws NullPointerException if the task is null
+     * @throws IllegalStateException if the pool has been shut down
+     * @throws RuntimeException if the task threw an exception
+     */
+    public <V> V invoke(Task<V> task) {
+        return submit(task).join();
+    }
+
+    /**
+     * Stops the worker threads once they finish their current tasks.
+     * Tasks that haven't started are cancelled, so joining them throws
+     * a {@link CancellationException} instead of waiting forever.
+     */
+    public void shutdown() {
+        shutdown = true;
+        cancelSubmissions();
+        for (Worker worker : workers) {
+            LockSupport.unpark(worker);
+        }
+    }
+}
@@ -0,0 +1,353 @@
+package LinkedLists;
+
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Implementation of an indexable Skip List
+ * <p>
+ * A skip list is a linked list whose nodes also point further ahead: every
+ * node is on the bottom level and each node on a level is also on the level
+ * above with probability 1/2, so each level skips about half the nodes of
+ * the one below. Every forward pointer records its span, the number of
+ * positions it skips, so finding the node at an index descends the levels
+ * in O(log n) expected time instead of walking the list from the head.
+ * {@link #get(int)}, {@link #set(int, Object)}, {@link #add(int, Object)}
+ * and {@link #remove(int)} therefore take O(log n) expected time. The last
+ * node of each level is remembered, so {@link #add(Object)} appends in
+ * O(1) expected time.
+ *
+ * @author Jordan Owens
+ * @param <T> the type of elements in the list
+ */
+public class SkipList<T> {
+    /** Maximum number of levels, enough for any list an int can index */
+    private static final int MAX_LEVEL = 32;
+
+    /** Implementation of the nodes that make up the skip list */
+    private static class Node<T> {
+        /** Element the node stores */
+        T element;
+        /** Pointer to the next node on each of the node's levels */
+        final Node<T>[] next;
+        /** Number of positions between the node and the next node on each level */
+        final int[] span;
+
+        /**
+         * Constructs a node storing an element on the lowest levels of the list
+         *
+         * @param element the element to be stored in the node
+         * @param levels the number of levels the node is on
+         */
+        @SuppressWarnings("unchecked")
+        Node(T element, int levels) {
+            this.element = element;
+            this.next = (Node<T>[]) new Node<?>[levels];
+            this.span = new int[levels];
+        }
+    }
+
+    /** Sentinel before the front of the list, on every level */
+    private final Node<T> head;
+    /** Last node on each level, or the head if the level is empty */
+    private final Node<T>[] last;
+    /** Index of the last node on each level, -1 for the head */
+    private final int[] lastIndex;
+    /** Last node before the index being updated on each level */
+    private final Node<T>[] update;
+    /** Index of each node in update, -1 for the head */
+    private final int[] rank;
+    /** Number of levels in use */
+    private int level;
+    /** Size of the list */
+    private int size;
+
+    /** Constructs an empty skip list */
+    @SuppressWarnings("unchecked")
+    public SkipList() {
+        this.head = new Node<>(null, MAX_LEVEL);
+        this.last = (Node<T>[]) new Node<?>[MAX_LEVEL];
+        this.lastIndex = new int[MAX_LEVEL];
+        this.update = (Node<T>[]) new Node<?>[MAX_LEVEL];
+        this.rank = new int[MAX_LEVEL];
+        for (int i = 0; i < MAX_LEVEL; i++) {
+            last[i] = head;
+            lastIndex[i] = -1;
+        }
+        this.level = 1;
+        this.size = 0;
+    }
+
+    /**
+     * Constructs a skip list from array elements
+     *
+     * @param array array to copy elements from
+     * @throws NullPointerException if array or its elements are null
+     */
+    public SkipList(T[] array) {
+        this();
+        if (array == null) throw new NullPointerException();
+        for (T element : array) {
+            add(element);
+        }
+    }
+
+    /**
+     * Picks the number of levels of a new node
+     *
+     * @return a level count, each count being half as likely as the one below
+     */
+    private static int randomLevel() {
+        int random = ThreadLocalRandom.current().nextInt();
+        return Math.min(Integer.numberOfTrailingZeros(~random) + 1, MAX_LEVEL);
+    }
+
+    /**
+     * Gets the size of the skip list
+     *
+     * @return the number of elements in the list
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Returns whether the list is empty or not
+     *
+     * @return {@code true} if the list is empty
+     */
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * Inserts element at the end of the list
+     *
+     * @param element the element being inserted
+     * @return {@code true} if the element was added to the list
+     * @throws NullPointerException if element is null
+     */
+    public boolean add(T element) {
+        if (element == null) throw new NullPointerException();
+        int levels = randomLevel();
+        if (levels > level) level = levels;
+        Node<T> node = new Node<>(element, levels);
+        for (int i = 0; i < levels; i++) {
+            last[i].next[i] = node;
+            last[i].span[i] = size - lastIndex[i];
+            last[i] = node;
+            lastIndex[i] = size;
+        }
+        size++;
+        return true;
+    }
+
+    /**
+     * Adds an element at a specific position in the list
+     *
+     * @param index the position to add the element at
+     * @param element the element to add to the list
+     * @throws NullPointerException if element is null
+     * @throws IndexOutOfBoundsException if {@code index < 0 || index > size()}
+     */
+    public void add(int index, T element) {
+        if (element == null) throw new NullPointerException();
+        if (index < 0 || index > size) throw new IndexOutOfBoundsException();
+        if (index == size) {
+            add(element);
+            return;
+        }
+        predecessors(index);
+        int levels = randomLevel();
+        for (int i = level; i < levels; i++) {
+            update[i] = head;
+            rank[i] = -1;
+        }
+        if (levels > level) level = levels;
+        Node<T> node = new Node<>(element, levels);
+        for (int i = 0; i < level; i++) {
+            Node<T> prev = update[i];
+            if (i < levels) {
+                node.next[i] = prev.next[i];
+                if (node.next[i] == null) {
+                    last[i] = node;
+                    lastIndex[i] = index;
+                } else {
+                    // The node after the new one moves up a position
+                    node.span[i] = rank[i] + prev.span[i] + 1 - index;
+                    lastIndex[i]++;
+                }
+                prev.next[i] = node;
+                prev.span[i] = index - rank[i];
+            } else {
+                if (prev.next[i] != null) prev.span[i]++;
+                if (lastIndex[i] >= index) lastIndex[i]++;
+            }
+        }
+        size++;
+    }
+
+    /**
+     * Finds the last node before an index on each level
+     * and stores them in {@link #update} and their indices in {@link #rank}
+     *
+     * @param index the index to find the predecessors of
+     */
+    private void predecessors(int index) {
+        Node<T> curr = head;
+        int position = -1;
+        for (int i = level - 1; i >= 0; i--) {
+            while (curr.next[i] != null && position + curr.span[i] < index) {
+                position += curr.span[i];
+                curr = curr.next[i];
+            }
+            update[i] = curr;
+            rank[i] = position;
+        }
+    }
+
+    /**
+     * Removes an element from the list
+     *
+     * @param o the element being removed
+     * @return {@code true} if the deletion was successful
+     * @throws NullPointerException if element is null
+     */
+    public boolean remove(Object o) {
+        int index = indexOf(o);
+        if (index < 0) return false;
+        remove(index);
+        return true;
+    }
+
+    /**
+     * Removes an element from the list
+     *
+     * @param index the index of the element being removed
+     * @return the element that was removed
+     * @throws IndexOutOfBoundsException if {@code index < 0 || index >= size()}
+     */
+    public T remove(int index) {
+        if (index < 0 || index >= size) throw new IndexOutOfBoundsException();
+        predecessors(index);
+        Node<T> node = update[0].next[0];
+        for (int i = 0; i < level; i++) {
+            Node<T> prev = update[i];
+            if (prev.next[i] == node) {
+                prev.next[i] = node.next[i];
+                if (node.next[i] != null) {
+                    prev.span[i] += node.span[i] - 1;
+                    lastIndex[i]--;
+                } else {
+                    last[i] = prev;
+                    lastIndex[i] = rank[i];
+                }
+            } else {
+                if (prev.next[i] != null) prev.span[i]--;
+                if (lastIndex[i] > index) lastIndex[i]--;
+            }
+        }
+        while (level > 1 && head.next[level - 1] == null) {
+            level--;
+        }
+        size--;
+        return node.element;
+    }
+
+    /**
+     * Replaces an element in the list
+     *
+     * @param index the index of the element to replace
+     * @param element the new element to replace the old element with
+     * @return the replaced element
+     * @throws NullPointerException if the new element is null
+     * @throws IndexOutOfBoundsException if {@code index < 0 || index >= size()}
+     */
+    public T set(int index, T element) {
+        if (element == null) throw new NullPointerException();
+        Node<T> node = node(index);
+        T prev = node.element;
+        node.element = element;
+        return prev;
+    }
+
+    /**
+     * Reverses the order of the list
+     * <p>
+     * The nodes keep their levels and spans, only their elements move.
+     */
+    @SuppressWarnings("unchecked")
+    public void reverse() {
+        T[] elements = (T[]) new Object[size];
+        Node<T> curr = head.next[0];
+        for (int i = 0; curr != null; i++) {
+            elements[i] = curr.element;
+            curr = curr.next[0];
+        }
+        curr = head.next[0];
+        for (int i = size - 1; curr != null; i--) {
+            curr.element = elements[i];
+            curr = curr.next[0];
+        }
+    }
+
+    /**
+     * Gets the element at a specific position in the list
+     *
+     * @param index the index of the element to return
+     * @return the element at the specified index
+     * @throws IndexOutOfBoundsException if {@code index < 0 || index >= size()}
+     */
+    public T get(int index) {
+        return node(index).element;
+    }
+
+    /**
+     * Finds the node at an index by descending the levels
+     *
+     * @param index the index of the node
+     * @return the node at the index
+     * @throws IndexOutOfBoundsException if {@code index < 0 || index >= size()}
+     */
+    private Node<T> node(int index) {
+        if (index < 0 || index >= size) throw new IndexOutOfBoundsException();
+        Node<T> curr = head;
+        int position = -1;
+        for (int i = level - 1; i >= 0; i--) {
+            while (curr.next[i] != null && position + curr.span[i] <= index) {
+                position += curr.span[i];
+                curr = curr.next[i];
+            }
+            if (position == index) break;
+        }
+        return curr;
+    }
+
+    /**
+     * Returns if an element is in the list
+     *
+     * @param o element being searched for in the list
+     * @return {@code true} if the element is in the list
+     * @throws NullPointerException if data is null
+     */
+    public boolean contains(Object o) {
+        return indexOf(o) >= 0;
+    }
+
+    /**
+     * Finds the index the element first appears at in the list
+     *
+     * @param o element being searched for in the list
+     * @return the index the element appears at in the list
+     *         or -1 if the element is not in the list
+     * @throws NullPointerException if o is null
+     */
+    public int indexOf(Object o) {
+        if (o == null) throw new NullPointerException();
+        Node<T> current = head.next[0];
+        for (int i = 0; current != null; i++) {
+            if (o.equals(current.element)) return i;
+            current = current.next[0];
+        }
+        return -1;
+    }
+}
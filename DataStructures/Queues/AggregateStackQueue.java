@@ -0,0 +1,141 @@
+package Queues;
+
+import Stacks.ArrayStack;
+
+import java.util.function.BinaryOperator;
+
+/**
+ * Queue implemented using Stacks that keeps a running aggregate of its
+ * elements, such as the minimum, maximum or sum of a sliding window.
+ * <p>
+ * Like {@link StackQueue}, elements are enqueued on to a back stack and
+ * moved to a front stack in reverse when the front stack runs out.
+ * The back stack only needs the aggregate of all its elements, while the
+ * front stack stores, with each element, the aggregate of that element and
+ * every element enqueued after it. The aggregate of the queue combines
+ * the two, so {@link #aggregate()} takes O(1) time and enqueueing and
+ * dequeueing take amortized O(1) time, each element being moved once.
+ * <p>
+ * The aggregate is computed with an associative operator, combining the
+ * elements in the order they were enqueued. The operator doesn't need
+ * an identity element: the aggregate of an empty queue is {@code null}.
+ *
+ * @author Jordan Owens
+ * @param <T> the type of elements in the queue
+ */
+public class AggregateStackQueue<T> {
+    /** Recently enqueued elements, newest on top */
+    private final ArrayStack<T> back;
+    /** Aggregate of the back stack, or null if it is empty */
+    private T backAggregate;
+    /** Oldest element of the back stack */
+    private T backFront;
+    /** Oldest elements, oldest on top */
+    private final ArrayStack<T> front;
+    /** Aggregate of each front element and every element enqueued after it */
+    private final ArrayStack<T> frontAggregates;
+    /** Associative operator combining an older aggregate with a newer one */
+    private final BinaryOperator<T> operator;
+
+    /**
+     * Constructs an empty queue
+     *
+     * @param operator the associative operator to aggregate elements with
+     * @throws NullPointerException if operator is null
+     */
+    public AggregateStackQueue(BinaryOperator<T> operator) {
+        if (operator == null) throw new NullPointerException();
+        this.back = new ArrayStack<>();
+        this.front = new ArrayStack<>();
+        this.frontAggregates = new ArrayStack<>();
+        this.operator = operator;
+    }
+
+    /**
+     * Combines two aggregates, either of which may be missing
+     *
+     * @param older the aggregate of older elements or {@code null}
+     * @param newer the aggregate of newer elements or {@code null}
+     * @return the combined aggregate
+     * @throws NullPointerException if the operator returns null
+     */
+    private T combine(T older, T newer) {
+        if (older == null) return newer;
+        if (newer == null) return older;
+        T combined = operator.apply(older, newer);
+        if (combined == null) throw new NullPointerException();
+        return combined;
+    }
+
+    /**
+     * Gets the size of the queue
+     *
+     * @return the number of elements in the queue
+     */
+    public int size() {
+        return back.size() + front.size();
+    }
+
+    /**
+     * Returns whether the queue is empty or not
+     *
+     * @return {@code true} if the queue is empty
+     */
+    public boolean isEmpty() {
+        return back.isEmpty() && front.isEmpty();
+    }
+
+    /**
+     * Inserts an element into the queue
+     *
+     * @param element the element to add
+     * @throws NullPointerException if the element or its aggregate is null
+     */
+    public void enqueue(T element) {
+        if (element == null) throw new NullPointerException();
+        backAggregate = combine(backAggregate, element);
+        if (back.isEmpty()) backFront = element;
+        back.push(element);
+    }
+
+    /**
+     * Gets and removes the front of the queue
+     *
+     * @return element at the front of the queue
+     *         or {@code null} if queue is empty
+     */
+    public T dequeue() {
+        if (front.isEmpty()) {
+            // Newest first, so each element is combined with the ones after it
+            while (!back.isEmpty()) {
+                T element = back.pop();
+                front.push(element);
+                frontAggregates.push(combine(element, frontAggregates.top()));
+            }
+            backAggregate = backFront = null;
+        }
+        frontAggregates.pop();
+        return front.pop();
+    }
+
+    /**
+     * Gets element at the front of the queue
+     *
+     * @return element at the front of the queue
+     *         or {@code null} if queue is empty
+     */
+    public T peek() {
+        return front.isEmpty() ? backFront : front.top();
+    }
+
+    /**
+     * Gets the aggregate of every element in the queue,
+     * combined from the front of the queue to the back
+     *
+     * @return the aggregate of the elements
+     *         or {@code null} if the queue is empty
+     */
+    public T aggregate() {
+        return combine(frontAggregates.top(), backAggregate);
+    }
+}
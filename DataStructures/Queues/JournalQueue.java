@@ -0,0 +1,592 @@
+package Queues;
+
+import Deques.Serializer;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.BufferOverflowException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.NoSuchElementException;
+import java.util.TreeSet;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+import java.util.zip.CRC32;
+
+/**
+ * Persistent queue that journals its elements to memory-mapped files,
+ * so it survives restarts and crashes.
+ * <p>
+ * Elements are appended as records to fixed-size segment files, each record
+ * holding its size, a CRC32 checksum and the serialized element, which the
+ * {@link Serializer} writes straight into the mapped segment. When a record
+ * doesn't fit in the current segment, the queue rolls over to a new one.
+ * Dequeueing advances a read cursor that is itself stored in a mapped file,
+ * and each segment is deleted once the cursor moves past it.
+ * <p>
+ * Writes to mapped files survive the process crashing as soon as they are
+ * made, but only survive the machine crashing once they are forced to disk.
+ * The {@link SyncPolicy} chooses when that happens. Reopening a queue
+ * resumes at the saved cursor and drops any records after the first one
+ * that is incomplete or fails its checksum.
+ * <p>
+ * All methods are synchronized, so the queue can be shared between threads.
+ *
+ * @author Jordan Owens
+ * @param <T> the type of elements in the queue
+ */
+public class JournalQueue<T> implements AutoCloseable {
+    /** Policy for forcing journal writes to disk */
+    public static final class SyncPolicy {
+        /** Number of operations between syncs, or 0 for none */
+        private final int operations;
+        /** Nanoseconds between syncs, or 0 for none */
+        private final long interval;
+
+        private SyncPolicy(int operations, long interval) {
+            this.operations = operations;
+            this.interval = interval;
+        }
+
+        /**
+         * Syncs after every enqueue and dequeue
+         *
+         * @return the policy
+         */
+        public static SyncPolicy everyOperation() {
+            return new SyncPolicy(1, 0);
+        }
+
+        /**
+         * Syncs after every {@code operations} enqueues and dequeues
+         *
+         * @param operations the number of operations per batch
+         * @return the policy
+         * @throws IllegalArgumentException if operations is not at least 1
+         */
+        public static SyncPolicy everyBatch(int operations) {
+            if (operations < 1) {
+                throw new IllegalArgumentException("Operations must be >= 1");
+            }
+            return new SyncPolicy(operations, 0);
+        }
+
+        /**
+         * Syncs from a background thread at a fixed interval
+         *
+         * @param interval the time between syncs
+         * @param unit the unit of the interval
+         * @return the policy
+         * @throws IllegalArgumentException if interval is not positive
+         */
+        public static SyncPolicy timed(long interval, TimeUnit unit) {
+            if (interval <= 0) {
+                throw new IllegalArgumentException("Interval must be > 0");
+            }
+            return new SyncPolicy(0, unit.toNanos(interval));
+        }
+    }
+
+    /** Default size of a segment file in bytes */
+    public static final int DEFAULT_SEGMENT_SIZE = 64 << 20;
+    /** Size of a record header: the record size and its checksum */
+    private static final int HEADER = 8;
+    /** Record size marking the rest of a segment as unused */
+    private static final int ROLL = -1;
+    /** Name of the file holding the read cursor */
+    private static final String CURSOR = "cursor";
+    /** File name extension of segment files */
+    private static final String SEGMENT = ".segment";
+
+    /** Directory holding the journal */
+    private final Path directory;
+    /** Converts elements to and from record contents */
+    private final Serializer<T> serializer;
+    /** Size of each segment file in bytes */
+    private final int segmentSize;
+    /** When writes are forced to disk */
+    private final SyncPolicy policy;
+    /** Mapped cursor file holding the read segment and position */
+    private final MappedByteBuffer cursor;
+    /** Segment holding the next record to dequeue */
+    private long readSegment;
+    /** Mapping of the read segment, positioned at the next record to dequeue */
+    private ByteBuffer readBuffer;
+    /** Segment the next record is appended to */
+    private long writeSegment;
+    /** Mapping of the write segment, positioned where the next record goes */
+    private MappedByteBuffer writeBuffer;
+    /** Size of the queue */
+    private int size;
+    /** Number of operations since the last sync */
+    private int unsynced;
+    /** Checksum calculator */
+    private final CRC32 crc;
+    /** Thread running timed syncs, or {@code null} */
+    private final ScheduledExecutorService syncer;
+    /** Whether the queue has been closed */
+    private boolean closed;
+
+    /**
+     * Opens a queue in a directory with the default segment size,
+     * syncing every 1000 operations. Any elements already journaled
+     * in the directory are recovered.
+     *
+     * @param directory the directory to journal to, created if missing
+     * @param serializer converts elements to and from bytes
+     * @throws NullPointerException if the directory or serializer is null
+     * @throws UncheckedIOException if the journal can't be opened
+     */
+    public JournalQueue(Path directory, Serializer<T> serializer) {
+        this(directory, serializer, DEFAULT_SEGMENT_SIZE, SyncPolicy.everyBatch(1000));
+    }
+
+    /**
+     * Opens a queue in a directory. Any elements already journaled
+     * in the directory are recovered.
+     *
+     * @param directory the directory to journal to, created if missing
+     * @param serializer converts elements to and from bytes
+     * @param segmentSize the size of each segment file in bytes
+     * @param policy when writes are forced to disk
+     * @throws NullPointerException if any argument is null
+     * @throws IllegalArgumentException if segmentSize is less than 64 bytes
+     *                                  or differs from the existing journal's
+     * @throws UncheckedIOException if the journal can't be opened
+     */
+    public JournalQueue(Path directory, Serializer<T> serializer, int segmentSize, SyncPolicy policy) {
+        if (directory == null || serializer == null || policy == null) {
+            throw new NullPointerException();
+        }
+        if (segmentSize < 64) {
+            throw new IllegalArgumentException("Segment size must be >= 64");
+        }
+        this.directory = directory;
+        this.serializer = serializer;
+        this.segmentSize = segmentSize;
+        this.policy = policy;
+        this.crc = new CRC32();
+        try {
+            Files.createDirectories(directory);
+            try (FileChannel channel = FileChannel.open(directory.resolve(CURSOR),
+                    StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+                this.cursor = channel.map(FileChannel.MapMode.READ_WRITE, 0, Long.BYTES);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        recover();
+        if (policy.interval > 0) {
+            this.syncer = Executors.newSingleThreadScheduledExecutor(runnable -> {
+                Thread thread = new Thread(runnable, "journal-sync");
+                thread.setDaemon(true);
+                return thread;
+            });
+            syncer.scheduleAtFixedRate(this::sync, policy.interval, policy.interval,
+                    TimeUnit.NANOSECONDS);
+        } else {
+            this.syncer = null;
+        }
+    }
+
+    /**
+     * Gets the path of a segment file
+     *
+     * @param segment the segment number
+     * @return the path of the segment
+     */
+    private Path path(long segment) {
+        return directory.resolve(segment + SEGMENT);
+    }
+
+    /**
+     * Maps a segment file, creating it if it doesn't exist
+     *
+     * @param segment the segment number
+     * @return the mapping of the whole segment, positioned at its start
+     */
+    private MappedByteBuffer map(long segment) {
+        try (FileChannel channel = FileChannel.open(path(segment),
+                StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+            long length = channel.size();
+            if (length != 0 && length != segmentSize) {
+                throw new IllegalArgumentException("Segment " + segment + " has size " + length);
+            }
+            return channel.map(FileChannel.MapMode.READ_WRITE, 0, segmentSize);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * Deletes a segment file
+     *
+     * @param segment the segment number
+     */
+    private void delete(long segment) {
+        try {
+            Files.deleteIfExists(path(segment));
+        } catch (IOException e) {
+            // Files that are still mapped can't be deleted on some platforms
+            path(segment).toFile().deleteOnExit();
+        }
+    }
+
+    /**
+     * Calculates the checksum of a record's contents
+     *
+     * @param buffer the segment holding the record
+     * @param start the position of the record
+     * @param recordSize the size of the record including its header
+     * @return the checksum
+     */
+    private int checksum(ByteBuffer buffer, int start, int recordSize) {
+        ByteBuffer contents = buffer.duplicate();
+        contents.limit(start + recordSize).position(start + HEADER);
+        crc.reset();
+        crc.update(contents);
+        return (int) crc.getValue();
+    }
+
+    /**
+     * Returns whether a reader at a position must move to the next segment
+     *
+     * @param buffer the segment being read
+     * @param position the position in the segment
+     * @return {@code true} if there are no more records in the segment
+     */
+    private boolean endOfSegment(ByteBuffer buffer, int position) {
+        return segmentSize - position < HEADER || buffer.getInt(position) == ROLL;
+    }
+
+    /**
+     * Restores the queue from the cursor and segment files, counting the
+     * valid records after the cursor and discarding anything after them
+     */
+    private void recover() {
+        long saved = cursor.getLong(0);
+        readSegment = saved >>> 32;
+        int readPosition = (int) saved;
+        TreeSet<Long> segments = new TreeSet<>();
+        try (Stream<Path> files = Files.list(directory)) {
+            files.map(path -> path.getFileName().toString())
+                    .filter(name -> name.matches("\\d+" + SEGMENT))
+                    .forEach(name -> segments.add(Long.parseLong(
+                            name.substring(0, name.length() - SEGMENT.length()))));
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        for (long segment : segments.headSet(readSegment)) {
+            delete(segment);
+        }
+        if (!segments.contains(readSegment)) {
+            // The cursor's segment was deleted, so resume at the next one that exists
+            Long next = segments.ceiling(readSegment);
+            if (next != null) readSegment = next;
+            readPosition = 0;
+        }
+        MappedByteBuffer buffer = map(readSegment);
+        readBuffer = buffer.duplicate();
+        readBuffer.position(readPosition);
+        long segment = readSegment;
+        int position = readPosition;
+        size = 0;
+        for (;;) {
+            if (endOfSegment(buffer, position)) {
+                if (!segments.contains(segment + 1)) break;
+                buffer = map(++segment);
+                position = 0;
+                continue;
+            }
+            int recordSize = buffer.getInt(position);
+            if (recordSize < HEADER || recordSize > segmentSize - position
+                    || buffer.getInt(position + 4) != checksum(buffer, position, recordSize)) {
+                break;
+            }
+            position += recordSize;
+            size++;
+        }
+        for (long later : segments.tailSet(segment, false)) {
+            delete(later);
+        }
+        writeSegment = segment;
+        writeBuffer = buffer;
+        writeBuffer.position(position);
+        truncate(position);
+        saveCursor();
+    }
+
+    /**
+     * Zeroes the write segment from a position to its last non-zero byte,
+     * so stale bytes are never mistaken for records
+     *
+     * @param position the position after the last valid record
+     */
+    private void truncate(int position) {
+        int end = segmentSize;
+        while (end - Long.BYTES >= position && writeBuffer.getLong(end - Long.BYTES) == 0) {
+            end -= Long.BYTES;
+        }
+        while (end > position && writeBuffer.get(end - 1) == 0) end--;
+        for (int i = position; i < end; i++) {
+            writeBuffer.put(i, (byte) 0);
+        }
+        if (end > position) writeBuffer.force();
+    }
+
+    /** Saves the read segment and position to the cursor file */
+    private void saveCursor() {
+        cursor.putLong(0, readSegment << 32 | readBuffer.position());
+    }
+
+    /** Forces outstanding writes to disk if the sync policy calls for it */
+    private void operationDone() {
+        unsynced++;
+        if (policy.operations > 0 && unsynced >= policy.operations) {
+            sync();
+        }
+    }
+
+    /** Marks the rest of the write segment unused and starts a new segment */
+    private void roll() {
+        int position = writeBuffer.position();
+        if (segmentSize - position >= Integer.BYTES) {
+            writeBuffer.putInt(position, ROLL);
+        }
+        writeBuffer.force();
+        writeBuffer = map(++writeSegment);
+    }
+
+    /**
+     * Moves the reader past the ends of segments, deleting them.
+     * The cursor is forced to disk before a drained segment is deleted,
+     * so a crash never leaves it pointing at a deleted segment.
+     */
+    private void advanceReader() {
+        while (endOfSegment(readBuffer, readBuffer.position())) {
+            long drained = readSegment++;
+            readBuffer = readSegment == writeSegment ? writeBuffer.duplicate() : map(readSegment);
+            readBuffer.position(0);
+            saveCursor();
+            cursor.force();
+            delete(drained);
+        }
+    }
+
+    /** Throws an exception if the queue has been closed */
+    private void ensureOpen() {
+        if (closed) throw new IllegalStateException("Queue is closed");
+    }
+
+    /**
+     * Gets the size of the queue
+     *
+     * @return the number of elements in the queue
+     */
+    public synchronized int size() {
+        return size;
+    }
+
+    /**
+     * Returns whether the queue is empty or not
+     *
+     * @return {@code true} if the queue is empty
+     */
+    public synchronized boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * Appends an element to the journal
+     *
+     * @param element the element to add
+     * @return {@code true} if the element was added successfully
+     * @throws NullPointerException if the element is null
+     * @throws IllegalArgumentException if the serialized element
+     *                                  doesn't fit in a segment
+     * @throws IllegalStateException if the queue is closed
+     * @throws UncheckedIOException if a segment file can't be created
+     */
+    public synchronized boolean enqueue(T element) {
+        if (element == null) throw new NullPointerException();
+        ensureOpen();
+        for (;;) {
+            int start = writeBuffer.position();
+            if (segmentSize - start < HEADER) {
+                roll();
+                continue;
+            }
+            writeBuffer.position(start + HEADER);
+            try {
+                serializer.write(element, writeBuffer);
+            } catch (BufferOverflowException e) {
+                writeBuffer.position(start);
+                if (start == 0) {
+                    throw new IllegalArgumentException("Element doesn't fit in a segment");
+                }
+                roll();
+                continue;
+            } catch (RuntimeException e) {
+                writeBuffer.position(start);
+                throw e;
+            }
+            int recordSize = writeBuffer.position() - start;
+            writeBuffer.putInt(start + 4, checksum(writeBuffer, start, recordSize));
+            // The size is written last, so a partly written record is never read
+            writeBuffer.putInt(start, recordSize);
+            size++;
+            operationDone();
+            return true;
+        }
+    }
+
+    /**
+     * Appends an element to the journal
+     *
+     * @param element the element to add
+     * @return {@code true} if the element was added to the queue
+     * @throws NullPointerException if the element is null
+     * @throws IllegalArgumentException if the serialized element
+     *                                  doesn't fit in a segment
+     * @throws IllegalStateException if the queue is closed
+     */
+    public boolean add(T element) {
+        return enqueue(element);
+    }
+
+    /**
+     * Appends an element to the journal
+     *
+     * @param element the element to add
+     * @return {@code true} if the element was added to the queue
+     * @throws NullPointerException if the element is null
+     * @throws IllegalArgumentException if the serialized element
+     *                                  doesn't fit in a segment
+     * @throws IllegalStateException if the queue is closed
+     */
+    public boolean offer(T element) {
+        return enqueue(element);
+    }
+
+    /**
+     * Reads the element at the read cursor
+     *
+     * @param advance whether to move the cursor past the element
+     * @return the element, or {@code null} if the queue is empty
+     */
+    private T read(boolean advance) {
+        ensureOpen();
+        if (size == 0) return null;
+        advanceReader();
+        int start = readBuffer.position();
+        int recordSize = readBuffer.getInt(start);
+        ByteBuffer contents = readBuffer.duplicate();
+        contents.limit(start + recordSize).position(start + HEADER);
+        T element = serializer.read(contents.slice());
+        if (advance) {
+            readBuffer.position(start + recordSize);
+            size--;
+            saveCursor();
+            operationDone();
+        }
+        return element;
+    }
+
+    /**
+     * Gets and removes the front of the queue
+     *
+     * @return element at the front of the queue
+     *         or {@code null} if queue is empty
+     * @throws IllegalStateException if the queue is closed
+     */
+    public synchronized T dequeue() {
+        return read(true);
+    }
+
+    /**
+     * Gets and removes the front of the queue
+     *
+     * @return element at the front of the queue
+     * @throws NoSuchElementException if queue is empty
+     * @throws IllegalStateException if the queue is closed
+     */
+    public T remove() {
+        T element = dequeue();
+        if (element == null) throw new NoSuchElementException();
+        return element;
+    }
+
+    /**
+     * Gets and removes the front of the queue
+     *
+     * @return element at the front of the queue
+     *         or {@code null} if queue is empty
+     * @throws IllegalStateException if the queue is closed
+     */
+    public T poll() {
+        return dequeue();
+    }
+
+    /**
+     * Gets element at the front of the queue
+     *
+     * @return element at the front of the queue
+     *         or {@code null} if queue is empty
+     * @throws IllegalStateException if the queue is closed
+     */
+    public synchronized T front() {
+        return read(false);
+    }
+
+    /**
+     * Gets element at the front of the queue
+     *
+     * @return element at the front of the queue
+     * @throws NoSuchElementException if the queue is empty
+     * @throws IllegalStateException if the queue is closed
+     */
+    public T element() {
+        T element = front();
+        if (element == null) throw new NoSuchElementException();
+        return element;
+    }
+
+    /**
+     * Gets element at the front of the queue
+     *
+     * @return element at the front of the queue
+     *         or {@code null} if queue is empty
+     * @throws IllegalStateException if the queue is closed
+     */
+    public T peek() {
+        return front();
+    }
+
+    /**
+     * Forces every enqueue and dequeue made so far to disk
+     */
+    public synchronized void sync() {
+        if (closed || unsynced == 0) return;
+        writeBuffer.force();
+        cursor.force();
+        unsynced = 0;
+    }
+
+    /**
+     * Syncs the journal and closes the queue. Its elements remain
+     * in the directory and are recovered when it is reopened.
+     */
+    @Override
+    public synchronized void close() {
+        if (closed) return;
+        if (syncer != null) syncer.shutdownNow();
+        sync();
+        closed = true;
+    }
+}
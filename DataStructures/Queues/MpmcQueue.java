@@ -0,0 +1,363 @@
+package Queues;
+
+import java.util.NoSuchElementException;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.AtomicLongFieldUpdater;
+import java.util.function.Consumer;
+
+/**
+ * Bounded lock-free queue for any number of producer and consumer threads.
+ * <p>
+ * Implements Dmitry Vyukov's bounded MPMC queue. Elements are stored in an
+ * array whose length is a power of two, and every slot carries a sequence
+ * number that says whether it is ready to be written or read in the current
+ * lap around the array. Producers claim positions by advancing the tail and
+ * consumers by advancing the head, each with one compare-and-set in the
+ * uncontended case. The claimer then publishes the slot by storing its next
+ * sequence number, so no thread ever writes a slot another thread owns and
+ * no nodes are allocated.
+ * <p>
+ * {@link #offer(Object[])} and {@link #drain(Consumer, int)} claim a run of
+ * consecutive slots with a single compare-and-set.
+ * The maximum size is rounded up to a power of two.
+ *
+ * @author Jordan Owens
+ * @param <T> the type of elements in the queue
+ */
+public class MpmcQueue<T> {
+    /** Largest power of two length the array can have */
+    private static final int MAX_CAPACITY = 1 << 30;
+
+    /** Padding placed before a counter so it doesn't share a cache line */
+    private static class LeftPad {
+        long p01, p02, p03, p04, p05, p06, p07;
+    }
+
+    /** A counter contended by producers or by consumers */
+    private static class Value extends LeftPad {
+        /** The next position to claim */
+        volatile long value;
+    }
+
+    /** Counter padded on both sides to fill its own cache line */
+    private static class Counter extends Value {
+        long p11, p12, p13, p14, p15, p16, p17;
+
+        private static final AtomicLongFieldUpdater<Value> VALUE =
+                AtomicLongFieldUpdater.newUpdater(Value.class, "value");
+
+        /**
+         * Claims the positions from {@code expected} up to {@code claimed}
+         *
+         * @param expected the position the counter must still be at
+         * @param claimed the position to advance the counter to
+         * @return {@code true} if no other thread advanced the counter first
+         */
+        boolean claim(long expected, long claimed) {
+            return VALUE.compareAndSet(this, expected, claimed);
+        }
+    }
+
+    /** Circular array holding the elements, whose length is a power of two */
+    private final Object[] elements;
+    /** Sequence of each slot: its position when ready to write, plus one when ready to read */
+    private final AtomicLongArray sequences;
+    /** Mask that maps a position to an array index */
+    private final int mask;
+    /** Position of the next element to dequeue */
+    private final Counter head;
+    /** Position of the next element to enqueue */
+    private final Counter tail;
+
+    /**
+     * Constructs an empty queue with a size restriction
+     *
+     * @param maxSize the maximum size of the queue, rounded up to a power of two
+     * @throws IllegalArgumentException if maxSize is not between 1 and 2^30
+     */
+    public MpmcQueue(int maxSize) {
+        if (maxSize < 1) {
+            throw new IllegalArgumentException("Maximum size must be >= 1");
+        }
+        if (maxSize > MAX_CAPACITY) {
+            throw new IllegalArgumentException("Maximum size must be <= 2^30");
+        }
+        int capacity = Integer.highestOneBit(maxSize);
+        if (capacity < maxSize) capacity <<= 1;
+        this.elements = new Object[capacity];
+        this.sequences = new AtomicLongArray(capacity);
+        for (int i = 0; i < capacity; i++) {
+            sequences.set(i, i);
+        }
+        this.mask = capacity - 1;
+        this.head = new Counter();
+        this.tail = new Counter();
+    }
+
+    /**
+     * Gets the size of the queue.
+     * The size is only an estimate while the queue is in use.
+     *
+     * @return the number of elements in the queue
+     */
+    public int size() {
+        long h = head.value;
+        long size = tail.value - h;
+        return (int) Math.max(0, Math.min(size, elements.length));
+    }
+
+    /**
+     * Gets the maximum size of the queue
+     *
+     * @return the maximum number of elements allowed in the queue
+     */
+    public int maxSize() {
+        return elements.length;
+    }
+
+    /**
+     * Returns whether the queue is empty or not
+     *
+     * @return {@code true} if the queue is empty
+     */
+    public boolean isEmpty() {
+        return size() == 0;
+    }
+
+    /**
+     * Returns whether the queue is full or not
+     *
+     * @return {@code true} if the queue is full
+     */
+    public boolean isFull() {
+        return size() == elements.length;
+    }
+
+    /**
+     * Inserts an element into the queue
+     *
+     * @param element the element to add
+     * @return {@code true} if the element was added successfully
+     *         {@code false} if the queue is full and the element can't be added
+     * @throws NullPointerException if the element is null
+     */
+    public boolean enqueue(T element) {
+        if (element == null) throw new NullPointerException();
+        for (;;) {
+            long t = tail.value;
+            int index = (int) t & mask;
+            long lap = sequences.get(index) - t;
+            if (lap == 0) {
+                if (tail.claim(t, t + 1)) {
+                    elements[index] = element;
+                    sequences.lazySet(index, t + 1);
+                    return true;
+                }
+            } else if (lap < 0) {
+                // The slot still holds the element from the previous lap
+                return false;
+            }
+        }
+    }
+
+    /**
+     * Inserts an element into the queue
+     *
+     * @param element the element to add
+     * @return {@code true} if the element was added to the queue
+     * @throws NullPointerException if the element is null
+     */
+    public boolean add(T element) {
+        return enqueue(element);
+    }
+
+    /**
+     * Inserts an element into the queue
+     *
+     * @param element the element to add
+     * @return {@code true} if the element was added to the queue
+     * @throws NullPointerException if the element is null
+     */
+    public boolean offer(T element) {
+        return enqueue(element);
+    }
+
+    /**
+     * Inserts as many elements from an array as there are free slots,
+     * claiming the slots with one compare-and-set and keeping the
+     * elements consecutive in the queue
+     *
+     * @param batch the elements to add
+     * @return the number of elements added, starting from the first
+     * @throws NullPointerException if the array or any element is null
+     */
+    public int offer(T[] batch) {
+        for (T element : batch) {
+            if (element == null) throw new NullPointerException();
+        }
+        for (;;) {
+            long t = tail.value;
+            int count = 0;
+            while (count < batch.length && sequences.get((int) (t + count) & mask) == t + count) {
+                count++;
+            }
+            if (count == 0) {
+                long lap = sequences.get((int) t & mask) - t;
+                if (lap < 0 || batch.length == 0) return 0;
+            } else if (tail.claim(t, t + count)) {
+                for (int i = 0; i < count; i++) {
+                    int index = (int) (t + i) & mask;
+                    elements[index] = batch[i];
+                    sequences.lazySet(index, t + i + 1);
+                }
+                return count;
+            }
+        }
+    }
+
+    /**
+     * Gets and removes the front of the queue
+     *
+     * @return element at the front of the queue
+     *         or {@code null} if queue is empty
+     */
+    @SuppressWarnings("unchecked")
+    public T dequeue() {
+        for (;;) {
+            long h = head.value;
+            int index = (int) h & mask;
+            long lap = sequences.get(index) - (h + 1);
+            if (lap == 0) {
+                if (head.claim(h, h + 1)) {
+                    T dequeued = (T) elements[index];
+                    elements[index] = null;
+                    sequences.lazySet(index, h + elements.length);
+                    return dequeued;
+                }
+            } else if (lap < 0) {
+                // The slot hasn't been published yet in this lap
+                return null;
+            }
+        }
+    }
+
+    /**
+     * Gets and removes the front of the queue
+     *
+     * @return element at the front of the queue
+     * @throws NoSuchElementException if queue is empty
+     */
+    public T remove() {
+        T element = dequeue();
+        if (element == null) throw new NoSuchElementException();
+        return element;
+    }
+
+    /**
+     * Gets and removes the front of the queue
+     *
+     * @return element at the front of the queue
+     *         or {@code null} if queue is empty
+     */
+    public T poll() {
+        return dequeue();
+    }
+
+    /**
+     * Removes up to {@code limit} consecutive elements from the front of the
+     * queue, claiming them with one compare-and-set, and passes them
+     * to a consumer in order. If the consumer throws, the rest of the
+     * claimed elements are discarded.
+     *
+     * @param consumer the consumer to pass the elements to
+     * @param limit the maximum number of elements to remove
+     * @return the number of elements removed
+     * @throws NullPointerException if the consumer is null
+     * @throws IllegalArgumentException if limit is negative
+     */
+    @SuppressWarnings("unchecked")
+    public int drain(Consumer<? super T> consumer, int limit) {
+        if (consumer == null) throw new NullPointerException();
+        if (limit < 0) {
+            throw new IllegalArgumentException("Limit must be >= 0");
+        }
+        for (;;) {
+            long h = head.value;
+            int count = 0;
+            while (count < limit && sequences.get((int) (h + count) & mask) == h + count + 1) {
+                count++;
+            }
+            if (count == 0) {
+                long lap = sequences.get((int) h & mask) - (h + 1);
+                if (lap < 0 || limit == 0) return 0;
+            } else if (head.claim(h, h + count)) {
+                int i = 0;
+                try {
+                    while (i < count) {
+                        int index = (int) (h + i) & mask;
+                        T element = (T) elements[index];
+                        elements[index] = null;
+                        sequences.lazySet(index, h + i + elements.length);
+                        i++;
+                        consumer.accept(element);
+                    }
+                } finally {
+                    // Release the slots the consumer didn't get to, so producers can reuse them
+                    for (; i < count; i++) {
+                        int index = (int) (h + i) & mask;
+                        elements[index] = null;
+                        sequences.lazySet(index, h + i + elements.length);
+                    }
+                }
+                return count;
+            }
+        }
+    }
+
+    /**
+     * Gets element at the front of the queue.
+     * Another consumer may remove it at any time.
+     *
+     * @return element at the front of the queue
+     *         or {@code null} if queue is empty
+     */
+    @SuppressWarnings("unchecked")
+    public T front() {
+        for (;;) {
+            long h = head.value;
+            int index = (int) h & mask;
+            if (sequences.get(index) != h + 1) {
+                if (head.value == h) return null;
+                continue;
+            }
+            Object element = elements[index];
+            if (element != null && head.value == h) {
+                return (T) element;
+            }
+        }
+    }
+
+    /**
+     * Gets element at the front of the queue.
+     * Another consumer may remove it at any time.
+     *
+     * @return element at the front of the queue
+     * @throws NoSuchElementException if the queue is empty
+     */
+    public T element() {
+        T element = front();
+        if (element == null) throw new NoSuchElementException();
+        return element;
+    }
+
+    /**
+     * Gets element at the front of the queue.
+     * Another consumer may remove it at any time.
+     *
+     * @return element at the front of the queue
+     *         or {@code null} if queue is empty
+     */
+    public T peek() {
+        return front();
+    }
+}
@@ -0,0 +1,266 @@
+package Queues;
+
+import java.util.NoSuchElementException;
+import java.util.concurrent.atomic.AtomicIntegerFieldUpdater;
+import java.util.concurrent.atomic.AtomicReferenceFieldUpdater;
+
+/**
+ * Linked queue for any number of producer threads and one consumer thread.
+ * <p>
+ * Implements Dmitry Vyukov's non-intrusive MPSC node-based queue. The queue
+ * always holds a stub node ahead of its first element. A producer swaps its
+ * new node into the tail with one atomic exchange and then links the old
+ * tail to it, so enqueueing never retries and is wait-free. The consumer
+ * owns the head and follows the links with plain volatile reads, retiring
+ * the old stub as it goes, so dequeueing needs no atomic instructions.
+ * <p>
+ * Between a producer's exchange and its link the new element isn't reachable
+ * yet, so the consumer may briefly see the queue as empty even though an
+ * enqueue has already returned in another thread.
+ * <p>
+ * A queue constructed with a size restriction also counts its elements with
+ * an atomic counter, which costs the consumer one atomic decrement per
+ * element. Without one, {@link #size()} walks the queue.
+ * <p>
+ * {@link #dequeue()} and the other removal and inspection methods
+ * must only be called by the consumer.
+ *
+ * @author Jordan Owens
+ * @param <T> the type of elements in the queue
+ */
+public class MpscQueue<T> {
+    /** Implementation of the nodes that make up the queue */
+    private static class Node<T> {
+        /** Element the node stores, cleared once the node becomes the stub */
+        T element;
+        /** Reference to the next node in the queue */
+        volatile Node<T> next;
+
+        /**
+         * Constructs a node storing an element
+         *
+         * @param element the element to be stored in the node
+         */
+        Node(T element) {
+            this.element = element;
+        }
+    }
+
+    @SuppressWarnings("rawtypes")
+    private static final AtomicReferenceFieldUpdater<MpscQueue, Node> TAIL =
+            AtomicReferenceFieldUpdater.newUpdater(MpscQueue.class, Node.class, "tail");
+    @SuppressWarnings("rawtypes")
+    private static final AtomicReferenceFieldUpdater<Node, Node> NEXT =
+            AtomicReferenceFieldUpdater.newUpdater(Node.class, Node.class, "next");
+    @SuppressWarnings("rawtypes")
+    private static final AtomicIntegerFieldUpdater<MpscQueue> SIZE =
+            AtomicIntegerFieldUpdater.newUpdater(MpscQueue.class, "size");
+
+    /** Stub node before the first element, owned by the consumer */
+    private Node<T> head;
+    /** Last node in the queue, swapped in by producers */
+    private volatile Node<T> tail;
+    /** Size of the queue, only counted when the size is restricted */
+    private volatile int size;
+    /** Maximum size of the queue */
+    private final int maxSize;
+
+    /** Constructs an empty queue with no size restriction */
+    public MpscQueue() {
+        this.head = this.tail = new Node<>(null);
+        this.size = 0;
+        this.maxSize = Integer.MAX_VALUE;
+    }
+
+    /**
+     * Constructs an empty queue with a size restriction
+     *
+     * @param maxSize the maximum size of the queue
+     * @throws IllegalArgumentException if maxSize is not at least 1
+     */
+    public MpscQueue(int maxSize) {
+        if (maxSize < 1) {
+            throw new IllegalArgumentException("Maximum size must be >= 1");
+        }
+        this.head = this.tail = new Node<>(null);
+        this.size = 0;
+        this.maxSize = maxSize;
+    }
+
+    /**
+     * Returns whether the queue counts its elements
+     *
+     * @return {@code true} if the queue has a size restriction
+     */
+    private boolean bounded() {
+        return maxSize != Integer.MAX_VALUE;
+    }
+
+    /**
+     * Gets the size of the queue.
+     * The size is only an estimate while producers are enqueueing, and
+     * takes linear time for a queue without a size restriction.
+     * Must only be called by the consumer.
+     *
+     * @return the number of elements in the queue
+     */
+    public int size() {
+        if (bounded()) return Math.min(size, maxSize);
+        int count = 0;
+        for (Node<T> node = head.next; node != null; node = node.next) {
+            count++;
+        }
+        return count;
+    }
+
+    /**
+     * Gets the maximum size of the queue
+     *
+     * @return the maximum number of elements allowed in the queue
+     */
+    public int maxSize() {
+        return maxSize;
+    }
+
+    /**
+     * Returns whether the queue is empty or not.
+     * Must only be called by the consumer.
+     *
+     * @return {@code true} if the queue is empty
+     */
+    public boolean isEmpty() {
+        return head.next == null;
+    }
+
+    /**
+     * Returns whether the queue is full or not
+     *
+     * @return {@code true} if the queue is full
+     */
+    public boolean isFull() {
+        return bounded() && size >= maxSize;
+    }
+
+    /**
+     * Inserts an element into the queue.
+     * Safe to call from any number of threads at once.
+     *
+     * @param element the element to add
+     * @return {@code true} if the element was added successfully
+     *         {@code false} if the queue is full and the element can't be added
+     * @throws NullPointerException if the element is null
+     */
+    @SuppressWarnings("unchecked")
+    public boolean enqueue(T element) {
+        if (element == null) throw new NullPointerException();
+        if (bounded() && SIZE.getAndIncrement(this) >= maxSize) {
+            SIZE.getAndDecrement(this);
+            return false;
+        }
+        Node<T> node = new Node<>(element);
+        Node<T> prev = TAIL.getAndSet(this, node);
+        NEXT.lazySet(prev, node);
+        return true;
+    }
+
+    /**
+     * Inserts an element into the queue.
+     * Safe to call from any number of threads at once.
+     *
+     * @param element the element to add
+     * @return {@code true} if the element was added to the queue
+     * @throws NullPointerException if the element is null
+     */
+    public boolean add(T element) {
+        return enqueue(element);
+    }
+
+    /**
+     * Inserts an element into the queue.
+     * Safe to call from any number of threads at once.
+     *
+     * @param element the element to add
+     * @return {@code true} if the element was added to the queue
+     * @throws NullPointerException if the element is null
+     */
+    public boolean offer(T element) {
+        return enqueue(element);
+    }
+
+    /**
+     * Gets and removes the front of the queue.
+     * Must only be called by the consumer.
+     *
+     * @return element at the front of the queue
+     *         or {@code null} if queue is empty
+     */
+    public T dequeue() {
+        Node<T> next = head.next;
+        if (next == null) return null;
+        T dequeued = next.element;
+        next.element = null;
+        head = next;
+        if (bounded()) SIZE.getAndDecrement(this);
+        return dequeued;
+    }
+
+    /**
+     * Gets and removes the front of the queue.
+     * Must only be called by the consumer.
+     *
+     * @return element at the front of the queue
+     * @throws NoSuchElementException if queue is empty
+     */
+    public T remove() {
+        T element = dequeue();
+        if (element == null) throw new NoSuchElementException();
+        return element;
+    }
+
+    /**
+     * Gets and removes the front of the queue.
+     * Must only be called by the consumer.
+     *
+     * @return element at the front of the queue
+     *         or {@code null} if queue is empty
+     */
+    public T poll() {
+        return dequeue();
+    }
+
+    /**
+     * Gets element at the front of the queue.
+     * Must only be called by the consumer.
+     *
+     * @return element at the front of the queue
+     *         or {@code null} if queue is empty
+     */
+    public T front() {
+        Node<T> next = head.next;
+        return next != null ? next.element : null;
+    }
+
+    /**
+     * Gets element at the front of the queue.
+     * Must only be called by the consumer.
+     *
+     * @return element at the front of the queue
+     * @throws NoSuchElementException if the queue is empty
+     */
+    public T element() {
+        T element = front();
+        if (element == null) throw new NoSuchElementException();
+        return element;
+    }
+
+    /**
+     * Gets element at the front of the queue.
+     * Must only be called by the consumer.
+     *
+     * @return element at the front of the queue
+     *         or {@code null} if queue is empty
+     */
+    public T peek() {
+        return front();
+    }
+}
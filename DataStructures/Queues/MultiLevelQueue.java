@@ -0,0 +1,378 @@
+package Queues;
+
+import java.util.Arrays;
+import java.util.NoSuchElementException;
+import java.util.function.Consumer;
+
+/**
+ * Priority queue for a small fixed number of priority levels.
+ * <p>
+ * Each level is a {@link Queue}, so elements of the same level are removed
+ * in insertion order. Level 0 is the most urgent. A bitmask records which
+ * levels hold elements, so finding the most urgent non-empty level is a
+ * single {@link Long#numberOfTrailingZeros(long)} and every insertion and
+ * removal takes constant time, however many elements are queued.
+ * <p>
+ * By default removal is strict: a level is only served while every more
+ * urgent level is empty, so a steady stream of urgent elements starves the
+ * others. A queue constructed with weights is served in rounds instead.
+ * Within a round each level may supply up to its weight in elements, more
+ * urgent levels first, and a new round starts once no non-empty level has
+ * any of its share left. Under contention each level gets a share of the
+ * removals proportional to its weight.
+ *
+ * @author Jordan Owens
+ * @param <T> the type of elements in the queue
+ */
+public class MultiLevelQueue<T> {
+    /** Maximum number of levels, one per bit of the occupancy mask */
+    public static final int MAX_LEVELS = 64;
+
+    /** Elements of each level */
+    private final Queue<T>[] queues;
+    /** Bit i is set when level i holds elements */
+    private long occupied;
+    /** Size of the queue */
+    private int size;
+    /** Elements each level may supply per round, or null if removal is strict */
+    private final int[] weights;
+    /** Elements each level may still supply in the round it was last served */
+    private final int[] credits;
+    /** Round in which each level was last served */
+    private final long[] served;
+    /** Bit i is set unless level i used up its share of the current round */
+    private long credited;
+    /** Current round */
+    private long round;
+    /** Mask with a bit set for every level */
+    private final long all;
+
+    /**
+     * Constructs an empty queue with strict priorities and no size restriction
+     *
+     * @param levels the number of priority levels
+     * @throws IllegalArgumentException if levels is not between 1 and {@link #MAX_LEVELS}
+     */
+    public MultiLevelQueue(int levels) {
+        this(unbounded(levels), null);
+    }
+
+    /**
+     * Constructs an empty queue with strict priorities and a size restriction per level
+     *
+     * @param maxSizes the maximum size of each level
+     * @throws IllegalArgumentException if there are not between 1 and {@link #MAX_LEVELS}
+     *         levels or a maximum size is not at least 1
+     */
+    public MultiLevelQueue(int[] maxSizes) {
+        this(maxSizes, null);
+    }
+
+    /**
+     * Constructs an empty queue with a size restriction per level
+     * that is served in weighted rounds
+     *
+     * @param maxSizes the maximum size of each level
+     * @param weights the number of elements each level may supply per round,
+     *                or {@code null} for strict priorities
+     * @throws IllegalArgumentException if there are not between 1 and {@link #MAX_LEVELS}
+     *         levels, a maximum size or weight is not at least 1, or there
+     *         isn't one weight per level
+     */
+    @SuppressWarnings("unchecked")
+    public MultiLevelQueue(int[] maxSizes, int[] weights) {
+        int levels = maxSizes.length;
+        if (levels < 1 || levels > MAX_LEVELS) {
+            throw new IllegalArgumentException("Levels must be between 1 and " + MAX_LEVELS);
+        }
+        this.queues = (Queue<T>[]) new Queue<?>[levels];
+        for (int i = 0; i < levels; i++) {
+            queues[i] = new Queue<>(maxSizes[i]);
+        }
+        if (weights != null) {
+            if (weights.length != levels) {
+                throw new IllegalArgumentException("There must be one weight per level");
+            }
+            for (int weight : weights) {
+                if (weight < 1) throw new IllegalArgumentException("Weights must be >= 1");
+            }
+            this.weights = weights.clone();
+            this.credits = weights.clone();
+            this.served = new long[levels];
+        } else {
+            this.weights = this.credits = null;
+            this.served = null;
+        }
+        this.all = levels == MAX_LEVELS ? -1L : (1L << levels) - 1;
+        this.credited = all;
+        this.occupied = 0;
+        this.size = 0;
+        this.round = 0;
+    }
+
+    /**
+     * Creates the maximum sizes of levels without a size restriction
+     *
+     * @param levels the number of levels
+     * @return an array holding {@link Integer#MAX_VALUE} for each level
+     */
+    private static int[] unbounded(int levels) {
+        if (levels < 1 || levels > MAX_LEVELS) {
+            throw new IllegalArgumentException("Levels must be between 1 and " + MAX_LEVELS);
+        }
+        int[] maxSizes = new int[levels];
+        Arrays.fill(maxSizes, Integer.MAX_VALUE);
+        return maxSizes;
+    }
+
+    /**
+     * Gets the level's queue
+     *
+     * @param level the priority level
+     * @return the queue holding the level's elements
+     * @throws IllegalArgumentException if the level doesn't exist
+     */
+    private Queue<T> queue(int level) {
+        if (level < 0 || level >= queues.length) {
+            throw new IllegalArgumentException("Level must be between 0 and " + (queues.length - 1));
+        }
+        return queues[level];
+    }
+
+    /**
+     * Gets the number of priority levels
+     *
+     * @return the number of levels
+     */
+    public int levels() {
+        return queues.length;
+    }
+
+    /**
+     * Gets the size of the queue
+     *
+     * @return the number of elements in the queue
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Gets the size of a level
+     *
+     * @param level the priority level
+     * @return the number of elements in the level
+     * @throws IllegalArgumentException if the level doesn't exist
+     */
+    public int size(int level) {
+        return queue(level).size();
+    }
+
+    /**
+     * Gets the maximum size of a level
+     *
+     * @param level the priority level
+     * @return the maximum number of elements allowed in the level
+     * @throws IllegalArgumentException if the level doesn't exist
+     */
+    public int maxSize(int level) {
+        return queue(level).maxSize();
+    }
+
+    /**
+     * Returns whether the queue is empty or not
+     *
+     * @return {@code true} if the queue is empty
+     */
+    public boolean isEmpty() {
+        return occupied == 0;
+    }
+
+    /**
+     * Returns whether a level is full or not
+     *
+     * @param level the priority level
+     * @return {@code true} if the level is full
+     * @throws IllegalArgumentException if the level doesn't exist
+     */
+    public boolean isFull(int level) {
+        return queue(level).isFull();
+    }
+
+    /**
+     * Returns whether removal is served in weighted rounds or not
+     *
+     * @return {@code true} if the queue was constructed with weights
+     */
+    public boolean isWeighted() {
+        return weights != null;
+    }
+
+    /**
+     * Inserts an element into a level of the queue
+     *
+     * @param element the element to add
+     * @param level the priority level, 0 being the most urgent
+     * @return {@code true} if the element was added successfully
+     *         {@code false} if the level is full and the element can't be added
+     * @throws NullPointerException if the element is null
+     * @throws IllegalArgumentException if the level doesn't exist
+     */
+    public boolean enqueue(T element, int level) {
+        if (!queue(level).enqueue(element)) return false;
+        occupied |= 1L << level;
+        size++;
+        return true;
+    }
+
+    /**
+     * Inserts an element into a level of the queue
+     *
+     * @param element the element to add
+     * @param level the priority level, 0 being the most urgent
+     * @return {@code true} if the element was added to the queue
+     * @throws NullPointerException if the element is null
+     * @throws IllegalArgumentException if the level doesn't exist
+     */
+    public boolean add(T element, int level) {
+        return enqueue(element, level);
+    }
+
+    /**
+     * Inserts an element into a level of the queue
+     *
+     * @param element the element to add
+     * @param level the priority level, 0 being the most urgent
+     * @return {@code true} if the element was added to the queue
+     * @throws NullPointerException if the element is null
+     * @throws IllegalArgumentException if the level doesn't exist
+     */
+    public boolean offer(T element, int level) {
+        return enqueue(element, level);
+    }
+
+    /**
+     * Finds the level the next element will be removed from
+     *
+     * @return the level or -1 if the queue is empty
+     */
+    private int next() {
+        if (occupied == 0) return -1;
+        if (weights == null) return Long.numberOfTrailingZeros(occupied);
+        long eligible = occupied & credited;
+        // Every non-empty level used up its share, so the next round starts
+        return Long.numberOfTrailingZeros(eligible != 0 ? eligible : occupied);
+    }
+
+    /**
+     * Charges a level for one element of its share of the round
+     *
+     * @param level the level being served
+     */
+    private void charge(int level) {
+        if ((occupied & credited) == 0) {
+            round++;
+            credited = all;
+        }
+        if (served[level] != round) {
+            served[level] = round;
+            credits[level] = weights[level];
+        }
+        if (--credits[level] == 0) credited &= ~(1L << level);
+    }
+
+    /**
+     * Gets and removes the front of the most urgent level due to be served
+     *
+     * @return element at the front of the queue
+     *         or {@code null} if queue is empty
+     */
+    public T dequeue() {
+        int level = next();
+        if (level < 0) return null;
+        if (weights != null) charge(level);
+        Queue<T> queue = queues[level];
+        T element = queue.dequeue();
+        if (queue.isEmpty()) occupied &= ~(1L << level);
+        size--;
+        return element;
+    }
+
+    /**
+     * Gets and removes the front of the most urgent level due to be served
+     *
+     * @return element at the front of the queue
+     * @throws NoSuchElementException if queue is empty
+     */
+    public T remove() {
+        T element = dequeue();
+        if (element == null) throw new NoSuchElementException();
+        return element;
+    }
+
+    /**
+     * Gets and removes the front of the most urgent level due to be served
+     *
+     * @return element at the front of the queue
+     *         or {@code null} if queue is empty
+     */
+    public T poll() {
+        return dequeue();
+    }
+
+    /**
+     * Gets the element that will be removed next
+     *
+     * @return element at the front of the queue
+     *         or {@code null} if queue is empty
+     */
+    public T front() {
+        int level = next();
+        return level >= 0 ? queues[level].front() : null;
+    }
+
+    /**
+     * Gets the element that will be removed next
+     *
+     * @return element at the front of the queue
+     * @throws NoSuchElementException if the queue is empty
+     */
+    public T element() {
+        T element = front();
+        if (element == null) throw new NoSuchElementException();
+        return element;
+    }
+
+    /**
+     * Gets the element that will be removed next
+     *
+     * @return element at the front of the queue
+     *         or {@code null} if queue is empty
+     */
+    public T peek() {
+        return front();
+    }
+
+    /**
+     * Removes up to a limit of elements in the order {@link #dequeue()}
+     * would remove them and passes them to a consumer
+     *
+     * @param consumer the consumer receiving the elements
+     * @param limit the maximum number of elements to remove
+     * @return the number of elements removed
+     * @throws NullPointerException if consumer is null
+     * @throws IllegalArgumentException if limit is negative
+     */
+    public int drain(Consumer<? super T> consumer, int limit) {
+        if (consumer == null) throw new NullPointerException();
+        if (limit < 0) {
+            throw new IllegalArgumentException("Limit must be >= 0");
+        }
+        int drained = 0;
+        while (drained < limit && occupied != 0) {
+            consumer.accept(dequeue());
+            drained++;
+        }
+        return drained;
+    }
+}
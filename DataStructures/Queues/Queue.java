@@ -7,6 +7,11 @@ import java.util.NoSuchElementException;
  * <p>
  * Queues are a first-in, first-out (FIFO) data structure.
  * Elements are removed in the same order they were inserted.
+ * <p>
+ * A queue constructed with a pool size recycles its nodes: dequeued nodes
+ * are cleared and kept on a bounded free list, and enqueues reuse them
+ * before allocating new ones, so a queue whose size stays within the pool
+ * allocates nothing.
  *
  * @author Jordan Owens
  * @param <T> the type of elements in the queue
@@ -38,12 +43,23 @@ public class Queue<T> {
     private int size;
     /** Maximum size of the queue */
     private int maxSize;
+    /** First node on the free list of recycled nodes */
+    private Node<T> free;
+    /** Number of nodes on the free list */
+    private int freeSize;
+    /** Maximum number of nodes on the free list, 0 if nodes aren't recycled */
+    private final int poolSize;
+    /** Number of enqueues that reused a recycled node */
+    private long poolHits;
+    /** Number of enqueues that allocated a node while recycling */
+    private long poolMisses;
 
     /** Constructs an empty queue with no size restriction */
     public Queue() {
         this.front = this.back = null;
         this.size = 0;
         this.maxSize = Integer.MAX_VALUE;
+        this.poolSize = 0;
     }
 
     /**
@@ -59,6 +75,65 @@ public class Queue<T> {
         this.front = this.back = null;
         this.size = 0;
         this.maxSize = maxSize;
+        this.poolSize = 0;
+    }
+
+    /**
+     * Constructs an empty queue with a size restriction
+     * that recycles its nodes
+     *
+     * @param maxSize the maximum size of the queue
+     * @param poolSize the maximum number of dequeued nodes kept for reuse
+     * @throws IllegalArgumentException if maxSize is not at least 1
+     *                                  or poolSize is negative
+     */
+    public Queue(int maxSize, int poolSize) {
+        if (maxSize < 1) {
+            throw new IllegalArgumentException("Maximum size must be >= 1");
+        }
+        if (poolSize < 0) {
+            throw new IllegalArgumentException("Pool size must be >= 0");
+        }
+        this.front = this.back = null;
+        this.size = 0;
+        this.maxSize = maxSize;
+        this.poolSize = poolSize;
+    }
+
+    /**
+     * Gets a node from the free list, or allocates one if it is empty
+     *
+     * @param element the element to be stored in the node
+     * @return a node storing the element
+     */
+    private Node<T> node(T element) {
+        Node<T> node = free;
+        if (node == null) {
+            if (poolSize > 0) poolMisses++;
+            return new Node<>(element);
+        }
+        free = node.next;
+        freeSize--;
+        poolHits++;
+        node.element = element;
+        node.next = null;
+        return node;
+    }
+
+    /**
+     * Clears a removed node and puts it on the free list if there is room
+     *
+     * @param node the node removed from the queue
+     */
+    private void recycle(Node<T> node) {
+        node.element = null;
+        if (freeSize < poolSize) {
+            node.next = free;
+            free = node;
+            freeSize++;
+        } else {
+            node.next = null;
+        }
     }
 
     /**
@@ -109,10 +184,10 @@ public class Queue<T> {
         if (element == null) throw new NullPointerException();
         if (isFull()) return false;
         if (front == null) {
-            front = new Node<>(element);
+            front = node(element);
             back = front;
         } else {
-            back.next = new Node<>(element);
+            back.next = node(element);
             back = back.next;
         }
         size++;
@@ -149,10 +224,13 @@ public class Queue<T> {
      */
     public T dequeue() {
         if (front == null) return null;
-        T dequeued = front.element;
-        front = front.next;
+        Node<T> dequeued = front;
+        T element = dequeued.element;
+        front = dequeued.next;
+        if (front == null) back = null;
         size--;
-        return dequeued;
+        if (poolSize > 0) recycle(dequeued);
+        return element;
     }
 
     /**
@@ -207,4 +285,23 @@ public class Queue<T> {
     public T peek() {
         return front != null ? front.element : null;
     }
+
+    /**
+     * Gets the number of enqueues that reused a recycled node
+     *
+     * @return the number of free list hits
+     */
+    public long poolHits() {
+        return poolHits;
+    }
+
+    /**
+     * Gets the number of enqueues that had to allocate a node
+     * while recycling nodes
+     *
+     * @return the number of free list misses
+     */
+    public long poolMisses() {
+        return poolMisses;
+    }
 }
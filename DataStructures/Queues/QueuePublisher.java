@@ -0,0 +1,515 @@
+package Queues;
+
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Publishes the elements of a bounded queue to subscribers as they demand them.
+ * <p>
+ * Producers insert elements into a {@link Queue} guarded by one lock.
+ * {@link #offer(Object)} fails and {@link #put(Object)} waits while the queue
+ * is full, so the queue's maximum size applies backpressure to producers
+ * instead of letting slow subscribers grow it without bound.
+ * <p>
+ * Each element is delivered to exactly one subscriber, so subscribers share
+ * the work of consuming the queue. If a subscriber throws from
+ * {@link Subscriber#onNext(Object)}, its subscription is cancelled and the
+ * rest of its batch is handed back, ahead of the queue, to the others. If no
+ * other subscriber remains, the rest of the batch is dropped instead, so it
+ * doesn't take up room in the queue. A subscriber only receives elements
+ * after requesting them, and its deliveries run on the publisher's executor,
+ * one task at a time per subscriber. Each delivery takes up to a batch of
+ * elements with one lock acquisition and settles the demand with one atomic
+ * update, and producers only wake subscribers when the queue stops being
+ * empty, so a busy queue costs little signalling per element.
+ * <p>
+ * The {@link Subscriber} and {@link Subscription} interfaces mirror those
+ * of {@code java.util.concurrent.Flow}, which is not available on Java 8.
+ * Closing the publisher stops producers and completes each subscriber
+ * once the queue has been drained.
+ *
+ * @author Jordan Owens
+ * @param <T> the type of elements in the queue
+ */
+public class QueuePublisher<T> implements AutoCloseable {
+    /** Default maximum number of elements delivered per batch */
+    public static final int DEFAULT_BATCH_SIZE = 64;
+
+    /**
+     * Receives the elements of a publisher
+     *
+     * @param <T> the type of elements received
+     */
+    public interface Subscriber<T> {
+        /**
+         * Called before any other method with the subscription to request elements from
+         *
+         * @param subscription the new subscription
+         */
+        void onSubscribe(Subscription subscription);
+
+        /**
+         * Called with each requested element
+         *
+         * @param element the next element
+         */
+        void onNext(T element);
+
+        /**
+         * Called once if the subscription fails, after which no other method is called
+         *
+         * @param error the reason the subscription failed
+         */
+        void onError(Throwable error);
+
+        /**
+         * Called once the publisher is closed and all of its elements have been delivered,
+         * after which no other method is called
+         */
+        void onComplete();
+    }
+
+    /** Link between a publisher and one of its subscribers */
+    public interface Subscription {
+        /**
+         * Adds to the number of elements the subscriber is ready to receive
+         *
+         * @param n the number of elements, which must be positive
+         */
+        void request(long n);
+
+        /** Stops delivering elements to the subscriber */
+        void cancel();
+    }
+
+    /** Subscription that delivers elements to one subscriber */
+    private final class Delivery implements Subscription, Runnable {
+        /** Subscriber receiving the elements */
+        private final Subscriber<? super T> subscriber;
+        /** Elements taken from the queue by the running delivery */
+        private final Object[] batch;
+        /** Number of elements requested but not yet delivered */
+        private final AtomicLong demand;
+        /** Number of times the delivery was scheduled since it last ran out of work */
+        private final AtomicInteger work;
+        /** Whether the subscriber cancelled its subscription */
+        private volatile boolean cancelled;
+        /** Error from an invalid request */
+        private volatile Throwable invalid;
+        /** Whether the subscriber received its last signal, only used by the running delivery */
+        private boolean done;
+
+        /**
+         * Constructs a delivery to a subscriber
+         *
+         * @param subscriber the subscriber to receive elements
+         */
+        Delivery(Subscriber<? super T> subscriber) {
+            this.subscriber = subscriber;
+            this.batch = new Object[batchSize];
+            this.demand = new AtomicLong();
+            this.work = new AtomicInteger();
+        }
+
+        @Override
+        public void request(long n) {
+            if (n <= 0) {
+                invalid = new IllegalArgumentException("Requested elements must be >= 1");
+            } else {
+                long current, updated;
+                do {
+                    current = demand.get();
+                    if (current == Long.MAX_VALUE) break;
+                    updated = current + n < 0 ? Long.MAX_VALUE : current + n;
+                } while (!demand.compareAndSet(current, updated));
+            }
+            schedule();
+        }
+
+        @Override
+        public void cancel() {
+            cancelled = true;
+            schedule();
+        }
+
+        /** Runs the delivery on the executor unless it's already running */
+        void schedule() {
+            if (work.getAndIncrement() == 0) executor.execute(this);
+        }
+
+        /** Schedules the delivery if the subscriber is waiting for elements */
+        void signal() {
+            if (demand.get() > 0) schedule();
+        }
+
+        @Override
+        public void run() {
+            int missed = 1;
+            do {
+                if (done) {
+                    subscribers.remove(this);
+                } else {
+                    deliver();
+                }
+                missed = work.addAndGet(-missed);
+            } while (missed != 0);
+        }
+
+        /** Delivers batches of elements until the queue is empty or the demand is met */
+        @SuppressWarnings("unchecked")
+        private void deliver() {
+            for (;;) {
+                if (cancelled) {
+                    finish();
+                    return;
+                }
+                Throwable error = invalid;
+                if (error != null) {
+                    finish();
+                    subscriber.onError(error);
+                    return;
+                }
+                long requested = demand.get();
+                if (requested == 0) break;
+                int count = take(this, batch, (int) Math.min(requested, batch.length));
+                if (count == 0) break;
+                for (int i = 0; i < count; i++) {
+                    T element = (T) batch[i];
+                    batch[i] = null;
+                    try {
+                        subscriber.onNext(element);
+                    } catch (Throwable e) {
+                        finish();
+                        giveBack(this, batch, i + 1, count);
+                        return;
+                    }
+                }
+                if (requested != Long.MAX_VALUE) demand.addAndGet(-count);
+            }
+            if (closed && isEmpty()) {
+                finish();
+                subscriber.onComplete();
+            }
+        }
+
+        /** Stops the delivery for good */
+        private void finish() {
+            done = true;
+            cancelled = true;
+            subscribers.remove(this);
+            if (subscribers.isEmpty()) dropReturned();
+        }
+    }
+
+    /** Elements waiting to be delivered */
+    private final Queue<T> queue;
+    /**
+     * Elements a failed subscriber took but didn't receive, delivered
+     * before the queue, or dropped once no subscriber remains
+     */
+    private final Queue<T> returned;
+    /** Lock guarding every access to the queue */
+    private final ReentrantLock lock;
+    /** Condition for producers waiting to insert elements */
+    private final Condition notFull;
+    /** Executor running the deliveries */
+    private final Executor executor;
+    /** Maximum number of elements delivered per batch */
+    private final int batchSize;
+    /** Active subscriptions */
+    private final CopyOnWriteArrayList<Delivery> subscribers;
+    /** Whether the publisher has been closed */
+    private volatile boolean closed;
+
+    /**
+     * Constructs a publisher with a size restriction that delivers
+     * batches of up to {@link #DEFAULT_BATCH_SIZE} elements on the common pool
+     *
+     * @param maxSize the maximum size of the queue
+     * @throws IllegalArgumentException if maxSize is not at least 1
+     */
+    public QueuePublisher(int maxSize) {
+        this(maxSize, DEFAULT_BATCH_SIZE, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Constructs a publisher with a size restriction
+     *
+     * @param maxSize the maximum size of the queue
+     * @param batchSize the maximum number of elements delivered per batch
+     * @param executor the executor to run deliveries on
+     * @throws IllegalArgumentException if maxSize or batchSize is not at least 1
+     * @throws NullPointerException if executor is null
+     */
+    public QueuePublisher(int maxSize, int batchSize, Executor executor) {
+        if (batchSize < 1) {
+            throw new IllegalArgumentException("Batch size must be >= 1");
+        }
+        if (executor == null) throw new NullPointerException();
+        this.queue = new Queue<>(maxSize);
+        this.returned = new Queue<>();
+        this.lock = new ReentrantLock();
+        this.notFull = lock.newCondition();
+        this.executor = executor;
+        this.batchSize = batchSize;
+        this.subscribers = new CopyOnWriteArrayList<>();
+        this.closed = false;
+    }
+
+    /**
+     * Creates an executor that starts a virtual thread for each task.
+     * A subscription runs one delivery at a time, so each subscriber
+     * gets its own virtual thread whenever it has elements to receive.
+     *
+     * @return an executor running tasks on virtual threads
+     * @throws UnsupportedOperationException if virtual threads are not available
+     */
+    public static Executor virtualThreads() {
+        try {
+            // Thread.ofVirtual().factory(), looked up reflectively to compile on Java 8
+            Object builder = Thread.class.getMethod("ofVirtual").invoke(null);
+            Class<?> builderClass = Class.forName("java.lang.Thread$Builder");
+            ThreadFactory factory = (ThreadFactory) builderClass.getMethod("factory").invoke(builder);
+            return task -> factory.newThread(task).start();
+        } catch (ReflectiveOperationException e) {
+            throw new UnsupportedOperationException("Virtual threads are not available", e);
+        }
+    }
+
+    /**
+     * Gets the size of the queue
+     *
+     * @return the number of elements waiting to be delivered
+     */
+    public int size() {
+        lock.lock();
+        try {
+            return queue.size() + returned.size();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Gets the maximum size of the queue
+     *
+     * @return the maximum number of elements waiting to be delivered
+     */
+    public int maxSize() {
+        return queue.maxSize();
+    }
+
+    /**
+     * Returns whether the queue is empty or not
+     *
+     * @return {@code true} if no elements are waiting to be delivered
+     */
+    public boolean isEmpty() {
+        return size() == 0;
+    }
+
+    /**
+     * Gets the number of subscribers
+     *
+     * @return the number of subscriptions that haven't finished
+     */
+    public int subscribers() {
+        return subscribers.size();
+    }
+
+    /**
+     * Returns whether the publisher has been closed or not
+     *
+     * @return {@code true} if the publisher no longer accepts elements
+     */
+    public boolean isClosed() {
+        return closed;
+    }
+
+    /**
+     * Subscribes a subscriber to the elements of the queue.
+     * The subscriber's {@link Subscriber#onSubscribe(Subscription)} is
+     * called before this method returns.
+     *
+     * @param subscriber the subscriber to add
+     * @throws NullPointerException if subscriber is null
+     */
+    public void subscribe(Subscriber<? super T> subscriber) {
+        if (subscriber == null) throw new NullPointerException();
+        Delivery delivery = new Delivery(subscriber);
+        subscriber.onSubscribe(delivery);
+        subscribers.add(delivery);
+        // Completes the subscriber if the publisher was already closed and drained
+        delivery.schedule();
+    }
+
+    /**
+     * Inserts an element without waiting
+     *
+     * @param element the element to insert
+     * @return {@code true} if the element was added to the queue
+     *         {@code false} if the queue is full
+     * @throws NullPointerException if element is null
+     * @throws IllegalStateException if the publisher is closed
+     */
+    public boolean offer(T element) {
+        if (element == null) throw new NullPointerException();
+        boolean wasEmpty;
+        lock.lock();
+        try {
+            if (closed) throw new IllegalStateException("Publisher is closed");
+            if (isFull()) return false;
+            wasEmpty = queue.isEmpty() && returned.isEmpty();
+            queue.enqueue(element);
+        } finally {
+            lock.unlock();
+        }
+        if (wasEmpty) signal(null);
+        return true;
+    }
+
+    /**
+     * Inserts an element, waiting as long as necessary for room
+     *
+     * @param element the element to insert
+     * @throws NullPointerException if element is null
+     * @throws IllegalStateException if the publisher is closed
+     * @throws InterruptedException if interrupted while waiting
+     */
+    public void put(T element) throws InterruptedException {
+        if (element == null) throw new NullPointerException();
+        boolean wasEmpty;
+        lock.lockInterruptibly();
+        try {
+            while (!closed && isFull()) {
+                notFull.await();
+            }
+            if (closed) throw new IllegalStateException("Publisher is closed");
+            wasEmpty = queue.isEmpty() && returned.isEmpty();
+            queue.enqueue(element);
+        } finally {
+            lock.unlock();
+        }
+        if (wasEmpty) signal(null);
+    }
+
+    /**
+     * Stops accepting elements. Waiting producers fail, and subscribers
+     * complete once the elements already in the queue have been delivered.
+     */
+    @Override
+    public void close() {
+        lock.lock();
+        try {
+            if (closed) return;
+            closed = true;
+            notFull.signalAll();
+        } finally {
+            lock.unlock();
+        }
+        for (Delivery delivery : subscribers) {
+            delivery.schedule();
+        }
+    }
+
+    /**
+     * Schedules the deliveries of subscribers waiting for elements
+     *
+     * @param except a delivery that is already running, or {@code null}
+     */
+    private void signal(Delivery except) {
+        for (Delivery delivery : subscribers) {
+            if (delivery != except) delivery.signal();
+        }
+    }
+
+    /**
+     * Returns whether producers have to wait for room, the lock being held
+     *
+     * @return {@code true} if the waiting elements fill the queue
+     */
+    private boolean isFull() {
+        return queue.size() + returned.size() >= queue.maxSize();
+    }
+
+    /**
+     * Hands elements a delivery took but couldn't deliver back to the
+     * other subscribers, ahead of the elements still in the queue.
+     * The elements are dropped if no other subscriber remains.
+     *
+     * @param taker the delivery that took the elements
+     * @param batch the array holding the elements
+     * @param from the index of the first element to hand back
+     * @param to the index after the last element to hand back
+     */
+    @SuppressWarnings("unchecked")
+    private void giveBack(Delivery taker, Object[] batch, int from, int to) {
+        if (from == to) return;
+        lock.lock();
+        try {
+            for (int i = from; i < to; i++) {
+                returned.enqueue((T) batch[i]);
+                batch[i] = null;
+            }
+        } finally {
+            lock.unlock();
+        }
+        if (subscribers.isEmpty()) {
+            dropReturned();
+        } else {
+            signal(taker);
+        }
+    }
+
+    /**
+     * Drops the elements handed back by failed subscribers,
+     * called once no subscriber remains to take them
+     */
+    private void dropReturned() {
+        lock.lock();
+        try {
+            if (returned.isEmpty()) return;
+            while (!returned.isEmpty()) {
+                returned.dequeue();
+            }
+            notFull.signalAll();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Takes a batch of elements from the queue and wakes up waiting producers.
+     * If elements are left over, other subscribers are woken to take them.
+     *
+     * @param taker the delivery taking the batch
+     * @param batch the array to store the elements in
+     * @param wanted the maximum number of elements to take
+     * @return the number of elements taken
+     */
+    private int take(Delivery taker, Object[] batch, int wanted) {
+        int count = 0;
+        boolean leftOver;
+        lock.lock();
+        try {
+            while (count < wanted && !returned.isEmpty()) {
+                batch[count++] = returned.dequeue();
+            }
+            while (count < wanted && !queue.isEmpty()) {
+                batch[count++] = queue.dequeue();
+            }
+            if (count > 0) notFull.signalAll();
+            leftOver = !queue.isEmpty() || !returned.isEmpty();
+        } finally {
+            lock.unlock();
+        }
+        if (leftOver) signal(taker);
+        return count;
+    }
+}
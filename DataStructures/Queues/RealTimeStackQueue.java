@@ -0,0 +1,186 @@
+package Queues;
+
+import Stacks.PersistentStack;
+
+/**
+ * Queue implemented using Stacks whose every operation takes
+ * worst-case O(1) time.
+ * <p>
+ * {@link StackQueue} moves its whole back stack to its front stack when the
+ * front stack runs out, so one dequeue in every so many takes O(n) time.
+ * This queue implements Hood and Melville's real-time queue instead, as
+ * presented in Okasaki's "Purely Functional Data Structures". As soon as
+ * the back stack holds more elements than the front stack, a rotation
+ * starts building the next front stack, which is the front stack followed
+ * by the reversed back stack. Each enqueue and dequeue advances the
+ * rotation by two steps, so it completes before the current front stack
+ * runs out, and no single operation ever does more than a constant amount
+ * of work.
+ * <p>
+ * The stacks are {@link PersistentStack}s, so dequeues can keep taking
+ * elements from the current front stack while the rotation reads it.
+ * A rotation counts how many of the front stack's elements are still in
+ * the queue and leaves dequeued ones out of the next front stack.
+ *
+ * @author Jordan Owens
+ * @param <T> the type of elements in the queue
+ */
+public class RealTimeStackQueue<T> {
+    /** No rotation in progress */
+    private static final int IDLE = 0;
+    /** Reversing the front stack and the back stack in step */
+    private static final int REVERSING = 1;
+    /** Pushing the reversed front stack on to the reversed back stack */
+    private static final int APPENDING = 2;
+
+    /** Front stack, oldest element on top */
+    private PersistentStack<T> front;
+    /** Number of elements in the front stack once the rotation completes */
+    private int frontSize;
+    /** Back stack, newest element on top */
+    private PersistentStack<T> back;
+    /** Number of elements in the back stack */
+    private int backSize;
+
+    /** Phase of the rotation */
+    private int phase;
+    /** Number of reversed front elements that are still in the queue */
+    private int valid;
+    /** Front stack elements not yet reversed */
+    private PersistentStack<T> oldFront;
+    /** Front stack elements reversed so far, newest on top */
+    private PersistentStack<T> reversedFront;
+    /** Back stack elements not yet reversed */
+    private PersistentStack<T> oldBack;
+    /** Next front stack under construction, oldest on top */
+    private PersistentStack<T> newFront;
+
+    /** Constructs an empty queue */
+    public RealTimeStackQueue() {
+        this.front = this.back = PersistentStack.empty();
+        this.frontSize = this.backSize = 0;
+        this.phase = IDLE;
+    }
+
+    /**
+     * Gets the size of the queue
+     *
+     * @return the number of elements in the queue
+     */
+    public int size() {
+        return frontSize + backSize;
+    }
+
+    /**
+     * Returns whether the queue is empty or not
+     *
+     * @return {@code true} if the queue is empty
+     */
+    public boolean isEmpty() {
+        return size() == 0;
+    }
+
+    /**
+     * Inserts an element into the queue
+     *
+     * @param element the element to add
+     * @throws NullPointerException if the element is null
+     */
+    public void enqueue(T element) {
+        back = back.push(element);
+        backSize++;
+        balance();
+    }
+
+    /**
+     * Gets and removes the front of the queue
+     *
+     * @return element at the front of the queue
+     *         or {@code null} if queue is empty
+     */
+    public T dequeue() {
+        if (isEmpty()) return null;
+        T element = front.top();
+        front = front.pop();
+        frontSize--;
+        invalidate();
+        balance();
+        return element;
+    }
+
+    /**
+     * Gets element at the front of the queue
+     *
+     * @return element at the front of the queue
+     *         or {@code null} if queue is empty
+     */
+    public T peek() {
+        return front.top();
+    }
+
+    /**
+     * Starts a rotation if the back stack outgrew the front stack,
+     * then advances the rotation in progress by two steps
+     */
+    private void balance() {
+        if (backSize > frontSize) {
+            phase = REVERSING;
+            valid = 0;
+            oldFront = front;
+            reversedFront = PersistentStack.empty();
+            oldBack = back;
+            newFront = PersistentStack.empty();
+            frontSize += backSize;
+            back = PersistentStack.empty();
+            backSize = 0;
+        }
+        step();
+        step();
+    }
+
+    /** Advances the rotation in progress by one step */
+    private void step() {
+        if (phase == REVERSING) {
+            if (!oldFront.isEmpty()) {
+                reversedFront = reversedFront.push(oldFront.top());
+                oldFront = oldFront.pop();
+                valid++;
+            } else {
+                phase = APPENDING;
+            }
+            // The back stack has one more element than the front stack
+            newFront = newFront.push(oldBack.top());
+            oldBack = oldBack.pop();
+        } else if (phase == APPENDING) {
+            if (valid == 0) {
+                finish();
+            } else {
+                newFront = newFront.push(reversedFront.top());
+                reversedFront = reversedFront.pop();
+                valid--;
+            }
+        }
+    }
+
+    /** Accounts for an element dequeued from the front stack during a rotation */
+    private void invalidate() {
+        if (phase == REVERSING) {
+            valid--;
+        } else if (phase == APPENDING) {
+            if (valid == 0) {
+                // The element was already pushed on to the next front stack
+                newFront = newFront.pop();
+                finish();
+            } else {
+                valid--;
+            }
+        }
+    }
+
+    /** Replaces the front stack with the completed next front stack */
+    private void finish() {
+        front = newFront;
+        phase = IDLE;
+        oldFront = reversedFront = oldBack = newFront = null;
+    }
+}
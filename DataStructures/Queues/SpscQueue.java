@@ -0,0 +1,347 @@
+package Queues;
+
+import java.util.NoSuchElementException;
+import java.util.concurrent.atomic.AtomicLongFieldUpdater;
+import java.util.function.Consumer;
+
+/**
+ * Bounded lock-free queue for exactly one producer thread
+ * and one consumer thread.
+ * <p>
+ * Elements are stored in an array whose length is a power of two, indexed
+ * by two ever-increasing sequences: the tail, written only by the producer,
+ * and the head, written only by the consumer. Each sequence is published
+ * with an ordered store ({@code lazySet}) instead of a full fence, and sits
+ * on its own cache line next to its owner's cached copy of the other
+ * sequence. The producer only rereads the head when its cached copy says
+ * the queue is full, and the consumer only rereads the tail when its cached
+ * copy says the queue is empty, so the two threads rarely touch the same
+ * cache line.
+ * <p>
+ * {@link #enqueue(Object)}, {@link #offer(Object[])} and the methods that
+ * delegate to them must only be called by the producer. {@link #dequeue()},
+ * {@link #drain(Consumer, int)} and the other removal and inspection methods
+ * must only be called by the consumer.
+ *
+ * @author Jordan Owens
+ * @param <T> the type of elements in the queue
+ */
+public class SpscQueue<T> {
+    /** Largest power of two length the array can have */
+    private static final int MAX_CAPACITY = 1 << 30;
+
+    /** Padding placed before a sequence so it doesn't share a cache line */
+    private static class LeftPad {
+        long p01, p02, p03, p04, p05, p06, p07;
+    }
+
+    /** A sequence and its owner's cached copy of the other sequence */
+    private static class Value extends LeftPad {
+        /** The sequence, written only by its owner */
+        volatile long value;
+        /** Owner's last read of the other sequence */
+        long cached;
+    }
+
+    /** Sequence padded on both sides to fill its own cache line */
+    private static class Sequence extends Value {
+        long p11, p12, p13, p14, p15, p16, p17;
+
+        private static final AtomicLongFieldUpdater<Value> VALUE =
+                AtomicLongFieldUpdater.newUpdater(Value.class, "value");
+
+        /**
+         * Publishes a new value with an ordered store
+         *
+         * @param value the new value
+         */
+        void publish(long value) {
+            VALUE.lazySet(this, value);
+        }
+    }
+
+    /** Circular array holding the elements, whose length is a power of two */
+    private final Object[] elements;
+    /** Mask that maps a sequence to an array index */
+    private final int mask;
+    /** Maximum size of the queue */
+    private final int maxSize;
+    /** Sequence of the next element to dequeue, owned by the consumer */
+    private final Sequence head;
+    /** Sequence of the next element to enqueue, owned by the producer */
+    private final Sequence tail;
+
+    /**
+     * Constructs an empty queue with a size restriction
+     *
+     * @param maxSize the maximum size of the queue
+     * @throws IllegalArgumentException if maxSize is not between 1 and 2^30
+     */
+    public SpscQueue(int maxSize) {
+        if (maxSize < 1) {
+            throw new IllegalArgumentException("Maximum size must be >= 1");
+        }
+        if (maxSize > MAX_CAPACITY) {
+            throw new IllegalArgumentException("Maximum size must be <= 2^30");
+        }
+        int capacity = Integer.highestOneBit(maxSize);
+        if (capacity < maxSize) capacity <<= 1;
+        this.elements = new Object[capacity];
+        this.mask = capacity - 1;
+        this.maxSize = maxSize;
+        this.head = new Sequence();
+        this.tail = new Sequence();
+    }
+
+    /**
+     * Gets the size of the queue.
+     * The size is only an estimate while the queue is in use.
+     *
+     * @return the number of elements in the queue
+     */
+    public int size() {
+        long h = head.value;
+        long size = tail.value - h;
+        return (int) Math.max(0, Math.min(size, maxSize));
+    }
+
+    /**
+     * Gets the maximum size of the queue
+     *
+     * @return the maximum number of elements allowed in the queue
+     */
+    public int maxSize() {
+        return maxSize;
+    }
+
+    /**
+     * Returns whether the queue is empty or not
+     *
+     * @return {@code true} if the queue is empty
+     */
+    public boolean isEmpty() {
+        return size() == 0;
+    }
+
+    /**
+     * Returns whether the queue is full or not
+     *
+     * @return {@code true} if the queue is full
+     */
+    public boolean isFull() {
+        return size() == maxSize;
+    }
+
+    /**
+     * Gets the number of free slots the producer can fill, rereading
+     * the head only when the cached copy shows fewer than needed
+     *
+     * @param t the current tail
+     * @param needed the number of slots wanted
+     * @return the number of free slots
+     */
+    private long free(long t, int needed) {
+        long free = maxSize - (t - tail.cached);
+        if (free < needed) {
+            tail.cached = head.value;
+            free = maxSize - (t - tail.cached);
+        }
+        return free;
+    }
+
+    /**
+     * Gets the number of elements the consumer can take, rereading
+     * the tail only when the cached copy shows fewer than wanted
+     *
+     * @param h the current head
+     * @param wanted the number of elements wanted
+     * @return the number of available elements
+     */
+    private long available(long h, int wanted) {
+        long available = head.cached - h;
+        if (available < wanted) {
+            head.cached = tail.value;
+            available = head.cached - h;
+        }
+        return available;
+    }
+
+    /**
+     * Inserts an element into the queue.
+     * Must only be called by the producer.
+     *
+     * @param element the element to add
+     * @return {@code true} if the element was added successfully
+     *         {@code false} if the queue is full and the element can't be added
+     * @throws NullPointerException if the element is null
+     */
+    public boolean enqueue(T element) {
+        if (element == null) throw new NullPointerException();
+        long t = tail.value;
+        if (free(t, 1) < 1) return false;
+        elements[(int) t & mask] = element;
+        tail.publish(t + 1);
+        return true;
+    }
+
+    /**
+     * Inserts an element into the queue.
+     * Must only be called by the producer.
+     *
+     * @param element the element to add
+     * @return {@code true} if the element was added to the queue
+     * @throws NullPointerException if the element is null
+     */
+    public boolean add(T element) {
+        return enqueue(element);
+    }
+
+    /**
+     * Inserts an element into the queue.
+     * Must only be called by the producer.
+     *
+     * @param element the element to add
+     * @return {@code true} if the element was added to the queue
+     * @throws NullPointerException if the element is null
+     */
+    public boolean offer(T element) {
+        return enqueue(element);
+    }
+
+    /**
+     * Inserts as many elements from an array as fit, in order,
+     * and publishes them all at once.
+     * Must only be called by the producer.
+     *
+     * @param batch the elements to add
+     * @return the number of elements added, starting from the first
+     * @throws NullPointerException if the array or any element that fits is null,
+     *                              in which case the elements before it are added
+     */
+    public int offer(T[] batch) {
+        long t = tail.value;
+        int count = (int) Math.min(batch.length, free(t, batch.length));
+        for (int i = 0; i < count; i++) {
+            if (batch[i] == null) {
+                tail.publish(t + i);
+                throw new NullPointerException();
+            }
+            elements[(int) (t + i) & mask] = batch[i];
+        }
+        tail.publish(t + count);
+        return count;
+    }
+
+    /**
+     * Gets and removes the front of the queue.
+     * Must only be called by the consumer.
+     *
+     * @return element at the front of the queue
+     *         or {@code null} if queue is empty
+     */
+    @SuppressWarnings("unchecked")
+    public T dequeue() {
+        long h = head.value;
+        if (available(h, 1) <= 0) return null;
+        int index = (int) h & mask;
+        T dequeued = (T) elements[index];
+        elements[index] = null;
+        head.publish(h + 1);
+        return dequeued;
+    }
+
+    /**
+     * Gets and removes the front of the queue.
+     * Must only be called by the consumer.
+     *
+     * @return element at the front of the queue
+     * @throws NoSuchElementException if queue is empty
+     */
+    public T remove() {
+        T element = dequeue();
+        if (element == null) throw new NoSuchElementException();
+        return element;
+    }
+
+    /**
+     * Gets and removes the front of the queue.
+     * Must only be called by the consumer.
+     *
+     * @return element at the front of the queue
+     *         or {@code null} if queue is empty
+     */
+    public T poll() {
+        return dequeue();
+    }
+
+    /**
+     * Removes up to {@code limit} elements from the front of the queue,
+     * passes them to a consumer in order and frees their slots at once.
+     * Must only be called by the consumer.
+     *
+     * @param consumer the consumer to pass the elements to
+     * @param limit the maximum number of elements to remove
+     * @return the number of elements removed
+     * @throws NullPointerException if the consumer is null
+     * @throws IllegalArgumentException if limit is negative
+     */
+    @SuppressWarnings("unchecked")
+    public int drain(Consumer<? super T> consumer, int limit) {
+        if (consumer == null) throw new NullPointerException();
+        if (limit < 0) {
+            throw new IllegalArgumentException("Limit must be >= 0");
+        }
+        long h = head.value;
+        int count = (int) Math.min(limit, available(h, limit));
+        int drained = 0;
+        try {
+            while (drained < count) {
+                int index = (int) (h + drained) & mask;
+                T element = (T) elements[index];
+                elements[index] = null;
+                drained++;
+                consumer.accept(element);
+            }
+        } finally {
+            head.publish(h + drained);
+        }
+        return drained;
+    }
+
+    /**
+     * Gets element at the front of the queue.
+     * Must only be called by the consumer.
+     *
+     * @return element at the front of the queue
+     *         or {@code null} if queue is empty
+     */
+    @SuppressWarnings("unchecked")
+    public T front() {
+        long h = head.value;
+        return available(h, 1) > 0 ? (T) elements[(int) h & mask] : null;
+    }
+
+    /**
+     * Gets element at the front of the queue.
+     * Must only be called by the consumer.
+     *
+     * @return element at the front of the queue
+     * @throws NoSuchElementException if the queue is empty
+     */
+    public T element() {
+        T element = front();
+        if (element == null) throw new NoSuchElementException();
+        return element;
+    }
+
+    /**
+     * Gets element at the front of the queue.
+     * Must only be called by the consumer.
+     *
+     * @return element at the front of the queue
+     *         or {@code null} if queue is empty
+     */
+    public T peek() {
+        return front();
+    }
+}
@@ -0,0 +1,434 @@
+package Queues;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicIntegerFieldUpdater;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.Consumer;
+import java.util.function.LongSupplier;
+
+/**
+ * Hierarchical timing wheel that expires scheduled tasks after a delay.
+ * <p>
+ * Time is divided into ticks. The wheel has several levels of
+ * {@code slots} buckets each: a bucket on level 0 holds the timeouts due in
+ * one tick, and a bucket on level {@code k} holds the timeouts due in a run
+ * of {@code slots^k} ticks. Each time a lower level wraps around, the next
+ * bucket of the level above is cascaded, reinserting its timeouts into the
+ * lower levels. Timeouts further away than the wheel spans wait in the top
+ * level and are reinserted each time it wraps around.
+ * <p>
+ * Buckets are linked lists of timeouts like {@link Queue}, with links in
+ * both directions so a timeout can unlink itself. Scheduling and cancelling
+ * are constant time and may be called from any thread: both only hand the
+ * timeout to the tick thread through an {@link MpscQueue}.
+ * The tick thread applies them, moves the wheel to the current time and
+ * delivers every expired task in one batch.
+ * The tick thread is either started with {@link #start(Consumer)}
+ * or is whatever single thread calls {@link #advance(Consumer)}.
+ *
+ * @author Jordan Owens
+ * @param <T> the type of tasks scheduled on the wheel
+ */
+public class TimingWheel<T> implements AutoCloseable {
+    /** State of a timeout waiting to expire */
+    private static final int PENDING = 0;
+    /** State of a cancelled timeout */
+    private static final int CANCELLED = 1;
+    /** State of an expired timeout */
+    private static final int EXPIRED = 2;
+
+    /**
+     * Handle for a scheduled task, which can be used to cancel it
+     *
+     * @param <T> the type of the task
+     */
+    public static final class Timeout<T> {
+        @SuppressWarnings("rawtypes")
+        private static final AtomicIntegerFieldUpdater<Timeout> STATE =
+                AtomicIntegerFieldUpdater.newUpdater(Timeout.class, "state");
+
+        /** Wheel the task is scheduled on */
+        private final TimingWheel<T> wheel;
+        /** Task to deliver when the timeout expires */
+        private final T task;
+        /** Tick the timeout expires at */
+        private final long deadline;
+        /** Whether the timeout is pending, cancelled or expired */
+        private volatile int state;
+        /** Bucket holding the timeout, or {@code null} if it isn't in one */
+        private Bucket<T> bucket;
+        /** Reference to the previous timeout in the bucket */
+        private Timeout<T> prev;
+        /** Reference to the next timeout in the bucket */
+        private Timeout<T> next;
+
+        private Timeout(TimingWheel<T> wheel, T task, long deadline) {
+            this.wheel = wheel;
+            this.task = task;
+            this.deadline = deadline;
+        }
+
+        /**
+         * Gets the scheduled task
+         *
+         * @return the task
+         */
+        public T task() {
+            return task;
+        }
+
+        /**
+         * Cancels the timeout so its task is never delivered
+         *
+         * @return {@code true} if the timeout was cancelled,
+         *         {@code false} if it had already expired or been cancelled
+         */
+        public boolean cancel() {
+            return wheel.cancel(this);
+        }
+
+        /**
+         * Returns whether the timeout has been cancelled
+         *
+         * @return {@code true} if the timeout was cancelled
+         */
+        public boolean isCancelled() {
+            return state == CANCELLED;
+        }
+
+        /**
+         * Returns whether the timeout has expired
+         *
+         * @return {@code true} if the task has been delivered
+         */
+        public boolean isExpired() {
+            return state == EXPIRED;
+        }
+    }
+
+    /** Doubly linked list of the timeouts in one slot of the wheel */
+    private static final class Bucket<T> {
+        /** First timeout in the bucket */
+        Timeout<T> front;
+        /** Last timeout in the bucket */
+        Timeout<T> back;
+
+        /**
+         * Appends a timeout to the bucket
+         *
+         * @param timeout the timeout to append
+         */
+        void enqueue(Timeout<T> timeout) {
+            timeout.bucket = this;
+            timeout.prev = back;
+            timeout.next = null;
+            if (back == null) {
+                front = timeout;
+            } else {
+                back.next = timeout;
+            }
+            back = timeout;
+        }
+
+        /**
+         * Unlinks a timeout from the bucket
+         *
+         * @param timeout the timeout to unlink
+         */
+        void remove(Timeout<T> timeout) {
+            if (timeout.prev == null) {
+                front = timeout.next;
+            } else {
+                timeout.prev.next = timeout.next;
+            }
+            if (timeout.next == null) {
+                back = timeout.prev;
+            } else {
+                timeout.next.prev = timeout.prev;
+            }
+            timeout.bucket = null;
+            timeout.prev = timeout.next = null;
+        }
+
+        /**
+         * Empties the bucket
+         *
+         * @return the first timeout of the former contents, still linked
+         */
+        Timeout<T> clear() {
+            Timeout<T> first = front;
+            front = back = null;
+            return first;
+        }
+    }
+
+    /** Time source in nanoseconds */
+    private final LongSupplier clock;
+    /** Time the wheel started at */
+    private final long start;
+    /** Length of a tick in nanoseconds */
+    private final long tickNanos;
+    /** Number of bits of a tick consumed by each level */
+    private final int bits;
+    /** Mask that maps a tick to a slot within a level */
+    private final int mask;
+    /** Buckets of each level */
+    private final Bucket<T>[][] levels;
+    /** Next tick to expire, only touched by the tick thread */
+    private long currentTick;
+    /** Timeouts scheduled but not yet placed in a bucket */
+    private final MpscQueue<Timeout<T>> scheduled;
+    /** Timeouts cancelled but not yet unlinked from their bucket */
+    private final MpscQueue<Timeout<T>> cancelled;
+    /** Number of pending timeouts */
+    private final AtomicInteger size;
+    /** Thread started by {@link #start(Consumer)}, or {@code null} */
+    private volatile Thread ticker;
+
+    /**
+     * Constructs a wheel driven by {@link System#nanoTime()}
+     *
+     * @param tick the length of a tick
+     * @param unit the unit of the tick length
+     * @param slots the number of buckets in each level, a power of two
+     * @param levels the number of levels
+     * @throws IllegalArgumentException if tick is not positive, slots is not
+     *                                  a power of two of at least 2, or levels
+     *                                  is not at least 1 or spans more than 2^62 ticks
+     */
+    public TimingWheel(long tick, TimeUnit unit, int slots, int levels) {
+        this(tick, unit, slots, levels, System::nanoTime);
+    }
+
+    /**
+     * Constructs a wheel driven by a custom time source
+     *
+     * @param tick the length of a tick
+     * @param unit the unit of the tick length
+     * @param slots the number of buckets in each level, a power of two
+     * @param levels the number of levels
+     * @param clock the time source in nanoseconds
+     * @throws IllegalArgumentException if tick is not positive, slots is not
+     *                                  a power of two of at least 2, or levels
+     *                                  is not at least 1 or spans more than 2^62 ticks
+     */
+    @SuppressWarnings("unchecked")
+    public TimingWheel(long tick, TimeUnit unit, int slots, int levels, LongSupplier clock) {
+        if (tick <= 0) {
+            throw new IllegalArgumentException("Tick must be > 0");
+        }
+        if (slots < 2 || Integer.bitCount(slots) != 1) {
+            throw new IllegalArgumentException("Slots must be a power of two >= 2");
+        }
+        int bits = Integer.numberOfTrailingZeros(slots);
+        if (levels < 1 || (long) bits * levels > 62) {
+            throw new IllegalArgumentException("Levels must be >= 1 and span at most 2^62 ticks");
+        }
+        this.clock = clock;
+        this.start = clock.getAsLong();
+        this.tickNanos = unit.toNanos(tick);
+        this.bits = bits;
+        this.mask = slots - 1;
+        this.levels = (Bucket<T>[][]) new Bucket<?>[levels][slots];
+        for (Bucket<T>[] level : this.levels) {
+            for (int i = 0; i < slots; i++) {
+                level[i] = new Bucket<>();
+            }
+        }
+        this.currentTick = 0;
+        this.scheduled = new MpscQueue<>();
+        this.cancelled = new MpscQueue<>();
+        this.size = new AtomicInteger();
+    }
+
+    /**
+     * Gets the number of pending timeouts
+     *
+     * @return the number of timeouts that haven't expired or been cancelled
+     */
+    public int size() {
+        return size.get();
+    }
+
+    /**
+     * Returns whether the wheel has no pending timeouts
+     *
+     * @return {@code true} if no timeouts are pending
+     */
+    public boolean isEmpty() {
+        return size.get() == 0;
+    }
+
+    /**
+     * Gets the number of whole ticks since the wheel started
+     *
+     * @return the current tick
+     */
+    private long now() {
+        return (clock.getAsLong() - start) / tickNanos;
+    }
+
+    /**
+     * Schedules a task to be delivered after a delay.
+     * Safe to call from any thread.
+     *
+     * @param task the task to deliver
+     * @param delay the time to wait, rounded up to whole ticks
+     * @param unit the unit of the delay
+     * @return a handle for cancelling the task
+     * @throws NullPointerException if the task is null
+     */
+    public Timeout<T> schedule(T task, long delay, TimeUnit unit) {
+        if (task == null) throw new NullPointerException();
+        long elapsed = clock.getAsLong() - start;
+        long delayNanos = Math.max(0, unit.toNanos(delay));
+        long deadline = (elapsed + delayNanos + tickNanos - 1) / tickNanos;
+        Timeout<T> timeout = new Timeout<>(this, task, deadline);
+        size.incrementAndGet();
+        scheduled.enqueue(timeout);
+        return timeout;
+    }
+
+    /**
+     * Cancels a timeout so its task is never delivered.
+     * Safe to call from any thread.
+     *
+     * @param timeout the timeout to cancel
+     * @return {@code true} if the timeout was cancelled,
+     *         {@code false} if it had already expired or been cancelled
+     * @throws IllegalArgumentException if the timeout is from another wheel
+     */
+    public boolean cancel(Timeout<T> timeout) {
+        if (timeout.wheel != this) {
+            throw new IllegalArgumentException("Timeout is from another wheel");
+        }
+        if (!Timeout.STATE.compareAndSet(timeout, PENDING, CANCELLED)) return false;
+        size.decrementAndGet();
+        cancelled.enqueue(timeout);
+        return true;
+    }
+
+    /**
+     * Places a timeout in the bucket of the lowest level that spans its deadline
+     *
+     * @param timeout the timeout to place
+     */
+    private void place(Timeout<T> timeout) {
+        long deadline = Math.max(timeout.deadline, currentTick);
+        long delta = deadline - currentTick;
+        int top = levels.length - 1;
+        for (int level = 0; level < top; level++) {
+            if (delta < 1L << (bits * (level + 1))) {
+                levels[level][(int) (deadline >>> (bits * level)) & mask].enqueue(timeout);
+                return;
+            }
+        }
+        // Timeouts beyond the span of the wheel wait in the farthest top level bucket
+        long span = 1L << (bits * levels.length);
+        if (delta >= span) deadline = currentTick + span - 1;
+        levels[top][(int) (deadline >>> (bits * top)) & mask].enqueue(timeout);
+    }
+
+    /**
+     * Reinserts the timeouts of the bucket in each level above level 0
+     * that starts at the current tick, from the highest level down
+     */
+    private void cascade() {
+        int level = 1;
+        while (level < levels.length && (currentTick & ((1L << (bits * level)) - 1)) == 0) {
+            level++;
+        }
+        for (level--; level >= 1; level--) {
+            Bucket<T> bucket = levels[level][(int) (currentTick >>> (bits * level)) & mask];
+            for (Timeout<T> timeout = bucket.clear(); timeout != null;) {
+                Timeout<T> next = timeout.next;
+                place(timeout);
+                timeout = next;
+            }
+        }
+    }
+
+    /**
+     * Applies scheduled and cancelled timeouts, moves the wheel to the
+     * current time and delivers every task that expired as one batch.
+     * Must only be called by one thread at a time.
+     *
+     * @param expired receives the expired tasks in deadline order,
+     *                only called if any expired
+     * @return the number of tasks delivered
+     */
+    public int advance(Consumer<? super Queue<T>> expired) {
+        for (Timeout<T> timeout; (timeout = scheduled.dequeue()) != null;) {
+            if (timeout.state == PENDING) place(timeout);
+        }
+        for (Timeout<T> timeout; (timeout = cancelled.dequeue()) != null;) {
+            if (timeout.bucket != null) timeout.bucket.remove(timeout);
+        }
+        Queue<T> batch = null;
+        int count = 0;
+        for (long now = now(); currentTick <= now; currentTick++) {
+            cascade();
+            Bucket<T> bucket = levels[0][(int) currentTick & mask];
+            for (Timeout<T> timeout = bucket.clear(); timeout != null;) {
+                Timeout<T> next = timeout.next;
+                timeout.bucket = null;
+                timeout.prev = timeout.next = null;
+                if (Timeout.STATE.compareAndSet(timeout, PENDING, EXPIRED)) {
+                    size.decrementAndGet();
+                    if (batch == null) batch = new Queue<>();
+                    batch.enqueue(timeout.task);
+                    count++;
+                }
+                timeout = next;
+            }
+        }
+        if (batch != null) expired.accept(batch);
+        return count;
+    }
+
+    /**
+     * Starts a daemon thread that advances the wheel once per tick
+     *
+     * @param expired receives each batch of expired tasks on the tick thread
+     * @throws IllegalStateException if the wheel was already started
+     */
+    public synchronized void start(Consumer<? super Queue<T>> expired) {
+        if (ticker != null) throw new IllegalStateException("Wheel already started");
+        Thread thread = new Thread(() -> {
+            while (ticker == Thread.currentThread()) {
+                advance(expired);
+                long next = (now() + 1) * tickNanos + start;
+                LockSupport.parkNanos(Math.max(0, next - clock.getAsLong()));
+            }
+        }, "timing-wheel");
+        thread.setDaemon(true);
+        ticker = thread;
+        thread.start();
+    }
+
+    /**
+     * Stops the thread started by {@link #start(Consumer)}.
+     * Pending timeouts are kept and no further tasks are delivered by it.
+     */
+    @Override
+    public void close() {
+        Thread thread;
+        synchronized (this) {
+            thread = ticker;
+            ticker = null;
+        }
+        if (thread == null) return;
+        LockSupport.unpark(thread);
+        boolean interrupted = false;
+        for (;;) {
+            try {
+                thread.join();
+                break;
+            } catch (InterruptedException e) {
+                interrupted = true;
+            }
+        }
+        if (interrupted) Thread.currentThread().interrupt();
+    }
+}
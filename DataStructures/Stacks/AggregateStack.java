@@ -0,0 +1,141 @@
+package Stacks;
+
+import java.util.function.BinaryOperator;
+
+/**
+ * Stack that keeps a running aggregate of its elements, such as their
+ * minimum, maximum or sum.
+ * <p>
+ * The aggregate is computed with an associative operator, combining the
+ * elements in the order they were pushed. Each element is stored alongside
+ * the aggregate of itself and every element below it, so pushing, popping
+ * and {@link #aggregate()} all take O(1) time. The operator doesn't need
+ * an identity element: the aggregate of an empty stack is {@code null}.
+ * Elements and aggregates are kept in {@link ArrayStack}s, so no node is
+ * allocated per push.
+ *
+ * @author Jordan Owens
+ * @param <T> the type of elements in the stack
+ */
+public class AggregateStack<T> {
+    /** Elements of the stack */
+    private final ArrayStack<T> elements;
+    /** Aggregate of each element and the elements below it */
+    private final ArrayStack<T> aggregates;
+    /** Associative operator combining an older aggregate with a newer element */
+    private final BinaryOperator<T> operator;
+
+    /**
+     * Constructs an empty stack with no size restriction
+     *
+     * @param operator the associative operator to aggregate elements with
+     * @throws NullPointerException if operator is null
+     */
+    public AggregateStack(BinaryOperator<T> operator) {
+        if (operator == null) throw new NullPointerException();
+        this.elements = new ArrayStack<>();
+        this.aggregates = new ArrayStack<>();
+        this.operator = operator;
+    }
+
+    /**
+     * Constructs an empty stack with a size restriction
+     *
+     * @param operator the associative operator to aggregate elements with
+     * @param maxSize the maximum size of the stack
+     * @throws NullPointerException if operator is null
+     * @throws IllegalArgumentException if maxSize is not at least 1
+     */
+    public AggregateStack(BinaryOperator<T> operator, int maxSize) {
+        if (operator == null) throw new NullPointerException();
+        this.elements = new ArrayStack<>(maxSize);
+        this.aggregates = new ArrayStack<>(maxSize);
+        this.operator = operator;
+    }
+
+    /**
+     * Gets the size of the stack
+     *
+     * @return the number of elements in the stack
+     */
+    public int size() {
+        return elements.size();
+    }
+
+    /**
+     * Gets the maximum size of the stack
+     *
+     * @return the maximum number of elements allowed in the stack
+     */
+    public int maxSize() {
+        return elements.maxSize();
+    }
+
+    /**
+     * Returns whether the stack is empty or not
+     *
+     * @return {@code true} if the stack is empty
+     */
+    public boolean isEmpty() {
+        return elements.isEmpty();
+    }
+
+    /**
+     * Returns whether the stack is full or not
+     *
+     * @return {@code true} if the stack is full
+     */
+    public boolean isFull() {
+        return elements.isFull();
+    }
+
+    /**
+     * Pushes an element on to the stack
+     *
+     * @param element the element to push on to the stack
+     * @return {@code true} if the element was added successfully
+     *         {@code false} if the stack is full and the element can't be added
+     * @throws NullPointerException if the element or its aggregate is null
+     */
+    public boolean push(T element) {
+        if (element == null) throw new NullPointerException();
+        if (elements.isFull()) return false;
+        T aggregate = aggregates.isEmpty() ? element : operator.apply(aggregates.top(), element);
+        if (aggregate == null) throw new NullPointerException();
+        elements.push(element);
+        aggregates.push(aggregate);
+        return true;
+    }
+
+    /**
+     * Removes the element on top of the stack
+     *
+     * @return the element on top of the stack
+     *         or {@code null} if the stack is empty
+     */
+    public T pop() {
+        aggregates.pop();
+        return elements.pop();
+    }
+
+    /**
+     * Gets the element on top of the stack
+     *
+     * @return the element on top of the stack
+     *         or {@code null} if the stack is empty
+     */
+    public T top() {
+        return elements.top();
+    }
+
+    /**
+     * Gets the aggregate of every element in the stack,
+     * combined from the bottom of the stack to the top
+     *
+     * @return the aggregate of the elements
+     *         or {@code null} if the stack is empty
+     */
+    public T aggregate() {
+        return aggregates.top();
+    }
+}
@@ -0,0 +1,154 @@
+package Stacks;
+
+/**
+ * Stack implemented using a growable array.
+ * <p>
+ * Has the same API as {@link Stack}, but stores its elements in an array
+ * instead of allocating a node per push. The array doubles when it fills up
+ * and halves once it is no more than a quarter full, so pushing and popping
+ * are amortized O(1) and a stack whose size stays within its capacity
+ * allocates nothing.
+ *
+ * @author Jordan Owens
+ * @param <T> the type of elements in the stack
+ */
+public class ArrayStack<T> {
+    /** Smallest length of the array once elements are removed */
+    private static final int MIN_CAPACITY = 16;
+    /** Largest length the array can have */
+    private static final int MAX_CAPACITY = 1 << 30;
+
+    /** Array holding the elements of the stack, the top at index size - 1 */
+    private Object[] elements;
+    /** Size of the stack */
+    private int size;
+    /** Maximum size of the stack */
+    private int maxSize;
+
+    /** Constructs an empty stack with no size restriction */
+    public ArrayStack() {
+        this.elements = new Object[MIN_CAPACITY];
+        this.size = 0;
+        this.maxSize = Integer.MAX_VALUE;
+    }
+
+    /**
+     * Constructs an empty stack with a size restriction
+     *
+     * @param maxSize the maximum size of the stack
+     * @throws IllegalArgumentException if maxSize is not at least 1
+     */
+    public ArrayStack(int maxSize) {
+        if (maxSize < 1) {
+            throw new IllegalArgumentException("Maximum size must be >= 1");
+        }
+        this.elements = new Object[Math.min(MIN_CAPACITY, maxSize)];
+        this.size = 0;
+        this.maxSize = maxSize;
+    }
+
+    /**
+     * Moves the elements into a new array
+     *
+     * @param capacity the length of the new array
+     */
+    private void resize(int capacity) {
+        Object[] resized = new Object[capacity];
+        System.arraycopy(elements, 0, resized, 0, size);
+        elements = resized;
+    }
+
+    /** Doubles the array if there is no room for another element */
+    private void growIfFull() {
+        if (size < elements.length) return;
+        if (elements.length == MAX_CAPACITY) {
+            throw new IllegalStateException("Stack is too large");
+        }
+        resize((int) Math.min((long) elements.length << 1, MAX_CAPACITY));
+    }
+
+    /** Halves the array if it is at most a quarter full */
+    private void shrinkIfSparse() {
+        if (elements.length > MIN_CAPACITY && size <= elements.length >>> 2) {
+            resize(elements.length >>> 1);
+        }
+    }
+
+    /**
+     * Gets the size of the stack
+     *
+     * @return the number of elements in the stack
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Gets the maximum size of the stack
+     *
+     * @return the maximum number of elements allowed in the stack
+     */
+    public int maxSize() {
+        return maxSize;
+    }
+
+    /**
+     * Returns whether the stack is empty or not
+     *
+     * @return {@code true} if the stack is empty
+     */
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * Returns whether the stack is full or not
+     *
+     * @return {@code true} if the stack is full
+     */
+    public boolean isFull() {
+        return size == maxSize;
+    }
+
+    /**
+     * Pushes an element on to the stack
+     *
+     * @param element the element to push on to the stack
+     * @return {@code true} if the element was added successfully
+     *         {@code false} if the stack is full and the element can't be added
+     * @throws NullPointerException if the element is null
+     */
+    public boolean push(T element) {
+        if (element == null) throw new NullPointerException();
+        if (isFull()) return false;
+        growIfFull();
+        elements[size++] = element;
+        return true;
+    }
+
+    /**
+     * Removes the element on top of the stack
+     *
+     * @return the element on top of the stack
+     *         or {@code null} if the stack is empty
+     */
+    @SuppressWarnings("unchecked")
+    public T pop() {
+        if (size == 0) return null;
+        T element = (T) elements[--size];
+        elements[size] = null;
+        shrinkIfSparse();
+        return element;
+    }
+
+    /**
+     * Gets the element on top of the stack
+     *
+     * @return the element on top of the stack
+     *         or {@code null} if the stack is empty
+     */
+    @SuppressWarnings("unchecked")
+    public T top() {
+        return size > 0 ? (T) elements[size - 1] : null;
+    }
+}
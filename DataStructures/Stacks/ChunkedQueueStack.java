@@ -0,0 +1,138 @@
+package Stacks;
+
+import Queues.Queue;
+
+/**
+ * Stack implemented using Queues whose push takes O(1) time.
+ * <p>
+ * {@link QueueStack} keeps every element in one queue, so each push rotates
+ * the whole stack. This stack splits its elements into a chain of queues of
+ * at most {@code chunkSize} elements, each with its top at the front. A push
+ * only rotates the newest queue, or starts a new one once it is full, so it
+ * costs at most {@code chunkSize} rotations however large the stack grows,
+ * and a pop dequeues from the newest queue, falling back to the next one
+ * when it runs out. The queues recycle the node a rotation dequeues, so
+ * rotating allocates nothing.
+ *
+ * @author Jordan Owens
+ * @param <T> the type of elements in the stack
+ */
+public class ChunkedQueueStack<T> {
+    /** Chunk size used when none is given */
+    public static final int DEFAULT_CHUNK_SIZE = 16;
+
+    /** Queue of consecutive elements linked to the queue holding the ones below */
+    private static class Chunk<T> {
+        /** Elements of the chunk, the topmost at the front */
+        final Queue<T> queue;
+        /** Chunk holding the elements below this one */
+        Chunk<T> next;
+
+        /**
+         * Constructs an empty chunk
+         *
+         * @param chunkSize the maximum number of elements in the chunk
+         */
+        Chunk(int chunkSize) {
+            this.queue = new Queue<>(chunkSize, 1);
+        }
+    }
+
+    /** Chunk holding the top of the stack */
+    private Chunk<T> top;
+    /** Emptied chunk kept for reuse, so pushes and pops around a chunk boundary don't allocate */
+    private Chunk<T> spare;
+    /** Size of the stack */
+    private int size;
+    /** Maximum number of elements in each chunk */
+    private final int chunkSize;
+
+    /** Constructs an empty stack with the default chunk size */
+    public ChunkedQueueStack() {
+        this(DEFAULT_CHUNK_SIZE);
+    }
+
+    /**
+     * Constructs an empty stack
+     *
+     * @param chunkSize the maximum number of elements in each queue,
+     *                  which bounds the rotations per push
+     * @throws IllegalArgumentException if chunkSize is not at least 1
+     */
+    public ChunkedQueueStack(int chunkSize) {
+        if (chunkSize < 1) {
+            throw new IllegalArgumentException("Chunk size must be >= 1");
+        }
+        this.chunkSize = chunkSize;
+        this.top = this.spare = null;
+        this.size = 0;
+    }
+
+    /**
+     * Gets the size of the stack
+     *
+     * @return the number of elements in the stack
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Returns whether the stack is empty or not
+     *
+     * @return {@code true} if the stack is empty
+     */
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * Pushes an element on to the stack
+     *
+     * @param element the element to push on to the stack
+     * @throws NullPointerException if the element is null
+     */
+    public void push(T element) {
+        if (element == null) throw new NullPointerException();
+        if (top == null || top.queue.isFull()) {
+            Chunk<T> chunk = spare != null ? spare : new Chunk<>(chunkSize);
+            spare = null;
+            chunk.next = top;
+            top = chunk;
+        }
+        Queue<T> queue = top.queue;
+        queue.enqueue(element);
+        for (int n = queue.size(); n > 1; n--) {
+            queue.enqueue(queue.dequeue());
+        }
+        size++;
+    }
+
+    /**
+     * Removes the element on top of the stack
+     *
+     * @return the element on top of the stack
+     *         or {@code null} if the stack is empty
+     */
+    public T pop() {
+        if (top == null) return null;
+        T element = top.queue.dequeue();
+        if (top.queue.isEmpty()) {
+            spare = top;
+            top = top.next;
+            spare.next = null;
+        }
+        size--;
+        return element;
+    }
+
+    /**
+     * Gets the element on top of the stack
+     *
+     * @return the element on top of the stack
+     *         or {@code null} if the stack is empty
+     */
+    public T top() {
+        return top == null ? null : top.queue.peek();
+    }
+}
@@ -0,0 +1,269 @@
+package Stacks;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicIntegerFieldUpdater;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.atomic.AtomicReferenceFieldUpdater;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Lock-free stack that can be shared between threads without locking.
+ * <p>
+ * Implements R. Kent Treiber's stack: pushing and popping swap the top node
+ * with a single compare-and-set, and a thread whose compare-and-set fails
+ * simply retries. Since popped nodes are never reused, a node can't
+ * reappear at the top while another thread holds a reference to it.
+ * <p>
+ * Under contention every thread fights over the top node, so a thread
+ * whose compare-and-set fails backs off into an elimination array instead
+ * (Hendler, Shavit and Yerushalmi, "A Scalable Lock-free Stack Algorithm",
+ * 2004). A pusher leaves its node in a random slot for a moment and a popper
+ * looks for one in a random slot; when they meet, the pop returns the
+ * pushed element and neither touches the top node. The pair is equivalent
+ * to a push immediately followed by a pop. The number of slots in use
+ * adapts to the contention: it grows when pushers collide over a slot and
+ * shrinks when a thread waits in a slot without meeting a partner.
+ * <p>
+ * A stack constructed with a size restriction also counts its elements
+ * with an atomic counter. Without one, {@link #size()} walks the stack.
+ * Either way the size is only an estimate while other threads are
+ * pushing and popping.
+ *
+ * @author Jordan Owens
+ * @param <T> the type of elements in the stack
+ */
+public class ConcurrentStack<T> {
+    /** Implementation of the nodes that make up the stack */
+    private static class Node<T> {
+        /** Element the node stores */
+        final T element;
+        /** Reference to the next node in the stack, set before the node is published */
+        Node<T> next;
+
+        /**
+         * Constructs a node storing an element
+         *
+         * @param element the element to be stored in the node
+         */
+        Node(T element) {
+            this.element = element;
+        }
+    }
+
+    @SuppressWarnings("rawtypes")
+    private static final AtomicReferenceFieldUpdater<ConcurrentStack, Node> TOP =
+            AtomicReferenceFieldUpdater.newUpdater(ConcurrentStack.class, Node.class, "top");
+    @SuppressWarnings("rawtypes")
+    private static final AtomicIntegerFieldUpdater<ConcurrentStack> SIZE =
+            AtomicIntegerFieldUpdater.newUpdater(ConcurrentStack.class, "size");
+
+    /** Distance between used slots of the elimination array, so each gets its own cache line */
+    private static final int STRIDE = 16;
+    /** Number of times a thread checks its slot before giving up on elimination */
+    private static final int SPINS = 128;
+
+    /** Top of the stack */
+    private volatile Node<T> top;
+    /** Size of the stack, only counted when the size is restricted */
+    private volatile int size;
+    /** Maximum size of the stack */
+    private final int maxSize;
+    /** Slots where pushed nodes wait to be taken by pops */
+    private final AtomicReferenceArray<Node<T>> slots;
+    /** Maximum number of slots in use */
+    private final int capacity;
+    /** Number of slots in use, adjusted racily by backing off threads */
+    private volatile int width;
+    /** Number of pushes eliminated by a pop */
+    private final LongAdder eliminations;
+
+    /** Constructs an empty stack with no size restriction */
+    public ConcurrentStack() {
+        this.maxSize = Integer.MAX_VALUE;
+        this.capacity = Math.max(1, Runtime.getRuntime().availableProcessors() / 2);
+        this.slots = new AtomicReferenceArray<>(capacity * STRIDE);
+        this.width = 1;
+        this.eliminations = new LongAdder();
+    }
+
+    /**
+     * Constructs an empty stack with a size restriction
+     *
+     * @param maxSize the maximum size of the stack
+     * @throws IllegalArgumentException if maxSize is not at least 1
+     */
+    public ConcurrentStack(int maxSize) {
+        if (maxSize < 1) {
+            throw new IllegalArgumentException("Maximum size must be >= 1");
+        }
+        this.maxSize = maxSize;
+        this.capacity = Math.max(1, Runtime.getRuntime().availableProcessors() / 2);
+        this.slots = new AtomicReferenceArray<>(capacity * STRIDE);
+        this.width = 1;
+        this.eliminations = new LongAdder();
+    }
+
+    /**
+     * Returns whether the stack counts its elements
+     *
+     * @return {@code true} if the stack has a size restriction
+     */
+    private boolean bounded() {
+        return maxSize != Integer.MAX_VALUE;
+    }
+
+    /**
+     * Gets the size of the stack.
+     * Takes linear time for a stack without a size restriction.
+     *
+     * @return the number of elements in the stack
+     */
+    public int size() {
+        if (bounded()) return Math.min(size, maxSize);
+        int count = 0;
+        for (Node<T> node = top; node != null; node = node.next) {
+            count++;
+        }
+        return count;
+    }
+
+    /**
+     * Gets the maximum size of the stack
+     *
+     * @return the maximum number of elements allowed in the stack
+     */
+    public int maxSize() {
+        return maxSize;
+    }
+
+    /**
+     * Returns whether the stack is empty or not
+     *
+     * @return {@code true} if the stack is empty
+     */
+    public boolean isEmpty() {
+        return top == null;
+    }
+
+    /**
+     * Returns whether the stack is full or not
+     *
+     * @return {@code true} if the stack is full
+     */
+    public boolean isFull() {
+        return bounded() && size >= maxSize;
+    }
+
+    /**
+     * Gets the number of pushes that were eliminated by a pop
+     * without touching the top of the stack
+     *
+     * @return the number of eliminated pairs
+     */
+    public long eliminations() {
+        return eliminations.sum();
+    }
+
+    /**
+     * Pushes an element on to the stack
+     *
+     * @param element the element to push on to the stack
+     * @return {@code true} if the element was added successfully
+     *         {@code false} if the stack is full and the element can't be added
+     * @throws NullPointerException if the element is null
+     */
+    public boolean push(T element) {
+        if (element == null) throw new NullPointerException();
+        if (bounded()) {
+            int current;
+            do {
+                current = size;
+                if (current >= maxSize) return false;
+            } while (!SIZE.compareAndSet(this, current, current + 1));
+        }
+        Node<T> node = new Node<>(element);
+        for (;;) {
+            Node<T> current = top;
+            node.next = current;
+            if (TOP.compareAndSet(this, current, node)) return true;
+            if (eliminatePush(node)) return true;
+        }
+    }
+
+    /**
+     * Removes the element on top of the stack
+     *
+     * @return the element on top of the stack
+     *         or {@code null} if the stack is empty
+     */
+    public T pop() {
+        for (;;) {
+            Node<T> current = top;
+            if (current == null) return null;
+            Node<T> popped = TOP.compareAndSet(this, current, current.next) ? current : eliminatePop();
+            if (popped != null) {
+                if (bounded()) SIZE.decrementAndGet(this);
+                return popped.element;
+            }
+        }
+    }
+
+    /**
+     * Gets the element on top of the stack
+     *
+     * @return the element on top of the stack
+     *         or {@code null} if the stack is empty
+     */
+    public T top() {
+        Node<T> current = top;
+        return current != null ? current.element : null;
+    }
+
+    /**
+     * Offers a node in a random slot of the elimination array
+     * and waits briefly for a pop to take it
+     *
+     * @param node the node being pushed
+     * @return {@code true} if a pop took the node
+     *         {@code false} if the push has to retry at the top of the stack
+     */
+    private boolean eliminatePush(Node<T> node) {
+        int used = width;
+        int index = ThreadLocalRandom.current().nextInt(used) * STRIDE;
+        if (!slots.compareAndSet(index, null, node)) {
+            // Another pusher holds the slot, so spread out over more slots
+            if (used < capacity) width = used + 1;
+            return false;
+        }
+        for (int i = 0; i < SPINS; i++) {
+            if (slots.get(index) != node) return true;
+        }
+        if (slots.compareAndSet(index, node, null)) {
+            // Nobody came, so gather into fewer slots
+            if (used > 1) width = used - 1;
+            return false;
+        }
+        return true;
+    }
+
+    /**
+     * Waits briefly for a push to offer a node in a random slot
+     * of the elimination array and takes it
+     *
+     * @return the node taken from a push
+     *         or {@code null} if the pop has to retry at the top of the stack
+     */
+    private Node<T> eliminatePop() {
+        int used = width;
+        int index = ThreadLocalRandom.current().nextInt(used) * STRIDE;
+        for (int i = 0; i < SPINS; i++) {
+            Node<T> node = slots.get(index);
+            if (node != null && slots.compareAndSet(index, node, null)) {
+                eliminations.increment();
+                return node;
+            }
+        }
+        if (used > 1) width = used - 1;
+        return null;
+    }
+}
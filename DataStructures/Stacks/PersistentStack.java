@@ -0,0 +1,143 @@
+package Stacks;
+
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+/**
+ * Immutable stack whose versions share structure.
+ * <p>
+ * Each version is a cons cell holding its top element and a reference to
+ * the version below it, like the nodes of {@link Stack}. Pushing returns a
+ * new version on top of the old one and popping returns the version below,
+ * so both take O(1) time and space and the old version stays valid.
+ * Keeping a version to return to later, as an undo history or a
+ * backtracking search does, costs nothing: {@link #snapshot()} just
+ * returns the version itself instead of copying its elements.
+ * <p>
+ * Every field is final, so a version can be read from any thread
+ * without synchronization once it has been shared.
+ *
+ * @author Jordan Owens
+ * @param <T> the type of elements in the stack
+ */
+public final class PersistentStack<T> implements Iterable<T> {
+    /** Version with no elements, shared by every element type */
+    private static final PersistentStack<Object> EMPTY = new PersistentStack<>(null, null, 0);
+
+    /** Element on top of the stack */
+    private final T top;
+    /** Version of the stack below the top element */
+    private final PersistentStack<T> rest;
+    /** Size of the stack */
+    private final int size;
+
+    /**
+     * Constructs a version of the stack
+     *
+     * @param top the element on top of the stack
+     * @param rest the version below the top element
+     * @param size the number of elements in the stack
+     */
+    private PersistentStack(T top, PersistentStack<T> rest, int size) {
+        this.top = top;
+        this.rest = rest;
+        this.size = size;
+    }
+
+    /**
+     * Gets the empty stack
+     *
+     * @param <T> the type of elements in the stack
+     * @return a stack with no elements
+     */
+    @SuppressWarnings("unchecked")
+    public static <T> PersistentStack<T> empty() {
+        return (PersistentStack<T>) EMPTY;
+    }
+
+    /**
+     * Gets the size of the stack
+     *
+     * @return the number of elements in the stack
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Returns whether the stack is empty or not
+     *
+     * @return {@code true} if the stack is empty
+     */
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * Creates a version with an element pushed on to this one
+     *
+     * @param element the element to push on to the stack
+     * @return a stack with the element on top of this stack's elements
+     * @throws NullPointerException if the element is null
+     */
+    public PersistentStack<T> push(T element) {
+        if (element == null) throw new NullPointerException();
+        return new PersistentStack<>(element, this, size + 1);
+    }
+
+    /**
+     * Gets the version with the top element removed
+     *
+     * @return the stack below the element on top of this stack
+     *         or {@code null} if the stack is empty
+     */
+    public PersistentStack<T> pop() {
+        return rest;
+    }
+
+    /**
+     * Gets the element on top of the stack
+     *
+     * @return the element on top of the stack
+     *         or {@code null} if the stack is empty
+     */
+    public T top() {
+        return top;
+    }
+
+    /**
+     * Gets a version that will keep its elements whatever is pushed or
+     * popped afterwards. Since versions never change, this is the version
+     * itself and takes O(1) time.
+     *
+     * @return this stack
+     */
+    public PersistentStack<T> snapshot() {
+        return this;
+    }
+
+    /**
+     * Gets an iterator over the elements from the top of the stack down
+     *
+     * @return an iterator over the elements of the stack
+     */
+    @Override
+    public Iterator<T> iterator() {
+        return new Iterator<T>() {
+            private PersistentStack<T> next = PersistentStack.this;
+
+            @Override
+            public boolean hasNext() {
+                return next.size > 0;
+            }
+
+            @Override
+            public T next() {
+                if (next.size == 0) throw new NoSuchElementException();
+                T element = next.top;
+                next = next.rest;
+                return element;
+            }
+        };
+    }
+}
@@ -4,6 +4,11 @@ import Queues.Queue;
 
 /**
  * Stack implemented using a Queue
+ * <p>
+ * The top of the stack is kept at the front of the queue, so each push
+ * rotates every element behind the new one and takes O(n) time.
+ * {@link #pushAll(Object[])} rotates the queue once for a whole array of
+ * elements. {@link ChunkedQueueStack} pushes in O(1) time.
  *
  * @author Jordan Owens
  * @param <T> the type of elements in the stack
@@ -48,6 +53,28 @@ public class QueueStack<T> {
         }
     }
 
+    /**
+     * Pushes an array of elements on to the stack in order, so the last
+     * element ends up on top, rotating the queue once rather than once
+     * per element
+     *
+     * @param elements the elements to push on to the stack
+     * @throws NullPointerException if any element is null,
+     *         in which case no element is pushed
+     */
+    public void pushAll(T[] elements) {
+        for (T element : elements) {
+            if (element == null) throw new NullPointerException();
+        }
+        int size = queue.size();
+        for (int i = elements.length - 1; i >= 0; i--) {
+            queue.enqueue(elements[i]);
+        }
+        for (; size > 0; size--) {
+            queue.enqueue(queue.dequeue());
+        }
+    }
+
     /**
      * Removes the element on top of the stack
      *
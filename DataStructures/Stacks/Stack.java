@@ -8,6 +8,11 @@ package Stacks;
  * they were pushed on to the stack.
  * The top of the stack is most recent element pushed on to the stack
  * and is the first element to be popped off of the stack.
+ * <p>
+ * A stack constructed with a pool size recycles its nodes: popped nodes
+ * are cleared and kept on a bounded free list, and pushes reuse them before
+ * allocating new ones, so a stack whose size stays within the pool
+ * allocates nothing.
  *
  * @author Jordan Owens
  * @param <T> the type of elements in the stack
@@ -38,12 +43,23 @@ public class Stack<T> {
     private int size;
     /** Maximum size of the stack */
     private int maxSize;
+    /** First node on the free list of recycled nodes */
+    private Node<T> free;
+    /** Number of nodes on the free list */
+    private int freeSize;
+    /** Maximum number of nodes on the free list, 0 if nodes aren't recycled */
+    private final int poolSize;
+    /** Number of pushes that reused a recycled node */
+    private long poolHits;
+    /** Number of pushes that allocated a node while recycling */
+    private long poolMisses;
 
     /** Constructs an empty stack with no size restriction */
     public Stack() {
         this.top = null;
         this.size = 0;
         this.maxSize = Integer.MAX_VALUE;
+        this.poolSize = 0;
     }
 
     /**
@@ -59,6 +75,66 @@ public class Stack<T> {
         this.top = null;
         this.size = 0;
         this.maxSize = maxSize;
+        this.poolSize = 0;
+    }
+
+    /**
+     * Constructs an empty stack with a size restriction
+     * that recycles its nodes
+     *
+     * @param maxSize the maximum size of the stack
+     * @param poolSize the maximum number of popped nodes kept for reuse
+     * @throws IllegalArgumentException if maxSize is not at least 1
+     *                                  or poolSize is negative
+     */
+    public Stack(int maxSize, int poolSize) {
+        if (maxSize < 1) {
+            throw new IllegalArgumentException("Maximum size must be >= 1");
+        }
+        if (poolSize < 0) {
+            throw new IllegalArgumentException("Pool size must be >= 0");
+        }
+        this.top = null;
+        this.size = 0;
+        this.maxSize = maxSize;
+        this.poolSize = poolSize;
+    }
+
+    /**
+     * Gets a node from the free list, or allocates one if it is empty
+     *
+     * @param element the element to be stored in the node
+     * @param next the next node in the stack to refer to
+     * @return a node storing the element
+     */
+    private Node<T> node(T element, Node<T> next) {
+        Node<T> node = free;
+        if (node == null) {
+            if (poolSize > 0) poolMisses++;
+            return new Node<>(element, next);
+        }
+        free = node.next;
+        freeSize--;
+        poolHits++;
+        node.element = element;
+        node.next = next;
+        return node;
+    }
+
+    /**
+     * Clears a removed node and puts it on the free list if there is room
+     *
+     * @param node the node removed from the stack
+     */
+    private void recycle(Node<T> node) {
+        node.element = null;
+        if (freeSize < poolSize) {
+            node.next = free;
+            free = node;
+            freeSize++;
+        } else {
+            node.next = null;
+        }
     }
 
     /**
@@ -108,7 +184,7 @@ public class Stack<T> {
     public boolean push(T element) {
         if (element == null) throw new NullPointerException();
         if (isFull()) return false;
-        top = new Node<>(element, top);
+        top = node(element, top);
         size++;
         return true;
     }
@@ -121,10 +197,12 @@ public class Stack<T> {
      */
     public T pop() {
         if (top == null) return null;
-        T popped = top.element;
-        top = top.next;
+        Node<T> popped = top;
+        T element = popped.element;
+        top = popped.next;
         size--;
-        return popped;
+        if (poolSize > 0) recycle(popped);
+        return element;
     }
 
     /**
@@ -136,4 +214,23 @@ public class Stack<T> {
     public T top() {
         return top != null ? top.element : null;
     }
+
+    /**
+     * Gets the number of pushes that reused a recycled node
+     *
+     * @return the number of free list hits
+     */
+    public long poolHits() {
+        return poolHits;
+    }
+
+    /**
+     * Gets the number of pushes that had to allocate a node
+     * while recycling nodes
+     *
+     * @return the number of free list misses
+     */
+    public long poolMisses() {
+        return poolMisses;
+    }
 }
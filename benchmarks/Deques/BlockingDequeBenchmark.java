@@ -0,0 +1,98 @@
+package Deques;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.LinkedBlockingDeque;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the round-trip handoff latency of {@link BlockingDeque}
+ * and {@link LinkedBlockingDeque}. The benchmark thread puts a message in
+ * one deque and takes the reply from another, while an echo thread takes
+ * each message and puts it back.
+ * <p>
+ * The echo thread is a platform thread or, on Java 21 and later,
+ * a virtual thread. Virtual thread trials fail on older Java versions.
+ *
+ * @author Jordan Owens
+ */
+@BenchmarkMode(Mode.SampleTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class BlockingDequeBenchmark {
+    @Param({"platform", "virtual"})
+    String echoThread;
+
+    BlockingDeque<Integer> requests, replies;
+    LinkedBlockingDeque<Integer> linkedRequests, linkedReplies;
+    Thread echo, linkedEcho;
+    Integer message = 42;
+
+    /**
+     * Creates threads of the kind being benchmarked
+     *
+     * @return a thread factory
+     */
+    private ThreadFactory threadFactory() throws ReflectiveOperationException {
+        if (echoThread.equals("platform")) {
+            return runnable -> {
+                Thread thread = new Thread(runnable);
+                thread.setDaemon(true);
+                return thread;
+            };
+        }
+        // Thread.ofVirtual().factory(), looked up reflectively to compile on Java 8
+        Object builder = Thread.class.getMethod("ofVirtual").invoke(null);
+        Class<?> builderClass = Class.forName("java.lang.Thread$Builder");
+        return (ThreadFactory) builderClass.getMethod("factory").invoke(builder);
+    }
+
+    @Setup(Level.Trial)
+    public void start() throws ReflectiveOperationException {
+        requests = new BlockingDeque<>(16);
+        replies = new BlockingDeque<>(16);
+        linkedRequests = new LinkedBlockingDeque<>(16);
+        linkedReplies = new LinkedBlockingDeque<>(16);
+        ThreadFactory factory = threadFactory();
+        echo = factory.newThread(() -> {
+            try {
+                for (;;) replies.putLast(requests.takeFirst());
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        });
+        linkedEcho = factory.newThread(() -> {
+            try {
+                for (;;) linkedReplies.putLast(linkedRequests.takeFirst());
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        });
+        echo.start();
+        linkedEcho.start();
+    }
+
+    @TearDown(Level.Trial)
+    public void stop() throws InterruptedException {
+        echo.interrupt();
+        linkedEcho.interrupt();
+        echo.join();
+        linkedEcho.join();
+    }
+
+    @Benchmark
+    public Integer blockingDeque() throws InterruptedException {
+        requests.putLast(message);
+        return replies.takeFirst();
+    }
+
+    @Benchmark
+    public Integer linkedBlockingDeque() throws InterruptedException {
+        linkedRequests.putLast(message);
+        return linkedReplies.takeFirst();
+    }
+}
@@ -0,0 +1,64 @@
+package Deques;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.ConcurrentLinkedDeque;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares {@link ConcurrentDeque} with a {@link Deque} guarded by
+ * {@code synchronized} and with {@link ConcurrentLinkedDeque}.
+ * All threads share one deque; each operation is an insertion at one end
+ * paired with a removal from the other.
+ * <p>
+ * Sweep thread counts with {@code -Pjmh.threads=1,2,4,8,16,32,64}.
+ *
+ * @author Jordan Owens
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ConcurrentDequeBenchmark {
+    @Param({"0", "1000"})
+    int size;
+
+    ConcurrentDeque<Integer> concurrentDeque;
+    Deque<Integer> synchronizedDeque;
+    ConcurrentLinkedDeque<Integer> concurrentLinkedDeque;
+    Integer element = 42;
+
+    @Setup(Level.Trial)
+    public void fill() {
+        concurrentDeque = new ConcurrentDeque<>();
+        synchronizedDeque = new Deque<>();
+        concurrentLinkedDeque = new ConcurrentLinkedDeque<>();
+        for (int i = 0; i < size; i++) {
+            concurrentDeque.enqueueBack(i);
+            synchronizedDeque.enqueueBack(i);
+            concurrentLinkedDeque.offerLast(i);
+        }
+    }
+
+    @Benchmark
+    public Integer concurrentDeque() {
+        concurrentDeque.enqueueBack(element);
+        return concurrentDeque.dequeueFront();
+    }
+
+    @Benchmark
+    public Integer synchronizedDeque() {
+        synchronized (synchronizedDeque) {
+            synchronizedDeque.enqueueBack(element);
+            return synchronizedDeque.dequeueFront();
+        }
+    }
+
+    @Benchmark
+    public Integer concurrentLinkedDeque() {
+        concurrentLinkedDeque.offerLast(element);
+        return concurrentLinkedDeque.pollFirst();
+    }
+}
@@ -0,0 +1,177 @@
+package Deques;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.util.ArrayDeque;
+import java.util.Arrays;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares {@link Deque}, {@link CircularDeque} and {@link UnrolledDeque}
+ * with {@link ArrayDeque} and {@link LinkedList}.
+ * Each benchmark holds the deque at {@code size} elements and measures
+ * one insertion paired with one removal, or a scan for an absent element.
+ * The bulk benchmarks load {@code size} elements into an empty deque,
+ * and the sum benchmarks stream the deque sequentially and in parallel.
+ *
+ * @author Jordan Owens
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class DequeBenchmark {
+    @Param({"100", "1000", "10000", "100000", "1000000", "10000000"})
+    int size;
+
+    Deque<Integer> deque;
+    CircularDeque<Integer> circularDeque;
+    UnrolledDeque<Integer> unrolledDeque;
+    ArrayDeque<Integer> arrayDeque;
+    LinkedList<Integer> linkedList;
+    Integer element = 42;
+    Integer absent = -1;
+    Integer[] elements;
+    List<Integer> elementList;
+
+    @Setup(Level.Trial)
+    public void fill() {
+        deque = new Deque<>();
+        circularDeque = new CircularDeque<>();
+        unrolledDeque = new UnrolledDeque<>();
+        arrayDeque = new ArrayDeque<>();
+        linkedList = new LinkedList<>();
+        elements = new Integer[size];
+        for (int i = 0; i < size; i++) {
+            elements[i] = i;
+        }
+        elementList = Arrays.asList(elements);
+        for (int i = 0; i < size; i++) {
+            deque.enqueueBack(i);
+            circularDeque.enqueueBack(i);
+            unrolledDeque.enqueueBack(i);
+            arrayDeque.addLast(i);
+            linkedList.addLast(i);
+        }
+    }
+
+    @Benchmark
+    public Integer dequeQueue() {
+        deque.enqueueBack(element);
+        return deque.dequeueFront();
+    }
+
+    @Benchmark
+    public Integer dequeStack() {
+        deque.push(element);
+        return deque.pop();
+    }
+
+    @Benchmark
+    public Integer circularDequeQueue() {
+        circularDeque.enqueueBack(element);
+        return circularDeque.dequeueFront();
+    }
+
+    @Benchmark
+    public Integer circularDequeStack() {
+        circularDeque.push(element);
+        return circularDeque.pop();
+    }
+
+    @Benchmark
+    public Integer unrolledDequeQueue() {
+        unrolledDeque.enqueueBack(element);
+        return unrolledDeque.dequeueFront();
+    }
+
+    @Benchmark
+    public Integer unrolledDequeStack() {
+        unrolledDeque.push(element);
+        return unrolledDeque.pop();
+    }
+
+    @Benchmark
+    public Integer arrayDequeQueue() {
+        arrayDeque.addLast(element);
+        return arrayDeque.pollFirst();
+    }
+
+    @Benchmark
+    public Integer arrayDequeStack() {
+        arrayDeque.push(element);
+        return arrayDeque.pop();
+    }
+
+    @Benchmark
+    public Integer linkedListQueue() {
+        linkedList.addLast(element);
+        return linkedList.pollFirst();
+    }
+
+    @Benchmark
+    public Integer linkedListStack() {
+        linkedList.push(element);
+        return linkedList.pop();
+    }
+
+    @Benchmark
+    public boolean dequeContains() {
+        return deque.contains(absent);
+    }
+
+    @Benchmark
+    public boolean circularDequeContains() {
+        return circularDeque.contains(absent);
+    }
+
+    @Benchmark
+    public boolean unrolledDequeContains() {
+        return unrolledDeque.contains(absent);
+    }
+
+    @Benchmark
+    public boolean arrayDequeContains() {
+        return arrayDeque.contains(absent);
+    }
+
+    @Benchmark
+    public Deque<Integer> dequeLoadOneByOne() {
+        Deque<Integer> loaded = new Deque<>();
+        for (Integer element : elements) {
+            loaded.enqueueBack(element);
+        }
+        return loaded;
+    }
+
+    @Benchmark
+    public Deque<Integer> dequeLoadBulk() {
+        Deque<Integer> loaded = new Deque<>();
+        loaded.addAllLast(elements);
+        return loaded;
+    }
+
+    @Benchmark
+    public ArrayDeque<Integer> arrayDequeLoadBulk() {
+        return new ArrayDeque<>(elementList);
+    }
+
+    @Benchmark
+    public long dequeSum() {
+        return deque.stream().mapToLong(Integer::longValue).sum();
+    }
+
+    @Benchmark
+    public long dequeParallelSum() {
+        return deque.stream().parallel().mapToLong(Integer::longValue).sum();
+    }
+
+    @Benchmark
+    public long arrayDequeParallelSum() {
+        return arrayDeque.stream().parallel().mapToLong(Integer::longValue).sum();
+    }
+}
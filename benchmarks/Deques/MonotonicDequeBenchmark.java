@@ -0,0 +1,68 @@
+package Deques;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares {@link LongMonotonicDeque} with rescanning a circular buffer
+ * of the last {@code window} samples. Each operation pushes a sample,
+ * evicts the sample that left the window and reads the maximum and minimum.
+ *
+ * @author Jordan Owens
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class MonotonicDequeBenchmark {
+    /** Number of samples generated before they are reused */
+    private static final int SAMPLES = 1 << 16;
+
+    @Param({"16", "1024", "65536"})
+    int window;
+
+    long[] samples;
+    int next;
+    LongMonotonicDeque monotonicDeque;
+    long[] buffer;
+    long pushed;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        Random random = new Random(0);
+        samples = new long[SAMPLES];
+        for (int i = 0; i < SAMPLES; i++) {
+            samples[i] = random.nextInt(1_000_000);
+        }
+        monotonicDeque = new LongMonotonicDeque();
+        buffer = new long[window];
+        pushed = 0;
+    }
+
+    private long sample() {
+        return samples[next++ & (SAMPLES - 1)];
+    }
+
+    @Benchmark
+    public long monotonicDeque() {
+        long index = monotonicDeque.pushBack(sample());
+        monotonicDeque.evictOlderThan(index - window + 1);
+        return monotonicDeque.windowMax() - monotonicDeque.windowMin();
+    }
+
+    @Benchmark
+    public long rescan() {
+        buffer[(int) (pushed++ % window)] = sample();
+        int filled = (int) Math.min(pushed, window);
+        long max = Long.MIN_VALUE, min = Long.MAX_VALUE;
+        for (int i = 0; i < filled; i++) {
+            max = Math.max(max, buffer[i]);
+            min = Math.min(min, buffer[i]);
+        }
+        return max - min;
+    }
+}
@@ -0,0 +1,72 @@
+package Deques;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.util.ArrayDeque;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares {@link LongDeque} with {@link Deque} and {@link ArrayDeque}
+ * holding boxed {@code Long}s. Each benchmark holds the deque at
+ * {@code size} elements and pushes a new sequence number before popping,
+ * so the boxed deques pay for boxing as well as their nodes or slots.
+ * Run with {@code -prof gc} to compare allocation rates.
+ *
+ * @author Jordan Owens
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class PrimitiveDequeBenchmark {
+    @Param({"100", "10000", "1000000"})
+    int size;
+
+    LongDeque longDeque;
+    Deque<Long> deque;
+    ArrayDeque<Long> arrayDeque;
+    long sequence;
+
+    @Setup(Level.Trial)
+    public void fill() {
+        longDeque = new LongDeque();
+        deque = new Deque<>();
+        arrayDeque = new ArrayDeque<>();
+        for (long i = 0; i < size; i++) {
+            longDeque.enqueueBack(i);
+            deque.enqueueBack(i);
+            arrayDeque.addLast(i);
+        }
+        sequence = Integer.MAX_VALUE;
+    }
+
+    @Benchmark
+    public long longDeque() {
+        longDeque.enqueueBack(sequence++);
+        return longDeque.dequeueFront();
+    }
+
+    @Benchmark
+    public Long deque() {
+        deque.enqueueBack(sequence++);
+        return deque.dequeueFront();
+    }
+
+    @Benchmark
+    public Long arrayDeque() {
+        arrayDeque.addLast(sequence++);
+        return arrayDeque.pollFirst();
+    }
+
+    @Benchmark
+    public boolean longDequeContains() {
+        return longDeque.contains(-1);
+    }
+
+    @Benchmark
+    public boolean dequeContains() {
+        return deque.contains(-1L);
+    }
+}
@@ -0,0 +1,69 @@
+package Deques;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures sustained queue throughput of {@link SpillingDeque} while it holds
+ * a backlog much larger than the heap would allow for boxed elements.
+ * Each operation adds an element at the back and removes one at the front,
+ * so segments are continually written, read back and deleted.
+ * The benchmark JVM runs with a 256 MB heap.
+ *
+ * @author Jordan Owens
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = "-Xmx256m")
+@State(Scope.Thread)
+public class SpillingDequeBenchmark {
+    static final Serializer<Long> LONGS = new Serializer<Long>() {
+        @Override
+        public byte[] toBytes(Long element) {
+            return ByteBuffer.allocate(Long.BYTES).putLong(element).array();
+        }
+
+        @Override
+        public Long fromBytes(byte[] bytes) {
+            return ByteBuffer.wrap(bytes).getLong();
+        }
+    };
+
+    @Param({"1000000", "10000000"})
+    int backlog;
+
+    @Param({"4096", "65536"})
+    int threshold;
+
+    Path directory;
+    SpillingDeque<Long> deque;
+    long next;
+
+    @Setup(Level.Trial)
+    public void fill() throws IOException {
+        directory = Files.createTempDirectory("spilling-deque");
+        deque = new SpillingDeque<>(directory, LONGS, threshold);
+        for (next = 0; next < backlog; next++) {
+            deque.enqueueBack(next);
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void delete() throws IOException {
+        deque.close();
+        Files.deleteIfExists(directory);
+    }
+
+    @Benchmark
+    public Long queue() {
+        deque.enqueueBack(next++);
+        return deque.dequeueFront();
+    }
+}
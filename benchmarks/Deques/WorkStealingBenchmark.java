@@ -0,0 +1,92 @@
+package Deques;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares {@link WorkStealingPool} with {@link ForkJoinPool}
+ * on a recursive Fibonacci computation that forks one task per call
+ * until the problem is smaller than {@code threshold}.
+ *
+ * @author Jordan Owens
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class WorkStealingBenchmark {
+    @Param({"30"})
+    int n;
+
+    @Param({"5", "10", "15"})
+    int threshold;
+
+    WorkStealingPool workStealingPool;
+    ForkJoinPool forkJoinPool;
+
+    @Setup(Level.Trial)
+    public void start() {
+        int parallelism = Runtime.getRuntime().availableProcessors();
+        workStealingPool = new WorkStealingPool(parallelism);
+        forkJoinPool = new ForkJoinPool(parallelism);
+    }
+
+    @TearDown(Level.Trial)
+    public void stop() {
+        workStealingPool.shutdown();
+        forkJoinPool.shutdown();
+    }
+
+    static long fibonacci(int n) {
+        return n < 2 ? n : fibonacci(n - 1) + fibonacci(n - 2);
+    }
+
+    class Fibonacci extends WorkStealingPool.Task<Long> {
+        final int n;
+
+        Fibonacci(int n) {
+            this.n = n;
+        }
+
+        @Override
+        protected Long compute() {
+            if (n < threshold) return fibonacci(n);
+            Fibonacci first = new Fibonacci(n - 1);
+            first.fork();
+            return new Fibonacci(n - 2).compute() + first.join();
+        }
+    }
+
+    class ForkJoinFibonacci extends RecursiveTask<Long> {
+        private static final long serialVersionUID = 1L;
+
+        final int n;
+
+        ForkJoinFibonacci(int n) {
+            this.n = n;
+        }
+
+        @Override
+        protected Long compute() {
+            if (n < threshold) return fibonacci(n);
+            ForkJoinFibonacci first = new ForkJoinFibonacci(n - 1);
+            first.fork();
+            return new ForkJoinFibonacci(n - 2).compute() + first.join();
+        }
+    }
+
+    @Benchmark
+    public long workStealingPool() {
+        return workStealingPool.invoke(new Fibonacci(n));
+    }
+
+    @Benchmark
+    public long forkJoinPool() {
+        return forkJoinPool.invoke(new ForkJoinFibonacci(n));
+    }
+}
@@ -0,0 +1,121 @@
+package Graphs;
+
+import Support.Distribution;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares {@link AdjacencyListGraph} and {@link AdjacencyMatrixGraph}
+ * with a {@code HashMap<Integer, HashSet<Integer>>} adjacency map.
+ * <p>
+ * The graphs have {@code ceil(sqrt(size))} vertices so the adjacency matrix
+ * stays around {@code size} entries. Each of the {@code size} keys drawn from
+ * the distribution is mapped to the edge {@code (key / vertices, key % vertices)}.
+ *
+ * @author Jordan Owens
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class GraphBenchmark {
+    /** Number of probes generated before they are reused */
+    private static final int PROBES = 1 << 16;
+
+    @Param({"100", "1000", "10000", "100000", "1000000", "10000000"})
+    int size;
+
+    @Param({"SORTED", "REVERSED", "UNIFORM", "ZIPFIAN"})
+    Distribution distribution;
+
+    int vertices;
+    AdjacencyListGraph<Integer> listGraph;
+    AdjacencyMatrixGraph matrixGraph;
+    HashMap<Integer, HashSet<Integer>> hashGraph;
+    Integer[] from, to;
+    int next;
+
+    @Setup(Level.Trial)
+    public void fill() {
+        vertices = (int) Math.ceil(Math.sqrt(size));
+        listGraph = new AdjacencyListGraph<>();
+        matrixGraph = new AdjacencyMatrixGraph(vertices);
+        hashGraph = new HashMap<>();
+        for (int vertex = 0; vertex < vertices; vertex++) {
+            listGraph.addVertex(vertex);
+            hashGraph.put(vertex, new HashSet<>());
+        }
+        for (int key : distribution.keys(size, size, 1)) {
+            Integer tail = key / vertices, head = key % vertices;
+            listGraph.addEdge(tail, head);
+            matrixGraph.addEdge(tail, head);
+            hashGraph.get(tail).add(head);
+        }
+        int[] keys = distribution.keys(PROBES, size, 2);
+        from = new Integer[PROBES];
+        to = new Integer[PROBES];
+        for (int i = 0; i < PROBES; i++) {
+            from[i] = keys[i] / vertices;
+            to[i] = keys[i] % vertices;
+        }
+    }
+
+    @Benchmark
+    public boolean listContainsEdge() {
+        int i = next++ & (PROBES - 1);
+        return listGraph.containsEdge(from[i], to[i]);
+    }
+
+    @Benchmark
+    public boolean matrixContainsEdge() {
+        int i = next++ & (PROBES - 1);
+        return matrixGraph.containsEdge(from[i], to[i]);
+    }
+
+    @Benchmark
+    public boolean hashContainsEdge() {
+        int i = next++ & (PROBES - 1);
+        Set<Integer> edges = hashGraph.get(from[i]);
+        return edges != null && edges.contains(to[i]);
+    }
+
+    /** Toggles an edge twice so the graph keeps its shape */
+    @Benchmark
+    public boolean listToggleEdge() {
+        int i = next++ & (PROBES - 1);
+        if (listGraph.addEdge(from[i], to[i])) {
+            return listGraph.removeEdge(from[i], to[i]);
+        }
+        listGraph.removeEdge(from[i], to[i]);
+        return listGraph.addEdge(from[i], to[i]);
+    }
+
+    /** Toggles an edge twice so the graph keeps its shape */
+    @Benchmark
+    public boolean matrixToggleEdge() {
+        int i = next++ & (PROBES - 1);
+        if (matrixGraph.addEdge(from[i], to[i])) {
+            return matrixGraph.removeEdge(from[i], to[i]);
+        }
+        matrixGraph.removeEdge(from[i], to[i]);
+        return matrixGraph.addEdge(from[i], to[i]);
+    }
+
+    /** Toggles an edge twice so the graph keeps its shape */
+    @Benchmark
+    public boolean hashToggleEdge() {
+        int i = next++ & (PROBES - 1);
+        Set<Integer> edges = hashGraph.get(from[i]);
+        if (edges.add(to[i])) {
+            return edges.remove(to[i]);
+        }
+        edges.remove(to[i]);
+        return edges.add(to[i]);
+    }
+}
@@ -0,0 +1,82 @@
+package Heaps;
+
+import Support.Distribution;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.Collections;
+import java.util.PriorityQueue;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares {@link MinHeap} and {@link MaxHeap} with {@link PriorityQueue}.
+ * Each benchmark holds the heap at {@code size} keys and measures
+ * one insertion paired with one removal of the top of the heap.
+ *
+ * @author Jordan Owens
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class HeapBenchmark {
+    /** Number of probes generated before they are reused */
+    private static final int PROBES = 1 << 16;
+
+    @Param({"100", "1000", "10000", "100000", "1000000", "10000000"})
+    int size;
+
+    @Param({"SORTED", "REVERSED", "UNIFORM", "ZIPFIAN"})
+    Distribution distribution;
+
+    MinHeap<Integer> minHeap;
+    MaxHeap<Integer> maxHeap;
+    PriorityQueue<Integer> minQueue;
+    PriorityQueue<Integer> maxQueue;
+    Integer[] probes;
+    int next;
+
+    @Setup(Level.Trial)
+    public void fill() {
+        minHeap = new MinHeap<>();
+        maxHeap = new MaxHeap<>();
+        minQueue = new PriorityQueue<>();
+        maxQueue = new PriorityQueue<>(Collections.reverseOrder());
+        for (Integer key : distribution.boxedKeys(size, size, 1)) {
+            minHeap.insert(key);
+            maxHeap.insert(key);
+            minQueue.add(key);
+            maxQueue.add(key);
+        }
+        probes = distribution.boxedKeys(PROBES, size, 2);
+    }
+
+    private Integer probe() {
+        return probes[next++ & (PROBES - 1)];
+    }
+
+    @Benchmark
+    public Integer minHeap() {
+        minHeap.insert(probe());
+        return minHeap.removeMin();
+    }
+
+    @Benchmark
+    public Integer maxHeap() {
+        maxHeap.insert(probe());
+        return maxHeap.removeMax();
+    }
+
+    @Benchmark
+    public Integer minPriorityQueue() {
+        minQueue.add(probe());
+        return minQueue.poll();
+    }
+
+    @Benchmark
+    public Integer maxPriorityQueue() {
+        maxQueue.add(probe());
+        return maxQueue.poll();
+    }
+}
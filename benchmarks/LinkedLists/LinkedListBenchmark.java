@@ -0,0 +1,102 @@
+package LinkedLists;
+
+import Support.Distribution;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.LinkedList;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares {@link SinglyLinkedList} and {@link DoublyLinkedList}
+ * with {@link LinkedList}. The lists are filled with {@code size} keys
+ * and probed with keys and indices drawn from the same distribution.
+ *
+ * @author Jordan Owens
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class LinkedListBenchmark {
+    /** Number of probes generated before they are reused */
+    private static final int PROBES = 1 << 16;
+
+    @Param({"100", "1000", "10000", "100000", "1000000", "10000000"})
+    int size;
+
+    @Param({"SORTED", "REVERSED", "UNIFORM", "ZIPFIAN"})
+    Distribution distribution;
+
+    SinglyLinkedList<Integer> singly;
+    DoublyLinkedList<Integer> doubly;
+    LinkedList<Integer> linkedList;
+    Integer[] probes;
+    int next;
+
+    @Setup(Level.Trial)
+    public void fill() {
+        singly = new SinglyLinkedList<>();
+        doubly = new DoublyLinkedList<>();
+        linkedList = new LinkedList<>();
+        for (Integer key : distribution.boxedKeys(size, size, 1)) {
+            singly.add(key);
+            doubly.add(key);
+            linkedList.add(key);
+        }
+        probes = distribution.boxedKeys(PROBES, size, 2);
+    }
+
+    private Integer probe() {
+        return probes[next++ & (PROBES - 1)];
+    }
+
+    @Benchmark
+    public Integer singlyGet() {
+        return singly.get(probe());
+    }
+
+    @Benchmark
+    public Integer doublyGet() {
+        return doubly.get(probe());
+    }
+
+    @Benchmark
+    public Integer linkedListGet() {
+        return linkedList.get(probe());
+    }
+
+    @Benchmark
+    public boolean singlyContains() {
+        return singly.contains(probe());
+    }
+
+    @Benchmark
+    public boolean doublyContains() {
+        return doubly.contains(probe());
+    }
+
+    @Benchmark
+    public boolean linkedListContains() {
+        return linkedList.contains(probe());
+    }
+
+    @Benchmark
+    public Integer singlyInsertRemove() {
+        singly.insert(probe());
+        return singly.remove(0);
+    }
+
+    @Benchmark
+    public Integer doublyInsertRemove() {
+        doubly.add(0, probe());
+        return doubly.remove(0);
+    }
+
+    @Benchmark
+    public Integer linkedListInsertRemove() {
+        linkedList.addFirst(probe());
+        return linkedList.removeFirst();
+    }
+}
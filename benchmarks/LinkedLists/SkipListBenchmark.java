@@ -0,0 +1,112 @@
+package LinkedLists;
+
+import Support.Distribution;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.ArrayList;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares positional operations at uniformly random indices on
+ * {@link SkipList}, whose positional operations take O(log n) expected
+ * time, with {@link DoublyLinkedList}, which walks from the head, and
+ * {@link ArrayList}. Each list holds {@code size} elements; insertions
+ * are paired with removals so the size stays fixed. The largest lists
+ * need a bigger heap than the default.
+ *
+ * @author Jordan Owens
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = "-Xmx3g")
+@State(Scope.Thread)
+public class SkipListBenchmark {
+    /** Number of probes generated before they are reused */
+    private static final int PROBES = 1 << 16;
+
+    @Param({"10000", "100000", "1000000", "10000000"})
+    int size;
+
+    SkipList<Integer> skipList;
+    DoublyLinkedList<Integer> doubly;
+    ArrayList<Integer> arrayList;
+    int[] probes;
+    int next;
+    Integer element = 42;
+
+    @Setup(Level.Trial)
+    public void fill() {
+        skipList = new SkipList<>();
+        doubly = new DoublyLinkedList<>();
+        arrayList = new ArrayList<>();
+        for (int i = 0; i < size; i++) {
+            skipList.add(i);
+            doubly.add(i);
+            arrayList.add(i);
+        }
+        probes = Distribution.UNIFORM.keys(PROBES, size, 1);
+    }
+
+    private int probe() {
+        return probes[next++ & (PROBES - 1)];
+    }
+
+    @Benchmark
+    public Integer skipListGet() {
+        return skipList.get(probe());
+    }
+
+    @Benchmark
+    public Integer doublyGet() {
+        return doubly.get(probe());
+    }
+
+    @Benchmark
+    public Integer arrayListGet() {
+        return arrayList.get(probe());
+    }
+
+    @Benchmark
+    public Integer skipListSet() {
+        return skipList.set(probe(), element);
+    }
+
+    @Benchmark
+    public Integer doublySet() {
+        return doubly.set(probe(), element);
+    }
+
+    @Benchmark
+    public Integer arrayListSet() {
+        return arrayList.set(probe(), element);
+    }
+
+    @Benchmark
+    public Integer skipListAddRemove() {
+        int index = probe();
+        skipList.add(index, element);
+        return skipList.remove(index);
+    }
+
+    @Benchmark
+    public Integer doublyAddRemove() {
+        int index = probe();
+        doubly.add(index, element);
+        return doubly.remove(index);
+    }
+
+    @Benchmark
+    public Integer arrayListAddRemove() {
+        int index = probe();
+        arrayList.add(index, element);
+        return arrayList.remove(index);
+    }
+
+    @Benchmark
+    public boolean skipListAppend() {
+        skipList.add(element);
+        return skipList.remove(size) != null;
+    }
+}
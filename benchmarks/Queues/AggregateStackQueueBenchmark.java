@@ -0,0 +1,95 @@
+package Queues;
+
+import Deques.LongMonotonicDeque;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.ArrayDeque;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares {@link AggregateStackQueue} and {@link LongAggregateStackQueue}
+ * with recomputing the minimum of an {@link ArrayDeque} and with a
+ * {@link LongMonotonicDeque}, which only supports minimums and maximums.
+ * Each benchmark slides a window of {@code window} random values along by
+ * one, enqueueing a new value and dequeueing the oldest, then reads the
+ * window's minimum.
+ *
+ * @author Jordan Owens
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class AggregateStackQueueBenchmark {
+    /** Number of probes generated before they are reused */
+    private static final int PROBES = 1 << 16;
+
+    @Param({"16", "1024", "65536"})
+    int window;
+
+    AggregateStackQueue<Long> aggregateStackQueue;
+    LongAggregateStackQueue longAggregateStackQueue;
+    LongMonotonicDeque longMonotonicDeque;
+    ArrayDeque<Long> arrayDeque;
+    long[] values;
+    int next;
+
+    @Setup(Level.Trial)
+    public void fill() {
+        Random random = new Random(1);
+        values = new long[PROBES];
+        for (int i = 0; i < PROBES; i++) {
+            values[i] = random.nextInt();
+        }
+        aggregateStackQueue = new AggregateStackQueue<>(Math::min);
+        longAggregateStackQueue = new LongAggregateStackQueue(Long.MAX_VALUE, Math::min);
+        longMonotonicDeque = new LongMonotonicDeque();
+        arrayDeque = new ArrayDeque<>();
+        for (int i = 0; i < window; i++) {
+            long value = value();
+            aggregateStackQueue.enqueue(value);
+            longAggregateStackQueue.enqueue(value);
+            longMonotonicDeque.pushBack(value);
+            arrayDeque.addLast(value);
+        }
+    }
+
+    private long value() {
+        return values[next++ & (PROBES - 1)];
+    }
+
+    @Benchmark
+    public Long aggregateStackQueue() {
+        aggregateStackQueue.enqueue(value());
+        aggregateStackQueue.dequeue();
+        return aggregateStackQueue.aggregate();
+    }
+
+    @Benchmark
+    public long longAggregateStackQueue() {
+        longAggregateStackQueue.enqueue(value());
+        longAggregateStackQueue.dequeue();
+        return longAggregateStackQueue.aggregate();
+    }
+
+    @Benchmark
+    public long longMonotonicDeque() {
+        long index = longMonotonicDeque.pushBack(value());
+        longMonotonicDeque.evictOlderThan(index - window + 1);
+        return longMonotonicDeque.windowMin();
+    }
+
+    @Benchmark
+    public long recompute() {
+        arrayDeque.addLast(value());
+        arrayDeque.pollFirst();
+        long min = Long.MAX_VALUE;
+        for (long value : arrayDeque) {
+            min = Math.min(min, value);
+        }
+        return min;
+    }
+}
@@ -0,0 +1,101 @@
+package Queues;
+
+import Deques.Serializer;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+/**
+ * Measures sustained throughput of {@link JournalQueue} for small and large
+ * records under each sync policy. Each operation appends one record and
+ * removes one, so segments are continually created, drained and deleted.
+ * The {@code megabytes} secondary result is the journal write rate in MB/s.
+ *
+ * @author Jordan Owens
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class JournalQueueBenchmark {
+    /** Writes byte arrays as they are */
+    static final Serializer<byte[]> BYTES = new Serializer<byte[]>() {
+        @Override
+        public byte[] toBytes(byte[] element) {
+            return element;
+        }
+
+        @Override
+        public byte[] fromBytes(byte[] bytes) {
+            return bytes;
+        }
+    };
+
+    @Param({"64", "4096"})
+    int recordSize;
+
+    @Param({"operation", "batch", "timed"})
+    String sync;
+
+    Path directory;
+    JournalQueue<byte[]> queue;
+    byte[] record;
+
+    /** Counts the megabytes journaled */
+    @AuxCounters(AuxCounters.Type.OPERATIONS)
+    @State(Scope.Thread)
+    public static class Counters {
+        public double megabytes;
+
+        @Setup(Level.Iteration)
+        public void reset() {
+            megabytes = 0;
+        }
+    }
+
+    @Setup(Level.Trial)
+    public void open() throws IOException {
+        directory = Files.createTempDirectory("journal-queue");
+        JournalQueue.SyncPolicy policy;
+        switch (sync) {
+            case "operation":
+                policy = JournalQueue.SyncPolicy.everyOperation();
+                break;
+            case "batch":
+                policy = JournalQueue.SyncPolicy.everyBatch(1000);
+                break;
+            default:
+                policy = JournalQueue.SyncPolicy.timed(10, TimeUnit.MILLISECONDS);
+        }
+        queue = new JournalQueue<>(directory, BYTES, JournalQueue.DEFAULT_SEGMENT_SIZE, policy);
+        record = new byte[recordSize];
+        for (int i = 0; i < 1000; i++) {
+            queue.enqueue(record);
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void delete() throws IOException {
+        queue.close();
+        try (Stream<Path> files = Files.list(directory)) {
+            for (Path file : (Iterable<Path>) files::iterator) {
+                Files.delete(file);
+            }
+        }
+        Files.delete(directory);
+    }
+
+    @Benchmark
+    public byte[] journal(Counters counters) {
+        queue.enqueue(record);
+        counters.megabytes += recordSize / 1e6;
+        return queue.dequeue();
+    }
+}
@@ -0,0 +1,145 @@
+package Queues;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures {@link MpmcQueue} and {@link ArrayBlockingQueue} with one,
+ * four and sixteen producer threads against as many consumer threads.
+ * Throughput mode counts successful operations in the {@code offered} and
+ * {@code polled} secondary results, since a failed offer or poll is retried
+ * by JMH; sample mode reports the tail latency of individual calls.
+ *
+ * @author Jordan Owens
+ */
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Group)
+public class MpmcQueueBenchmark {
+    @Param({"1024"})
+    int capacity;
+
+    MpmcQueue<Integer> mpmcQueue;
+    ArrayBlockingQueue<Integer> arrayBlockingQueue;
+    Integer element = 42;
+
+    /** Counts the successful operations of one thread */
+    @AuxCounters(AuxCounters.Type.OPERATIONS)
+    @State(Scope.Thread)
+    public static class Counters {
+        public long offered;
+        public long polled;
+
+        @Setup(Level.Iteration)
+        public void reset() {
+            offered = polled = 0;
+        }
+    }
+
+    @Setup(Level.Trial)
+    public void create() {
+        mpmcQueue = new MpmcQueue<>(capacity);
+        arrayBlockingQueue = new ArrayBlockingQueue<>(capacity);
+    }
+
+    @Benchmark
+    @Group("mpmcQueue1x1")
+    @GroupThreads(1)
+    public void mpmcQueue1x1Offer(Counters counters) {
+        if (mpmcQueue.offer(element)) counters.offered++;
+    }
+
+    @Benchmark
+    @Group("mpmcQueue1x1")
+    @GroupThreads(1)
+    public Integer mpmcQueue1x1Poll(Counters counters) {
+        Integer polled = mpmcQueue.poll();
+        if (polled != null) counters.polled++;
+        return polled;
+    }
+
+    @Benchmark
+    @Group("mpmcQueue4x4")
+    @GroupThreads(4)
+    public void mpmcQueue4x4Offer(Counters counters) {
+        if (mpmcQueue.offer(element)) counters.offered++;
+    }
+
+    @Benchmark
+    @Group("mpmcQueue4x4")
+    @GroupThreads(4)
+    public Integer mpmcQueue4x4Poll(Counters counters) {
+        Integer polled = mpmcQueue.poll();
+        if (polled != null) counters.polled++;
+        return polled;
+    }
+
+    @Benchmark
+    @Group("mpmcQueue16x16")
+    @GroupThreads(16)
+    public void mpmcQueue16x16Offer(Counters counters) {
+        if (mpmcQueue.offer(element)) counters.offered++;
+    }
+
+    @Benchmark
+    @Group("mpmcQueue16x16")
+    @GroupThreads(16)
+    public Integer mpmcQueue16x16Poll(Counters counters) {
+        Integer polled = mpmcQueue.poll();
+        if (polled != null) counters.polled++;
+        return polled;
+    }
+
+    @Benchmark
+    @Group("arrayBlockingQueue1x1")
+    @GroupThreads(1)
+    public void arrayBlockingQueue1x1Offer(Counters counters) {
+        if (arrayBlockingQueue.offer(element)) counters.offered++;
+    }
+
+    @Benchmark
+    @Group("arrayBlockingQueue1x1")
+    @GroupThreads(1)
+    public Integer arrayBlockingQueue1x1Poll(Counters counters) {
+        Integer polled = arrayBlockingQueue.poll();
+        if (polled != null) counters.polled++;
+        return polled;
+    }
+
+    @Benchmark
+    @Group("arrayBlockingQueue4x4")
+    @GroupThreads(4)
+    public void arrayBlockingQueue4x4Offer(Counters counters) {
+        if (arrayBlockingQueue.offer(element)) counters.offered++;
+    }
+
+    @Benchmark
+    @Group("arrayBlockingQueue4x4")
+    @GroupThreads(4)
+    public Integer arrayBlockingQueue4x4Poll(Counters counters) {
+        Integer polled = arrayBlockingQueue.poll();
+        if (polled != null) counters.polled++;
+        return polled;
+    }
+
+    @Benchmark
+    @Group("arrayBlockingQueue16x16")
+    @GroupThreads(16)
+    public void arrayBlockingQueue16x16Offer(Counters counters) {
+        if (arrayBlockingQueue.offer(element)) counters.offered++;
+    }
+
+    @Benchmark
+    @Group("arrayBlockingQueue16x16")
+    @GroupThreads(16)
+    public Integer arrayBlockingQueue16x16Poll(Counters counters) {
+        Integer polled = arrayBlockingQueue.poll();
+        if (polled != null) counters.polled++;
+        return polled;
+    }
+}
@@ -0,0 +1,116 @@
+package Queues;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Phaser;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+
+/**
+ * Measures how long {@code producers} threads take to send
+ * {@value #BURST} messages each to a single consumer through
+ * {@link MpscQueue}, a {@link Queue} guarded by its monitor
+ * and {@link ConcurrentLinkedQueue}.
+ * The benchmark thread is the consumer; producer threads are started
+ * once per trial and released at the start of every invocation.
+ *
+ * @author Jordan Owens
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class MpscQueueBenchmark {
+    /** Number of messages each producer sends per invocation */
+    static final int BURST = 1_000;
+
+    @Param({"1", "2", "4", "8", "16", "32"})
+    int producers;
+
+    @Param({"mpscQueue", "synchronizedQueue", "concurrentLinkedQueue"})
+    String queue;
+
+    Predicate<Integer> offer;
+    Supplier<Integer> poll;
+    Phaser start;
+    List<Thread> threads;
+    volatile boolean running;
+
+    @Setup(Level.Trial)
+    public void start() {
+        switch (queue) {
+            case "mpscQueue": {
+                MpscQueue<Integer> mpscQueue = new MpscQueue<>();
+                offer = mpscQueue::offer;
+                poll = mpscQueue::poll;
+                break;
+            }
+            case "synchronizedQueue": {
+                Queue<Integer> synchronizedQueue = new Queue<>();
+                offer = element -> {
+                    synchronized (synchronizedQueue) {
+                        return synchronizedQueue.offer(element);
+                    }
+                };
+                poll = () -> {
+                    synchronized (synchronizedQueue) {
+                        return synchronizedQueue.poll();
+                    }
+                };
+                break;
+            }
+            default: {
+                ConcurrentLinkedQueue<Integer> concurrentLinkedQueue = new ConcurrentLinkedQueue<>();
+                offer = concurrentLinkedQueue::offer;
+                poll = concurrentLinkedQueue::poll;
+            }
+        }
+        running = true;
+        start = new Phaser(producers + 1);
+        threads = new ArrayList<>();
+        for (int p = 0; p < producers; p++) {
+            Thread thread = new Thread(() -> {
+                Integer message = 42;
+                for (;;) {
+                    start.arriveAndAwaitAdvance();
+                    if (!running) return;
+                    for (int i = 0; i < BURST; i++) {
+                        offer.test(message);
+                    }
+                }
+            });
+            thread.setDaemon(true);
+            threads.add(thread);
+            thread.start();
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void stop() throws InterruptedException {
+        running = false;
+        start.arriveAndAwaitAdvance();
+        for (Thread thread : threads) {
+            thread.join();
+        }
+    }
+
+    @Benchmark
+    public int burst() {
+        start.arriveAndAwaitAdvance();
+        int received = 0;
+        for (int total = producers * BURST; received < total;) {
+            if (poll.get() != null) {
+                received++;
+            } else {
+                Thread.yield();
+            }
+        }
+        return received;
+    }
+}
@@ -0,0 +1,105 @@
+package Queues;
+
+import Heaps.MinHeap;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares {@link MultiLevelQueue} with a {@link MinHeap} of elements
+ * wrapped with their priority and a sequence number, which keeps
+ * elements of the same priority in insertion order. Each benchmark holds
+ * {@code size} elements spread uniformly over eight priority levels and
+ * measures one insertion at a random level paired with one removal.
+ *
+ * @author Jordan Owens
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class MultiLevelQueueBenchmark {
+    /** Number of probes generated before they are reused */
+    private static final int PROBES = 1 << 16;
+    /** Number of priority levels */
+    private static final int LEVELS = 8;
+
+    /** Element wrapped with its priority for the heap */
+    static final class Prioritized implements Comparable<Prioritized> {
+        final int level;
+        final long sequence;
+        final Integer element;
+
+        Prioritized(int level, long sequence, Integer element) {
+            this.level = level;
+            this.sequence = sequence;
+            this.element = element;
+        }
+
+        @Override
+        public int compareTo(Prioritized other) {
+            if (level != other.level) return Integer.compare(level, other.level);
+            return Long.compare(sequence, other.sequence);
+        }
+    }
+
+    @Param({"100", "10000", "1000000"})
+    int size;
+
+    MultiLevelQueue<Integer> strictQueue;
+    MultiLevelQueue<Integer> weightedQueue;
+    MinHeap<Prioritized> minHeap;
+    int[] levels;
+    int next;
+    long sequence;
+    Integer element = 42;
+
+    @Setup(Level.Trial)
+    public void fill() {
+        Random random = new Random(1);
+        levels = new int[PROBES];
+        for (int i = 0; i < PROBES; i++) {
+            levels[i] = random.nextInt(LEVELS);
+        }
+        int[] maxSizes = new int[LEVELS];
+        int[] weights = new int[LEVELS];
+        for (int i = 0; i < LEVELS; i++) {
+            maxSizes[i] = Integer.MAX_VALUE;
+            weights[i] = LEVELS - i;
+        }
+        strictQueue = new MultiLevelQueue<>(LEVELS);
+        weightedQueue = new MultiLevelQueue<>(maxSizes, weights);
+        minHeap = new MinHeap<>();
+        for (int i = 0; i < size; i++) {
+            int level = random.nextInt(LEVELS);
+            strictQueue.enqueue(element, level);
+            weightedQueue.enqueue(element, level);
+            minHeap.insert(new Prioritized(level, sequence++, element));
+        }
+    }
+
+    private int level() {
+        return levels[next++ & (PROBES - 1)];
+    }
+
+    @Benchmark
+    public Integer strictQueue() {
+        strictQueue.enqueue(element, level());
+        return strictQueue.dequeue();
+    }
+
+    @Benchmark
+    public Integer weightedQueue() {
+        weightedQueue.enqueue(element, level());
+        return weightedQueue.dequeue();
+    }
+
+    @Benchmark
+    public Integer minHeap() {
+        minHeap.insert(new Prioritized(level(), sequence++, element));
+        return minHeap.removeMin().element;
+    }
+}
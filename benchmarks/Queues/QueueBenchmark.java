@@ -0,0 +1,71 @@
+package Queues;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.util.ArrayDeque;
+import java.util.LinkedList;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares {@link Queue}, with and without node recycling,
+ * with {@link ArrayDeque} and {@link LinkedList}.
+ * Each benchmark holds the queue at {@code size} elements
+ * and measures one enqueue paired with one dequeue.
+ * Run with {@code -Pjmh.args="-prof gc"} to compare allocation rates.
+ *
+ * @author Jordan Owens
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class QueueBenchmark {
+    @Param({"100", "1000", "10000", "100000", "1000000", "10000000"})
+    int size;
+
+    Queue<Integer> queue;
+    Queue<Integer> recyclingQueue;
+    ArrayDeque<Integer> arrayDeque;
+    LinkedList<Integer> linkedList;
+    Integer element = 42;
+
+    @Setup(Level.Trial)
+    public void fill() {
+        queue = new Queue<>();
+        recyclingQueue = new Queue<>(Integer.MAX_VALUE, 64);
+        arrayDeque = new ArrayDeque<>();
+        linkedList = new LinkedList<>();
+        for (int i = 0; i < size; i++) {
+            queue.enqueue(i);
+            recyclingQueue.enqueue(i);
+            arrayDeque.offer(i);
+            linkedList.offer(i);
+        }
+    }
+
+    @Benchmark
+    public Integer queue() {
+        queue.enqueue(element);
+        return queue.dequeue();
+    }
+
+    @Benchmark
+    public Integer recyclingQueue() {
+        recyclingQueue.enqueue(element);
+        return recyclingQueue.dequeue();
+    }
+
+    @Benchmark
+    public Integer arrayDeque() {
+        arrayDeque.offer(element);
+        return arrayDeque.poll();
+    }
+
+    @Benchmark
+    public Integer linkedList() {
+        linkedList.offer(element);
+        return linkedList.poll();
+    }
+}
@@ -0,0 +1,144 @@
+package Queues;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the throughput of a producer feeding one or more subscribers
+ * through a {@link QueuePublisher}, against consumer threads polling an
+ * {@link ArrayBlockingQueue} of the same size. Subscribers request elements
+ * in chunks, and the publisher's deliveries run either on a pool with one
+ * thread per subscriber or on virtual threads, which also run the polling
+ * consumers in that case. Virtual thread trials fail on older Java versions.
+ *
+ * @author Jordan Owens
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class QueuePublisherBenchmark {
+    /** Number of elements each subscriber requests at a time */
+    private static final int DEMAND = 256;
+
+    @Param({"1", "4"})
+    int subscribers;
+
+    @Param({"1", "64"})
+    int batchSize;
+
+    @Param({"platform", "virtual"})
+    String threads;
+
+    QueuePublisher<Integer> publisher;
+    ArrayBlockingQueue<Integer> arrayBlockingQueue;
+    ExecutorService pool;
+    List<Thread> consumers;
+    Integer element = 42;
+
+    /** Subscriber that requests more elements after receiving half of its demand */
+    static class Sink implements QueuePublisher.Subscriber<Integer> {
+        QueuePublisher.Subscription subscription;
+        int received;
+
+        @Override
+        public void onSubscribe(QueuePublisher.Subscription subscription) {
+            this.subscription = subscription;
+            subscription.request(DEMAND);
+        }
+
+        @Override
+        public void onNext(Integer element) {
+            if (++received == DEMAND / 2) {
+                received = 0;
+                subscription.request(DEMAND / 2);
+            }
+        }
+
+        @Override
+        public void onError(Throwable error) {
+        }
+
+        @Override
+        public void onComplete() {
+        }
+    }
+
+    /**
+     * Creates threads of the kind being benchmarked
+     *
+     * @return a thread factory
+     */
+    private ThreadFactory threadFactory() throws ReflectiveOperationException {
+        if (threads.equals("platform")) {
+            return runnable -> {
+                Thread thread = new Thread(runnable);
+                thread.setDaemon(true);
+                return thread;
+            };
+        }
+        // Thread.ofVirtual().factory(), looked up reflectively to compile on Java 8
+        Object builder = Thread.class.getMethod("ofVirtual").invoke(null);
+        Class<?> builderClass = Class.forName("java.lang.Thread$Builder");
+        return (ThreadFactory) builderClass.getMethod("factory").invoke(builder);
+    }
+
+    @Setup(Level.Trial)
+    public void start() throws ReflectiveOperationException {
+        ThreadFactory factory = threadFactory();
+        Executor executor;
+        if (threads.equals("platform")) {
+            pool = Executors.newFixedThreadPool(subscribers, factory);
+            executor = pool;
+        } else {
+            executor = QueuePublisher.virtualThreads();
+        }
+        publisher = new QueuePublisher<>(1024, batchSize, executor);
+        for (int i = 0; i < subscribers; i++) {
+            publisher.subscribe(new Sink());
+        }
+        arrayBlockingQueue = new ArrayBlockingQueue<>(1024);
+        consumers = new ArrayList<>();
+        for (int i = 0; i < subscribers; i++) {
+            Thread consumer = factory.newThread(() -> {
+                try {
+                    for (;;) arrayBlockingQueue.take();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            });
+            consumer.start();
+            consumers.add(consumer);
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void stop() throws InterruptedException {
+        publisher.close();
+        for (Thread consumer : consumers) {
+            consumer.interrupt();
+            consumer.join();
+        }
+        if (pool != null) pool.shutdown();
+    }
+
+    @Benchmark
+    public void queuePublisher() throws InterruptedException {
+        publisher.put(element);
+    }
+
+    @Benchmark
+    public void arrayBlockingQueue() throws InterruptedException {
+        arrayBlockingQueue.put(element);
+    }
+}
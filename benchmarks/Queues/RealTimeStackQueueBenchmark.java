@@ -0,0 +1,53 @@
+package Queues;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares the latency distribution of {@link RealTimeStackQueue} with
+ * {@link StackQueue}. Each benchmark holds the queue at {@code size}
+ * elements and samples one enqueue paired with one dequeue. Once every
+ * {@code size} operations {@link StackQueue} moves its whole back stack
+ * to its front stack, which shows up in the high percentiles of its
+ * sample-time histogram, while the real-time queue spreads that work
+ * over every operation.
+ *
+ * @author Jordan Owens
+ */
+@BenchmarkMode(Mode.SampleTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class RealTimeStackQueueBenchmark {
+    @Param({"1000", "100000", "1000000"})
+    int size;
+
+    StackQueue<Integer> stackQueue;
+    RealTimeStackQueue<Integer> realTimeStackQueue;
+    Integer element = 42;
+
+    @Setup(Level.Trial)
+    public void fill() {
+        stackQueue = new StackQueue<>();
+        realTimeStackQueue = new RealTimeStackQueue<>();
+        for (int i = 0; i < size; i++) {
+            stackQueue.enqueue(i);
+            realTimeStackQueue.enqueue(i);
+        }
+    }
+
+    @Benchmark
+    public Integer stackQueue() {
+        stackQueue.enqueue(element);
+        return stackQueue.dequeue();
+    }
+
+    @Benchmark
+    public Integer realTimeStackQueue() {
+        realTimeStackQueue.enqueue(element);
+        return realTimeStackQueue.dequeue();
+    }
+}
@@ -0,0 +1,110 @@
+package Queues;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the throughput of {@link SpscQueue} and {@link ArrayBlockingQueue}
+ * with one producer thread and one consumer thread.
+ * Neither thread blocks: a failed offer or poll is retried by JMH, and only
+ * successful operations are counted in the {@code offered} and
+ * {@code polled} secondary results, which are the numbers to compare.
+ *
+ * @author Jordan Owens
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Group)
+public class SpscQueueBenchmark {
+    @Param({"1024", "65536"})
+    int capacity;
+
+    SpscQueue<Integer> spscQueue;
+    ArrayBlockingQueue<Integer> arrayBlockingQueue;
+    Integer element = 42;
+    Integer[] batch;
+
+    /** Counts the successful operations of one thread */
+    @AuxCounters(AuxCounters.Type.OPERATIONS)
+    @State(Scope.Thread)
+    public static class Counters {
+        public long offered;
+        public long polled;
+
+        @Setup(Level.Iteration)
+        public void reset() {
+            offered = polled = 0;
+        }
+    }
+
+    @Setup(Level.Trial)
+    public void create() {
+        spscQueue = new SpscQueue<>(capacity);
+        arrayBlockingQueue = new ArrayBlockingQueue<>(capacity);
+        batch = new Integer[64];
+        for (int i = 0; i < batch.length; i++) {
+            batch[i] = i;
+        }
+    }
+
+    /**
+     * Empties the queues between iterations, since the consumer may
+     * stop before the producer
+     */
+    @TearDown(Level.Iteration)
+    public void empty() {
+        while (spscQueue.poll() != null);
+        arrayBlockingQueue.clear();
+    }
+
+    @Benchmark
+    @Group("spscQueue")
+    @GroupThreads(1)
+    public void spscQueueOffer(Counters counters) {
+        if (spscQueue.offer(element)) counters.offered++;
+    }
+
+    @Benchmark
+    @Group("spscQueue")
+    @GroupThreads(1)
+    public Integer spscQueuePoll(Counters counters) {
+        Integer polled = spscQueue.poll();
+        if (polled != null) counters.polled++;
+        return polled;
+    }
+
+    @Benchmark
+    @Group("spscQueueBatch")
+    @GroupThreads(1)
+    public void spscQueueOfferBatch(Counters counters) {
+        counters.offered += spscQueue.offer(batch);
+    }
+
+    @Benchmark
+    @Group("spscQueueBatch")
+    @GroupThreads(1)
+    public void spscQueueDrain(Counters counters) {
+        counters.polled += spscQueue.drain(element -> { }, batch.length);
+    }
+
+    @Benchmark
+    @Group("arrayBlockingQueue")
+    @GroupThreads(1)
+    public void arrayBlockingQueueOffer(Counters counters) {
+        if (arrayBlockingQueue.offer(element)) counters.offered++;
+    }
+
+    @Benchmark
+    @Group("arrayBlockingQueue")
+    @GroupThreads(1)
+    public Integer arrayBlockingQueuePoll(Counters counters) {
+        Integer polled = arrayBlockingQueue.poll();
+        if (polled != null) counters.polled++;
+        return polled;
+    }
+}
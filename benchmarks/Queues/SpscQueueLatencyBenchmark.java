@@ -0,0 +1,85 @@
+package Queues;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the round-trip handoff latency of {@link SpscQueue}
+ * and {@link ArrayBlockingQueue}, including the p99 reported by sample mode.
+ * The benchmark thread sends a message through one queue and waits for the
+ * reply on another, while an echo thread sends each message back.
+ * {@link SpscQueue} threads spin while waiting, yielding so the benchmark
+ * still runs on machines with few cores; {@link ArrayBlockingQueue}
+ * threads block in {@code take}.
+ *
+ * @author Jordan Owens
+ */
+@BenchmarkMode(Mode.SampleTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class SpscQueueLatencyBenchmark {
+    SpscQueue<Integer> requests, replies;
+    ArrayBlockingQueue<Integer> arrayRequests, arrayReplies;
+    Thread echo, arrayEcho;
+    volatile boolean running;
+    Integer message = 42;
+
+    @Setup(Level.Trial)
+    public void start() {
+        requests = new SpscQueue<>(16);
+        replies = new SpscQueue<>(16);
+        arrayRequests = new ArrayBlockingQueue<>(16);
+        arrayReplies = new ArrayBlockingQueue<>(16);
+        running = true;
+        echo = new Thread(() -> {
+            while (running) {
+                Integer request = requests.poll();
+                if (request == null) {
+                    Thread.yield();
+                } else {
+                    replies.offer(request);
+                }
+            }
+        });
+        arrayEcho = new Thread(() -> {
+            try {
+                for (;;) arrayReplies.put(arrayRequests.take());
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        });
+        echo.setDaemon(true);
+        arrayEcho.setDaemon(true);
+        echo.start();
+        arrayEcho.start();
+    }
+
+    @TearDown(Level.Trial)
+    public void stop() throws InterruptedException {
+        running = false;
+        arrayEcho.interrupt();
+        echo.join();
+        arrayEcho.join();
+    }
+
+    @Benchmark
+    public Integer spscQueue() {
+        requests.offer(message);
+        Integer reply;
+        while ((reply = replies.poll()) == null) {
+            Thread.yield();
+        }
+        return reply;
+    }
+
+    @Benchmark
+    public Integer arrayBlockingQueue() throws InterruptedException {
+        arrayRequests.put(message);
+        return arrayReplies.take();
+    }
+}
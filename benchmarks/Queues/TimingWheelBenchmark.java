@@ -0,0 +1,108 @@
+package Queues;
+
+import Heaps.MinHeap;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.Random;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+/**
+ * Compares {@link TimingWheel} with heap-based scheduling while
+ * {@code pending} timers are outstanding.
+ * The schedule and cancel benchmarks pair one schedule with one cancel,
+ * against a {@link ScheduledThreadPoolExecutor} that removes cancelled tasks
+ * from its indexed heap. The expire benchmarks move time forward one tick,
+ * expiring about one timer, and schedule a replacement, against a
+ * {@link MinHeap} of deadlines. Time is simulated, so no timers fire
+ * while the wheel is being measured.
+ *
+ * @author Jordan Owens
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class TimingWheelBenchmark {
+    /** Number of probes generated before they are reused */
+    private static final int PROBES = 1 << 16;
+
+    @Param({"1000000"})
+    int pending;
+
+    long time;
+    long tick;
+    TimingWheel<Integer> wheel;
+    ScheduledThreadPoolExecutor executor;
+    MinHeap<Long> heap;
+    long[] delays;
+    int next;
+    Integer task = 42;
+    Runnable runnable = () -> { };
+    Consumer<Queue<Integer>> ignore = batch -> { };
+
+    @Setup(Level.Trial)
+    public void fill() {
+        Random random = new Random(1);
+        delays = new long[PROBES];
+        for (int i = 0; i < PROBES; i++) {
+            delays[i] = 1 + random.nextInt(pending);
+        }
+        time = tick = 0;
+        wheel = new TimingWheel<>(1, TimeUnit.MILLISECONDS, 256, 4, () -> time);
+        executor = new ScheduledThreadPoolExecutor(1);
+        executor.setRemoveOnCancelPolicy(true);
+        heap = new MinHeap<>();
+        for (int i = 0; i < pending; i++) {
+            long delay = 1 + random.nextInt(pending);
+            wheel.schedule(task, delay, TimeUnit.MILLISECONDS);
+            executor.schedule(runnable, delay + TimeUnit.DAYS.toMillis(1), TimeUnit.MILLISECONDS);
+            heap.insert(delay);
+        }
+        wheel.advance(ignore);
+    }
+
+    @TearDown(Level.Trial)
+    public void stop() {
+        executor.shutdownNow();
+    }
+
+    @Benchmark
+    public boolean wheelScheduleCancel() {
+        long delay = delays[next++ & (PROBES - 1)];
+        TimingWheel.Timeout<Integer> timeout = wheel.schedule(task, delay, TimeUnit.MILLISECONDS);
+        boolean cancelled = timeout.cancel();
+        wheel.advance(ignore);
+        return cancelled;
+    }
+
+    @Benchmark
+    public boolean executorScheduleCancel() {
+        long delay = delays[next++ & (PROBES - 1)] + TimeUnit.DAYS.toMillis(1);
+        ScheduledFuture<?> future = executor.schedule(runnable, delay, TimeUnit.MILLISECONDS);
+        return future.cancel(false);
+    }
+
+    @Benchmark
+    public int wheelExpire() {
+        time += TimeUnit.MILLISECONDS.toNanos(1);
+        wheel.schedule(task, pending, TimeUnit.MILLISECONDS);
+        return wheel.advance(ignore);
+    }
+
+    @Benchmark
+    public int heapExpire() {
+        tick++;
+        int expired = 0;
+        while (!heap.isEmpty() && heap.getMin() <= tick) {
+            heap.removeMin();
+            expired++;
+        }
+        heap.insert(tick + pending);
+        return expired;
+    }
+}
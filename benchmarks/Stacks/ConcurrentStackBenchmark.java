@@ -0,0 +1,67 @@
+package Stacks;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.ConcurrentLinkedDeque;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares {@link ConcurrentStack} with a {@link Stack} guarded by
+ * {@code synchronized} and with {@link ConcurrentLinkedDeque} used as a
+ * stack. All threads share one stack, like a free list of buffers;
+ * each operation is a push paired with a pop, so concurrent pushes and
+ * pops collide and the concurrent stack can eliminate them.
+ * <p>
+ * Sweep thread counts with {@code -Pjmh.threads=1,2,4,8,16,32,64}.
+ *
+ * @author Jordan Owens
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ConcurrentStackBenchmark {
+    @Param({"0", "1000"})
+    int size;
+
+    ConcurrentStack<Integer> concurrentStack;
+    Stack<Integer> synchronizedStack;
+    ConcurrentLinkedDeque<Integer> concurrentLinkedDeque;
+    Integer element = 42;
+
+    @Setup(Level.Trial)
+    public void fill() {
+        concurrentStack = new ConcurrentStack<>();
+        synchronizedStack = new Stack<>();
+        concurrentLinkedDeque = new ConcurrentLinkedDeque<>();
+        for (int i = 0; i < size; i++) {
+            concurrentStack.push(i);
+            synchronizedStack.push(i);
+            concurrentLinkedDeque.push(i);
+        }
+    }
+
+    @Benchmark
+    public Integer concurrentStack() {
+        concurrentStack.push(element);
+        return concurrentStack.pop();
+    }
+
+    @Benchmark
+    public Integer synchronizedStack() {
+        synchronized (synchronizedStack) {
+            synchronizedStack.push(element);
+        }
+        synchronized (synchronizedStack) {
+            return synchronizedStack.pop();
+        }
+    }
+
+    @Benchmark
+    public Integer concurrentLinkedDeque() {
+        concurrentLinkedDeque.push(element);
+        return concurrentLinkedDeque.pollFirst();
+    }
+}
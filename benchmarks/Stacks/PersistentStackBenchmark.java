@@ -0,0 +1,142 @@
+package Stacks;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.util.ArrayDeque;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares backtracking with a {@link PersistentStack} against copying a
+ * {@link Stack} or cloning an {@link ArrayDeque} at every branch point.
+ * Each benchmark counts the solutions of the {@code n} queens problem by
+ * depth-first search, keeping the column of each placed queen on a stack.
+ * The stacks start with {@code history} unrelated elements below the
+ * queens, like the earlier decisions of a larger solver, which every
+ * copy pays for but a persistent stack shares.
+ *
+ * @author Jordan Owens
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class PersistentStackBenchmark {
+    @Param({"8"})
+    int n;
+
+    @Param({"0", "100", "1000"})
+    int history;
+
+    PersistentStack<Integer> persistentStack;
+    Stack<Integer> stack;
+    ArrayDeque<Integer> arrayDeque;
+
+    @Setup(Level.Trial)
+    public void fill() {
+        persistentStack = PersistentStack.empty();
+        stack = new Stack<>();
+        arrayDeque = new ArrayDeque<>();
+        for (int i = 0; i < history; i++) {
+            persistentStack = persistentStack.push(-1);
+            stack.push(-1);
+            arrayDeque.push(-1);
+        }
+    }
+
+    /**
+     * Returns whether a queen can be placed in the next row
+     *
+     * @param placed the columns of the queens placed so far, most recent first
+     * @param row the row of the new queen
+     * @param column the column of the new queen
+     * @return {@code true} if no placed queen attacks the new one
+     */
+    private static boolean safe(Iterator<Integer> placed, int row, int column) {
+        for (int distance = 1; distance <= row; distance++) {
+            int other = placed.next();
+            if (other == column || Math.abs(other - column) == distance) return false;
+        }
+        return true;
+    }
+
+    /**
+     * Copies a stack, keeping the order of its elements
+     *
+     * @param stack the stack to copy
+     * @return a stack with the same elements
+     */
+    private static Stack<Integer> copy(Stack<Integer> stack) {
+        Stack<Integer> reversed = new Stack<>();
+        Stack<Integer> copy = new Stack<>();
+        Stack<Integer> restored = new Stack<>();
+        while (!stack.isEmpty()) reversed.push(stack.pop());
+        while (!reversed.isEmpty()) {
+            Integer element = reversed.pop();
+            copy.push(element);
+            restored.push(element);
+        }
+        // Refill the original, which copying had to empty
+        while (!restored.isEmpty()) reversed.push(restored.pop());
+        while (!reversed.isEmpty()) stack.push(reversed.pop());
+        return copy;
+    }
+
+    private int solve(PersistentStack<Integer> placed, int row) {
+        if (row == n) return 1;
+        int solutions = 0;
+        for (int column = 0; column < n; column++) {
+            if (safe(placed.iterator(), row, column)) {
+                solutions += solve(placed.push(column), row + 1);
+            }
+        }
+        return solutions;
+    }
+
+    private int solve(ArrayDeque<Integer> placed, int row) {
+        if (row == n) return 1;
+        int solutions = 0;
+        for (int column = 0; column < n; column++) {
+            if (safe(placed.iterator(), row, column)) {
+                ArrayDeque<Integer> branch = placed.clone();
+                branch.push(column);
+                solutions += solve(branch, row + 1);
+            }
+        }
+        return solutions;
+    }
+
+    private int solve(Stack<Integer> placed, int row) {
+        if (row == n) return 1;
+        int solutions = 0;
+        Integer[] queens = new Integer[row];
+        for (int i = 0; i < row; i++) queens[i] = placed.pop();
+        for (int i = row - 1; i >= 0; i--) placed.push(queens[i]);
+        for (int column = 0; column < n; column++) {
+            if (safe(Arrays.asList(queens).iterator(), row, column)) {
+                Stack<Integer> branch = copy(placed);
+                branch.push(column);
+                solutions += solve(branch, row + 1);
+            }
+        }
+        return solutions;
+    }
+
+    @Benchmark
+    public int persistentStack() {
+        return solve(persistentStack, 0);
+    }
+
+    @Benchmark
+    public int arrayDeque() {
+        return solve(arrayDeque, 0);
+    }
+
+    @Benchmark
+    public int stack() {
+        return solve(stack, 0);
+    }
+}
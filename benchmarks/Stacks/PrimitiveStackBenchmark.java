@@ -0,0 +1,105 @@
+package Stacks;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.util.ArrayDeque;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares {@link IntStack} with {@link Stack} and {@link ArrayDeque}
+ * holding boxed {@code Integer}s. Each benchmark holds the stack at
+ * {@code size} elements. The single benchmarks push a new sequence number
+ * before popping, so the boxed stacks pay for boxing as well as their nodes
+ * or slots. The batch benchmarks push and pop {@code batch} values at a
+ * time, like a depth-first search expanding a vertex, which the
+ * {@code IntStack} does with {@code pushAll} and {@code popInto}.
+ * Run with {@code -Pjmh.args="-prof gc"} to compare allocation rates.
+ *
+ * @author Jordan Owens
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class PrimitiveStackBenchmark {
+    @Param({"100", "10000", "1000000"})
+    int size;
+
+    @Param({"8"})
+    int batch;
+
+    IntStack intStack;
+    Stack<Integer> stack;
+    ArrayDeque<Integer> arrayDeque;
+    int[] values;
+    int[] popped;
+    int sequence;
+
+    @Setup(Level.Trial)
+    public void fill() {
+        intStack = new IntStack();
+        stack = new Stack<>();
+        arrayDeque = new ArrayDeque<>();
+        for (int i = 0; i < size; i++) {
+            intStack.push(i);
+            stack.push(i);
+            arrayDeque.push(i);
+        }
+        values = new int[batch];
+        popped = new int[batch];
+        sequence = 1 << 20;
+    }
+
+    @Benchmark
+    public int intStack() {
+        intStack.push(sequence++);
+        return intStack.pop();
+    }
+
+    @Benchmark
+    public Integer stack() {
+        stack.push(sequence++);
+        return stack.pop();
+    }
+
+    @Benchmark
+    public Integer arrayDeque() {
+        arrayDeque.push(sequence++);
+        return arrayDeque.pop();
+    }
+
+    @Benchmark
+    public int intStackBatch() {
+        for (int i = 0; i < batch; i++) {
+            values[i] = sequence++;
+        }
+        intStack.pushAll(values);
+        return intStack.popInto(popped);
+    }
+
+    @Benchmark
+    public int stackBatch() {
+        for (int i = 0; i < batch; i++) {
+            stack.push(sequence++);
+        }
+        int sum = 0;
+        for (int i = 0; i < batch; i++) {
+            sum += stack.pop();
+        }
+        return sum;
+    }
+
+    @Benchmark
+    public int arrayDequeBatch() {
+        for (int i = 0; i < batch; i++) {
+            arrayDeque.push(sequence++);
+        }
+        int sum = 0;
+        for (int i = 0; i < batch; i++) {
+            sum += arrayDeque.pop();
+        }
+        return sum;
+    }
+}
@@ -0,0 +1,59 @@
+package Stacks;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures pushing {@code size} elements on to an empty stack implemented
+ * using Queues: {@link QueueStack} one push at a time, which takes O(n^2)
+ * time, {@link QueueStack#pushAll(Object[])}, which rotates the queue once,
+ * and {@link ChunkedQueueStack}, whose pushes take O(1) time.
+ *
+ * @author Jordan Owens
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class QueueStackBenchmark {
+    @Param({"1000", "10000", "50000"})
+    int size;
+
+    Integer[] elements;
+
+    @Setup(Level.Trial)
+    public void fill() {
+        elements = new Integer[size];
+        for (int i = 0; i < size; i++) {
+            elements[i] = i;
+        }
+    }
+
+    @Benchmark
+    public QueueStack<Integer> queueStackPush() {
+        QueueStack<Integer> stack = new QueueStack<>();
+        for (Integer element : elements) {
+            stack.push(element);
+        }
+        return stack;
+    }
+
+    @Benchmark
+    public QueueStack<Integer> queueStackPushAll() {
+        QueueStack<Integer> stack = new QueueStack<>();
+        stack.pushAll(elements);
+        return stack;
+    }
+
+    @Benchmark
+    public ChunkedQueueStack<Integer> chunkedQueueStackPush() {
+        ChunkedQueueStack<Integer> stack = new ChunkedQueueStack<>();
+        for (Integer element : elements) {
+            stack.push(element);
+        }
+        return stack;
+    }
+}
@@ -0,0 +1,80 @@
+package Stacks;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.util.ArrayDeque;
+import java.util.LinkedList;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares {@link Stack}, with and without node recycling, and
+ * {@link ArrayStack} with {@link ArrayDeque} and {@link LinkedList}.
+ * Each benchmark holds the stack at {@code size} elements
+ * and measures one push paired with one pop.
+ * Run with {@code -Pjmh.args="-prof gc"} to compare allocation rates.
+ *
+ * @author Jordan Owens
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class StackBenchmark {
+    @Param({"100", "1000", "10000", "100000", "1000000", "10000000"})
+    int size;
+
+    Stack<Integer> stack;
+    Stack<Integer> recyclingStack;
+    ArrayStack<Integer> arrayStack;
+    ArrayDeque<Integer> arrayDeque;
+    LinkedList<Integer> linkedList;
+    Integer element = 42;
+
+    @Setup(Level.Trial)
+    public void fill() {
+        stack = new Stack<>();
+        recyclingStack = new Stack<>(Integer.MAX_VALUE, 64);
+        arrayStack = new ArrayStack<>();
+        arrayDeque = new ArrayDeque<>();
+        linkedList = new LinkedList<>();
+        for (int i = 0; i < size; i++) {
+            stack.push(i);
+            recyclingStack.push(i);
+            arrayStack.push(i);
+            arrayDeque.push(i);
+            linkedList.push(i);
+        }
+    }
+
+    @Benchmark
+    public Integer stack() {
+        stack.push(element);
+        return stack.pop();
+    }
+
+    @Benchmark
+    public Integer recyclingStack() {
+        recyclingStack.push(element);
+        return recyclingStack.pop();
+    }
+
+    @Benchmark
+    public Integer arrayStack() {
+        arrayStack.push(element);
+        return arrayStack.pop();
+    }
+
+    @Benchmark
+    public Integer arrayDeque() {
+        arrayDeque.push(element);
+        return arrayDeque.pop();
+    }
+
+    @Benchmark
+    public Integer linkedList() {
+        linkedList.push(element);
+        return linkedList.pop();
+    }
+}
@@ -0,0 +1,106 @@
+package Support;
+
+import java.util.Random;
+
+/**
+ * Key distributions used to build and probe the benchmarked structures.
+ * Every distribution produces keys in {@code [0, range)}.
+ *
+ * @author Jordan Owens
+ */
+public enum Distribution {
+    /** Keys in ascending order */
+    SORTED,
+    /** Keys in descending order */
+    REVERSED,
+    /** Keys drawn uniformly at random */
+    UNIFORM,
+    /** Keys drawn from a Zipfian distribution where small keys are hot */
+    ZIPFIAN;
+
+    /** Skew of the Zipfian distribution (the YCSB default) */
+    private static final double THETA = 0.99;
+
+    /**
+     * Generates keys following this distribution
+     *
+     * @param count the number of keys to generate
+     * @param range the exclusive upper bound of the keys
+     * @param seed the seed of the random number generator
+     * @return an array of {@code count} keys in {@code [0, range)}
+     * @throws IllegalArgumentException if {@code count < 0 || range < 1}
+     */
+    public int[] keys(int count, int range, long seed) {
+        if (count < 0 || range < 1) {
+            throw new IllegalArgumentException("Invalid count or range");
+        }
+        int[] keys = new int[count];
+        Random random = new Random(seed);
+        switch (this) {
+            case SORTED:
+                for (int i = 0; i < count; i++) {
+                    keys[i] = (int) ((long) i * range / count);
+                }
+                break;
+            case REVERSED:
+                for (int i = 0; i < count; i++) {
+                    keys[i] = range - 1 - (int) ((long) i * range / count);
+                }
+                break;
+            case UNIFORM:
+                for (int i = 0; i < count; i++) {
+                    keys[i] = random.nextInt(range);
+                }
+                break;
+            case ZIPFIAN:
+                zipfian(keys, range, random);
+                break;
+        }
+        return keys;
+    }
+
+    /**
+     * Generates boxed keys following this distribution
+     *
+     * @param count the number of keys to generate
+     * @param range the exclusive upper bound of the keys
+     * @param seed the seed of the random number generator
+     * @return an array of {@code count} keys in {@code [0, range)}
+     * @throws IllegalArgumentException if {@code count < 0 || range < 1}
+     */
+    public Integer[] boxedKeys(int count, int range, long seed) {
+        int[] keys = keys(count, range, seed);
+        Integer[] boxed = new Integer[count];
+        for (int i = 0; i < count; i++) {
+            boxed[i] = keys[i];
+        }
+        return boxed;
+    }
+
+    /**
+     * Fills an array with Zipfian keys using the method from Gray et al.,
+     * "Quickly Generating Billion-Record Synthetic Databases"
+     */
+    private static void zipfian(int[] keys, int range, Random random) {
+        double zetan = 0;
+        for (int i = 1; i <= range; i++) {
+            zetan += 1 / Math.pow(i, THETA);
+        }
+        double zeta2 = 1 + 1 / Math.pow(2, THETA);
+        double alpha = 1 / (1 - THETA);
+        double eta = (1 - Math.pow(2.0 / range, 1 - THETA)) / (1 - zeta2 / zetan);
+        for (int i = 0; i < keys.length; i++) {
+            double u = random.nextDouble();
+            double uz = u * zetan;
+            int key;
+            if (uz < 1) {
+                key = 0;
+            } else if (uz < zeta2) {
+                key = 1;
+            } else {
+                key = (int) (range * Math.pow(eta * u - eta + 1, alpha));
+            }
+            keys[i] = Math.min(key, range - 1);
+        }
+    }
+}
@@ -0,0 +1,110 @@
+package Trees;
+
+import Support.Distribution;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.BenchmarkParams;
+
+import java.util.TreeMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares {@link BinarySearchTree} and {@link AVLTree} with {@link TreeMap}.
+ * The trees are built by inserting {@code size} keys in distribution order
+ * and probed with keys drawn from the same distribution.
+ * <p>
+ * Sorted and reversed keys degrade the unbalanced binary search tree
+ * into a list whose recursive operations overflow the stack,
+ * so those trials are rejected above {@link #MAX_DEGENERATE_SIZE} keys.
+ *
+ * @author Jordan Owens
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class TreeBenchmark {
+    /** Number of probes generated before they are reused */
+    private static final int PROBES = 1 << 16;
+    /** Largest binary search tree built from sorted or reversed keys */
+    private static final int MAX_DEGENERATE_SIZE = 10_000;
+
+    @Param({"100", "1000", "10000", "100000", "1000000", "10000000"})
+    int size;
+
+    @Param({"SORTED", "REVERSED", "UNIFORM", "ZIPFIAN"})
+    Distribution distribution;
+
+    BinarySearchTree<Integer, Integer> bst;
+    AVLTree<Integer, Integer> avl;
+    TreeMap<Integer, Integer> treeMap;
+    Integer[] probes;
+    int next;
+
+    @Setup(Level.Trial)
+    public void fill(BenchmarkParams params) {
+        boolean degenerate = distribution == Distribution.SORTED
+                || distribution == Distribution.REVERSED;
+        boolean needsBst = params.getBenchmark().endsWith(".bstGet")
+                || params.getBenchmark().endsWith(".bstInsertRemove");
+        if (needsBst && degenerate && size > MAX_DEGENERATE_SIZE) {
+            throw new IllegalStateException(
+                    "Unbalanced tree too deep for " + distribution + " keys");
+        }
+        bst = new BinarySearchTree<>();
+        avl = new AVLTree<>();
+        treeMap = new TreeMap<>();
+        for (Integer key : distribution.boxedKeys(size, size, 1)) {
+            if (needsBst) bst.insert(key, key);
+            avl.insert(key, key);
+            treeMap.put(key, key);
+        }
+        probes = distribution.boxedKeys(PROBES, size, 2);
+    }
+
+    private Integer probe() {
+        return probes[next++ & (PROBES - 1)];
+    }
+
+    /** Gets a key that is never in the tree so it can be inserted and removed */
+    private Integer absent() {
+        return size + probe();
+    }
+
+    @Benchmark
+    public Integer bstGet() {
+        return bst.get(probe());
+    }
+
+    @Benchmark
+    public Integer avlGet() {
+        return avl.get(probe());
+    }
+
+    @Benchmark
+    public Integer treeMapGet() {
+        return treeMap.get(probe());
+    }
+
+    @Benchmark
+    public boolean bstInsertRemove() {
+        Integer key = absent();
+        bst.insert(key, key);
+        return bst.remove(key);
+    }
+
+    @Benchmark
+    public boolean avlInsertRemove() {
+        Integer key = absent();
+        avl.insert(key, key);
+        return avl.remove(key);
+    }
+
+    @Benchmark
+    public Integer treeMapInsertRemove() {
+        Integer key = absent();
+        treeMap.put(key, key);
+        return treeMap.remove(key);
+    }
+}
@@ -0,0 +1,246 @@
+package Deques;
+
+import java.util.NoSuchElementException;
+
+/**
+ * Deque of {@code @type@} values stored without boxing.
+ * <p>
+ * Values are stored in a circular array whose length is always a power of
+ * two, like {@link CircularDeque}. Since a {@code @type@} can't be null,
+ * removing or peeking at an element of an empty deque throws
+ * {@link NoSuchElementException} instead of returning a sentinel value,
+ * so check {@link #isEmpty()} first.
+ * <p>
+ * Generated from {@code templates/Deques/PrimitiveDeque.java}.
+ *
+ * @author Jordan Owens
+ */
+public class @Name@Deque {
+    /** Smallest length of the array once elements are removed */
+    private static final int MIN_CAPACITY = 16;
+    /** Largest power of two length an array can have */
+    private static final int MAX_CAPACITY = 1 << 30;
+
+    /** Array holding the elements of the deque */
+    private @type@[] elements;
+    /** Index of the first element in the deque */
+    private int head;
+    /** Size of the deque */
+    private int size;
+    /** Maximum size of the deque */
+    private int maxSize;
+
+    /** Constructs an empty deque with no size restriction */
+    public @Name@Deque() {
+        this.elements = new @type@[MIN_CAPACITY];
+        this.head = 0;
+        this.size = 0;
+        this.maxSize = Integer.MAX_VALUE;
+    }
+
+    /**
+     * Constructs an empty deque with a size restriction
+     *
+     * @param maxSize the maximum size of the deque
+     * @throws IllegalArgumentException if maxSize is not at least 1
+     */
+    public @Name@Deque(int maxSize) {
+        if (maxSize < 1) {
+            throw new IllegalArgumentException("Maximum size must be >= 1");
+        }
+        int capacity = maxSize <= 1 ? 1 : Integer.highestOneBit(maxSize - 1) << 1;
+        this.elements = new @type@[Math.min(MIN_CAPACITY, capacity)];
+        this.head = 0;
+        this.size = 0;
+        this.maxSize = maxSize;
+    }
+
+    /**
+     * Moves the elements into a new array starting at index 0
+     *
+     * @param capacity the length of the new array
+     */
+    private void resize(int capacity) {
+        @type@[] resized = new @type@[capacity];
+        int mask = elements.length - 1;
+        for (int i = 0; i < size; i++) {
+            resized[i] = elements[(head + i) & mask];
+        }
+        elements = resized;
+        head = 0;
+    }
+
+    /** Doubles the array if there is no room for another element */
+    private void growIfFull() {
+        if (size < elements.length) return;
+        if (elements.length == MAX_CAPACITY) {
+            throw new IllegalStateException("Deque is too large");
+        }
+        resize(elements.length << 1);
+    }
+
+    /** Halves the array if it is at most a quarter full */
+    private void shrinkIfSparse() {
+        if (elements.length > MIN_CAPACITY && size <= elements.length >>> 2) {
+            resize(elements.length >>> 1);
+        }
+    }
+
+    /**
+     * Gets the size of the deque
+     *
+     * @return the number of elements in the deque
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Gets the maximum size of the deque
+     *
+     * @return the maximum number of elements allowed in the deque
+     */
+    public int maxSize() {
+        return maxSize;
+    }
+
+    /**
+     * Returns whether the deque is empty or not
+     *
+     * @return {@code true} if the deque is empty
+     */
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * Returns whether the deque is full or not
+     *
+     * @return {@code true} if the deque is full
+     */
+    public boolean isFull() {
+        return size == maxSize;
+    }
+
+    /**
+     * Inserts an element at the front of the deque
+     *
+     * @param element the element to insert
+     * @return {@code true} if the element was added to the deque
+     *         {@code false} if the deque is full and the element can't be added
+     */
+    public boolean enqueueFront(@type@ element) {
+        if (isFull()) return false;
+        growIfFull();
+        head = (head - 1) & (elements.length - 1);
+        elements[head] = element;
+        size++;
+        return true;
+    }
+
+    /**
+     * Inserts an element at the back of the deque
+     *
+     * @param element the element to insert
+     * @return {@code true} if the element was added to the deque
+     *         {@code false} if the deque is full and the element can't be added
+     */
+    public boolean enqueueBack(@type@ element) {
+        if (isFull()) return false;
+        growIfFull();
+        elements[(head + size) & (elements.length - 1)] = element;
+        size++;
+        return true;
+    }
+
+    /**
+     * Gets and removes the first element in the deque
+     *
+     * @return element at the front of the deque
+     * @throws NoSuchElementException if deque is empty
+     */
+    public @type@ dequeueFront() {
+        if (size == 0) throw new NoSuchElementException();
+        @type@ dequeued = elements[head];
+        head = (head + 1) & (elements.length - 1);
+        size--;
+        shrinkIfSparse();
+        return dequeued;
+    }
+
+    /**
+     * Gets and removes the last element in the deque
+     *
+     * @return element at the back of the deque
+     * @throws NoSuchElementException if deque is empty
+     */
+    public @type@ dequeueBack() {
+        if (size == 0) throw new NoSuchElementException();
+        @type@ dequeued = elements[(head + size - 1) & (elements.length - 1)];
+        size--;
+        shrinkIfSparse();
+        return dequeued;
+    }
+
+    /**
+     * Gets, but does not remove, the first element in the deque
+     *
+     * @return element at the front of the deque
+     * @throws NoSuchElementException if deque is empty
+     */
+    public @type@ peekFirst() {
+        if (size == 0) throw new NoSuchElementException();
+        return elements[head];
+    }
+
+    /**
+     * Gets, but does not remove, the last element in the deque
+     *
+     * @return element at the back of the deque
+     * @throws NoSuchElementException if deque is empty
+     */
+    public @type@ peekLast() {
+        if (size == 0) throw new NoSuchElementException();
+        return elements[(head + size - 1) & (elements.length - 1)];
+    }
+
+    /**
+     * Returns whether the deque contains an element.
+     * Elements are compared like {@link @Boxed@#equals(Object)}.
+     *
+     * @param element element being tested for inclusion in the deque
+     * @return {@code true} if the element is in the deque
+     */
+    public boolean contains(@type@ element) {
+        int mask = elements.length - 1;
+        for (int i = 0; i < size; i++) {
+            if (@Boxed@.compare(element, elements[(head + i) & mask]) == 0) return true;
+        }
+        return false;
+    }
+
+    // Stack methods
+
+    /**
+     * Pushes an element on to the stack represented by this deque
+     * (inserts it at the front of the deque)
+     *
+     * @param element the element to push on to the stack
+     * @return {@code true} if the element was added successfully
+     */
+    public boolean push(@type@ element) {
+        return enqueueFront(element);
+    }
+
+    /**
+     * Removes the element on top of the stack represented by this deque
+     * (the first element in the deque)
+     *
+     * @return the element on top of the stack represented by this deque
+     *         (the element at the front of this deque)
+     * @throws NoSuchElementException if deque is empty
+     */
+    public @type@ pop() {
+        return dequeueFront();
+    }
+}
@@ -0,0 +1,133 @@
+package Deques;
+
+import java.util.NoSuchElementException;
+
+/**
+ * Sliding window of {@code @type@} values that reports the window's maximum
+ * and minimum in amortized O(1).
+ * <p>
+ * Every value pushed gets the next index, starting at 0, and values leave
+ * the window in the order they were pushed when older indices are evicted.
+ * Two monotonic deques hold the candidates for the maximum and minimum.
+ * A value is dropped from a candidate deque once a newer value is at least
+ * as large (for the maximum) or as small (for the minimum), since it can
+ * never be the answer again. Each value is therefore inserted and removed
+ * at most once per deque. Values are compared like
+ * {@link @Boxed@#compare(@type@, @type@)}.
+ * <p>
+ * Generated from {@code templates/Deques/PrimitiveMonotonicDeque.java}.
+ *
+ * @author Jordan Owens
+ */
+public class @Name@MonotonicDeque {
+    /** Indices of the maximum candidates, oldest first */
+    private final LongDeque maxIndices;
+    /** Maximum candidates in decreasing order */
+    private final @Name@Deque maxValues;
+    /** Indices of the minimum candidates, oldest first */
+    private final LongDeque minIndices;
+    /** Minimum candidates in increasing order */
+    private final @Name@Deque minValues;
+    /** Index of the oldest value in the window */
+    private long oldest;
+    /** Index the next value pushed will get */
+    private long next;
+
+    /** Constructs an empty window */
+    public @Name@MonotonicDeque() {
+        this.maxIndices = new LongDeque();
+        this.maxValues = new @Name@Deque();
+        this.minIndices = new LongDeque();
+        this.minValues = new @Name@Deque();
+        this.oldest = this.next = 0;
+    }
+
+    /**
+     * Gets the number of values in the window
+     *
+     * @return the number of values pushed and not yet evicted
+     */
+    public long size() {
+        return next - oldest;
+    }
+
+    /**
+     * Returns whether the window is empty or not
+     *
+     * @return {@code true} if the window is empty
+     */
+    public boolean isEmpty() {
+        return next == oldest;
+    }
+
+    /**
+     * Gets the index the next value pushed will get
+     *
+     * @return the number of values pushed so far
+     */
+    public long nextIndex() {
+        return next;
+    }
+
+    /**
+     * Pushes a value on to the back of the window
+     *
+     * @param value the value to push
+     * @return the index of the value
+     */
+    public long pushBack(@type@ value) {
+        while (!maxValues.isEmpty() && @Boxed@.compare(maxValues.peekLast(), value) <= 0) {
+            maxValues.dequeueBack();
+            maxIndices.dequeueBack();
+        }
+        maxValues.enqueueBack(value);
+        maxIndices.enqueueBack(next);
+        while (!minValues.isEmpty() && @Boxed@.compare(minValues.peekLast(), value) >= 0) {
+            minValues.dequeueBack();
+            minIndices.dequeueBack();
+        }
+        minValues.enqueueBack(value);
+        minIndices.enqueueBack(next);
+        return next++;
+    }
+
+    /**
+     * Evicts every value whose index is less than an index
+     *
+     * @param index the index of the oldest value to keep
+     */
+    public void evictOlderThan(long index) {
+        if (index <= oldest) return;
+        oldest = Math.min(index, next);
+        while (!maxIndices.isEmpty() && maxIndices.peekFirst() < oldest) {
+            maxIndices.dequeueFront();
+            maxValues.dequeueFront();
+        }
+        while (!minIndices.isEmpty() && minIndices.peekFirst() < oldest) {
+            minIndices.dequeueFront();
+            minValues.dequeueFront();
+        }
+    }
+
+    /**
+     * Gets the largest value in the window
+     *
+     * @return the largest value in the window
+     * @throws NoSuchElementException if the window is empty
+     */
+    public @type@ windowMax() {
+        if (isEmpty()) throw new NoSuchElementException();
+        return maxValues.peekFirst();
+    }
+
+    /**
+     * Gets the smallest value in the window
+     *
+     * @return the smallest value in the window
+     * @throws NoSuchElementException if the window is empty
+     */
+    public @type@ windowMin() {
+        if (isEmpty()) throw new NoSuchElementException();
+        return minValues.peekFirst();
+    }
+}
@@ -0,0 +1,133 @@
+package Queues;
+
+import Stacks.@Name@Stack;
+
+import java.util.NoSuchElementException;
+import java.util.function.@Name@BinaryOperator;
+
+/**
+ * Queue of {@code @type@} values implemented using Stacks that keeps a
+ * running aggregate of its values, such as the minimum, maximum or sum of
+ * a sliding window, without boxing.
+ * <p>
+ * Works like {@link AggregateStackQueue}: the back stack keeps the
+ * aggregate of all its values and the front stack stores, with each value,
+ * the aggregate of that value and every value enqueued after it, so
+ * {@link #aggregate()} takes O(1) time and enqueueing and dequeueing take
+ * amortized O(1) time. Since a {@code @type@} can't be null, the operator
+ * needs an identity element, which is the aggregate of an empty queue, and
+ * dequeueing or peeking at an empty queue throws
+ * {@link NoSuchElementException}.
+ * <p>
+ * Generated from {@code templates/Queues/PrimitiveAggregateStackQueue.java}.
+ *
+ * @author Jordan Owens
+ */
+public class @Name@AggregateStackQueue {
+    /** Recently enqueued values, newest on top */
+    private final @Name@Stack back;
+    /** Aggregate of the back stack */
+    private @type@ backAggregate;
+    /** Oldest value of the back stack */
+    private @type@ backFront;
+    /** Oldest values, oldest on top */
+    private final @Name@Stack front;
+    /** Aggregate of each front value and every value enqueued after it */
+    private final @Name@Stack frontAggregates;
+    /** Aggregate of no values */
+    private final @type@ identity;
+    /** Associative operator combining an older aggregate with a newer one */
+    private final @Name@BinaryOperator operator;
+
+    /**
+     * Constructs an empty queue
+     *
+     * @param identity the aggregate of no values, such as 0 for a sum
+     * @param operator the associative operator to aggregate values with
+     * @throws NullPointerException if operator is null
+     */
+    public @Name@AggregateStackQueue(@type@ identity, @Name@BinaryOperator operator) {
+        if (operator == null) throw new NullPointerException();
+        this.back = new @Name@Stack();
+        this.front = new @Name@Stack();
+        this.frontAggregates = new @Name@Stack();
+        this.identity = identity;
+        this.operator = operator;
+        this.backAggregate = identity;
+    }
+
+    /**
+     * Gets the size of the queue
+     *
+     * @return the number of values in the queue
+     */
+    public int size() {
+        return back.size() + front.size();
+    }
+
+    /**
+     * Returns whether the queue is empty or not
+     *
+     * @return {@code true} if the queue is empty
+     */
+    public boolean isEmpty() {
+        return back.isEmpty() && front.isEmpty();
+    }
+
+    /**
+     * Inserts a value into the queue
+     *
+     * @param value the value to add
+     */
+    public void enqueue(@type@ value) {
+        backAggregate = operator.applyAs@Name@(backAggregate, value);
+        if (back.isEmpty()) backFront = value;
+        back.push(value);
+    }
+
+    /**
+     * Gets and removes the front of the queue
+     *
+     * @return value at the front of the queue
+     * @throws NoSuchElementException if queue is empty
+     */
+    public @type@ dequeue() {
+        if (front.isEmpty()) {
+            // Newest first, so each value is combined with the ones after it
+            @type@ aggregate = identity;
+            while (!back.isEmpty()) {
+                @type@ value = back.pop();
+                aggregate = operator.applyAs@Name@(value, aggregate);
+                front.push(value);
+                frontAggregates.push(aggregate);
+            }
+            backAggregate = identity;
+        }
+        @type@ value = front.pop();
+        frontAggregates.pop();
+        return value;
+    }
+
+    /**
+     * Gets value at the front of the queue
+     *
+     * @return value at the front of the queue
+     * @throws NoSuchElementException if queue is empty
+     */
+    public @type@ peek() {
+        if (!front.isEmpty()) return front.top();
+        if (back.isEmpty()) throw new NoSuchElementException();
+        return backFront;
+    }
+
+    /**
+     * Gets the aggregate of every value in the queue,
+     * combined from the front of the queue to the back
+     *
+     * @return the aggregate of the values, or the identity if the queue is empty
+     */
+    public @type@ aggregate() {
+        if (frontAggregates.isEmpty()) return backAggregate;
+        return operator.applyAs@Name@(frontAggregates.top(), backAggregate);
+    }
+}
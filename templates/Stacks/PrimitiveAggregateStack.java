@@ -0,0 +1,143 @@
+package Stacks;
+
+import java.util.NoSuchElementException;
+import java.util.function.@Name@BinaryOperator;
+
+/**
+ * Stack of {@code @type@} values that keeps a running aggregate of its
+ * values, such as their minimum, maximum or sum, without boxing.
+ * <p>
+ * Works like {@link AggregateStack}: each value is stored alongside the
+ * aggregate of itself and every value below it, so pushing, popping and
+ * {@link #aggregate()} all take O(1) time. Since a {@code @type@} can't be
+ * null, the operator needs an identity element, which is the aggregate of
+ * an empty stack, and popping or peeking at an empty stack throws
+ * {@link NoSuchElementException}.
+ * <p>
+ * Generated from {@code templates/Stacks/PrimitiveAggregateStack.java}.
+ *
+ * @author Jordan Owens
+ */
+public class @Name@AggregateStack {
+    /** Values of the stack */
+    private final @Name@Stack values;
+    /** Aggregate of each value and the values below it */
+    private final @Name@Stack aggregates;
+    /** Aggregate of no values */
+    private final @type@ identity;
+    /** Associative operator combining an older aggregate with a newer value */
+    private final @Name@BinaryOperator operator;
+
+    /**
+     * Constructs an empty stack with no size restriction
+     *
+     * @param identity the aggregate of no values, such as 0 for a sum
+     * @param operator the associative operator to aggregate values with
+     * @throws NullPointerException if operator is null
+     */
+    public @Name@AggregateStack(@type@ identity, @Name@BinaryOperator operator) {
+        if (operator == null) throw new NullPointerException();
+        this.values = new @Name@Stack();
+        this.aggregates = new @Name@Stack();
+        this.identity = identity;
+        this.operator = operator;
+    }
+
+    /**
+     * Constructs an empty stack with a size restriction
+     *
+     * @param identity the aggregate of no values, such as 0 for a sum
+     * @param operator the associative operator to aggregate values with
+     * @param maxSize the maximum size of the stack
+     * @throws NullPointerException if operator is null
+     * @throws IllegalArgumentException if maxSize is not at least 1
+     */
+    public @Name@AggregateStack(@type@ identity, @Name@BinaryOperator operator, int maxSize) {
+        if (operator == null) throw new NullPointerException();
+        this.values = new @Name@Stack(maxSize);
+        this.aggregates = new @Name@Stack(maxSize);
+        this.identity = identity;
+        this.operator = operator;
+    }
+
+    /**
+     * Gets the size of the stack
+     *
+     * @return the number of values in the stack
+     */
+    public int size() {
+        return values.size();
+    }
+
+    /**
+     * Gets the maximum size of the stack
+     *
+     * @return the maximum number of values allowed in the stack
+     */
+    public int maxSize() {
+        return values.maxSize();
+    }
+
+    /**
+     * Returns whether the stack is empty or not
+     *
+     * @return {@code true} if the stack is empty
+     */
+    public boolean isEmpty() {
+        return values.isEmpty();
+    }
+
+    /**
+     * Returns whether the stack is full or not
+     *
+     * @return {@code true} if the stack is full
+     */
+    public boolean isFull() {
+        return values.isFull();
+    }
+
+    /**
+     * Pushes a value on to the stack
+     *
+     * @param value the value to push on to the stack
+     * @return {@code true} if the value was added successfully
+     *         {@code false} if the stack is full and the value can't be added
+     */
+    public boolean push(@type@ value) {
+        if (!values.push(value)) return false;
+        aggregates.push(operator.applyAs@Name@(aggregate(), value));
+        return true;
+    }
+
+    /**
+     * Removes the value on top of the stack
+     *
+     * @return the value on top of the stack
+     * @throws NoSuchElementException if the stack is empty
+     */
+    public @type@ pop() {
+        @type@ value = values.pop();
+        aggregates.pop();
+        return value;
+    }
+
+    /**
+     * Gets the value on top of the stack
+     *
+     * @return the value on top of the stack
+     * @throws NoSuchElementException if the stack is empty
+     */
+    public @type@ top() {
+        return values.top();
+    }
+
+    /**
+     * Gets the aggregate of every value in the stack,
+     * combined from the bottom of the stack to the top
+     *
+     * @return the aggregate of the values, or the identity if the stack is empty
+     */
+    public @type@ aggregate() {
+        return aggregates.isEmpty() ? identity : aggregates.top();
+    }
+}
@@ -0,0 +1,198 @@
+package Stacks;
+
+import java.util.NoSuchElementException;
+
+/**
+ * Stack of {@code @type@} values stored without boxing.
+ * <p>
+ * Values are stored in a growable array, like {@link ArrayStack}.
+ * Since a {@code @type@} can't be null, popping or peeking at an empty
+ * stack throws {@link NoSuchElementException} instead of returning a
+ * sentinel value, so check {@link #isEmpty()} first.
+ * {@link #pushAll(@type@[])} and {@link #popInto(@type@[])} move whole
+ * arrays of values with one copy each.
+ * <p>
+ * Generated from {@code templates/Stacks/PrimitiveStack.java}.
+ *
+ * @author Jordan Owens
+ */
+public class @Name@Stack {
+    /** Smallest length of the array once elements are removed */
+    private static final int MIN_CAPACITY = 16;
+    /** Largest length the array can have */
+    private static final int MAX_CAPACITY = 1 << 30;
+
+    /** Array holding the elements of the stack, the top at index size - 1 */
+    private @type@[] elements;
+    /** Size of the stack */
+    private int size;
+    /** Maximum size of the stack */
+    private int maxSize;
+
+    /** Constructs an empty stack with no size restriction */
+    public @Name@Stack() {
+        this.elements = new @type@[MIN_CAPACITY];
+        this.size = 0;
+        this.maxSize = Integer.MAX_VALUE;
+    }
+
+    /**
+     * Constructs an empty stack with a size restriction
+     *
+     * @param maxSize the maximum size of the stack
+     * @throws IllegalArgumentException if maxSize is not at least 1
+     */
+    public @Name@Stack(int maxSize) {
+        if (maxSize < 1) {
+            throw new IllegalArgumentException("Maximum size must be >= 1");
+        }
+        this.elements = new @type@[Math.min(MIN_CAPACITY, maxSize)];
+        this.size = 0;
+        this.maxSize = maxSize;
+    }
+
+    /**
+     * Moves the elements into a new array
+     *
+     * @param capacity the length of the new array
+     */
+    private void resize(int capacity) {
+        @type@[] resized = new @type@[capacity];
+        System.arraycopy(elements, 0, resized, 0, size);
+        elements = resized;
+    }
+
+    /**
+     * Grows the array until there is room for more elements
+     *
+     * @param count the number of elements about to be pushed
+     */
+    private void ensureRoom(int count) {
+        long needed = (long) size + count;
+        if (needed <= elements.length) return;
+        if (needed > MAX_CAPACITY) {
+            throw new IllegalStateException("Stack is too large");
+        }
+        long capacity = elements.length;
+        while (capacity < needed) capacity <<= 1;
+        resize((int) Math.min(capacity, MAX_CAPACITY));
+    }
+
+    /** Halves the array if it is at most a quarter full */
+    private void shrinkIfSparse() {
+        if (elements.length > MIN_CAPACITY && size <= elements.length >>> 2) {
+            resize(elements.length >>> 1);
+        }
+    }
+
+    /**
+     * Gets the size of the stack
+     *
+     * @return the number of elements in the stack
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Gets the maximum size of the stack
+     *
+     * @return the maximum number of elements allowed in the stack
+     */
+    public int maxSize() {
+        return maxSize;
+    }
+
+    /**
+     * Returns whether the stack is empty or not
+     *
+     * @return {@code true} if the stack is empty
+     */
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * Returns whether the stack is full or not
+     *
+     * @return {@code true} if the stack is full
+     */
+    public boolean isFull() {
+        return size == maxSize;
+    }
+
+    /**
+     * Pushes an element on to the stack
+     *
+     * @param element the element to push on to the stack
+     * @return {@code true} if the element was added successfully
+     *         {@code false} if the stack is full and the element can't be added
+     */
+    public boolean push(@type@ element) {
+        if (isFull()) return false;
+        if (size == elements.length) ensureRoom(1);
+        elements[size++] = element;
+        return true;
+    }
+
+    /**
+     * Pushes every element of an array on to the stack in order,
+     * so the last element of the array ends up on top.
+     * Either all of the elements are pushed or none are.
+     *
+     * @param elements the elements to push on to the stack
+     * @return {@code true} if the elements were added successfully
+     *         {@code false} if there isn't room for all of them
+     * @throws NullPointerException if the array is null
+     */
+    public boolean pushAll(@type@[] elements) {
+        int count = elements.length;
+        if (count > maxSize - size) return false;
+        ensureRoom(count);
+        System.arraycopy(elements, 0, this.elements, size, count);
+        size += count;
+        return true;
+    }
+
+    /**
+     * Removes the element on top of the stack
+     *
+     * @return the element on top of the stack
+     * @throws NoSuchElementException if the stack is empty
+     */
+    public @type@ pop() {
+        if (size == 0) throw new NoSuchElementException();
+        @type@ element = elements[--size];
+        shrinkIfSparse();
+        return element;
+    }
+
+    /**
+     * Pops elements into an array until the array or the stack runs out,
+     * so the former top of the stack ends up at index 0
+     *
+     * @param destination the array to store the popped elements in
+     * @return the number of elements popped
+     * @throws NullPointerException if the array is null
+     */
+    public int popInto(@type@[] destination) {
+        int count = Math.min(destination.length, size);
+        for (int i = 0; i < count; i++) {
+            destination[i] = elements[size - 1 - i];
+        }
+        size -= count;
+        shrinkIfSparse();
+        return count;
+    }
+
+    /**
+     * Gets the element on top of the stack
+     *
+     * @return the element on top of the stack
+     * @throws NoSuchElementException if the stack is empty
+     */
+    public @type@ top() {
+        if (size == 0) throw new NoSuchElementException();
+        return elements[size - 1];
+    }
+}
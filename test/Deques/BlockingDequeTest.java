@@ -0,0 +1,189 @@
+package Deques;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.BeforeEach;
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
+@DisplayName("BlockingDeque")
+public class BlockingDequeTest {
+    BlockingDeque<Integer> deque;
+
+    @BeforeEach
+    void instantiate() {
+        deque = new BlockingDeque<>(2);
+    }
+
+    @Test
+    void empty() {
+        assertTrue(deque.isEmpty());
+        assertFalse(deque.isFull());
+        assertEquals(0, deque.size());
+        assertEquals(2, deque.maxSize());
+        assertEquals(Integer.MAX_VALUE, new BlockingDeque<Integer>().maxSize());
+    }
+
+    @Test
+    @DisplayName("inserts and removes without waiting")
+    void nonBlocking() {
+        assertThrows(NullPointerException.class, () -> {
+            deque.enqueueFront(null);
+        });
+        assertThrows(NullPointerException.class, () -> {
+            deque.enqueueBack(null);
+        });
+        assertNull(deque.dequeueFront());
+        assertNull(deque.dequeueBack());
+        assertTrue(deque.enqueueBack(1));
+        assertTrue(deque.enqueueFront(0));
+        assertFalse(deque.enqueueBack(2));
+        assertTrue(deque.isFull());
+        assertEquals(0, deque.peekFirst());
+        assertEquals(1, deque.peekLast());
+        assertTrue(deque.contains(1));
+        assertEquals(1, deque.dequeueBack());
+        assertEquals(0, deque.dequeueFront());
+        assertTrue(deque.isEmpty());
+    }
+
+    @Test
+    @DisplayName("times out when full or empty")
+    void timeouts() throws InterruptedException {
+        assertNull(deque.pollFirst(10, TimeUnit.MILLISECONDS));
+        assertNull(deque.pollLast(0, TimeUnit.MILLISECONDS));
+        assertTrue(deque.offerLast(1, 10, TimeUnit.MILLISECONDS));
+        assertTrue(deque.offerFirst(0, 10, TimeUnit.MILLISECONDS));
+        assertFalse(deque.offerLast(2, 10, TimeUnit.MILLISECONDS));
+        assertFalse(deque.offerFirst(2, 0, TimeUnit.MILLISECONDS));
+        assertEquals(1, deque.pollLast(10, TimeUnit.MILLISECONDS));
+        assertEquals(0, deque.pollFirst(10, TimeUnit.MILLISECONDS));
+    }
+
+    @Test
+    @DisplayName("waits for an element to take")
+    void take() throws InterruptedException {
+        AtomicReference<Integer> taken = new AtomicReference<>();
+        Thread consumer = new Thread(() -> {
+            try {
+                taken.set(deque.takeFirst());
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        });
+        consumer.start();
+        deque.putLast(5);
+        consumer.join(5000);
+        assertEquals(5, taken.get());
+        deque.putFirst(6);
+        assertEquals(6, deque.takeLast());
+    }
+
+    @Test
+    @DisplayName("waits for room to put")
+    void put() throws InterruptedException {
+        deque.putLast(0);
+        deque.putLast(1);
+        Thread producer = new Thread(() -> {
+            try {
+                deque.putFirst(2);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        });
+        producer.start();
+        assertEquals(1, deque.takeLast());
+        producer.join(5000);
+        assertFalse(producer.isAlive());
+        assertEquals(2, deque.takeFirst());
+        assertEquals(0, deque.takeFirst());
+    }
+
+    @Test
+    @DisplayName("stops waiting when interrupted")
+    void interrupt() throws InterruptedException {
+        AtomicReference<Throwable> thrown = new AtomicReference<>();
+        Thread consumer = new Thread(() -> {
+            try {
+                deque.takeFirst();
+            } catch (Throwable t) {
+                thrown.set(t);
+            }
+        });
+        consumer.start();
+        consumer.interrupt();
+        consumer.join(5000);
+        assertTrue(thrown.get() instanceof InterruptedException);
+    }
+
+    @Test
+    @DisplayName("drains elements in batches")
+    void drainTo() throws InterruptedException {
+        deque = new BlockingDeque<>(10);
+        for (int i = 0; i < 10; i++) deque.putLast(i);
+        List<Integer> drained = new ArrayList<>();
+        assertThrows(NullPointerException.class, () -> {
+            deque.drainTo(null, 1);
+        });
+        assertEquals(4, deque.drainTo(drained, 4));
+        assertEquals(6, deque.size());
+        assertEquals(6, deque.drainTo(drained));
+        assertEquals(0, deque.drainTo(drained, 4));
+        for (int i = 0; i < 10; i++) {
+            assertEquals(i, drained.get(i));
+        }
+    }
+
+    @Test
+    @DisplayName("keeps elements a failing collection rejects and wakes producers")
+    void drainToThrows() throws InterruptedException {
+        deque = new BlockingDeque<>(3);
+        for (int i = 0; i < 3; i++) deque.putLast(i);
+        Thread producer = new Thread(() -> {
+            try {
+                deque.putLast(3);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        });
+        producer.start();
+        List<Integer> rejecting = new ArrayList<Integer>() {
+            @Override
+            public boolean add(Integer element) {
+                if (size() == 1) throw new IllegalStateException();
+                return super.add(element);
+            }
+        };
+        assertThrows(IllegalStateException.class, () -> {
+            deque.drainTo(rejecting, 3);
+        });
+        assertEquals(1, rejecting.size());
+        producer.join(TimeUnit.SECONDS.toMillis(5));
+        assertFalse(producer.isAlive());
+        for (int i = 1; i <= 3; i++) {
+            assertEquals(i, deque.dequeueFront());
+        }
+    }
+
+    @Test
+    @DisplayName("hands off every element between threads")
+    void handoff() throws InterruptedException {
+        final int n = 100000;
+        long[] sum = new long[1];
+        Thread consumer = new Thread(() -> {
+            try {
+                for (int i = 0; i < n; i++) sum[0] += deque.takeFirst();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        });
+        consumer.start();
+        for (int i = 0; i < n; i++) deque.putLast(i);
+        consumer.join();
+        assertEquals((long) n * (n - 1) / 2, sum[0]);
+    }
+}
@@ -0,0 +1,422 @@
+package Deques;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.BeforeEach;
+import static org.junit.jupiter.api.Assertions.*;
+import static Support.ConcurrentTests.*;
+
+import java.lang.ref.WeakReference;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicInteger;
+
+@DisplayName("ConcurrentDeque")
+public class ConcurrentDequeTest {
+    ConcurrentDeque<Integer> deque;
+
+    @BeforeEach
+    void instantiate() {
+        deque = new ConcurrentDeque<>();
+    }
+
+    @Test
+    void empty() {
+        assertTrue(deque.isEmpty());
+        assertEquals(0, deque.size());
+    }
+
+    @Test
+    void enqueue() {
+        assertThrows(NullPointerException.class, () -> {
+            deque.enqueueFront(null);
+        });
+        assertThrows(NullPointerException.class, () -> {
+            deque.enqueueBack(null);
+        });
+        assertThrows(NullPointerException.class, () -> {
+            deque.enqueue(null);
+        });
+        assertEquals(0, deque.size());
+        assertTrue(deque.enqueueFront(1));
+        assertEquals(1, deque.size());
+        assertFalse(deque.isEmpty());
+        assertTrue(deque.enqueueBack(2));
+        assertTrue(deque.enqueue(3));
+        assertTrue(deque.enqueueFront(4));
+        assertEquals(4, deque.size());
+    }
+
+    @Test
+    void add() {
+        assertThrows(NullPointerException.class, () -> {
+            deque.addFirst(null);
+        });
+        assertThrows(NullPointerException.class, () -> {
+            deque.addLast(null);
+        });
+        assertThrows(NullPointerException.class, () -> {
+            deque.add(null);
+        });
+        deque.addFirst(5);
+        assertEquals(1, deque.size());
+        deque.addLast(5);
+        assertEquals(2, deque.size());
+        assertTrue(deque.add(5));
+        assertEquals(3, deque.size());
+    }
+
+    @Test
+    void offer() {
+        assertThrows(NullPointerException.class, () -> {
+            deque.offerFirst(null);
+        });
+        assertThrows(NullPointerException.class, () -> {
+            deque.offerLast(null);
+        });
+        assertThrows(NullPointerException.class, () -> {
+            deque.offer(null);
+        });
+        assertTrue(deque.offerFirst(5));
+        assertEquals(1, deque.size());
+        assertTrue(deque.offerLast(5));
+        assertEquals(2, deque.size());
+        assertTrue(deque.offer(5));
+        assertEquals(3, deque.size());
+    }
+
+    @Test
+    void dequeue() {
+        assertNull(deque.dequeueFront());
+        assertNull(deque.dequeueBack());
+        deque.enqueueBack(1);
+        deque.enqueueBack(2);
+        assertEquals(2, deque.size());
+        assertFalse(deque.isEmpty());
+        assertEquals(2, deque.dequeueBack());
+        assertEquals(1, deque.dequeueFront());
+        assertEquals(0, deque.size());
+        assertTrue(deque.isEmpty());
+    }
+
+    @Test
+    void remove() {
+        assertThrows(NoSuchElementException.class, () -> {
+            deque.removeFirst();
+        });
+        assertThrows(NoSuchElementException.class, () -> {
+            deque.removeLast();
+        });
+        assertThrows(NoSuchElementException.class, () -> {
+            deque.remove();
+        });
+        for (int i = 0; i < 4; i++) deque.enqueueBack(i);
+        assertEquals(4, deque.size());
+        assertEquals(0, deque.remove());
+        assertEquals(1, deque.removeFirst());
+        assertEquals(3, deque.removeLast());
+        assertEquals(1, deque.size());
+        assertFalse(deque.isEmpty());
+    }
+
+    @Test
+    void poll() {
+        assertNull(deque.poll());
+        assertNull(deque.pollFirst());
+        assertNull(deque.pollLast());
+        for (int i = 0; i < 4; i++) deque.enqueueBack(i);
+        assertEquals(4, deque.size());
+        assertEquals(0, deque.poll());
+        assertEquals(1, deque.pollFirst());
+        assertEquals(3, deque.pollLast());
+        assertEquals(1, deque.size());
+        assertFalse(deque.isEmpty());
+    }
+
+    @Test
+    void element() {
+        assertThrows(NoSuchElementException.class, () -> {
+            deque.element();
+        });
+        deque.add(5);
+        assertEquals(1, deque.size());
+        assertEquals(5, deque.element());
+        assertEquals(1, deque.size());
+    }
+
+    @Test
+    @DisplayName("gets front element without removal")
+    void front() {
+        assertNull(deque.front());
+        assertNull(deque.peek());
+        assertNull(deque.peekFirst());
+        assertThrows(NoSuchElementException.class, () -> {
+            deque.getFirst();
+        });
+        deque.enqueueFront(1);
+        assertEquals(1, deque.size());
+        assertEquals(1, deque.front());
+        assertEquals(1, deque.size());
+        assertEquals(1, deque.peekFirst());
+        assertEquals(1, deque.size());
+        assertEquals(1, deque.peek());
+        assertEquals(1, deque.size());
+        assertEquals(1, deque.getFirst());
+        assertEquals(1, deque.size());
+    }
+
+    @Test
+    @DisplayName("gets back element without removal")
+    void back() {
+        assertNull(deque.back());
+        assertNull(deque.peekLast());
+        assertThrows(NoSuchElementException.class, () -> {
+            deque.getLast();
+        });
+        deque.enqueueBack(1);
+        assertEquals(1, deque.size());
+        assertEquals(1, deque.back());
+        assertEquals(1, deque.size());
+        assertEquals(1, deque.peekLast());
+        assertEquals(1, deque.size());
+        assertEquals(1, deque.getLast());
+        assertEquals(1, deque.size());
+    }
+
+    @Test
+    void contains() {
+        assertThrows(NullPointerException.class, () -> {
+            deque.contains(null);
+        });
+        assertFalse(deque.contains(10));
+        deque.enqueueFront(1);
+        deque.enqueueBack(2);
+        assertTrue(deque.contains(1));
+        assertTrue(deque.contains(2));
+        assertFalse(deque.contains(10));
+    }
+
+    @Test
+    @DisplayName("supports stack methods")
+    void stack() {
+        assertNull(deque.pop());
+        for (int i = 0; i < 3; i++) {
+            assertTrue(deque.push(i));
+        }
+        assertEquals(2, deque.pop());
+        assertEquals(1, deque.pop());
+        assertEquals(0, deque.pop());
+        assertNull(deque.pop());
+    }
+
+    @Test
+    @DisplayName("handles instantiation with a size limit")
+    void instantiateWithSizeLimits() {
+        assertThrows(IllegalArgumentException.class, () -> {
+            deque = new ConcurrentDeque<>(-1);
+        });
+        assertThrows(IllegalArgumentException.class, () -> {
+            deque = new ConcurrentDeque<>(0);
+        });
+        assertDoesNotThrow(() -> {
+            deque = new ConcurrentDeque<>(1);
+        });
+    }
+
+    @Test
+    @DisplayName("handles size constraints")
+    void sizeConstraintOperations() {
+        deque = new ConcurrentDeque<>(1);
+        assertEquals(1, deque.maxSize());
+        assertFalse(deque.isFull());
+        assertTrue(deque.enqueueFront(1));
+        assertTrue(deque.isFull());
+        assertFalse(deque.enqueueFront(2));
+        assertFalse(deque.enqueueBack(2));
+        // Throws NullPointerException even if deque is full
+        assertThrows(NullPointerException.class, () -> {
+            deque.enqueueFront(null);
+        });
+        assertThrows(NullPointerException.class, () -> {
+            deque.enqueueBack(null);
+        });
+    }
+
+    @Test
+    @DisplayName("neither loses nor duplicates elements under contention")
+    void conservation() throws InterruptedException {
+        final int producers = 4, perProducer = 50000;
+        ConcurrentHashMap<Integer, Boolean> seen = new ConcurrentHashMap<>();
+        AtomicInteger consumed = new AtomicInteger();
+        Runnable[] tasks = new Runnable[producers * 2];
+        for (int p = 0; p < producers; p++) {
+            final int base = p * perProducer;
+            tasks[p] = () -> {
+                for (int i = 0; i < perProducer; i++) {
+                    if (ThreadLocalRandom.current().nextBoolean()) {
+                        deque.enqueueFront(base + i);
+                    } else {
+                        deque.enqueueBack(base + i);
+                    }
+                }
+            };
+            tasks[producers + p] = () -> {
+                while (consumed.get() < producers * perProducer) {
+                    Integer element = ThreadLocalRandom.current().nextBoolean()
+                            ? deque.dequeueFront() : deque.dequeueBack();
+                    if (element != null) {
+                        assertNull(seen.put(element, true), "duplicate " + element);
+                        consumed.incrementAndGet();
+                    }
+                }
+            };
+        }
+        runConcurrently(tasks);
+        assertEquals(producers * perProducer, seen.size());
+        assertTrue(deque.isEmpty());
+        assertEquals(0, deque.size());
+    }
+
+    @Test
+    @DisplayName("keeps FIFO order between a producer and consumers")
+    void fifoOrder() throws InterruptedException {
+        final int n = 100000, consumers = 3;
+        AtomicInteger consumed = new AtomicInteger();
+        Runnable[] tasks = new Runnable[consumers + 1];
+        tasks[0] = () -> {
+            for (int i = 0; i < n; i++) deque.enqueueBack(i);
+        };
+        for (int c = 1; c <= consumers; c++) {
+            tasks[c] = () -> {
+                int last = -1;
+                while (consumed.get() < n) {
+                    Integer element = deque.dequeueFront();
+                    if (element != null) {
+                        assertTrue(element > last, element + " after " + last);
+                        last = element;
+                        consumed.incrementAndGet();
+                    }
+                }
+            };
+        }
+        runConcurrently(tasks);
+        assertTrue(deque.isEmpty());
+    }
+
+    @Test
+    @DisplayName("never exceeds its size limit under contention")
+    void concurrentSizeLimit() throws InterruptedException {
+        final int maxSize = 1000, producers = 8;
+        deque = new ConcurrentDeque<>(maxSize);
+        AtomicInteger added = new AtomicInteger();
+        Runnable[] tasks = new Runnable[producers];
+        for (int p = 0; p < producers; p++) {
+            tasks[p] = () -> {
+                for (int i = 0; i < maxSize; i++) {
+                    if (deque.enqueueBack(i)) added.incrementAndGet();
+                    assertTrue(deque.size() <= maxSize);
+                }
+            };
+        }
+        runConcurrently(tasks);
+        assertEquals(maxSize, added.get());
+        assertTrue(deque.isFull());
+        int count = 0;
+        while (deque.dequeueFront() != null) count++;
+        assertEquals(maxSize, count);
+    }
+
+    /**
+     * Creates an operation on the deque, checked against an {@link ArrayDeque}
+     *
+     * @param type 0 and 1 to enqueue, 2 and 3 to dequeue, otherwise to peek,
+     *             at the front for even types and the back for odd ones
+     * @param argument the element to enqueue
+     * @return the operation
+     */
+    private static Operation<ConcurrentDeque<Integer>, ArrayDeque<Integer>> operation(
+            int type, Integer argument) {
+        switch (type) {
+            case 0: return new Operation<>(deque -> deque.enqueueFront(argument),
+                                           model -> model.offerFirst(argument));
+            case 1: return new Operation<>(deque -> deque.enqueueBack(argument),
+                                           model -> model.offerLast(argument));
+            case 2: return new Operation<>(ConcurrentDeque::dequeueFront, ArrayDeque::pollFirst);
+            case 3: return new Operation<>(ConcurrentDeque::dequeueBack, ArrayDeque::pollLast);
+            case 4: return new Operation<>(ConcurrentDeque::peekFirst, ArrayDeque::peekFirst);
+            default: return new Operation<>(ConcurrentDeque::peekLast, ArrayDeque::peekLast);
+        }
+    }
+
+    @Test
+    @DisplayName("produces linearizable histories")
+    void linearizability() throws InterruptedException {
+        final int threads = 3, operations = 4;
+        for (int round = 0; round < 2000; round++) {
+            ConcurrentDeque<Integer> shared = new ConcurrentDeque<>();
+            ArrayDeque<Integer> initial = new ArrayDeque<>();
+            for (int i = 0; i < 2; i++) {
+                shared.enqueueBack(-i - 1);
+                initial.offerLast(-i - 1);
+            }
+            List<List<Operation<ConcurrentDeque<Integer>, ArrayDeque<Integer>>>> histories =
+                    new ArrayList<>();
+            Runnable[] tasks = new Runnable[threads];
+            for (int t = 0; t < threads; t++) {
+                List<Operation<ConcurrentDeque<Integer>, ArrayDeque<Integer>>> history =
+                        new ArrayList<>();
+                for (int i = 0; i < operations; i++) {
+                    int type = ThreadLocalRandom.current().nextInt(6);
+                    history.add(operation(type, t * operations + i));
+                }
+                histories.add(history);
+                tasks[t] = perform(shared, history);
+            }
+            runConcurrently(tasks);
+            assertTrue(linearizable(histories, initial, ArrayDeque::clone),
+                    "history is not linearizable in round " + round);
+        }
+    }
+
+    /**
+     * Collects garbage until a reference is cleared or too many attempts fail
+     *
+     * @return {@code true} if the referent was collected
+     */
+    private static boolean collected(WeakReference<?> reference) throws InterruptedException {
+        for (int i = 0; i < 50 && reference.get() != null; i++) {
+            System.gc();
+            Thread.sleep(10);
+        }
+        return reference.get() == null;
+    }
+
+    @Test
+    @DisplayName("doesn't keep dequeued elements reachable while churning")
+    void churn() throws InterruptedException {
+        // As a queue, removing from the front
+        ConcurrentDeque<Object> queue = new ConcurrentDeque<>();
+        for (int i = 0; i < 10; i++) queue.enqueueBack(new Object());
+        WeakReference<Object> front = new WeakReference<>(queue.dequeueFront());
+        for (int i = 0; i < 1_000_000; i++) {
+            queue.enqueueBack(new Object());
+            queue.dequeueFront();
+        }
+        assertTrue(collected(front), "element dequeued from the front is still reachable");
+        // As a queue in the other direction, removing from the back
+        ConcurrentDeque<Object> reversed = new ConcurrentDeque<>();
+        for (int i = 0; i < 10; i++) reversed.enqueueFront(new Object());
+        WeakReference<Object> back = new WeakReference<>(reversed.dequeueBack());
+        for (int i = 0; i < 1_000_000; i++) {
+            reversed.enqueueFront(new Object());
+            reversed.dequeueBack();
+        }
+        assertTrue(collected(back), "element dequeued from the back is still reachable");
+        assertEquals(9, queue.size());
+        assertEquals(9, reversed.size());
+    }
+}
@@ -0,0 +1,361 @@
+package Deques;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.BeforeEach;
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+@DisplayName("Deque")
+public class DequeTest {
+    Deque<Integer> deque;
+
+    @BeforeEach
+    void instantiate() {
+        deque = new Deque<>();
+    }
+
+    @Test
+    void empty() {
+        assertTrue(deque.isEmpty());
+        assertEquals(0, deque.size());
+    }
+
+    @Test
+    void enqueue() {
+        assertThrows(NullPointerException.class, () -> {
+            deque.enqueueFront(null);
+        });
+        assertThrows(NullPointerException.class, () -> {
+            deque.enqueueBack(null);
+        });
+        assertThrows(NullPointerException.class, () -> {
+            deque.enqueue(null);
+        });
+        assertEquals(0, deque.size());
+        assertTrue(deque.enqueueFront(1));
+        assertEquals(1, deque.size());
+        assertFalse(deque.isEmpty());
+        assertTrue(deque.enqueueBack(2));
+        assertTrue(deque.enqueue(3));
+        assertTrue(deque.enqueueFront(4));
+        assertEquals(4, deque.size());
+    }
+
+    @Test
+    void add() {
+        assertThrows(NullPointerException.class, () -> {
+            deque.addFirst(null);
+        });
+        assertThrows(NullPointerException.class, () -> {
+            deque.addLast(null);
+        });
+        assertThrows(NullPointerException.class, () -> {
+            deque.add(null);
+        });
+        deque.addFirst(5);
+        assertEquals(1, deque.size());
+        deque.addLast(5);
+        assertEquals(2, deque.size());
+        assertTrue(deque.add(5));
+        assertEquals(3, deque.size());
+    }
+
+    @Test
+    void offer() {
+        assertThrows(NullPointerException.class, () -> {
+            deque.offerFirst(null);
+        });
+        assertThrows(NullPointerException.class, () -> {
+            deque.offerLast(null);
+        });
+        assertThrows(NullPointerException.class, () -> {
+            deque.offer(null);
+        });
+        assertTrue(deque.offerFirst(5));
+        assertEquals(1, deque.size());
+        assertTrue(deque.offerLast(5));
+        assertEquals(2, deque.size());
+        assertTrue(deque.offer(5));
+        assertEquals(3, deque.size());
+    }
+
+    @Test
+    void dequeue() {
+        assertNull(deque.dequeueFront());
+        assertNull(deque.dequeueBack());
+        deque.enqueueBack(1);
+        deque.enqueueBack(2);
+        assertEquals(2, deque.size());
+        assertFalse(deque.isEmpty());
+        assertEquals(2, deque.dequeueBack());
+        assertEquals(1, deque.dequeueFront());
+        assertEquals(0, deque.size());
+        assertTrue(deque.isEmpty());
+    }
+
+    @Test
+    void remove() {
+        assertThrows(NoSuchElementException.class, () -> {
+            deque.removeFirst();
+        });
+        assertThrows(NoSuchElementException.class, () -> {
+            deque.removeLast();
+        });
+        assertThrows(NoSuchElementException.class, () -> {
+            deque.remove();
+        });
+        for (int i = 0; i < 4; i++) deque.enqueueBack(i);
+        assertEquals(4, deque.size());
+        assertEquals(0, deque.remove());
+        assertEquals(1, deque.removeFirst());
+        assertEquals(3, deque.removeLast());
+        assertEquals(1, deque.size());
+        assertFalse(deque.isEmpty());
+    }
+
+    @Test
+    void poll() {
+        assertNull(deque.poll());
+        assertNull(deque.pollFirst());
+        assertNull(deque.pollLast());
+        for (int i = 0; i < 4; i++) deque.enqueueBack(i);
+        assertEquals(4, deque.size());
+        assertEquals(0, deque.poll());
+        assertEquals(1, deque.pollFirst());
+        assertEquals(3, deque.pollLast());
+        assertEquals(1, deque.size());
+        assertFalse(deque.isEmpty());
+    }
+
+    @Test
+    void element() {
+        assertThrows(NoSuchElementException.class, () -> {
+            deque.element();
+        });
+        deque.add(5);
+        assertEquals(1, deque.size());
+        assertEquals(5, deque.element());
+        assertEquals(1, deque.size());
+    }
+
+    @Test
+    @DisplayName("gets front element without removal")
+    void front() {
+        assertNull(deque.front());
+        assertNull(deque.peek());
+        assertNull(deque.peekFirst());
+        assertThrows(NoSuchElementException.class, () -> {
+            deque.getFirst();
+        });
+        deque.enqueueFront(1);
+        assertEquals(1, deque.size());
+        assertEquals(1, deque.front());
+        assertEquals(1, deque.size());
+        assertEquals(1, deque.peekFirst());
+        assertEquals(1, deque.size());
+        assertEquals(1, deque.peek());
+        assertEquals(1, deque.size());
+        assertEquals(1, deque.getFirst());
+        assertEquals(1, deque.size());
+    }
+
+    @Test
+    @DisplayName("gets back element without removal")
+    void back() {
+        assertNull(deque.back());
+        assertNull(deque.peekLast());
+        assertThrows(NoSuchElementException.class, () -> {
+            deque.getLast();
+        });
+        deque.enqueueBack(1);
+        assertEquals(1, deque.size());
+        assertEquals(1, deque.back());
+        assertEquals(1, deque.size());
+        assertEquals(1, deque.peekLast());
+        assertEquals(1, deque.size());
+        assertEquals(1, deque.getLast());
+        assertEquals(1, deque.size());
+    }
+
+    @Test
+    void contains() {
+        assertThrows(NullPointerException.class, () -> {
+            deque.contains(null);
+        });
+        assertFalse(deque.contains(10));
+        deque.enqueueFront(1);
+        deque.enqueueBack(2);
+        assertTrue(deque.contains(1));
+        assertTrue(deque.contains(2));
+        assertFalse(deque.contains(10));
+    }
+
+    @Test
+    @DisplayName("supports stack methods")
+    void stack() {
+        assertNull(deque.pop());
+        for (int i = 0; i < 3; i++) {
+            assertTrue(deque.push(i));
+        }
+        assertEquals(2, deque.pop());
+        assertEquals(1, deque.pop());
+        assertEquals(0, deque.pop());
+        assertNull(deque.pop());
+    }
+
+    @Test
+    @DisplayName("handles instantiation with a size limit")
+    void instantiateWithSizeLimits() {
+        assertThrows(IllegalArgumentException.class, () -> {
+            deque = new Deque<>(-1);
+        });
+        assertThrows(IllegalArgumentException.class, () -> {
+            deque = new Deque<>(0);
+        });
+        assertDoesNotThrow(() -> {
+            deque = new Deque<>(1);
+        });
+    }
+
+    @Test
+    @DisplayName("handles size constraints")
+    void sizeConstraintOperations() {
+        deque = new Deque<>(1);
+        assertEquals(1, deque.maxSize());
+        assertFalse(deque.isFull());
+        assertTrue(deque.enqueueFront(1));
+        assertTrue(deque.isFull());
+        assertFalse(deque.enqueueFront(2));
+        assertFalse(deque.enqueueBack(2));
+        // Throws NullPointerException even if deque is full
+        assertThrows(NullPointerException.class, () -> {
+            deque.enqueueFront(null);
+        });
+        assertThrows(NullPointerException.class, () -> {
+            deque.enqueueBack(null);
+        });
+    }
+
+    @Test
+    @DisplayName("keeps both ends consistent after emptying")
+    void refill() {
+        deque.enqueueBack(1);
+        assertEquals(1, deque.dequeueFront());
+        assertNull(deque.back());
+        deque.enqueueBack(2);
+        assertEquals(2, deque.front());
+        assertEquals(2, deque.dequeueBack());
+        assertNull(deque.front());
+        deque.enqueueFront(3);
+        assertEquals(3, deque.back());
+    }
+
+    @Test
+    @DisplayName("adds arrays and collections in bulk")
+    void addAll() {
+        assertTrue(deque.addAllLast(new Integer[] {2, 3}));
+        assertTrue(deque.addAllFirst(Arrays.asList(0, 1)));
+        assertTrue(deque.addAllLast(Arrays.asList(4, 5)));
+        assertTrue(deque.addAllFirst(new Integer[] {}));
+        assertEquals(6, deque.size());
+        for (int i = 0; i < 6; i++) {
+            assertEquals(i, deque.dequeueFront());
+        }
+        assertThrows(NullPointerException.class, () -> {
+            deque.addAllLast(new Integer[] {1, null});
+        });
+        assertThrows(NullPointerException.class, () -> {
+            deque.addAllFirst(Arrays.asList(null, 1));
+        });
+        assertTrue(deque.isEmpty());
+        deque = new Deque<>(3);
+        assertTrue(deque.addAllLast(new Integer[] {1, 2}));
+        assertFalse(deque.addAllFirst(new Integer[] {-1, 0}));
+        assertEquals(2, deque.size());
+        assertTrue(deque.addAllFirst(new Integer[] {0}));
+        assertTrue(deque.isFull());
+    }
+
+    @Test
+    @DisplayName("drains a limited number of elements")
+    void drainTo() {
+        List<Integer> drained = new ArrayList<>();
+        assertThrows(IllegalArgumentException.class, () -> {
+            deque.drainTo(drained::add, -1);
+        });
+        assertEquals(0, deque.drainTo(drained::add, 10));
+        deque.addAllLast(Arrays.asList(0, 1, 2, 3, 4));
+        assertEquals(3, deque.drainTo(drained::add, 3));
+        assertEquals(Arrays.asList(0, 1, 2), drained);
+        assertEquals(3, deque.front());
+        assertEquals(2, deque.drainTo(drained::add, 10));
+        assertTrue(deque.isEmpty());
+        assertNull(deque.back());
+    }
+
+    @Test
+    @DisplayName("keeps elements a failing consumer rejects")
+    void drainToThrows() {
+        deque.addAllLast(Arrays.asList(0, 1, 2, 3, 4));
+        List<Integer> drained = new ArrayList<>();
+        assertThrows(IllegalStateException.class, () -> {
+            deque.drainTo(element -> {
+                if (element == 2) throw new IllegalStateException();
+                drained.add(element);
+            }, 5);
+        });
+        assertEquals(Arrays.asList(0, 1), drained);
+        assertEquals(3, deque.size());
+        assertEquals(2, deque.front());
+        assertEquals(3, deque.drainTo(drained::add, 5));
+        assertEquals(Arrays.asList(0, 1, 2, 3, 4), drained);
+        assertTrue(deque.isEmpty());
+        assertNull(deque.back());
+    }
+
+    @Test
+    @DisplayName("iterates in both directions")
+    void iterators() {
+        assertFalse(deque.iterator().hasNext());
+        deque.addAllLast(Arrays.asList(0, 1, 2));
+        List<Integer> forward = new ArrayList<>();
+        for (Integer element : deque) {
+            forward.add(element);
+        }
+        assertEquals(Arrays.asList(0, 1, 2), forward);
+        Iterator<Integer> descending = deque.descendingIterator();
+        for (int i = 2; i >= 0; i--) {
+            assertEquals(i, descending.next());
+        }
+        assertFalse(descending.hasNext());
+        assertThrows(NoSuchElementException.class, descending::next);
+    }
+
+    @Test
+    @DisplayName("splits evenly and streams in parallel")
+    void spliterator() {
+        Integer[] elements = IntStream.range(0, 10_001).boxed().toArray(Integer[]::new);
+        deque.addAllLast(elements);
+        Spliterator<Integer> right = deque.spliterator();
+        assertTrue(right.hasCharacteristics(
+                Spliterator.ORDERED | Spliterator.SIZED | Spliterator.NONNULL));
+        Spliterator<Integer> left = right.trySplit();
+        assertEquals(5_000, left.getExactSizeIfKnown());
+        assertEquals(5_001, right.getExactSizeIfKnown());
+        left.tryAdvance(element -> assertEquals(0, element));
+        right.tryAdvance(element -> assertEquals(5_000, element));
+        assertEquals(Arrays.asList(elements),
+                deque.stream().parallel().collect(Collectors.toList()));
+        assertEquals(50_005_000L,
+                deque.stream().parallel().mapToLong(Integer::longValue).sum());
+    }
+}
@@ -0,0 +1,56 @@
+package Deques;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.BeforeEach;
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.NoSuchElementException;
+
+@DisplayName("DoubleDeque")
+public class DoubleDequeTest {
+    DoubleDeque deque;
+
+    @BeforeEach
+    void instantiate() {
+        deque = new DoubleDeque();
+    }
+
+    @Test
+    @DisplayName("supports deque and stack methods")
+    void operations() {
+        assertThrows(NoSuchElementException.class, () -> {
+            deque.pop();
+        });
+        assertTrue(deque.enqueueBack(1.5));
+        assertTrue(deque.enqueueFront(0.5));
+        assertTrue(deque.push(-0.5));
+        assertEquals(3, deque.size());
+        assertEquals(-0.5, deque.peekFirst());
+        assertEquals(1.5, deque.peekLast());
+        assertEquals(1.5, deque.dequeueBack());
+        assertEquals(-0.5, deque.pop());
+        assertEquals(0.5, deque.dequeueFront());
+        assertTrue(deque.isEmpty());
+    }
+
+    @Test
+    @DisplayName("compares elements like Double.equals")
+    void contains() {
+        deque.enqueueBack(Double.NaN);
+        deque.enqueueBack(0.0);
+        assertTrue(deque.contains(Double.NaN));
+        assertTrue(deque.contains(0.0));
+        assertFalse(deque.contains(-0.0));
+    }
+
+    @Test
+    @DisplayName("handles size constraints")
+    void sizeConstraintOperations() {
+        deque = new DoubleDeque(1);
+        assertTrue(deque.enqueueFront(1));
+        assertTrue(deque.isFull());
+        assertFalse(deque.enqueueBack(2));
+        assertEquals(1, deque.dequeueBack());
+    }
+}
@@ -0,0 +1,143 @@
+package Deques;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.BeforeEach;
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.NoSuchElementException;
+
+@DisplayName("IntDeque")
+public class IntDequeTest {
+    IntDeque deque;
+
+    @BeforeEach
+    void instantiate() {
+        deque = new IntDeque();
+    }
+
+    @Test
+    void empty() {
+        assertTrue(deque.isEmpty());
+        assertEquals(0, deque.size());
+        assertFalse(deque.isFull());
+        assertEquals(Integer.MAX_VALUE, deque.maxSize());
+    }
+
+    @Test
+    void enqueue() {
+        assertTrue(deque.enqueueFront(1));
+        assertEquals(1, deque.size());
+        assertFalse(deque.isEmpty());
+        assertTrue(deque.enqueueBack(2));
+        assertTrue(deque.enqueueFront(0));
+        assertEquals(3, deque.size());
+    }
+
+    @Test
+    void dequeue() {
+        assertThrows(NoSuchElementException.class, () -> {
+            deque.dequeueFront();
+        });
+        assertThrows(NoSuchElementException.class, () -> {
+            deque.dequeueBack();
+        });
+        deque.enqueueBack(1);
+        deque.enqueueBack(2);
+        deque.enqueueFront(0);
+        assertEquals(2, deque.dequeueBack());
+        assertEquals(0, deque.dequeueFront());
+        assertEquals(1, deque.dequeueFront());
+        assertTrue(deque.isEmpty());
+    }
+
+    @Test
+    @DisplayName("peeks at both ends")
+    void peek() {
+        assertThrows(NoSuchElementException.class, () -> {
+            deque.peekFirst();
+        });
+        assertThrows(NoSuchElementException.class, () -> {
+            deque.peekLast();
+        });
+        deque.enqueueBack(1);
+        deque.enqueueBack(2);
+        assertEquals(1, deque.peekFirst());
+        assertEquals(2, deque.peekLast());
+        assertEquals(2, deque.size());
+    }
+
+    @Test
+    void contains() {
+        assertFalse(deque.contains(0));
+        deque.enqueueFront(1);
+        deque.enqueueBack(2);
+        assertTrue(deque.contains(1));
+        assertTrue(deque.contains(2));
+        assertFalse(deque.contains(0));
+    }
+
+    @Test
+    @DisplayName("supports stack methods")
+    void stack() {
+        assertThrows(NoSuchElementException.class, () -> {
+            deque.pop();
+        });
+        for (int i = 0; i < 3; i++) {
+            assertTrue(deque.push(i));
+        }
+        assertEquals(2, deque.pop());
+        assertEquals(1, deque.pop());
+        assertEquals(0, deque.pop());
+        assertTrue(deque.isEmpty());
+    }
+
+    @Test
+    @DisplayName("grows and shrinks with its contents")
+    void resize() {
+        int n = 10000;
+        for (int i = 0; i < n; i++) {
+            deque.enqueueBack(i);
+            deque.enqueueFront(-i);
+        }
+        assertEquals(2 * n, deque.size());
+        for (int i = n - 1; i > 0; i--) {
+            assertEquals(-i, deque.dequeueFront());
+            assertEquals(i, deque.dequeueBack());
+        }
+        assertEquals(2, deque.size());
+        assertEquals(0, deque.pop());
+        assertEquals(0, deque.pop());
+        assertTrue(deque.isEmpty());
+    }
+
+    @Test
+    @DisplayName("handles instantiation with a size limit")
+    void instantiateWithSizeLimits() {
+        assertThrows(IllegalArgumentException.class, () -> {
+            deque = new IntDeque(-1);
+        });
+        assertThrows(IllegalArgumentException.class, () -> {
+            deque = new IntDeque(0);
+        });
+        assertDoesNotThrow(() -> {
+            deque = new IntDeque(1);
+        });
+    }
+
+    @Test
+    @DisplayName("handles size constraints")
+    void sizeConstraintOperations() {
+        deque = new IntDeque(100);
+        assertEquals(100, deque.maxSize());
+        for (int i = 0; i < 100; i++) {
+            assertTrue(deque.enqueueBack(i));
+        }
+        assertTrue(deque.isFull());
+        assertFalse(deque.enqueueFront(100));
+        assertFalse(deque.enqueueBack(100));
+        assertFalse(deque.push(100));
+        assertEquals(99, deque.dequeueBack());
+        assertTrue(deque.push(100));
+    }
+}
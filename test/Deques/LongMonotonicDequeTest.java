@@ -0,0 +1,84 @@
+package Deques;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.BeforeEach;
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.NoSuchElementException;
+import java.util.Random;
+
+@DisplayName("LongMonotonicDeque")
+public class LongMonotonicDequeTest {
+    LongMonotonicDeque window;
+
+    @BeforeEach
+    void instantiate() {
+        window = new LongMonotonicDeque();
+    }
+
+    @Test
+    void empty() {
+        assertTrue(window.isEmpty());
+        assertEquals(0, window.size());
+        assertEquals(0, window.nextIndex());
+        assertThrows(NoSuchElementException.class, () -> {
+            window.windowMax();
+        });
+        assertThrows(NoSuchElementException.class, () -> {
+            window.windowMin();
+        });
+    }
+
+    @Test
+    void pushBack() {
+        assertEquals(0, window.pushBack(5));
+        assertEquals(1, window.pushBack(3));
+        assertEquals(2, window.pushBack(8));
+        assertEquals(3, window.size());
+        assertEquals(8, window.windowMax());
+        assertEquals(3, window.windowMin());
+    }
+
+    @Test
+    void evictOlderThan() {
+        window.pushBack(5);
+        window.pushBack(3);
+        window.pushBack(8);
+        window.pushBack(4);
+        window.evictOlderThan(2);
+        assertEquals(2, window.size());
+        assertEquals(8, window.windowMax());
+        assertEquals(4, window.windowMin());
+        // Evicting an older index again has no effect
+        window.evictOlderThan(1);
+        assertEquals(2, window.size());
+        window.evictOlderThan(100);
+        assertTrue(window.isEmpty());
+        // Indices keep counting after the window empties
+        assertEquals(4, window.pushBack(1));
+        assertEquals(1, window.windowMax());
+        assertEquals(1, window.windowMin());
+    }
+
+    @Test
+    @DisplayName("matches a rescan of the window")
+    void slidingWindow() {
+        Random random = new Random(0);
+        int n = 5000, size = 37;
+        long[] values = new long[n];
+        for (int i = 0; i < n; i++) {
+            values[i] = random.nextInt(100);
+            long index = window.pushBack(values[i]);
+            window.evictOlderThan(index - size + 1);
+            long max = Long.MIN_VALUE, min = Long.MAX_VALUE;
+            for (int j = Math.max(0, i - size + 1); j <= i; j++) {
+                max = Math.max(max, values[j]);
+                min = Math.min(min, values[j]);
+            }
+            assertEquals(Math.min(i + 1, size), window.size());
+            assertEquals(max, window.windowMax());
+            assertEquals(min, window.windowMin());
+        }
+    }
+}
@@ -0,0 +1,263 @@
+package Deques;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.io.TempDir;
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayDeque;
+import java.util.NoSuchElementException;
+import java.util.Random;
+import java.util.stream.Stream;
+
+@DisplayName("SpillingDeque")
+public class SpillingDequeTest {
+    static final Serializer<Integer> INTEGERS = new Serializer<Integer>() {
+        @Override
+        public byte[] toBytes(Integer element) {
+            return ByteBuffer.allocate(Integer.BYTES).putInt(element).array();
+        }
+
+        @Override
+        public Integer fromBytes(byte[] bytes) {
+            return ByteBuffer.wrap(bytes).getInt();
+        }
+    };
+
+    @TempDir
+    Path directory;
+    SpillingDeque<Integer> deque;
+
+    @BeforeEach
+    void instantiate() {
+        deque = new SpillingDeque<>(directory, INTEGERS, 8);
+    }
+
+    @AfterEach
+    void close() {
+        deque.close();
+    }
+
+    long segmentFiles() throws IOException {
+        try (Stream<Path> files = Files.list(directory)) {
+            return files.count();
+        }
+    }
+
+    @Test
+    void empty() {
+        assertTrue(deque.isEmpty());
+        assertFalse(deque.isFull());
+        assertEquals(0, deque.size());
+        assertEquals(0, deque.spilled());
+        assertEquals(Integer.MAX_VALUE, deque.maxSize());
+        assertNull(deque.dequeueFront());
+        assertNull(deque.dequeueBack());
+        assertNull(deque.peekFirst());
+        assertNull(deque.peekLast());
+        assertThrows(NoSuchElementException.class, () -> {
+            deque.removeFirst();
+        });
+        assertThrows(NoSuchElementException.class, () -> {
+            deque.removeLast();
+        });
+    }
+
+    @Test
+    @DisplayName("rejects invalid arguments")
+    void invalid() {
+        assertThrows(IllegalArgumentException.class, () -> {
+            new SpillingDeque<>(directory, INTEGERS, 1);
+        });
+        assertThrows(IllegalArgumentException.class, () -> {
+            new SpillingDeque<>(directory, INTEGERS, 8, 0);
+        });
+        assertThrows(NullPointerException.class, () -> {
+            new SpillingDeque<>(null, INTEGERS, 8);
+        });
+        assertThrows(NullPointerException.class, () -> {
+            deque.enqueueFront(null);
+        });
+        assertThrows(NullPointerException.class, () -> {
+            deque.enqueueBack(null);
+        });
+        assertThrows(NullPointerException.class, () -> {
+            deque.contains(null);
+        });
+    }
+
+    @Test
+    @DisplayName("spills the middle and reads it back in order")
+    void spill() throws IOException {
+        for (int i = 0; i < 100; i++) {
+            assertTrue(deque.enqueueBack(i));
+        }
+        assertEquals(100, deque.size());
+        assertTrue(deque.spilled() > 0);
+        assertTrue(segmentFiles() > 0);
+        assertTrue(deque.contains(50));
+        assertFalse(deque.contains(100));
+        for (int i = 0; i < 100; i++) {
+            assertEquals(i, deque.dequeueFront());
+        }
+        assertTrue(deque.isEmpty());
+        assertEquals(0, deque.spilled());
+        assertEquals(0, segmentFiles());
+    }
+
+    @Test
+    @DisplayName("drains spilled elements from the back")
+    void spillFront() {
+        for (int i = 0; i < 100; i++) {
+            deque.enqueueFront(i);
+        }
+        assertTrue(deque.spilled() > 0);
+        assertEquals(99, deque.peekFirst());
+        for (int i = 0; i < 100; i++) {
+            assertEquals(i, deque.peekLast());
+            assertEquals(i, deque.dequeueBack());
+        }
+        assertNull(deque.dequeueBack());
+    }
+
+    @Test
+    @DisplayName("matches ArrayDeque under random operations")
+    void randomOperations() {
+        ArrayDeque<Integer> expected = new ArrayDeque<>();
+        Random random = new Random(42);
+        for (int i = 0; i < 20_000; i++) {
+            switch (random.nextInt(5)) {
+                case 0: case 1:
+                    expected.addFirst(i);
+                    deque.enqueueFront(i);
+                    break;
+                case 2: case 3:
+                    expected.addLast(i);
+                    deque.enqueueBack(i);
+                    break;
+                default:
+                    if (random.nextBoolean()) {
+                        assertEquals(expected.pollFirst(), deque.dequeueFront());
+                    } else {
+                        assertEquals(expected.pollLast(), deque.dequeueBack());
+                    }
+            }
+            assertEquals(expected.size(), deque.size());
+        }
+        while (!expected.isEmpty()) {
+            assertEquals(expected.pollFirst(), deque.dequeueFront());
+        }
+        assertTrue(deque.isEmpty());
+    }
+
+    @Test
+    @DisplayName("deletes segment files when closed")
+    void closeDeletes() throws IOException {
+        for (int i = 0; i < 100; i++) {
+            deque.enqueueBack(i);
+        }
+        deque.close();
+        assertTrue(deque.isEmpty());
+        assertEquals(0, segmentFiles());
+    }
+
+    @Test
+    @DisplayName("limits size")
+    void sizeLimit() {
+        deque = new SpillingDeque<>(directory, INTEGERS, 2, 3);
+        assertTrue(deque.enqueueBack(1));
+        assertTrue(deque.enqueueBack(2));
+        assertTrue(deque.enqueueFront(0));
+        assertTrue(deque.isFull());
+        assertFalse(deque.enqueueBack(3));
+        assertFalse(deque.enqueueFront(-1));
+        assertEquals(0, deque.removeFirst());
+        assertEquals(2, deque.removeLast());
+        assertEquals(1, deque.removeFirst());
+    }
+
+    @Test
+    @DisplayName("shares its directory with other deques and leftover files")
+    void sharedDirectory() throws IOException {
+        Files.createFile(directory.resolve("segment-0.bin"));
+        try (SpillingDeque<Integer> other = new SpillingDeque<>(directory, INTEGERS, 8)) {
+            for (int i = 0; i < 100; i++) {
+                deque.enqueueBack(i);
+                other.enqueueBack(-i);
+            }
+            for (int i = 0; i < 100; i++) {
+                assertEquals(i, deque.dequeueFront());
+                assertEquals(-i, other.dequeueFront());
+            }
+        }
+        assertEquals(1, segmentFiles());
+    }
+
+    /** Serializer that fails while its flags are set */
+    static class FailingSerializer implements Serializer<Integer> {
+        boolean failWrites, failReads;
+
+        @Override
+        public byte[] toBytes(Integer element) {
+            if (failWrites) throw new UncheckedIOException(new IOException("write failed"));
+            return INTEGERS.toBytes(element);
+        }
+
+        @Override
+        public Integer fromBytes(byte[] bytes) {
+            Integer element = INTEGERS.fromBytes(bytes);
+            // Fails partway through a segment, after reading its first element
+            if (failReads && element % 2 != 0) {
+                throw new UncheckedIOException(new IOException("read failed"));
+            }
+            return element;
+        }
+    }
+
+    @Test
+    @DisplayName("keeps its elements when a segment can't be written or read")
+    void failures() throws IOException {
+        FailingSerializer serializer = new FailingSerializer();
+        deque = new SpillingDeque<>(directory, serializer, 8);
+        for (int i = 0; i < 8; i++) {
+            deque.enqueueBack(i);
+            deque.enqueueFront(-1 - i);
+        }
+        serializer.failWrites = true;
+        assertThrows(UncheckedIOException.class, () -> deque.enqueueBack(8));
+        assertThrows(UncheckedIOException.class, () -> deque.enqueueFront(-9));
+        assertEquals(16, deque.size());
+        assertEquals(0, deque.spilled());
+        serializer.failWrites = false;
+        for (int i = 8; i < 40; i++) {
+            deque.enqueueBack(i);
+        }
+        assertTrue(deque.spilled() > 0);
+        serializer.failReads = true;
+        assertThrows(UncheckedIOException.class, () -> deque.contains(20));
+        serializer.failReads = false;
+        assertTrue(deque.contains(20));
+        for (int i = -8; i < 0; i++) {
+            assertEquals(i, deque.dequeueFront());
+        }
+        // The front buffer is empty, so the next dequeue reads back a segment
+        serializer.failReads = true;
+        assertThrows(UncheckedIOException.class, () -> deque.dequeueFront());
+        assertThrows(UncheckedIOException.class, () -> deque.peekFirst());
+        assertEquals(40, deque.size());
+        serializer.failReads = false;
+        for (int i = 0; i < 40; i++) {
+            assertEquals(i, deque.dequeueFront());
+        }
+        assertTrue(deque.isEmpty());
+        assertEquals(0, deque.spilled());
+        assertEquals(0, segmentFiles());
+    }
+}
@@ -1,3 +1,5 @@
+package Deques;
+
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.BeforeEach;
@@ -5,13 +7,13 @@ import static org.junit.jupiter.api.Assertions.*;
 
 import java.util.NoSuchElementException;
 
-@DisplayName("Deque")
-public class DequeTest {
-    Deque<Integer> deque;
+@DisplayName("UnrolledDeque")
+public class UnrolledDequeTest {
+    UnrolledDeque<Integer> deque;
 
     @BeforeEach
     void instantiate() {
-        deque = new Deque<>();
+        deque = new UnrolledDeque<>();
     }
 
     @Test
@@ -207,20 +209,20 @@ public class DequeTest {
     @DisplayName("handles instantiation with a size limit")
     void instantiateWithSizeLimits() {
         assertThrows(IllegalArgumentException.class, () -> {
-            deque = new Deque<>(-1);
+            deque = new UnrolledDeque<>(-1);
         });
         assertThrows(IllegalArgumentException.class, () -> {
-            deque = new Deque<>(0);
+            deque = new UnrolledDeque<>(0);
         });
         assertDoesNotThrow(() -> {
-            deque = new Deque<>(1);
+            deque = new UnrolledDeque<>(1);
         });
     }
 
     @Test
     @DisplayName("handles size constraints")
     void sizeConstraintOperations() {
-        deque = new Deque<>(1);
+        deque = new UnrolledDeque<>(1);
         assertEquals(1, deque.maxSize());
         assertFalse(deque.isFull());
         assertTrue(deque.enqueueFront(1));
@@ -235,4 +237,46 @@ public class DequeTest {
             deque.enqueueBack(null);
         });
     }
+
+    @Test
+    @DisplayName("keeps order across many blocks")
+    void acrossBlocks() {
+        int n = 1000;
+        for (int i = 0; i < n; i++) {
+            deque.enqueueBack(i);
+            deque.enqueueFront(-i - 1);
+        }
+        assertEquals(2 * n, deque.size());
+        assertTrue(deque.contains(-n));
+        assertTrue(deque.contains(n - 1));
+        assertFalse(deque.contains(n));
+        for (int i = n; i > 0; i--) {
+            assertEquals(-i, deque.dequeueFront());
+        }
+        assertEquals(0, deque.peekFirst());
+        assertEquals(n - 1, deque.peekLast());
+        for (int i = n - 1; i >= 0; i--) {
+            assertEquals(i, deque.dequeueBack());
+        }
+        assertTrue(deque.isEmpty());
+        assertNull(deque.peekFirst());
+        assertNull(deque.peekLast());
+    }
+
+    @Test
+    @DisplayName("reuses blocks as it grows and shrinks")
+    void reuseBlocks() {
+        for (int round = 0; round < 3; round++) {
+            for (int i = 0; i < 500; i++) deque.push(i);
+            for (int i = 0; i < 500; i++) deque.enqueueBack(i);
+            for (int i = 499; i >= 0; i--) {
+                assertEquals(i, deque.pop());
+            }
+            for (int i = 0; i < 500; i++) {
+                assertEquals(i, deque.dequeueFront());
+            }
+            assertTrue(deque.isEmpty());
+        }
+        assertFalse(deque.contains(0));
+    }
 }
@@ -0,0 +1,100 @@
+package Deques;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.BeforeEach;
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+@DisplayName("WorkStealingDeque")
+public class WorkStealingDequeTest {
+    WorkStealingDeque<Integer> deque;
+
+    @BeforeEach
+    void instantiate() {
+        deque = new WorkStealingDeque<>();
+    }
+
+    @Test
+    void empty() {
+        assertTrue(deque.isEmpty());
+        assertEquals(0, deque.size());
+        assertNull(deque.pop());
+        assertNull(deque.steal());
+    }
+
+    @Test
+    void push() {
+        assertThrows(NullPointerException.class, () -> {
+            deque.push(null);
+        });
+        deque.push(1);
+        assertFalse(deque.isEmpty());
+        assertEquals(1, deque.size());
+    }
+
+    @Test
+    @DisplayName("pops in LIFO order")
+    void pop() {
+        for (int i = 0; i < 3; i++) deque.push(i);
+        assertEquals(2, deque.pop());
+        assertEquals(1, deque.pop());
+        assertEquals(0, deque.pop());
+        assertNull(deque.pop());
+        assertTrue(deque.isEmpty());
+    }
+
+    @Test
+    @DisplayName("steals in FIFO order")
+    void steal() {
+        for (int i = 0; i < 3; i++) deque.push(i);
+        assertEquals(0, deque.steal());
+        assertEquals(1, deque.steal());
+        assertEquals(2, deque.pop());
+        assertNull(deque.steal());
+        assertNull(deque.pop());
+    }
+
+    @Test
+    @DisplayName("grows past its initial capacity")
+    void grow() {
+        int n = 10000;
+        for (int i = 0; i < n; i++) deque.push(i);
+        assertEquals(n, deque.size());
+        assertEquals(0, deque.steal());
+        for (int i = n - 1; i > 0; i--) {
+            assertEquals(i, deque.pop());
+        }
+        assertTrue(deque.isEmpty());
+    }
+
+    @Test
+    @DisplayName("hands out each element once while thieves steal")
+    void concurrentSteal() throws InterruptedException {
+        final int n = 200000, thieves = 4;
+        ConcurrentHashMap<Integer, Boolean> taken = new ConcurrentHashMap<>();
+        AtomicBoolean finished = new AtomicBoolean();
+        Thread[] threads = new Thread[thieves];
+        for (int i = 0; i < thieves; i++) {
+            threads[i] = new Thread(() -> {
+                while (!finished.get() || !deque.isEmpty()) {
+                    Integer element = deque.steal();
+                    if (element != null) assertNull(taken.put(element, true));
+                }
+            });
+            threads[i].start();
+        }
+        for (int i = 0; i < n; i++) {
+            deque.push(i);
+            if (i % 3 == 0) {
+                Integer element = deque.pop();
+                if (element != null) assertNull(taken.put(element, true));
+            }
+        }
+        finished.set(true);
+        for (Thread thread : threads) thread.join();
+        assertEquals(n, taken.size());
+    }
+}
@@ -0,0 +1,162 @@
+package Deques;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.BeforeEach;
+import java.time.Duration;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CountDownLatch;
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("WorkStealingPool")
+public class WorkStealingPoolTest {
+    WorkStealingPool pool;
+
+    /** Computes Fibonacci numbers by forking both recursive calls */
+    static class Fibonacci extends WorkStealingPool.Task<Long> {
+        final int n;
+
+        Fibonacci(int n) {
+            this.n = n;
+        }
+
+        @Override
+        protected Long compute() {
+            if (n < 2) return (long) n;
+            Fibonacci first = new Fibonacci(n - 1);
+            first.fork();
+            return new Fibonacci(n - 2).compute() + first.join();
+        }
+    }
+
+    @BeforeEach
+    void instantiate() {
+        pool = new WorkStealingPool(4);
+    }
+
+    @AfterEach
+    void shutdown() {
+        pool.shutdown();
+    }
+
+    @Test
+    @DisplayName("handles instantiation with a parallelism")
+    void instantiateWithParallelism() {
+        assertEquals(4, pool.parallelism());
+        assertThrows(IllegalArgumentException.class, () -> {
+            new WorkStealingPool(0);
+        });
+    }
+
+    @Test
+    @DisplayName("runs recursive tasks")
+    void invoke() {
+        assertEquals(6765L, pool.invoke(new Fibonacci(20)));
+        assertEquals(832040L, pool.invoke(new Fibonacci(30)));
+    }
+
+    @Test
+    @DisplayName("runs tasks submitted concurrently")
+    void submit() {
+        Fibonacci[] tasks = new Fibonacci[16];
+        for (int i = 0; i < tasks.length; i++) {
+            tasks[i] = new Fibonacci(i + 5);
+            assertSame(tasks[i], pool.submit(tasks[i]));
+        }
+        long previous = 3, current = 5;
+        for (Fibonacci task : tasks) {
+            assertEquals(current, task.join());
+            assertTrue(task.isDone());
+            current += previous;
+            previous = current - previous;
+        }
+    }
+
+    @Test
+    @DisplayName("rethrows exceptions from tasks")
+    void exception() {
+        assertThrows(NullPointerException.class, () -> {
+            pool.submit(null);
+        });
+        assertThrows(ArithmeticException.class, () -> {
+            pool.invoke(new WorkStealingPool.Task<Integer>() {
+                @Override
+                protected Integer compute() {
+                    throw new ArithmeticException();
+                }
+            });
+        });
+    }
+
+    @Test
+    @DisplayName("only forks tasks from workers")
+    void forkOutsidePool() {
+        assertThrows(IllegalStateException.class, () -> {
+            new Fibonacci(1).fork();
+        });
+    }
+
+    @Test
+    @DisplayName("keeps tasks on the pool they were scheduled on")
+    void otherPool() {
+        WorkStealingPool other = new WorkStealingPool(1);
+        try {
+            Fibonacci task = new Fibonacci(10);
+            assertEquals(55L, pool.invoke(task));
+            assertThrows(IllegalStateException.class, () -> {
+                other.submit(task);
+            });
+            assertThrows(IllegalStateException.class, () -> {
+                other.invoke(new WorkStealingPool.Task<Long>() {
+                    @Override
+                    protected Long compute() {
+                        return task.fork().join();
+                    }
+                });
+            });
+        } finally {
+            other.shutdown();
+        }
+    }
+
+    @Test
+    @DisplayName("rejects tasks after shutdown")
+    void rejectAfterShutdown() {
+        pool.shutdown();
+        assertThrows(IllegalStateException.class, () -> {
+            pool.submit(new Fibonacci(1));
+        });
+    }
+
+    @Test
+    @DisplayName("cancels tasks that haven't started on shutdown")
+    void cancelOnShutdown() throws InterruptedException {
+        pool.shutdown();
+        pool = new WorkStealingPool(1);
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        WorkStealingPool.Task<Integer> running = pool.submit(new WorkStealingPool.Task<Integer>() {
+            @Override
+            protected Integer compute() {
+                started.countDown();
+                try {
+                    release.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                return 1;
+            }
+        });
+        started.await();
+        Fibonacci waiting = new Fibonacci(10);
+        pool.submit(waiting);
+        pool.shutdown();
+        assertTimeoutPreemptively(Duration.ofSeconds(5), () -> {
+            assertThrows(CancellationException.class, waiting::join);
+        });
+        assertTrue(waiting.isDone());
+        release.countDown();
+        assertEquals(1, running.join());
+    }
+}
@@ -0,0 +1,85 @@
+package Queues;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.DisplayName;
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.ArrayDeque;
+import java.util.Random;
+import java.util.function.BinaryOperator;
+
+@DisplayName("AggregateStackQueue")
+public class AggregateStackQueueTest {
+    AggregateStackQueue<Integer> queue;
+
+    @BeforeEach
+    void instantiate() {
+        queue = new AggregateStackQueue<>(Math::max);
+    }
+
+    @Test
+    void empty() {
+        assertTrue(queue.isEmpty());
+        assertEquals(0, queue.size());
+        assertNull(queue.aggregate());
+        assertNull(queue.dequeue());
+        assertNull(queue.peek());
+        assertThrows(NullPointerException.class, () -> {
+            new AggregateStackQueue<Integer>(null);
+        });
+    }
+
+    @Test
+    void enqueueDequeue() {
+        assertThrows(NullPointerException.class, () -> {
+            queue.enqueue(null);
+        });
+        for (int i = 0; i < 5; i++) {
+            queue.enqueue(i);
+        }
+        assertEquals(0, queue.peek());
+        assertEquals(0, queue.dequeue());
+        queue.enqueue(5);
+        assertEquals(5, queue.size());
+        for (int i = 1; i <= 5; i++) {
+            assertEquals(i, queue.peek());
+            assertEquals(i, queue.dequeue());
+        }
+        assertTrue(queue.isEmpty());
+    }
+
+    @Test
+    @DisplayName("tracks the aggregate of a sliding window")
+    void slidingWindow() {
+        Random random = new Random(1);
+        ArrayDeque<Integer> window = new ArrayDeque<>();
+        for (int i = 0; i < 10000; i++) {
+            int element = random.nextInt(1000);
+            queue.enqueue(element);
+            window.addLast(element);
+            if (window.size() > 16 || random.nextInt(4) == 0) {
+                assertEquals(window.pollFirst(), queue.dequeue());
+            }
+            int max = Integer.MIN_VALUE;
+            for (int value : window) max = Math.max(max, value);
+            assertEquals(window.isEmpty() ? null : max, queue.aggregate());
+        }
+    }
+
+    @Test
+    @DisplayName("combines elements from front to back")
+    void order() {
+        BinaryOperator<String> concat = String::concat;
+        AggregateStackQueue<String> strings = new AggregateStackQueue<>(concat);
+        strings.enqueue("a");
+        strings.enqueue("b");
+        strings.enqueue("c");
+        assertEquals("abc", strings.aggregate());
+        assertEquals("a", strings.dequeue());
+        strings.enqueue("d");
+        assertEquals("bcd", strings.aggregate());
+        assertEquals("b", strings.dequeue());
+        assertEquals("cd", strings.aggregate());
+    }
+}
@@ -0,0 +1,214 @@
+package Queues;
+
+import Deques.Serializer;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.io.TempDir;
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.io.IOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.NoSuchElementException;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+@DisplayName("JournalQueue")
+public class JournalQueueTest {
+    static final Serializer<String> STRINGS = new Serializer<String>() {
+        @Override
+        public byte[] toBytes(String element) {
+            return element.getBytes(StandardCharsets.UTF_8);
+        }
+
+        @Override
+        public String fromBytes(byte[] bytes) {
+            return new String(bytes, StandardCharsets.UTF_8);
+        }
+    };
+
+    @TempDir
+    Path directory;
+    JournalQueue<String> queue;
+
+    @BeforeEach
+    void instantiate() {
+        queue = open();
+    }
+
+    @AfterEach
+    void close() {
+        queue.close();
+    }
+
+    JournalQueue<String> open() {
+        return new JournalQueue<>(directory, STRINGS, 256, JournalQueue.SyncPolicy.everyBatch(10));
+    }
+
+    long segmentFiles() throws IOException {
+        try (Stream<Path> files = Files.list(directory)) {
+            return files.filter(path -> path.toString().endsWith(".segment")).count();
+        }
+    }
+
+    @Test
+    @DisplayName("is proper size after instantiation")
+    void postInstantiation() {
+        assertTrue(queue.isEmpty());
+        assertEquals(0, queue.size());
+        assertNull(queue.dequeue());
+        assertNull(queue.peek());
+        assertThrows(NoSuchElementException.class, () -> {
+            queue.remove();
+        });
+        assertThrows(NoSuchElementException.class, () -> {
+            queue.element();
+        });
+    }
+
+    @Test
+    @DisplayName("rejects invalid arguments")
+    void invalid() {
+        assertThrows(NullPointerException.class, () -> {
+            queue.enqueue(null);
+        });
+        assertThrows(IllegalArgumentException.class, () -> {
+            new JournalQueue<>(directory, STRINGS, 16, JournalQueue.SyncPolicy.everyOperation());
+        });
+        assertThrows(IllegalArgumentException.class, () -> {
+            JournalQueue.SyncPolicy.everyBatch(0);
+        });
+        assertThrows(IllegalArgumentException.class, () -> {
+            JournalQueue.SyncPolicy.timed(0, TimeUnit.SECONDS);
+        });
+        char[] large = new char[300];
+        assertThrows(IllegalArgumentException.class, () -> {
+            queue.enqueue(new String(large));
+        });
+        assertTrue(queue.isEmpty());
+    }
+
+    @Test
+    @DisplayName("removes elements in insertion order")
+    void enqueueDequeue() {
+        assertTrue(queue.enqueue("a"));
+        assertTrue(queue.add(""));
+        assertTrue(queue.offer("c"));
+        assertEquals(3, queue.size());
+        assertEquals("a", queue.peek());
+        assertEquals("a", queue.poll());
+        assertEquals("", queue.dequeue());
+        assertEquals("c", queue.remove());
+        assertTrue(queue.isEmpty());
+    }
+
+    @Test
+    @DisplayName("rolls over and deletes drained segments")
+    void segments() throws IOException {
+        for (int i = 0; i < 200; i++) {
+            queue.enqueue("element " + i);
+        }
+        assertTrue(segmentFiles() > 5);
+        for (int i = 0; i < 200; i++) {
+            assertEquals("element " + i, queue.dequeue());
+        }
+        assertEquals(1, segmentFiles());
+        queue.enqueue("again");
+        assertEquals("again", queue.dequeue());
+    }
+
+    @Test
+    @DisplayName("recovers its elements and cursor when reopened")
+    void recovery() {
+        for (int i = 0; i < 100; i++) {
+            queue.enqueue("element " + i);
+        }
+        for (int i = 0; i < 30; i++) {
+            queue.dequeue();
+        }
+        queue.close();
+        assertThrows(IllegalStateException.class, () -> {
+            queue.dequeue();
+        });
+        queue = open();
+        assertEquals(70, queue.size());
+        for (int i = 30; i < 60; i++) {
+            assertEquals("element " + i, queue.dequeue());
+        }
+        queue.enqueue("element 100");
+        queue.close();
+        queue = open();
+        assertEquals(41, queue.size());
+        for (int i = 60; i <= 100; i++) {
+            assertEquals("element " + i, queue.dequeue());
+        }
+        assertTrue(queue.isEmpty());
+    }
+
+    @Test
+    @DisplayName("resumes at the next segment when the cursor's segment is gone")
+    void missingCursorSegment() throws IOException {
+        for (int i = 0; i < 100; i++) {
+            queue.enqueue("element " + i);
+        }
+        queue.dequeue();
+        queue.close();
+        // As if the process crashed after deleting the segment but before moving the cursor
+        Files.delete(directory.resolve("0.segment"));
+        queue = open();
+        int size = queue.size();
+        assertTrue(size > 0 && size < 99);
+        for (int i = 100 - size; i < 100; i++) {
+            assertEquals("element " + i, queue.dequeue());
+        }
+        assertTrue(queue.isEmpty());
+    }
+
+    @Test
+    @DisplayName("drops records after a corrupted one when reopened")
+    void corruptedTail() throws IOException {
+        queue.enqueue("first");
+        queue.enqueue("second");
+        queue.enqueue("third");
+        queue.close();
+        Path segment = directory.resolve("0.segment");
+        try (FileChannel channel = FileChannel.open(segment,
+                StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+            MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_WRITE, 0, 256);
+            int second = buffer.getInt(0);
+            // Flip a byte of the second record's contents
+            buffer.put(second + 8, (byte) (buffer.get(second + 8) ^ 1));
+            buffer.force();
+        }
+        queue = open();
+        assertEquals(1, queue.size());
+        assertEquals("first", queue.dequeue());
+        queue.enqueue("fourth");
+        queue.close();
+        queue = open();
+        assertEquals(1, queue.size());
+        assertEquals("fourth", queue.dequeue());
+    }
+
+    @Test
+    @DisplayName("syncs in the background on a timer")
+    void timedSync() throws InterruptedException {
+        queue.close();
+        queue = new JournalQueue<>(directory, STRINGS, 256,
+                JournalQueue.SyncPolicy.timed(5, TimeUnit.MILLISECONDS));
+        for (int i = 0; i < 50; i++) {
+            queue.enqueue("element " + i);
+            if (i % 10 == 0) Thread.sleep(10);
+        }
+        for (int i = 0; i < 50; i++) {
+            assertEquals("element " + i, queue.dequeue());
+        }
+    }
+}
@@ -0,0 +1,71 @@
+package Queues;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.DisplayName;
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.ArrayDeque;
+import java.util.NoSuchElementException;
+import java.util.Random;
+
+@DisplayName("LongAggregateStackQueue")
+public class LongAggregateStackQueueTest {
+    LongAggregateStackQueue queue;
+
+    @BeforeEach
+    void instantiate() {
+        queue = new LongAggregateStackQueue(0, Long::sum);
+    }
+
+    @Test
+    void empty() {
+        assertTrue(queue.isEmpty());
+        assertEquals(0, queue.size());
+        assertEquals(0, queue.aggregate());
+        assertThrows(NoSuchElementException.class, () -> {
+            queue.dequeue();
+        });
+        assertThrows(NoSuchElementException.class, () -> {
+            queue.peek();
+        });
+    }
+
+    @Test
+    @DisplayName("tracks the aggregate of a sliding window")
+    void slidingWindow() {
+        Random random = new Random(1);
+        ArrayDeque<Long> window = new ArrayDeque<>();
+        long sum = 0;
+        for (int i = 0; i < 10000; i++) {
+            long value = random.nextInt(1000);
+            queue.enqueue(value);
+            window.addLast(value);
+            sum += value;
+            if (window.size() > 16 || random.nextInt(4) == 0) {
+                assertEquals(window.peekFirst(), queue.peek());
+                long dequeued = window.pollFirst();
+                assertEquals(dequeued, queue.dequeue());
+                sum -= dequeued;
+            }
+            assertEquals(window.size(), queue.size());
+            assertEquals(sum, queue.aggregate());
+        }
+    }
+
+    @Test
+    @DisplayName("tracks the minimum with its identity")
+    void minimum() {
+        queue = new LongAggregateStackQueue(Long.MAX_VALUE, Math::min);
+        assertEquals(Long.MAX_VALUE, queue.aggregate());
+        queue.enqueue(3);
+        queue.enqueue(1);
+        queue.enqueue(2);
+        assertEquals(1, queue.aggregate());
+        assertEquals(3, queue.dequeue());
+        assertEquals(1, queue.dequeue());
+        assertEquals(2, queue.aggregate());
+        queue.enqueue(5);
+        assertEquals(2, queue.aggregate());
+    }
+}
@@ -0,0 +1,174 @@
+package Queues;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.BeforeEach;
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+@DisplayName("MpmcQueue")
+public class MpmcQueueTest {
+    MpmcQueue<Integer> queue;
+
+    @BeforeEach
+    void instantiate() {
+        queue = new MpmcQueue<>(4);
+    }
+
+    @Test
+    @DisplayName("is proper size after instantiation")
+    void postInstantiation() {
+        assertTrue(queue.isEmpty());
+        assertFalse(queue.isFull());
+        assertEquals(0, queue.size());
+        assertEquals(4, queue.maxSize());
+        assertEquals(8, new MpmcQueue<Integer>(5).maxSize());
+        assertNull(queue.dequeue());
+        assertNull(queue.peek());
+        assertThrows(NoSuchElementException.class, () -> {
+            queue.remove();
+        });
+        assertThrows(NoSuchElementException.class, () -> {
+            queue.element();
+        });
+        assertThrows(IllegalArgumentException.class, () -> {
+            new MpmcQueue<Integer>(0);
+        });
+    }
+
+    @Test
+    @DisplayName("enforces its maximum size while wrapping around")
+    void enqueueDequeue() {
+        assertThrows(NullPointerException.class, () -> {
+            queue.enqueue(null);
+        });
+        for (int round = 0; round < 10; round++) {
+            for (int i = 0; i < 4; i++) {
+                assertTrue(queue.offer(round * 4 + i));
+            }
+            assertTrue(queue.isFull());
+            assertFalse(queue.add(-1));
+            assertEquals(round * 4, queue.peek());
+            for (int i = 0; i < 4; i++) {
+                assertEquals(round * 4 + i, queue.poll());
+            }
+            assertTrue(queue.isEmpty());
+        }
+    }
+
+    @Test
+    @DisplayName("claims and drains slots in batches")
+    void batches() {
+        assertThrows(NullPointerException.class, () -> {
+            queue.offer(new Integer[] {1, null});
+        });
+        assertTrue(queue.isEmpty());
+        assertEquals(0, queue.offer(new Integer[] {}));
+        assertEquals(4, queue.offer(new Integer[] {0, 1, 2, 3, 4}));
+        assertEquals(0, queue.offer(new Integer[] {5}));
+        List<Integer> drained = new ArrayList<>();
+        assertThrows(IllegalArgumentException.class, () -> {
+            queue.drain(drained::add, -1);
+        });
+        assertEquals(3, queue.drain(drained::add, 3));
+        assertEquals(2, queue.offer(new Integer[] {4, 5}));
+        assertEquals(3, queue.drain(drained::add, 10));
+        assertEquals(Arrays.asList(0, 1, 2, 3, 4, 5), drained);
+        assertEquals(0, queue.drain(drained::add, 10));
+    }
+
+    @Test
+    @DisplayName("releases claimed slots when the drain consumer throws")
+    void drainThrows() {
+        assertEquals(4, queue.offer(new Integer[] {0, 1, 2, 3}));
+        assertThrows(IllegalStateException.class, () -> {
+            queue.drain(element -> {
+                throw new IllegalStateException();
+            }, 4);
+        });
+        assertTrue(queue.isEmpty());
+        assertEquals(4, queue.offer(new Integer[] {4, 5, 6, 7}));
+        for (int i = 4; i < 8; i++) {
+            assertEquals(i, queue.dequeue());
+        }
+    }
+
+    @Test
+    @DisplayName("delivers every element exactly once under contention")
+    void producersConsumers() throws InterruptedException {
+        int threads = 4, perProducer = 100_000;
+        MpmcQueue<Integer> work = new MpmcQueue<>(64);
+        AtomicLongArray seen = new AtomicLongArray(threads * perProducer);
+        AtomicLong received = new AtomicLong();
+        AtomicBoolean outOfOrder = new AtomicBoolean();
+        List<Thread> all = new ArrayList<>();
+        for (int p = 0; p < threads; p++) {
+            int producer = p;
+            all.add(new Thread(() -> {
+                Integer[] batch = new Integer[8];
+                for (int i = 0; i < perProducer;) {
+                    int offered;
+                    if (i % 2 == 0) {
+                        int n = Math.min(batch.length, perProducer - i);
+                        for (int j = 0; j < n; j++) {
+                            batch[j] = producer * perProducer + i + j;
+                        }
+                        offered = work.offer(Arrays.copyOf(batch, n));
+                    } else {
+                        offered = work.enqueue(producer * perProducer + i) ? 1 : 0;
+                    }
+                    i += offered;
+                    if (offered == 0) Thread.yield();
+                }
+            }));
+        }
+        for (int c = 0; c < threads; c++) {
+            int consumer = c;
+            all.add(new Thread(() -> {
+                int[] last = new int[threads];
+                Arrays.fill(last, -1);
+                while (received.get() < threads * perProducer) {
+                    int drained;
+                    if (consumer % 2 == 0) {
+                        drained = work.drain(element -> {
+                            seen.incrementAndGet(element);
+                            int producer = element / perProducer;
+                            if (element % perProducer <= last[producer]) outOfOrder.set(true);
+                            last[producer] = element % perProducer;
+                        }, 8);
+                    } else {
+                        Integer element = work.dequeue();
+                        drained = element == null ? 0 : 1;
+                        if (element != null) {
+                            seen.incrementAndGet(element);
+                            int producer = element / perProducer;
+                            if (element % perProducer <= last[producer]) outOfOrder.set(true);
+                            last[producer] = element % perProducer;
+                        }
+                    }
+                    received.addAndGet(drained);
+                    if (drained == 0) Thread.yield();
+                }
+            }));
+        }
+        for (Thread thread : all) {
+            thread.start();
+        }
+        for (Thread thread : all) {
+            thread.join();
+        }
+        for (int i = 0; i < seen.length(); i++) {
+            assertEquals(1, seen.get(i));
+        }
+        // Each consumer sees each producer's elements in increasing order
+        assertFalse(outOfOrder.get());
+        assertTrue(work.isEmpty());
+    }
+}
@@ -0,0 +1,119 @@
+package Queues;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.BeforeEach;
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+@DisplayName("MpscQueue")
+public class MpscQueueTest {
+    MpscQueue<Integer> queue;
+
+    @BeforeEach
+    void instantiate() {
+        queue = new MpscQueue<>();
+    }
+
+    @Test
+    @DisplayName("is proper size after instantiation")
+    void postInstantiation() {
+        assertTrue(queue.isEmpty());
+        assertFalse(queue.isFull());
+        assertEquals(0, queue.size());
+        assertEquals(Integer.MAX_VALUE, queue.maxSize());
+        assertNull(queue.dequeue());
+        assertNull(queue.peek());
+        assertThrows(NoSuchElementException.class, () -> {
+            queue.remove();
+        });
+        assertThrows(NoSuchElementException.class, () -> {
+            queue.element();
+        });
+    }
+
+    @Test
+    @DisplayName("removes elements in insertion order")
+    void enqueueDequeue() {
+        assertThrows(NullPointerException.class, () -> {
+            queue.enqueue(null);
+        });
+        for (int i = 0; i < 5; i++) {
+            assertTrue(queue.offer(i));
+        }
+        assertEquals(5, queue.size());
+        assertEquals(0, queue.peek());
+        for (int i = 0; i < 5; i++) {
+            assertEquals(i, queue.poll());
+        }
+        assertTrue(queue.isEmpty());
+        assertTrue(queue.add(5));
+        assertEquals(5, queue.remove());
+    }
+
+    @Test
+    @DisplayName("handles size constraints")
+    void sizeConstraintOperations() {
+        assertThrows(IllegalArgumentException.class, () -> {
+            new MpscQueue<Integer>(0);
+        });
+        queue = new MpscQueue<>(2);
+        assertEquals(2, queue.maxSize());
+        assertTrue(queue.enqueue(1));
+        assertTrue(queue.enqueue(2));
+        assertTrue(queue.isFull());
+        assertFalse(queue.enqueue(3));
+        assertEquals(2, queue.size());
+        assertEquals(1, queue.dequeue());
+        assertFalse(queue.isFull());
+        assertTrue(queue.enqueue(3));
+        assertEquals(2, queue.dequeue());
+        assertEquals(3, queue.dequeue());
+        assertEquals(0, queue.size());
+    }
+
+    @Test
+    @DisplayName("keeps each producer's order and never exceeds its bound")
+    void producersConsumer() throws InterruptedException {
+        int producers = 8, perProducer = 50_000;
+        MpscQueue<Integer> mailbox = new MpscQueue<>(256);
+        AtomicInteger rejected = new AtomicInteger();
+        List<Thread> threads = new ArrayList<>();
+        for (int p = 0; p < producers; p++) {
+            int producer = p;
+            Thread thread = new Thread(() -> {
+                for (int i = 0; i < perProducer;) {
+                    if (mailbox.enqueue(producer * perProducer + i)) {
+                        i++;
+                    } else {
+                        rejected.incrementAndGet();
+                        Thread.yield();
+                    }
+                }
+            });
+            threads.add(thread);
+            thread.start();
+        }
+        int[] next = new int[producers];
+        for (int received = 0; received < producers * perProducer;) {
+            assertTrue(mailbox.size() <= 256);
+            Integer element = mailbox.dequeue();
+            if (element == null) {
+                Thread.yield();
+                continue;
+            }
+            int producer = element / perProducer;
+            assertEquals(next[producer]++, element % perProducer);
+            received++;
+        }
+        for (Thread thread : threads) {
+            thread.join();
+        }
+        assertTrue(mailbox.isEmpty());
+        assertEquals(0, mailbox.size());
+    }
+}
@@ -0,0 +1,162 @@
+package Queues;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.BeforeEach;
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.NoSuchElementException;
+
+@DisplayName("MultiLevelQueue")
+public class MultiLevelQueueTest {
+    MultiLevelQueue<Integer> queue;
+
+    @BeforeEach
+    void instantiate() {
+        queue = new MultiLevelQueue<>(8);
+    }
+
+    @Test
+    @DisplayName("is proper size after instantiation")
+    void postInstantiation() {
+        assertTrue(queue.isEmpty());
+        assertFalse(queue.isWeighted());
+        assertEquals(0, queue.size());
+        assertEquals(8, queue.levels());
+        assertEquals(Integer.MAX_VALUE, queue.maxSize(7));
+        assertNull(queue.dequeue());
+        assertNull(queue.peek());
+        assertThrows(NoSuchElementException.class, () -> {
+            queue.remove();
+        });
+        assertThrows(NoSuchElementException.class, () -> {
+            queue.element();
+        });
+    }
+
+    @Test
+    @DisplayName("rejects invalid arguments")
+    void invalid() {
+        assertThrows(IllegalArgumentException.class, () -> {
+            new MultiLevelQueue<Integer>(0);
+        });
+        assertThrows(IllegalArgumentException.class, () -> {
+            new MultiLevelQueue<Integer>(65);
+        });
+        assertThrows(IllegalArgumentException.class, () -> {
+            new MultiLevelQueue<Integer>(new int[] {1, 0});
+        });
+        assertThrows(IllegalArgumentException.class, () -> {
+            new MultiLevelQueue<Integer>(new int[] {1, 1}, new int[] {1});
+        });
+        assertThrows(IllegalArgumentException.class, () -> {
+            new MultiLevelQueue<Integer>(new int[] {1, 1}, new int[] {1, 0});
+        });
+        assertThrows(IllegalArgumentException.class, () -> {
+            queue.enqueue(1, 8);
+        });
+        assertThrows(IllegalArgumentException.class, () -> {
+            queue.size(-1);
+        });
+        assertThrows(NullPointerException.class, () -> {
+            queue.enqueue(null, 0);
+        });
+        assertEquals(64, new MultiLevelQueue<Integer>(64).levels());
+    }
+
+    @Test
+    @DisplayName("removes the most urgent level first in insertion order")
+    void strict() {
+        queue.enqueue(70, 7);
+        queue.enqueue(30, 3);
+        queue.enqueue(71, 7);
+        queue.enqueue(0, 0);
+        queue.enqueue(31, 3);
+        assertEquals(5, queue.size());
+        assertEquals(2, queue.size(3));
+        assertEquals(0, queue.peek());
+        int[] expected = {0, 30, 31, 70, 71};
+        for (int element : expected) {
+            assertEquals(element, queue.remove());
+        }
+        assertTrue(queue.isEmpty());
+        assertTrue(queue.add(1, 1));
+        assertTrue(queue.offer(2, 2));
+        assertEquals(1, queue.poll());
+        assertEquals(2, queue.poll());
+    }
+
+    @Test
+    @DisplayName("handles size constraints per level")
+    void sizeConstraints() {
+        queue = new MultiLevelQueue<>(new int[] {2, 1});
+        assertEquals(2, queue.maxSize(0));
+        assertTrue(queue.enqueue(1, 0));
+        assertTrue(queue.enqueue(2, 0));
+        assertFalse(queue.enqueue(3, 0));
+        assertTrue(queue.isFull(0));
+        assertFalse(queue.isFull(1));
+        assertTrue(queue.enqueue(4, 1));
+        assertFalse(queue.enqueue(5, 1));
+        assertEquals(3, queue.size());
+    }
+
+    @Test
+    @DisplayName("serves levels in proportion to their weights")
+    void weighted() {
+        queue = new MultiLevelQueue<>(new int[] {100, 100, 100}, new int[] {3, 2, 1});
+        assertTrue(queue.isWeighted());
+        for (int i = 0; i < 60; i++) {
+            queue.enqueue(0, 0);
+            queue.enqueue(1, 1);
+            queue.enqueue(2, 2);
+        }
+        int[] served = new int[3];
+        for (int i = 0; i < 60; i++) {
+            assertEquals(queue.peek(), queue.peek());
+            Integer next = queue.peek();
+            assertEquals(next, queue.dequeue());
+            served[next]++;
+        }
+        assertEquals(30, served[0]);
+        assertEquals(20, served[1]);
+        assertEquals(10, served[2]);
+
+        // Empty levels don't hold up the others
+        queue = new MultiLevelQueue<>(new int[] {100, 100}, new int[] {1, 1});
+        for (int i = 0; i < 5; i++) {
+            queue.enqueue(1, 1);
+        }
+        for (int i = 0; i < 5; i++) {
+            assertEquals(1, queue.dequeue());
+        }
+        queue.enqueue(0, 0);
+        queue.enqueue(0, 0);
+        queue.enqueue(1, 1);
+        // Level 1 used up its share, so level 0 finishes the round and leads the next
+        assertEquals(0, queue.dequeue());
+        assertEquals(0, queue.dequeue());
+        assertEquals(1, queue.dequeue());
+    }
+
+    @Test
+    @DisplayName("drains elements in removal order")
+    void drain() {
+        for (int i = 0; i < 8; i++) {
+            queue.enqueue(i, 7 - i);
+        }
+        List<Integer> drained = new ArrayList<>();
+        assertThrows(IllegalArgumentException.class, () -> {
+            queue.drain(drained::add, -1);
+        });
+        assertEquals(3, queue.drain(drained::add, 3));
+        assertEquals(5, queue.drain(drained::add, 10));
+        assertEquals(0, queue.drain(drained::add, 10));
+        for (int i = 0; i < 8; i++) {
+            assertEquals(7 - i, drained.get(i));
+        }
+        assertTrue(queue.isEmpty());
+    }
+}
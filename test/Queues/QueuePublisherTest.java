@@ -0,0 +1,307 @@
+package Queues;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.BeforeEach;
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+@DisplayName("QueuePublisher")
+public class QueuePublisherTest {
+    /** Subscriber that records its signals */
+    static class Recorder implements QueuePublisher.Subscriber<Integer> {
+        final List<Integer> received = Collections.synchronizedList(new ArrayList<>());
+        final CountDownLatch completed = new CountDownLatch(1);
+        QueuePublisher.Subscription subscription;
+        volatile Throwable error;
+        volatile boolean complete;
+
+        @Override
+        public void onSubscribe(QueuePublisher.Subscription subscription) {
+            this.subscription = subscription;
+        }
+
+        @Override
+        public void onNext(Integer element) {
+            received.add(element);
+        }
+
+        @Override
+        public void onError(Throwable error) {
+            this.error = error;
+            completed.countDown();
+        }
+
+        @Override
+        public void onComplete() {
+            complete = true;
+            completed.countDown();
+        }
+    }
+
+    /** Number of deliveries run by the executor */
+    AtomicInteger runs;
+    QueuePublisher<Integer> publisher;
+    Recorder recorder;
+
+    @BeforeEach
+    void instantiate() {
+        runs = new AtomicInteger();
+        publisher = new QueuePublisher<>(8, 4, task -> {
+            runs.incrementAndGet();
+            task.run();
+        });
+        recorder = new Recorder();
+    }
+
+    @Test
+    @DisplayName("rejects invalid arguments")
+    void invalid() {
+        assertThrows(IllegalArgumentException.class, () -> {
+            new QueuePublisher<Integer>(0);
+        });
+        assertThrows(IllegalArgumentException.class, () -> {
+            new QueuePublisher<Integer>(8, 0, Runnable::run);
+        });
+        assertThrows(NullPointerException.class, () -> {
+            new QueuePublisher<Integer>(8, 4, null);
+        });
+        assertThrows(NullPointerException.class, () -> {
+            publisher.offer(null);
+        });
+        assertThrows(NullPointerException.class, () -> {
+            publisher.subscribe(null);
+        });
+    }
+
+    @Test
+    @DisplayName("applies backpressure at the maximum size")
+    void backpressure() {
+        assertEquals(8, publisher.maxSize());
+        assertTrue(publisher.isEmpty());
+        for (int i = 0; i < 8; i++) {
+            assertTrue(publisher.offer(i));
+        }
+        assertFalse(publisher.offer(8));
+        assertEquals(8, publisher.size());
+    }
+
+    @Test
+    @DisplayName("delivers only requested elements")
+    void demand() {
+        publisher.subscribe(recorder);
+        assertEquals(1, publisher.subscribers());
+        for (int i = 0; i < 8; i++) {
+            publisher.offer(i);
+        }
+        assertTrue(recorder.received.isEmpty());
+        recorder.subscription.request(3);
+        assertEquals(Integer.valueOf(0), recorder.received.get(0));
+        assertEquals(3, recorder.received.size());
+        assertEquals(5, publisher.size());
+        recorder.subscription.request(10);
+        assertEquals(8, recorder.received.size());
+        assertTrue(publisher.isEmpty());
+        publisher.offer(8);
+        publisher.offer(9);
+        assertEquals(10, recorder.received.size());
+        for (int i = 0; i < 10; i++) {
+            assertEquals(Integer.valueOf(i), recorder.received.get(i));
+        }
+    }
+
+    @Test
+    @DisplayName("delivers queued elements in batches")
+    void batches() {
+        publisher.subscribe(recorder);
+        for (int i = 0; i < 8; i++) {
+            publisher.offer(i);
+        }
+        runs.set(0);
+        recorder.subscription.request(Long.MAX_VALUE);
+        assertEquals(8, recorder.received.size());
+        assertEquals(1, runs.get());
+        // Only the insertion into an empty queue signals the subscriber
+        runs.set(0);
+        publisher.offer(8);
+        assertEquals(1, runs.get());
+    }
+
+    @Test
+    @DisplayName("delivers each element to one subscriber")
+    void subscribers() {
+        Recorder other = new Recorder();
+        publisher.subscribe(recorder);
+        publisher.subscribe(other);
+        recorder.subscription.request(5);
+        other.subscription.request(5);
+        for (int i = 0; i < 8; i++) {
+            publisher.offer(i);
+        }
+        List<Integer> all = new ArrayList<>(recorder.received);
+        all.addAll(other.received);
+        Collections.sort(all);
+        assertEquals(8, all.size());
+        for (int i = 0; i < 8; i++) {
+            assertEquals(Integer.valueOf(i), all.get(i));
+        }
+    }
+
+    @Test
+    @DisplayName("stops delivering after cancellation and failure")
+    void cancel() {
+        publisher.subscribe(recorder);
+        recorder.subscription.request(1);
+        publisher.offer(0);
+        recorder.subscription.cancel();
+        assertEquals(0, publisher.subscribers());
+        recorder.subscription.request(1);
+        publisher.offer(1);
+        assertEquals(1, recorder.received.size());
+        assertEquals(1, publisher.size());
+
+        Recorder invalid = new Recorder();
+        publisher.subscribe(invalid);
+        invalid.subscription.request(0);
+        assertTrue(invalid.error instanceof IllegalArgumentException);
+        assertTrue(invalid.received.isEmpty());
+
+        QueuePublisher.Subscriber<Integer> throwing = new Recorder() {
+            @Override
+            public void onNext(Integer element) {
+                throw new IllegalStateException();
+            }
+        };
+        publisher.subscribe(throwing);
+        ((Recorder) throwing).subscription.request(5);
+        assertEquals(0, publisher.subscribers());
+    }
+
+    @Test
+    @DisplayName("hands a failed subscriber's batch back to the others")
+    void throwingSubscriber() {
+        for (int i = 0; i < 6; i++) {
+            assertTrue(publisher.offer(i));
+        }
+        Recorder throwing = new Recorder() {
+            @Override
+            public void onNext(Integer element) {
+                throw new IllegalStateException();
+            }
+        };
+        publisher.subscribe(recorder);
+        publisher.subscribe(throwing);
+        throwing.subscription.request(10);
+        assertEquals(1, publisher.subscribers());
+        // Element 0 was delivered to the failed subscriber, the rest of its batch went back
+        assertEquals(5, publisher.size());
+        assertTrue(publisher.offer(6));
+        assertTrue(publisher.offer(7));
+        assertTrue(publisher.offer(8));
+        assertFalse(publisher.offer(9));
+        recorder.subscription.request(10);
+        assertEquals(Arrays.asList(1, 2, 3, 4, 5, 6, 7, 8), recorder.received);
+        assertTrue(publisher.isEmpty());
+    }
+
+    @Test
+    @DisplayName("drops a failed subscriber's batch when no one else is subscribed")
+    void lastThrowingSubscriber() {
+        for (int i = 0; i < 6; i++) {
+            assertTrue(publisher.offer(i));
+        }
+        Recorder throwing = new Recorder() {
+            @Override
+            public void onNext(Integer element) {
+                throw new IllegalStateException();
+            }
+        };
+        publisher.subscribe(throwing);
+        throwing.subscription.request(10);
+        assertEquals(0, publisher.subscribers());
+        // Elements 1 to 3 were in the failed subscriber's batch, 4 and 5 are still queued
+        assertEquals(2, publisher.size());
+        for (int i = 6; i < 12; i++) {
+            assertTrue(publisher.offer(i));
+        }
+        assertFalse(publisher.offer(12));
+        publisher.subscribe(recorder);
+        recorder.subscription.request(10);
+        assertEquals(Arrays.asList(4, 5, 6, 7, 8, 9, 10, 11), recorder.received);
+        assertTrue(publisher.isEmpty());
+    }
+
+    @Test
+    @DisplayName("completes subscribers once closed and drained")
+    void close() {
+        publisher.subscribe(recorder);
+        publisher.offer(0);
+        publisher.close();
+        assertTrue(publisher.isClosed());
+        assertThrows(IllegalStateException.class, () -> {
+            publisher.offer(1);
+        });
+        assertFalse(recorder.complete);
+        recorder.subscription.request(1);
+        assertTrue(recorder.complete);
+        assertEquals(1, recorder.received.size());
+
+        Recorder late = new Recorder();
+        publisher.subscribe(late);
+        assertTrue(late.complete);
+        assertEquals(0, publisher.subscribers());
+    }
+
+    @Test
+    @DisplayName("blocks producers until subscribers catch up")
+    void concurrent() throws InterruptedException {
+        ExecutorService executor = Executors.newFixedThreadPool(3);
+        QueuePublisher<Integer> shared = new QueuePublisher<>(16, 8, executor);
+        List<Recorder> recorders = new ArrayList<>();
+        for (int i = 0; i < 3; i++) {
+            Recorder subscriber = new Recorder() {
+                @Override
+                public void onNext(Integer element) {
+                    super.onNext(element);
+                    subscription.request(1);
+                }
+            };
+            shared.subscribe(subscriber);
+            subscriber.subscription.request(4);
+            recorders.add(subscriber);
+        }
+        Thread producer = new Thread(() -> {
+            try {
+                for (int i = 0; i < 10000; i++) {
+                    shared.put(i);
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            shared.close();
+        });
+        producer.start();
+        producer.join();
+        List<Integer> all = new ArrayList<>();
+        for (Recorder subscriber : recorders) {
+            assertTrue(subscriber.completed.await(10, TimeUnit.SECONDS));
+            assertTrue(subscriber.complete);
+            all.addAll(subscriber.received);
+        }
+        executor.shutdown();
+        Collections.sort(all);
+        assertEquals(10000, all.size());
+        for (int i = 0; i < 10000; i++) {
+            assertEquals(Integer.valueOf(i), all.get(i));
+        }
+    }
+}
@@ -146,4 +146,33 @@ public class QueueTest {
             queue.enqueue(null);
         });
     }
+
+    @Test
+    @DisplayName("recycles dequeued nodes up to its pool size")
+    void recycling() {
+        assertThrows(IllegalArgumentException.class, () -> {
+            queue = new Queue<>(1, -1);
+        });
+        queue = new Queue<>(Integer.MAX_VALUE, 2);
+        for (int i = 0; i < 3; i++) {
+            queue.enqueue(i);
+        }
+        assertEquals(0, queue.poolHits());
+        assertEquals(3, queue.poolMisses());
+        for (int i = 0; i < 3; i++) {
+            assertEquals(i, queue.dequeue());
+        }
+        assertNull(queue.peek());
+        for (int round = 0; round < 10; round++) {
+            assertTrue(queue.enqueue(round));
+            assertTrue(queue.enqueue(round + 1));
+            assertEquals(round, queue.dequeue());
+            assertEquals(round + 1, queue.peek());
+            assertEquals(round + 1, queue.dequeue());
+        }
+        assertEquals(20, queue.poolHits());
+        assertEquals(3, queue.poolMisses());
+        assertTrue(queue.isEmpty());
+        assertEquals(0, new Queue<Integer>().poolMisses());
+    }
 }
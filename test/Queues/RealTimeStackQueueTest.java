@@ -0,0 +1,81 @@
+package Queues;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.DisplayName;
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.ArrayDeque;
+import java.util.Random;
+
+@DisplayName("RealTimeStackQueue")
+public class RealTimeStackQueueTest {
+    RealTimeStackQueue<Integer> sq;
+
+    @BeforeEach
+    void instantiate() {
+        sq = new RealTimeStackQueue<>();
+    }
+
+    @Test
+    void empty() {
+        assertTrue(sq.isEmpty());
+        assertEquals(0, sq.size());
+        assertNull(sq.dequeue());
+        assertNull(sq.peek());
+    }
+
+    @Test
+    void enqueue() {
+        assertThrows(NullPointerException.class, () -> {
+            sq.enqueue(null);
+        });
+        assertTrue(sq.isEmpty());
+        sq.enqueue(1);
+        assertFalse(sq.isEmpty());
+        assertEquals(1, sq.size());
+        sq.enqueue(2);
+        sq.enqueue(3);
+        sq.enqueue(4);
+        assertEquals(4, sq.size());
+    }
+
+    @Test
+    void dequeue() {
+        for (int i = 1; i <= 4; i++) {
+            sq.enqueue(i);
+        }
+        assertEquals(1, sq.dequeue());
+        assertEquals(2, sq.dequeue());
+        sq.enqueue(5);
+        for (int i = 3; i <= 5; i++) {
+            assertEquals(i, sq.peek());
+            assertEquals(i, sq.dequeue());
+        }
+        assertTrue(sq.isEmpty());
+        assertNull(sq.dequeue());
+    }
+
+    @Test
+    @DisplayName("keeps FIFO order while rotations are in progress")
+    void randomOperations() {
+        Random random = new Random(1);
+        ArrayDeque<Integer> model = new ArrayDeque<>();
+        for (int i = 0; i < 200000; i++) {
+            // Drifts between growing and shrinking so rotations of every size overlap operations
+            int bias = (i / 5000) % 2 == 0 ? 3 : 1;
+            if (random.nextInt(4) < bias) {
+                sq.enqueue(i);
+                model.addLast(i);
+            } else {
+                assertEquals(model.pollFirst(), sq.dequeue());
+            }
+            assertEquals(model.peekFirst(), sq.peek());
+            assertEquals(model.size(), sq.size());
+        }
+        while (!model.isEmpty()) {
+            assertEquals(model.pollFirst(), sq.dequeue());
+        }
+        assertTrue(sq.isEmpty());
+    }
+}
@@ -0,0 +1,135 @@
+package Queues;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.BeforeEach;
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.NoSuchElementException;
+
+@DisplayName("SpscQueue")
+public class SpscQueueTest {
+    SpscQueue<Integer> queue;
+
+    @BeforeEach
+    void instantiate() {
+        queue = new SpscQueue<>(5);
+    }
+
+    @Test
+    @DisplayName("is proper size after instantiation")
+    void postInstantiation() {
+        assertTrue(queue.isEmpty());
+        assertFalse(queue.isFull());
+        assertEquals(0, queue.size());
+        assertEquals(5, queue.maxSize());
+        assertNull(queue.dequeue());
+        assertNull(queue.peek());
+        assertThrows(NoSuchElementException.class, () -> {
+            queue.remove();
+        });
+        assertThrows(NoSuchElementException.class, () -> {
+            queue.element();
+        });
+    }
+
+    @Test
+    @DisplayName("handles instantiation with a size limit")
+    void instantiateWithSizeLimits() {
+        assertThrows(IllegalArgumentException.class, () -> {
+            new SpscQueue<Integer>(0);
+        });
+        assertThrows(IllegalArgumentException.class, () -> {
+            new SpscQueue<Integer>((1 << 30) + 1);
+        });
+        assertEquals(1, new SpscQueue<Integer>(1).maxSize());
+    }
+
+    @Test
+    @DisplayName("enforces its exact maximum size while wrapping around")
+    void enqueueDequeue() {
+        assertThrows(NullPointerException.class, () -> {
+            queue.enqueue(null);
+        });
+        for (int round = 0; round < 10; round++) {
+            for (int i = 0; i < 5; i++) {
+                assertTrue(queue.offer(round * 5 + i));
+            }
+            assertTrue(queue.isFull());
+            assertFalse(queue.add(-1));
+            assertEquals(round * 5, queue.peek());
+            for (int i = 0; i < 5; i++) {
+                assertEquals(round * 5 + i, queue.poll());
+            }
+            assertTrue(queue.isEmpty());
+        }
+    }
+
+    @Test
+    @DisplayName("offers and drains in batches")
+    void batches() {
+        assertEquals(5, queue.offer(new Integer[] {0, 1, 2, 3, 4, 5, 6}));
+        assertEquals(0, queue.offer(new Integer[] {7}));
+        List<Integer> drained = new ArrayList<>();
+        assertThrows(IllegalArgumentException.class, () -> {
+            queue.drain(drained::add, -1);
+        });
+        assertEquals(2, queue.drain(drained::add, 2));
+        assertEquals(Arrays.asList(0, 1), drained);
+        assertThrows(NullPointerException.class, () -> {
+            queue.offer(new Integer[] {5, null, 6});
+        });
+        assertEquals(4, queue.size());
+        assertEquals(4, queue.drain(drained::add, 10));
+        assertEquals(Arrays.asList(0, 1, 2, 3, 4, 5), drained);
+        assertEquals(0, queue.drain(drained::add, 10));
+    }
+
+    @Test
+    @DisplayName("keeps undelivered elements when the consumer throws")
+    void drainFailure() {
+        queue.offer(new Integer[] {0, 1, 2});
+        assertThrows(IllegalStateException.class, () -> {
+            queue.drain(element -> {
+                if (element == 1) throw new IllegalStateException();
+            }, 3);
+        });
+        assertEquals(2, queue.dequeue());
+    }
+
+    @Test
+    @DisplayName("hands off every element in order between two threads")
+    void producerConsumer() throws InterruptedException {
+        int count = 1_000_000;
+        SpscQueue<Integer> handoff = new SpscQueue<>(1024);
+        Thread producer = new Thread(() -> {
+            Integer[] batch = new Integer[16];
+            for (int i = 0; i < count;) {
+                if (i % 3 == 0) {
+                    int n = Math.min(batch.length, count - i);
+                    for (int j = 0; j < n; j++) {
+                        batch[j] = i + j;
+                    }
+                    i += handoff.offer(Arrays.copyOf(batch, n));
+                } else if (handoff.enqueue(i)) {
+                    i++;
+                } else {
+                    Thread.yield();
+                }
+            }
+        });
+        producer.start();
+        int[] next = {0};
+        while (next[0] < count) {
+            int drained = handoff.drain(element -> {
+                assertEquals(next[0]++, element);
+            }, 64);
+            if (drained == 0) Thread.yield();
+        }
+        producer.join();
+        assertTrue(handoff.isEmpty());
+    }
+}
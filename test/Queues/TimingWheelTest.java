@@ -0,0 +1,167 @@
+package Queues;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.BeforeEach;
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+@DisplayName("TimingWheel")
+public class TimingWheelTest {
+    long time;
+    TimingWheel<Long> wheel;
+    List<Long> expired;
+
+    @BeforeEach
+    void instantiate() {
+        time = 0;
+        wheel = new TimingWheel<>(1, TimeUnit.MILLISECONDS, 8, 3, () -> time);
+        expired = new ArrayList<>();
+    }
+
+    /** Advances the wheel to the fake clock's time */
+    void advance() {
+        wheel.advance(batch -> {
+            for (Long task; (task = batch.dequeue()) != null;) {
+                expired.add(task);
+            }
+        });
+    }
+
+    /** Moves the fake clock forward one tick at a time, advancing the wheel */
+    void runFor(long ticks) {
+        for (long i = 0; i < ticks; i++) {
+            time += TimeUnit.MILLISECONDS.toNanos(1);
+            advance();
+        }
+    }
+
+    @Test
+    @DisplayName("rejects invalid arguments")
+    void invalid() {
+        assertThrows(IllegalArgumentException.class, () -> {
+            new TimingWheel<Long>(0, TimeUnit.MILLISECONDS, 8, 3);
+        });
+        assertThrows(IllegalArgumentException.class, () -> {
+            new TimingWheel<Long>(1, TimeUnit.MILLISECONDS, 6, 3);
+        });
+        assertThrows(IllegalArgumentException.class, () -> {
+            new TimingWheel<Long>(1, TimeUnit.MILLISECONDS, 8, 0);
+        });
+        assertThrows(NullPointerException.class, () -> {
+            wheel.schedule(null, 1, TimeUnit.MILLISECONDS);
+        });
+        TimingWheel<Long> other = new TimingWheel<>(1, TimeUnit.MILLISECONDS, 8, 3);
+        TimingWheel.Timeout<Long> timeout = other.schedule(1L, 1, TimeUnit.MILLISECONDS);
+        assertThrows(IllegalArgumentException.class, () -> {
+            wheel.cancel(timeout);
+        });
+    }
+
+    @Test
+    @DisplayName("expires each task on its deadline tick across levels")
+    void deadlines() {
+        // Within level 0, in level 1, in level 2 and beyond the 512 tick span
+        long[] delays = {0, 1, 7, 8, 9, 63, 64, 65, 300, 511, 512, 1000, 5000};
+        for (long delay : delays) {
+            wheel.schedule(delay, delay, TimeUnit.MILLISECONDS);
+        }
+        assertEquals(delays.length, wheel.size());
+        advance();
+        long tick = 0;
+        for (long delay : delays) {
+            runFor(delay - tick);
+            tick = delay;
+            assertEquals(delay, expired.get(expired.size() - 1));
+        }
+        assertEquals(delays.length, expired.size());
+        assertTrue(wheel.isEmpty());
+    }
+
+    @Test
+    @DisplayName("never delivers cancelled tasks")
+    void cancel() {
+        TimingWheel.Timeout<Long> pending = wheel.schedule(1L, 20, TimeUnit.MILLISECONDS);
+        TimingWheel.Timeout<Long> unplaced = wheel.schedule(2L, 20, TimeUnit.MILLISECONDS);
+        assertTrue(unplaced.cancel());
+        runFor(5);
+        assertEquals(1, wheel.size());
+        assertTrue(wheel.cancel(pending));
+        assertFalse(pending.cancel());
+        assertTrue(pending.isCancelled());
+        TimingWheel.Timeout<Long> expiring = wheel.schedule(3L, 1, TimeUnit.MILLISECONDS);
+        runFor(100);
+        assertEquals(1, expired.size());
+        assertEquals(3, expired.get(0));
+        assertTrue(expiring.isExpired());
+        assertFalse(expiring.cancel());
+        assertEquals(3, expiring.task());
+        assertTrue(wheel.isEmpty());
+    }
+
+    @Test
+    @DisplayName("delivers ticks that passed since the last advance in one batch")
+    void batch() {
+        for (long i = 1; i <= 10; i++) {
+            wheel.schedule(i, i, TimeUnit.MILLISECONDS);
+        }
+        time = TimeUnit.MILLISECONDS.toNanos(10);
+        List<Integer> batchSizes = new ArrayList<>();
+        assertEquals(10, wheel.advance(batch -> batchSizes.add(batch.size())));
+        assertEquals(1, batchSizes.size());
+        assertEquals(10, batchSizes.get(0));
+    }
+
+    @Test
+    @DisplayName("expires random deadlines on the right tick")
+    void randomDeadlines() {
+        Random random = new Random(42);
+        long tick = 0;
+        int scheduled = 0;
+        List<Long> late = new ArrayList<>();
+        for (; tick < 5000; tick++) {
+            time = TimeUnit.MILLISECONDS.toNanos(tick);
+            for (int i = 0; i < 5; i++) {
+                long delay = random.nextInt(3000);
+                // Each task is the tick it must expire on
+                wheel.schedule(tick + delay, delay, TimeUnit.MILLISECONDS);
+                scheduled++;
+            }
+            long now = tick;
+            wheel.advance(batch -> {
+                for (Long task; (task = batch.dequeue()) != null;) {
+                    if (task != now) late.add(task);
+                    expired.add(task);
+                }
+            });
+        }
+        runFor(3000);
+        assertEquals(scheduled, expired.size());
+        assertTrue(late.isEmpty());
+        assertTrue(wheel.isEmpty());
+    }
+
+    @Test
+    @DisplayName("ticks on its own thread once started")
+    void started() throws InterruptedException {
+        TimingWheel<Integer> realTime = new TimingWheel<>(1, TimeUnit.MILLISECONDS, 64, 4);
+        CountDownLatch latch = new CountDownLatch(100);
+        realTime.start(batch -> {
+            while (batch.dequeue() != null) latch.countDown();
+        });
+        assertThrows(IllegalStateException.class, () -> {
+            realTime.start(batch -> { });
+        });
+        for (int i = 0; i < 100; i++) {
+            realTime.schedule(i, i % 20, TimeUnit.MILLISECONDS);
+        }
+        assertTrue(latch.await(5, TimeUnit.SECONDS));
+        realTime.close();
+        realTime.close();
+    }
+}
@@ -0,0 +1,81 @@
+package Stacks;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.DisplayName;
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.function.BinaryOperator;
+
+@DisplayName("AggregateStack")
+public class AggregateStackTest {
+    AggregateStack<Integer> stack;
+
+    @BeforeEach
+    void instantiate() {
+        stack = new AggregateStack<>(Math::min);
+    }
+
+    @Test
+    @DisplayName("is proper size after instantiation")
+    void postInstantiation() {
+        assertTrue(stack.isEmpty());
+        assertEquals(0, stack.size());
+        assertFalse(stack.isFull());
+        assertEquals(Integer.MAX_VALUE, stack.maxSize());
+        assertNull(stack.aggregate());
+        assertNull(stack.pop());
+        assertNull(stack.top());
+        assertThrows(NullPointerException.class, () -> {
+            new AggregateStack<Integer>(null);
+        });
+    }
+
+    @Test
+    @DisplayName("tracks the aggregate as elements are pushed and popped")
+    void aggregate() {
+        assertThrows(NullPointerException.class, () -> {
+            stack.push(null);
+        });
+        int[] pushed = {5, 7, 3, 8, 1, 9};
+        int[] minimums = {5, 5, 3, 3, 1, 1};
+        for (int i = 0; i < pushed.length; i++) {
+            assertTrue(stack.push(pushed[i]));
+            assertEquals(minimums[i], stack.aggregate());
+        }
+        assertEquals(9, stack.top());
+        for (int i = pushed.length - 1; i > 0; i--) {
+            assertEquals(pushed[i], stack.pop());
+            assertEquals(minimums[i - 1], stack.aggregate());
+        }
+        assertEquals(5, stack.pop());
+        assertNull(stack.aggregate());
+    }
+
+    @Test
+    @DisplayName("combines elements from the bottom up")
+    void order() {
+        BinaryOperator<String> concat = String::concat;
+        AggregateStack<String> strings = new AggregateStack<>(concat);
+        strings.push("a");
+        strings.push("b");
+        strings.push("c");
+        assertEquals("abc", strings.aggregate());
+        strings.pop();
+        assertEquals("ab", strings.aggregate());
+    }
+
+    @Test
+    @DisplayName("handles size constraints")
+    void sizeConstraintOperations() {
+        assertThrows(IllegalArgumentException.class, () -> {
+            stack = new AggregateStack<>(Integer::sum, 0);
+        });
+        stack = new AggregateStack<>(Integer::sum, 2);
+        assertTrue(stack.push(1));
+        assertTrue(stack.push(2));
+        assertTrue(stack.isFull());
+        assertFalse(stack.push(3));
+        assertEquals(3, stack.aggregate());
+    }
+}
@@ -0,0 +1,99 @@
+package Stacks;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.DisplayName;
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("ArrayStack")
+public class ArrayStackTest {
+    ArrayStack<Integer> stack;
+
+    @BeforeEach
+    void instantiate() {
+        stack = new ArrayStack<>();
+    }
+
+    @Test
+    @DisplayName("is proper size after instantiation")
+    void postInstantiation() {
+        assertTrue(stack.isEmpty());
+        assertEquals(0, stack.size());
+        assertFalse(stack.isFull());
+        assertEquals(Integer.MAX_VALUE, stack.maxSize());
+    }
+
+    @Test
+    void push() {
+        assertThrows(NullPointerException.class, () -> {
+            stack.push(null);
+        });
+        assertEquals(0, stack.size());
+        stack.push(1);
+        assertEquals(1, stack.size());
+        assertFalse(stack.isEmpty());
+        stack.push(2);
+        assertEquals(2, stack.size());
+    }
+
+    @Test
+    void pop() {
+        assertNull(stack.pop());
+        stack.push(1);
+        stack.push(2);
+        assertEquals(2, stack.pop());
+        assertEquals(1, stack.size());
+        assertEquals(1, stack.pop());
+        assertTrue(stack.isEmpty());
+        assertNull(stack.pop());
+    }
+
+    @Test
+    void top() {
+        assertNull(stack.top());
+        stack.push(1);
+        assertEquals(1, stack.top());
+        stack.push(2);
+        assertEquals(2, stack.top());
+        assertEquals(2, stack.size());
+        stack.pop();
+        assertEquals(1, stack.top());
+        stack.pop();
+        assertNull(stack.top());
+    }
+
+    @Test
+    @DisplayName("grows and shrinks while keeping LIFO order")
+    void resizing() {
+        for (int i = 0; i < 1000; i++) {
+            assertTrue(stack.push(i));
+        }
+        assertEquals(1000, stack.size());
+        for (int i = 999; i >= 0; i--) {
+            assertEquals(i, stack.pop());
+        }
+        assertTrue(stack.isEmpty());
+        stack.push(7);
+        assertEquals(7, stack.top());
+    }
+
+    @Test
+    @DisplayName("handles size constraints")
+    void sizeConstraintOperations() {
+        assertThrows(IllegalArgumentException.class, () -> {
+            stack = new ArrayStack<>(0);
+        });
+        stack = new ArrayStack<>(20);
+        assertEquals(20, stack.maxSize());
+        for (int i = 0; i < 20; i++) {
+            assertTrue(stack.push(i));
+        }
+        assertTrue(stack.isFull());
+        assertFalse(stack.push(20));
+        assertThrows(NullPointerException.class, () -> {
+            stack.push(null);
+        });
+        assertEquals(19, stack.pop());
+        assertTrue(stack.push(20));
+    }
+}
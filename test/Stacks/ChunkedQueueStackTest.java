@@ -0,0 +1,73 @@
+package Stacks;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.DisplayName;
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.ArrayDeque;
+import java.util.Random;
+
+@DisplayName("ChunkedQueueStack")
+public class ChunkedQueueStackTest {
+    ChunkedQueueStack<Integer> qs;
+
+    @BeforeEach
+    void instantiate() {
+        qs = new ChunkedQueueStack<>(4);
+    }
+
+    @Test
+    void empty() {
+        assertTrue(qs.isEmpty());
+        assertEquals(0, qs.size());
+        assertNull(qs.pop());
+        assertNull(qs.top());
+        assertThrows(IllegalArgumentException.class, () -> {
+            new ChunkedQueueStack<Integer>(0);
+        });
+    }
+
+    @Test
+    void push() {
+        assertThrows(NullPointerException.class, () -> {
+            qs.push(null);
+        });
+        assertEquals(0, qs.size());
+        for (int i = 1; i <= 10; i++) {
+            qs.push(i);
+            assertEquals(i, qs.size());
+            assertEquals(i, qs.top());
+        }
+    }
+
+    @Test
+    void pop() {
+        for (int i = 1; i <= 10; i++) {
+            qs.push(i);
+        }
+        for (int i = 10; i >= 1; i--) {
+            assertEquals(i, qs.pop());
+            assertEquals(i - 1, qs.size());
+        }
+        assertNull(qs.pop());
+        assertTrue(qs.isEmpty());
+    }
+
+    @Test
+    @DisplayName("matches ArrayDeque across chunk boundaries")
+    void randomOperations() {
+        ArrayDeque<Integer> expected = new ArrayDeque<>();
+        Random random = new Random(24);
+        for (int i = 0; i < 100000; i++) {
+            if (random.nextInt(3) < 2) {
+                qs.push(i);
+                expected.push(i);
+            } else {
+                assertEquals(expected.poll(), qs.pop());
+            }
+            assertEquals(expected.peek(), qs.top());
+            assertEquals(expected.size(), qs.size());
+        }
+    }
+}
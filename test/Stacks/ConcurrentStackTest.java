@@ -0,0 +1,173 @@
+package Stacks;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.BeforeEach;
+import static org.junit.jupiter.api.Assertions.*;
+import static Support.ConcurrentTests.*;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicInteger;
+
+@DisplayName("ConcurrentStack")
+public class ConcurrentStackTest {
+    ConcurrentStack<Integer> stack;
+
+    @BeforeEach
+    void instantiate() {
+        stack = new ConcurrentStack<>();
+    }
+
+    @Test
+    @DisplayName("is proper size after instantiation")
+    void postInstantiation() {
+        assertTrue(stack.isEmpty());
+        assertEquals(0, stack.size());
+        assertFalse(stack.isFull());
+        assertEquals(Integer.MAX_VALUE, stack.maxSize());
+        assertEquals(0, stack.eliminations());
+    }
+
+    @Test
+    @DisplayName("pushes and pops in LIFO order")
+    void pushPop() {
+        assertThrows(NullPointerException.class, () -> {
+            stack.push(null);
+        });
+        assertNull(stack.pop());
+        assertNull(stack.top());
+        for (int i = 0; i < 5; i++) {
+            assertTrue(stack.push(i));
+        }
+        assertEquals(5, stack.size());
+        assertEquals(4, stack.top());
+        for (int i = 4; i >= 0; i--) {
+            assertEquals(i, stack.pop());
+        }
+        assertTrue(stack.isEmpty());
+        assertNull(stack.pop());
+    }
+
+    @Test
+    @DisplayName("handles size constraints")
+    void sizeConstraintOperations() {
+        assertThrows(IllegalArgumentException.class, () -> {
+            stack = new ConcurrentStack<>(0);
+        });
+        stack = new ConcurrentStack<>(2);
+        assertEquals(2, stack.maxSize());
+        assertTrue(stack.push(1));
+        assertTrue(stack.push(2));
+        assertTrue(stack.isFull());
+        assertFalse(stack.push(3));
+        assertEquals(2, stack.size());
+        assertEquals(2, stack.pop());
+        assertFalse(stack.isFull());
+        assertTrue(stack.push(3));
+        assertThrows(NullPointerException.class, () -> {
+            stack.push(null);
+        });
+    }
+
+    @Test
+    @DisplayName("neither loses nor duplicates elements under contention")
+    void conservation() throws InterruptedException {
+        final int threads = 8, perThread = 50000;
+        ConcurrentHashMap<Integer, Boolean> seen = new ConcurrentHashMap<>();
+        Runnable[] tasks = new Runnable[threads];
+        for (int t = 0; t < threads; t++) {
+            final int base = t * perThread;
+            tasks[t] = () -> {
+                for (int i = 0; i < perThread; i++) {
+                    stack.push(base + i);
+                    // Pops right after pushing collide with other threads' pushes
+                    Integer element = stack.pop();
+                    if (element != null) {
+                        assertNull(seen.put(element, true), "duplicate " + element);
+                    }
+                }
+            };
+        }
+        runConcurrently(tasks);
+        Integer element;
+        while ((element = stack.pop()) != null) {
+            assertNull(seen.put(element, true), "duplicate " + element);
+        }
+        assertEquals(threads * perThread, seen.size());
+        assertTrue(stack.isEmpty());
+    }
+
+    @Test
+    @DisplayName("never exceeds its size limit under contention")
+    void concurrentSizeLimit() throws InterruptedException {
+        final int maxSize = 1000, threads = 8;
+        stack = new ConcurrentStack<>(maxSize);
+        AtomicInteger added = new AtomicInteger();
+        Runnable[] tasks = new Runnable[threads];
+        for (int t = 0; t < threads; t++) {
+            tasks[t] = () -> {
+                for (int i = 0; i < maxSize; i++) {
+                    if (stack.push(i)) added.incrementAndGet();
+                    assertTrue(stack.size() <= maxSize);
+                }
+            };
+        }
+        runConcurrently(tasks);
+        assertEquals(maxSize, added.get());
+        assertTrue(stack.isFull());
+        int count = 0;
+        while (stack.pop() != null) count++;
+        assertEquals(maxSize, count);
+        assertEquals(0, stack.size());
+    }
+
+    /**
+     * Creates an operation on the stack, checked against a deque whose front is the top
+     *
+     * @param type 0 to push, 1 to pop, otherwise to get the top
+     * @param argument the element to push
+     * @return the operation
+     */
+    private static Operation<ConcurrentStack<Integer>, ArrayDeque<Integer>> operation(
+            int type, Integer argument) {
+        switch (type) {
+            case 0: return new Operation<>(stack -> stack.push(argument),
+                                           model -> model.offerFirst(argument));
+            case 1: return new Operation<>(ConcurrentStack::pop, ArrayDeque::pollFirst);
+            default: return new Operation<>(ConcurrentStack::top, ArrayDeque::peekFirst);
+        }
+    }
+
+    @Test
+    @DisplayName("produces linearizable histories")
+    void linearizability() throws InterruptedException {
+        final int threads = 4, operations = 4;
+        for (int round = 0; round < 2000; round++) {
+            ConcurrentStack<Integer> shared = new ConcurrentStack<>();
+            ArrayDeque<Integer> initial = new ArrayDeque<>();
+            shared.push(-1);
+            initial.offerFirst(-1);
+            List<List<Operation<ConcurrentStack<Integer>, ArrayDeque<Integer>>>> histories =
+                    new ArrayList<>();
+            Runnable[] tasks = new Runnable[threads];
+            for (int t = 0; t < threads; t++) {
+                List<Operation<ConcurrentStack<Integer>, ArrayDeque<Integer>>> history =
+                        new ArrayList<>();
+                for (int i = 0; i < operations; i++) {
+                    // Mostly pushes and pops, which are the pairs that get eliminated
+                    int type = ThreadLocalRandom.current().nextInt(5) / 2;
+                    history.add(operation(type, t * operations + i));
+                }
+                histories.add(history);
+                tasks[t] = perform(shared, history);
+            }
+            runConcurrently(tasks);
+            assertTrue(linearizable(histories, initial, ArrayDeque::clone),
+                    "history is not linearizable in round " + round);
+        }
+    }
+}
@@ -0,0 +1,60 @@
+package Stacks;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.DisplayName;
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.NoSuchElementException;
+
+@DisplayName("DoubleAggregateStack")
+public class DoubleAggregateStackTest {
+    DoubleAggregateStack stack;
+
+    @BeforeEach
+    void instantiate() {
+        stack = new DoubleAggregateStack(Double.NEGATIVE_INFINITY, Math::max);
+    }
+
+    @Test
+    void empty() {
+        assertTrue(stack.isEmpty());
+        assertEquals(0, stack.size());
+        assertEquals(Double.NEGATIVE_INFINITY, stack.aggregate());
+        assertThrows(NoSuchElementException.class, () -> {
+            stack.pop();
+        });
+        assertThrows(NoSuchElementException.class, () -> {
+            stack.top();
+        });
+    }
+
+    @Test
+    @DisplayName("tracks the aggregate as values are pushed and popped")
+    void aggregate() {
+        double[] pushed = {1.5, 0.5, 2.5, -1.0, 3.5};
+        double[] maximums = {1.5, 1.5, 2.5, 2.5, 3.5};
+        for (int i = 0; i < pushed.length; i++) {
+            assertTrue(stack.push(pushed[i]));
+            assertEquals(maximums[i], stack.aggregate());
+        }
+        for (int i = pushed.length - 1; i > 0; i--) {
+            assertEquals(pushed[i], stack.pop());
+            assertEquals(maximums[i - 1], stack.aggregate());
+        }
+        assertEquals(1.5, stack.pop());
+        assertEquals(Double.NEGATIVE_INFINITY, stack.aggregate());
+    }
+
+    @Test
+    @DisplayName("handles size constraints")
+    void sizeConstraints() {
+        stack = new DoubleAggregateStack(0, Double::sum, 2);
+        assertEquals(2, stack.maxSize());
+        assertTrue(stack.push(1));
+        assertTrue(stack.push(2));
+        assertTrue(stack.isFull());
+        assertFalse(stack.push(3));
+        assertEquals(3, stack.aggregate());
+    }
+}
@@ -0,0 +1,88 @@
+package Stacks;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.BeforeEach;
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.NoSuchElementException;
+
+@DisplayName("IntStack")
+public class IntStackTest {
+    IntStack stack;
+
+    @BeforeEach
+    void instantiate() {
+        stack = new IntStack();
+    }
+
+    @Test
+    void empty() {
+        assertTrue(stack.isEmpty());
+        assertEquals(0, stack.size());
+        assertFalse(stack.isFull());
+        assertEquals(Integer.MAX_VALUE, stack.maxSize());
+        assertThrows(NoSuchElementException.class, () -> {
+            stack.pop();
+        });
+        assertThrows(NoSuchElementException.class, () -> {
+            stack.top();
+        });
+    }
+
+    @Test
+    void pushPop() {
+        for (int i = 0; i < 100; i++) {
+            assertTrue(stack.push(i));
+        }
+        assertEquals(99, stack.top());
+        for (int i = 99; i >= 0; i--) {
+            assertEquals(i, stack.pop());
+        }
+        assertTrue(stack.isEmpty());
+    }
+
+    @Test
+    @DisplayName("pushes and pops whole arrays")
+    void bulk() {
+        int[] values = new int[100];
+        for (int i = 0; i < values.length; i++) {
+            values[i] = i;
+        }
+        assertTrue(stack.pushAll(values));
+        assertTrue(stack.pushAll(new int[0]));
+        assertEquals(100, stack.size());
+        assertEquals(99, stack.top());
+        int[] popped = new int[30];
+        assertEquals(30, stack.popInto(popped));
+        for (int i = 0; i < 30; i++) {
+            assertEquals(99 - i, popped[i]);
+        }
+        assertEquals(69, stack.top());
+        int[] rest = new int[100];
+        assertEquals(70, stack.popInto(rest));
+        assertEquals(0, rest[69]);
+        assertEquals(0, stack.popInto(rest));
+        assertTrue(stack.isEmpty());
+        assertThrows(NullPointerException.class, () -> {
+            stack.pushAll(null);
+        });
+    }
+
+    @Test
+    @DisplayName("handles size constraints")
+    void sizeConstraints() {
+        assertThrows(IllegalArgumentException.class, () -> {
+            new IntStack(0);
+        });
+        stack = new IntStack(3);
+        assertTrue(stack.push(1));
+        // Pushes nothing unless every element fits
+        assertFalse(stack.pushAll(new int[] {2, 3, 4}));
+        assertEquals(1, stack.size());
+        assertTrue(stack.pushAll(new int[] {2, 3}));
+        assertTrue(stack.isFull());
+        assertFalse(stack.push(4));
+        assertEquals(3, stack.pop());
+    }
+}
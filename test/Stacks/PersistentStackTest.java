@@ -0,0 +1,72 @@
+package Stacks;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.DisplayName;
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+
+@DisplayName("PersistentStack")
+public class PersistentStackTest {
+    @Test
+    @DisplayName("is empty to begin with")
+    void empty() {
+        PersistentStack<Integer> stack = PersistentStack.empty();
+        assertTrue(stack.isEmpty());
+        assertEquals(0, stack.size());
+        assertNull(stack.top());
+        assertNull(stack.pop());
+        assertFalse(stack.iterator().hasNext());
+        assertThrows(NoSuchElementException.class, () -> {
+            stack.iterator().next();
+        });
+        assertSame(stack, PersistentStack.<String>empty());
+    }
+
+    @Test
+    void pushPop() {
+        PersistentStack<Integer> stack = PersistentStack.empty();
+        assertThrows(NullPointerException.class, () -> {
+            PersistentStack.<Integer>empty().push(null);
+        });
+        for (int i = 0; i < 5; i++) {
+            stack = stack.push(i);
+        }
+        assertEquals(5, stack.size());
+        for (int i = 4; i >= 0; i--) {
+            assertEquals(i, stack.top());
+            stack = stack.pop();
+        }
+        assertTrue(stack.isEmpty());
+    }
+
+    @Test
+    @DisplayName("keeps old versions unchanged")
+    void versions() {
+        PersistentStack<Integer> base = PersistentStack.<Integer>empty().push(1).push(2);
+        PersistentStack<Integer> snapshot = base.snapshot();
+        PersistentStack<Integer> left = base.push(3);
+        PersistentStack<Integer> right = base.pop().push(4);
+        assertSame(base, snapshot);
+        assertSame(base, left.pop());
+        assertSame(base.pop(), right.pop());
+        assertEquals(2, base.size());
+        assertEquals(2, base.top());
+        assertEquals(3, left.size());
+        assertEquals(3, left.top());
+        assertEquals(4, right.top());
+        List<Integer> elements = new ArrayList<>();
+        for (Integer element : left) {
+            elements.add(element);
+        }
+        assertEquals(Arrays.asList(3, 2, 1), elements);
+        Iterator<Integer> iterator = right.iterator();
+        assertEquals(4, iterator.next());
+        assertEquals(1, iterator.next());
+        assertFalse(iterator.hasNext());
+    }
+}
@@ -32,6 +32,22 @@ public class QueueStackTest {
         }
     }
 
+    @Test
+    void pushAll() {
+        assertThrows(NullPointerException.class, () -> {
+            qs.pushAll(new Integer[] {1, null});
+        });
+        assertTrue(qs.isEmpty());
+        qs.push(1);
+        qs.pushAll(new Integer[] {2, 3, 4});
+        qs.pushAll(new Integer[0]);
+        assertEquals(4, qs.size());
+        for (int i = 4; i >= 1; i--) {
+            assertEquals(i, qs.pop());
+        }
+        assertTrue(qs.isEmpty());
+    }
+
     @Test
     void pop() {
         assertNull(qs.pop());
@@ -97,4 +97,39 @@ public class StackTest {
             stack.push(null);
         });
     }
+
+    @Test
+    @DisplayName("recycles popped nodes up to its pool size")
+    void recycling() {
+        assertThrows(IllegalArgumentException.class, () -> {
+            stack = new Stack<>(1, -1);
+        });
+        stack = new Stack<>(Integer.MAX_VALUE, 2);
+        for (int i = 0; i < 3; i++) {
+            stack.push(i);
+        }
+        assertEquals(0, stack.poolHits());
+        assertEquals(3, stack.poolMisses());
+        for (int i = 2; i >= 0; i--) {
+            assertEquals(i, stack.pop());
+        }
+        for (int round = 0; round < 10; round++) {
+            assertTrue(stack.push(round));
+            assertEquals(round, stack.top());
+            assertEquals(round, stack.pop());
+        }
+        assertEquals(10, stack.poolHits());
+        assertEquals(3, stack.poolMisses());
+        for (int i = 0; i < 3; i++) {
+            stack.push(i);
+        }
+        // Only two nodes fit in the pool, so the third push allocates
+        assertEquals(12, stack.poolHits());
+        assertEquals(4, stack.poolMisses());
+        assertEquals(2, stack.pop());
+        assertEquals(1, stack.pop());
+        assertEquals(0, stack.pop());
+        assertNull(stack.pop());
+        assertEquals(0, new Stack<Integer>().poolMisses());
+    }
 }
@@ -0,0 +1,144 @@
+package Support;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.function.Function;
+import java.util.function.UnaryOperator;
+
+/**
+ * Helpers shared by the tests of the concurrent structures: running tasks
+ * on threads started at once, and checking that the histories they record
+ * are linearizable against a sequential model of the structure.
+ *
+ * @author Jordan Owens
+ */
+public final class ConcurrentTests {
+    private ConcurrentTests() {
+    }
+
+    /**
+     * Operation recorded by a thread along with when it started and ended
+     *
+     * @param <S> the type of the structure under test
+     * @param <M> the type of the sequential model
+     */
+    public static final class Operation<S, M> {
+        /** Applies the operation to the structure under test */
+        private final Function<? super S, ?> actual;
+        /** Applies the operation to the sequential model */
+        private final Function<? super M, ?> expected;
+        /** Result observed on the structure under test */
+        private Object result;
+        /** When the operation started and ended */
+        private long start, end;
+
+        /**
+         * Constructs an operation
+         *
+         * @param actual the operation applied to the structure under test
+         * @param expected the same operation applied to the sequential model
+         */
+        public Operation(Function<? super S, ?> actual, Function<? super M, ?> expected) {
+            this.actual = actual;
+            this.expected = expected;
+        }
+    }
+
+    /**
+     * Runs tasks on separate threads, starting them all at once
+     * and rethrowing the first failure
+     *
+     * @param tasks the tasks to run
+     * @throws InterruptedException if interrupted while waiting for the tasks
+     */
+    public static void runConcurrently(Runnable... tasks) throws InterruptedException {
+        CountDownLatch start = new CountDownLatch(1);
+        List<Throwable> failures = new ArrayList<>();
+        List<Thread> threads = new ArrayList<>();
+        for (Runnable task : tasks) {
+            Thread thread = new Thread(() -> {
+                try {
+                    start.await();
+                    task.run();
+                } catch (Throwable t) {
+                    synchronized (failures) {
+                        failures.add(t);
+                    }
+                }
+            });
+            threads.add(thread);
+            thread.start();
+        }
+        start.countDown();
+        for (Thread thread : threads) thread.join();
+        if (!failures.isEmpty()) throw new AssertionError(failures.get(0));
+    }
+
+    /**
+     * Creates a task that applies a thread's operations to a shared structure
+     * in order, recording their results and when they started and ended
+     *
+     * @param shared the structure under test
+     * @param history the operations of one thread
+     * @param <S> the type of the structure under test
+     * @param <M> the type of the sequential model
+     * @return the task performing the operations
+     */
+    public static <S, M> Runnable perform(S shared, List<Operation<S, M>> history) {
+        return () -> {
+            for (Operation<S, M> operation : history) {
+                operation.start = System.nanoTime();
+                operation.result = operation.actual.apply(shared);
+                operation.end = System.nanoTime();
+            }
+        };
+    }
+
+    /**
+     * Searches for a sequential order of the operations that respects
+     * real-time order and produces the observed results on the model
+     *
+     * @param histories the operations performed by each thread
+     * @param initial the model in the structure's initial state
+     * @param copy copies the model, so each order tried starts from its own state
+     * @param <S> the type of the structure under test
+     * @param <M> the type of the sequential model
+     * @return {@code true} if the histories are linearizable
+     */
+    public static <S, M> boolean linearizable(List<List<Operation<S, M>>> histories,
+                                              M initial, UnaryOperator<M> copy) {
+        return linearizable(histories, new int[histories.size()], initial, copy);
+    }
+
+    /**
+     * Extends a partial sequential order, where each thread's first
+     * {@code next[t]} operations have been placed and applied to the model
+     */
+    private static <S, M> boolean linearizable(List<List<Operation<S, M>>> histories, int[] next,
+                                               M model, UnaryOperator<M> copy) {
+        boolean done = true;
+        for (int t = 0; t < histories.size(); t++) {
+            if (next[t] == histories.get(t).size()) continue;
+            done = false;
+            Operation<S, M> candidate = histories.get(t).get(next[t]);
+            boolean minimal = true;
+            for (int u = 0; u < histories.size() && minimal; u++) {
+                if (u != t && next[u] < histories.get(u).size()) {
+                    minimal = histories.get(u).get(next[u]).end >= candidate.start;
+                }
+            }
+            if (!minimal) continue;
+            M state = copy.apply(model);
+            Object expected = candidate.expected.apply(state);
+            if (expected == null ? candidate.result != null : !expected.equals(candidate.result)) {
+                continue;
+            }
+            next[t]++;
+            boolean found = linearizable(histories, next, state, copy);
+            next[t]--;
+            if (found) return true;
+        }
+        return done;
+    }
+}